@@ -0,0 +1,198 @@
+package com.infoline.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.infoline.api.health.HealthProbeRegistry;
+import com.infoline.api.metrics.LatencyRecorder;
+import com.infoline.api.metrics.RequestCounters;
+import com.infoline.api.time.TimestampClock;
+import com.infoline.api.web.JsonOutputMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmarks des handlers d'{@link InfoLineController}
+ *
+ * Chaque handler est mesuré isolément (hors Tomcat, hors filtres), puis
+ * avec la sérialisation Jackson de sa réponse, sur un ObjectMapper
+ * configuré comme application.properties (JSON compact, Europe/Paris).
+ * home et info sont mesurés sur {@link InfoLineResponses} (corps
+ * pré-sérialisés), en compact et en indenté (?pretty=true).
+ *
+ * Lancement : mvn -P jmh verify -DskipTests
+ * Le profileur GC (-prof gc) est actif par défaut : surveiller
+ * "gc.alloc.rate.norm" (octets alloués par opération).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InfoLineControllerBenchmark {
+
+    private static final long MEMORY_BYTES = 268_435_456L;
+
+    private ObjectMapper objectMapper;
+    private InfoLineResponses responses;
+    private InfoLineController controller;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .timeZone(TimeZone.getTimeZone("Europe/Paris"))
+            .build();
+
+        JsonOutputMode outputMode = new JsonOutputMode(objectMapper);
+        responses = new InfoLineResponses(
+            new RequestCounters(), new LatencyRecorder(new SimpleMeterRegistry()), outputMode,
+            new TimestampClock("Europe/Paris"), new HealthProbeRegistry(List.of()));
+        ReflectionTestUtils.setField(responses, "applicationName", "infoline-api");
+        ReflectionTestUtils.setField(responses, "appVersion", "1.0.0");
+        ReflectionTestUtils.setField(responses, "environment", "bench");
+        responses.compileTemplates();
+
+        controller = new InfoLineController(responses, outputMode);
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // UTILITAIRES
+    // ═══════════════════════════════════════════════════════════════
+
+    @Benchmark
+    public String formatBytes() {
+        return InfoLineResponses.formatBytes(MEMORY_BYTES);
+    }
+
+    @Benchmark
+    public String getUptime() {
+        return InfoLineResponses.getUptime();
+    }
+
+    @Benchmark
+    public String getCurrentTimestamp() {
+        return responses.getCurrentTimestamp();
+    }
+
+    /**
+     * Référence : timestamp tel qu'il était produit avant TimestampClock
+     */
+    @Benchmark
+    public String legacyTimestamp() {
+        return LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // HANDLERS (construction de la réponse seule)
+    // ═══════════════════════════════════════════════════════════════
+
+    @Benchmark
+    public byte[] home() {
+        return responses.home(false);
+    }
+
+    @Benchmark
+    public byte[] homePretty() {
+        return responses.home(true);
+    }
+
+    @Benchmark
+    public Object health() {
+        return controller.health();
+    }
+
+    @Benchmark
+    public byte[] info() {
+        return responses.info(false);
+    }
+
+    @Benchmark
+    public byte[] infoPretty() {
+        return responses.info(true);
+    }
+
+    @Benchmark
+    public Object status() {
+        return controller.status();
+    }
+
+    @Benchmark
+    public Object testError() {
+        return controller.testError();
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // HANDLERS + SÉRIALISATION JACKSON
+    // ═══════════════════════════════════════════════════════════════
+
+    @Benchmark
+    public byte[] healthSerialized() throws Exception {
+        return objectMapper.writeValueAsBytes(controller.health().getBody());
+    }
+
+    @Benchmark
+    public byte[] statusSerialized() throws Exception {
+        return objectMapper.writeValueAsBytes(controller.status().getBody());
+    }
+
+    @Benchmark
+    public byte[] testErrorSerialized() throws Exception {
+        return objectMapper.writeValueAsBytes(controller.testError().getBody());
+    }
+
+    /**
+     * Référence : home() tel qu'il était construit avant les templates
+     * (HashMap + Map.of + sérialisation Jackson à chaque appel)
+     */
+    @Benchmark
+    public byte[] homeMapSerialized() throws Exception {
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "🏆 Bienvenue sur InfoLine API");
+        response.put("description", "API REST pour l'actualité des technologies sportives");
+        response.put("version", "1.0.0");
+        response.put("environment", "bench");
+        response.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        response.put("endpoints", Map.of(
+            "health", "/api/v1/health",
+            "info", "/api/v1/info",
+            "status", "/api/v1/status"
+        ));
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    /**
+     * Référence : health() tel qu'il était construit avant les records
+     * (HashMap + sérialisation réflexive de Map)
+     */
+    @Benchmark
+    public byte[] healthMapSerialized() throws Exception {
+        Map<String, Object> health = new HashMap<>();
+        health.put("status", "UP");
+        health.put("application", "infoline-api");
+        health.put("timestamp", responses.getCurrentTimestamp());
+        Map<String, String> checks = new HashMap<>();
+        checks.put("api", "UP");
+        health.put("checks", checks);
+        return objectMapper.writeValueAsBytes(health);
+    }
+}
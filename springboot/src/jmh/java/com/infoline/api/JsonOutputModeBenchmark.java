@@ -0,0 +1,77 @@
+package com.infoline.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.infoline.api.health.HealthProbeRegistry;
+import com.infoline.api.metrics.LatencyRecorder;
+import com.infoline.api.metrics.RequestCounters;
+import com.infoline.api.time.TimestampClock;
+import com.infoline.api.web.JsonOutputMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débit de sérialisation des payloads InfoLine : JSON compact vs indenté
+ *
+ * Lancement : mvn -P jmh verify -DskipTests -Djmh.args="JsonOutputMode -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonOutputModeBenchmark {
+
+    @Param({"false", "true"})
+    public boolean pretty;
+
+    private JsonOutputMode outputMode;
+    private InfoLineResponses responses;
+
+    @Setup
+    public void setUp() {
+        outputMode = new JsonOutputMode(new ObjectMapper().disable(SerializationFeature.INDENT_OUTPUT));
+        responses = new InfoLineResponses(new RequestCounters(),
+            new LatencyRecorder(new SimpleMeterRegistry()), outputMode, new TimestampClock("Europe/Paris"),
+            new HealthProbeRegistry(List.of()));
+        ReflectionTestUtils.setField(responses, "applicationName", "infoline-api");
+        ReflectionTestUtils.setField(responses, "appVersion", "1.0.0");
+        ReflectionTestUtils.setField(responses, "environment", "bench");
+        responses.compileTemplates();
+    }
+
+    @Benchmark
+    public byte[] home() {
+        return responses.home(pretty);
+    }
+
+    @Benchmark
+    public byte[] info() {
+        return responses.info(pretty);
+    }
+
+    @Benchmark
+    public byte[] health() throws Exception {
+        return outputMode.writer(pretty).writeValueAsBytes(responses.health());
+    }
+
+    @Benchmark
+    public byte[] status() throws Exception {
+        return outputMode.writer(pretty).writeValueAsBytes(responses.status());
+    }
+}
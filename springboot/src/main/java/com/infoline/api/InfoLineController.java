@@ -1,38 +1,44 @@
 package com.infoline.api;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.infoline.api.compression.StableBody;
+import com.infoline.api.dto.ErrorResponse;
+import com.infoline.api.dto.HealthResponse;
+import com.infoline.api.dto.SlowResponse;
+import com.infoline.api.dto.StatusResponse;
+import com.infoline.api.web.ConditionalGet;
+import com.infoline.api.web.JsonOutputMode;
+import com.infoline.api.web.ResourceVersion;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
-import java.util.Map;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Contrôleur principal de l'API InfoLine
  * Fournit les endpoints de base pour la vérification et les informations système
- * 
+ *
+ * Actif en mode Servlet/Tomcat (défaut). En mode WebFlux (profil "reactive"),
+ * les mêmes endpoints sont servis par {@code ReactiveInfoLineRouter}.
+ *
  * @author Équipe DevOps InfoLine
  * @version 1.0
  */
 @RestController
 @RequestMapping("/api/v1")  // Versioning de l'API (bonne pratique)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class InfoLineController {
 
-    // ── INJECTION DES VARIABLES D'ENVIRONNEMENT ─────────────────────
-    // Ces variables sont définies dans application.properties
-    // et peuvent être surchargées par des variables d'environnement K8s
-    
-    @Value("${spring.application.name:infoline-api}")
-    private String applicationName;
-    
-    @Value("${app.version:1.0.0}")
-    private String appVersion;
-    
-    @Value("${app.environment:dev}")
-    private String environment;
+    // ── COMPOSANTS ──────────────────────────────────────────────────
+
+    private final InfoLineResponses responses;
+    private final JsonOutputMode outputMode;
+
+    public InfoLineController(InfoLineResponses responses, JsonOutputMode outputMode) {
+        this.responses = responses;
+        this.outputMode = outputMode;
+    }
 
     // ═══════════════════════════════════════════════════════════════
     // ENDPOINTS PUBLICS
@@ -42,23 +48,27 @@ public class InfoLineController {
      * Endpoint racine - Message de bienvenue
      * URL : GET /api/v1/
      * 
-     * @return Message de bienvenue avec timestamp
+     * Conditionnel : 304 sans corps si l'ETag (If-None-Match) ou la date
+     * (If-Modified-Since) du client est à jour, voir {@link ConditionalGet}.
+     * Corps stable : compressé une fois par version (voir {@link StableBody})
+     *
+     * @param pretty  Format indenté (optionnel, voir {@link JsonOutputMode})
+     * @param request Requête (validateurs du client)
+     * @return Message de bienvenue avec timestamp, ou 304
      */
     @GetMapping("/")
-    public ResponseEntity<Map<String, Object>> home() {
-        Map<String, Object> response = new HashMap<>();
-        response.put("message", "🏆 Bienvenue sur InfoLine API");
-        response.put("description", "API REST pour l'actualité des technologies sportives");
-        response.put("version", appVersion);
-        response.put("environment", environment);
-        response.put("timestamp", getCurrentTimestamp());
-        response.put("endpoints", Map.of(
-            "health", "/api/v1/health",
-            "info", "/api/v1/info",
-            "status", "/api/v1/status"
-        ));
-        
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> home(
+            @RequestParam(name = JsonOutputMode.PRETTY_PARAM, required = false) String pretty,
+            WebRequest request) {
+        boolean indent = outputMode.isPretty(pretty);
+        ResourceVersion version = responses.homeVersion(indent);
+        if (ConditionalGet.notModified(request, version)) {
+            return null;
+        }
+        StableBody.mark(request, version);
+        return ConditionalGet.ok(version)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(responses.home(indent));
     }
 
     /**
@@ -73,23 +83,8 @@ public class InfoLineController {
      * @return Status de santé de l'application
      */
     @GetMapping("/health")
-    public ResponseEntity<Map<String, Object>> health() {
-        Map<String, Object> health = new HashMap<>();
-        health.put("status", "UP");
-        health.put("application", applicationName);
-        health.put("timestamp", getCurrentTimestamp());
-        
-        // Vérifications additionnelles (à développer)
-        Map<String, String> checks = new HashMap<>();
-        checks.put("api", "UP");
-        // TODO : Ajouter check database quand RDS sera connectée
-        // checks.put("database", checkDatabase() ? "UP" : "DOWN");
-        // TODO : Ajouter check cache si Redis est utilisé
-        // checks.put("cache", checkCache() ? "UP" : "DOWN");
-        
-        health.put("checks", checks);
-        
-        return ResponseEntity.ok(health);
+    public ResponseEntity<HealthResponse> health() {
+        return ResponseEntity.ok(responses.health());
     }
 
     /**
@@ -97,42 +92,25 @@ public class InfoLineController {
      * URL : GET /api/v1/info
      * 
      * Fournit des informations détaillées sur l'application
+     * Conditionnel comme home() : la mémoire et le timestamp ne changent
+     * pas l'ETag (faible, voir {@link InfoLineResponses#infoVersion})
      * 
-     * @return Informations système et runtime
+     * @param pretty  Format indenté (optionnel, voir {@link JsonOutputMode})
+     * @param request Requête (validateurs du client)
+     * @return Informations système et runtime, ou 304
      */
     @GetMapping("/info")
-    public ResponseEntity<Map<String, Object>> info() {
-        Map<String, Object> info = new HashMap<>();
-        
-        // Informations application
-        info.put("application", Map.of(
-            "name", applicationName,
-            "version", appVersion,
-            "environment", environment,
-            "description", "API REST pour InfoLine - Actualités sportives & tech"
-        ));
-        
-        // Informations runtime Java
-        Runtime runtime = Runtime.getRuntime();
-        info.put("runtime", Map.of(
-            "javaVersion", System.getProperty("java.version"),
-            "javaVendor", System.getProperty("java.vendor"),
-            "processors", runtime.availableProcessors(),
-            "memoryTotal", formatBytes(runtime.totalMemory()),
-            "memoryFree", formatBytes(runtime.freeMemory()),
-            "memoryUsed", formatBytes(runtime.totalMemory() - runtime.freeMemory())
-        ));
-        
-        // Informations système
-        info.put("system", Map.of(
-            "os", System.getProperty("os.name"),
-            "osVersion", System.getProperty("os.version"),
-            "osArch", System.getProperty("os.arch")
-        ));
-        
-        info.put("timestamp", getCurrentTimestamp());
-        
-        return ResponseEntity.ok(info);
+    public ResponseEntity<byte[]> info(
+            @RequestParam(name = JsonOutputMode.PRETTY_PARAM, required = false) String pretty,
+            WebRequest request) {
+        boolean indent = outputMode.isPretty(pretty);
+        ResourceVersion version = responses.infoVersion(indent);
+        if (ConditionalGet.notModified(request, version)) {
+            return null;
+        }
+        return ConditionalGet.ok(version)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(responses.info(indent));
     }
 
     /**
@@ -144,24 +122,8 @@ public class InfoLineController {
      * @return Status complet de l'application
      */
     @GetMapping("/status")
-    public ResponseEntity<Map<String, Object>> status() {
-        Map<String, Object> status = new HashMap<>();
-        
-        status.put("status", "RUNNING");
-        status.put("uptime", getUptime());
-        status.put("application", applicationName);
-        status.put("version", appVersion);
-        status.put("environment", environment);
-        status.put("timestamp", getCurrentTimestamp());
-        
-        // Statistiques (pour démonstration)
-        status.put("stats", Map.of(
-            "totalRequests", 0,  // TODO : Implémenter compteur
-            "activeConnections", 0,  // TODO : Implémenter compteur
-            "lastDeployment", getCurrentTimestamp()
-        ));
-        
-        return ResponseEntity.ok(status);
+    public ResponseEntity<StatusResponse> status() {
+        return ResponseEntity.ok(responses.status());
     }
 
     // ═══════════════════════════════════════════════════════════════
@@ -177,15 +139,10 @@ public class InfoLineController {
      * @return Erreur 500 pour tester le monitoring
      */
     @GetMapping("/test/error")
-    public ResponseEntity<Map<String, String>> testError() {
-        Map<String, String> error = new HashMap<>();
-        error.put("error", "Test error endpoint");
-        error.put("message", "Ceci est une erreur de test pour vérifier le monitoring");
-        error.put("timestamp", getCurrentTimestamp());
-        
+    public ResponseEntity<ErrorResponse> testError() {
         return ResponseEntity
             .status(HttpStatus.INTERNAL_SERVER_ERROR)
-            .body(error);
+            .body(responses.testError());
     }
 
     /**
@@ -196,70 +153,15 @@ public class InfoLineController {
      * @return Message après délai
      */
     @GetMapping("/test/slow")
-    public ResponseEntity<Map<String, Object>> testSlow(
+    public ResponseEntity<SlowResponse> testSlow(
             @RequestParam(defaultValue = "2000") int delay) {
-        
+
         try {
             Thread.sleep(delay);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("message", "Réponse après délai de " + delay + "ms");
-        response.put("delay", delay + "ms");
-        response.put("timestamp", getCurrentTimestamp());
-        
-        return ResponseEntity.ok(response);
-    }
-
-    // ═══════════════════════════════════════════════════════════════
-    // MÉTHODES UTILITAIRES PRIVÉES
-    // ═══════════════════════════════════════════════════════════════
 
-    /**
-     * Obtient le timestamp actuel formaté
-     * 
-     * @return Timestamp au format ISO 8601
-     */
-    private String getCurrentTimestamp() {
-        return LocalDateTime.now()
-            .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-    }
-
-    /**
-     * Formate les bytes en format lisible (Ko, Mo, Go)
-     * 
-     * @param bytes Nombre de bytes
-     * @return Chaîne formatée (ex: "256 MB")
-     */
-    private String formatBytes(long bytes) {
-        if (bytes < 1024) return bytes + " B";
-        int exp = (int) (Math.log(bytes) / Math.log(1024));
-        String pre = "KMGTPE".charAt(exp - 1) + "";
-        return String.format("%.1f %sB", bytes / Math.pow(1024, exp), pre);
-    }
-
-    /**
-     * Calcule l'uptime approximatif de la JVM
-     * 
-     * @return Uptime formaté
-     */
-    private String getUptime() {
-        long uptimeMillis = java.lang.management.ManagementFactory.getRuntimeMXBean().getUptime();
-        long seconds = uptimeMillis / 1000;
-        long minutes = seconds / 60;
-        long hours = minutes / 60;
-        long days = hours / 24;
-        
-        if (days > 0) {
-            return String.format("%d days, %d hours", days, hours % 24);
-        } else if (hours > 0) {
-            return String.format("%d hours, %d minutes", hours, minutes % 60);
-        } else if (minutes > 0) {
-            return String.format("%d minutes, %d seconds", minutes, seconds % 60);
-        } else {
-            return String.format("%d seconds", seconds);
-        }
+        return ResponseEntity.ok(responses.testSlow(delay));
     }
 }
@@ -0,0 +1,302 @@
+package com.infoline.api;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.infoline.api.dto.ErrorResponse;
+import com.infoline.api.dto.HealthResponse;
+import com.infoline.api.dto.HomeResponse;
+import com.infoline.api.dto.InfoResponse;
+import com.infoline.api.dto.SlowResponse;
+import com.infoline.api.dto.StatusResponse;
+import com.infoline.api.health.HealthProbeRegistry;
+import com.infoline.api.metrics.LatencyRecorder;
+import com.infoline.api.metrics.RequestCounters;
+import com.infoline.api.time.TimestampClock;
+import com.infoline.api.web.JsonOutputMode;
+import com.infoline.api.web.ResourceVersion;
+import com.infoline.api.web.ResponseTemplate;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Construction des réponses de l'API InfoLine
+ *
+ * Partagé entre les deux modes d'exécution :
+ * - Servlet/Tomcat : {@link InfoLineController}
+ * - WebFlux/Netty (profil "reactive") : {@code ReactiveInfoLineRouter}
+ *
+ * Les deux modes renvoient ainsi exactement les mêmes payloads.
+ *
+ * Les réponses sont des records immuables (package {@code dto}) dotés de
+ * sérialiseurs Jackson écrits à la main : pas de HashMap par appel ni de
+ * sérialisation réflexive de Map.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+public class InfoLineResponses {
+
+    // ── INJECTION DES VARIABLES D'ENVIRONNEMENT ─────────────────────
+    // Ces variables sont définies dans application.properties
+    // et peuvent être surchargées par des variables d'environnement K8s
+
+    @Value("${spring.application.name:infoline-api}")
+    private String applicationName;
+
+    @Value("${app.version:1.0.0}")
+    private String appVersion;
+
+    @Value("${app.environment:dev}")
+    private String environment;
+
+    // ── COMPOSANTS ──────────────────────────────────────────────────
+
+    private final RequestCounters requestCounters;
+    private final LatencyRecorder latencyRecorder;
+    private final JsonOutputMode outputMode;
+    private final TimestampClock timestampClock;
+    private final HealthProbeRegistry healthProbes;
+
+    // ── RÉPONSES PRÉ-SÉRIALISÉES ────────────────────────────────────
+    // home() et info() sont constants hormis le timestamp et la mémoire :
+    // sérialisés une fois au démarrage (compact et indenté), seuls les
+    // champs volatils sont insérés
+
+    private ResponseTemplate homeTemplate;
+    private ResponseTemplate homePrettyTemplate;
+    private ResponseTemplate infoTemplate;
+    private ResponseTemplate infoPrettyTemplate;
+
+    // ── VALIDATEURS HTTP ────────────────────────────────────────────
+    // Version de la partie constante des templates : le timestamp et la
+    // mémoire n'entrent pas dans l'ETag, un client qui a déjà la réponse
+    // reçoit un 304 tant que l'application n'a pas changé. ETag faible :
+    // deux réponses de même version ne sont pas identiques octet pour octet
+
+    private final Instant startedAt = Instant.now();
+    private ResourceVersion homeVersion;
+    private ResourceVersion homePrettyVersion;
+    private ResourceVersion infoVersion;
+    private ResourceVersion infoPrettyVersion;
+
+    public InfoLineResponses(RequestCounters requestCounters,
+                             LatencyRecorder latencyRecorder,
+                             JsonOutputMode outputMode,
+                             TimestampClock timestampClock,
+                             HealthProbeRegistry healthProbes) {
+        this.requestCounters = requestCounters;
+        this.latencyRecorder = latencyRecorder;
+        this.outputMode = outputMode;
+        this.timestampClock = timestampClock;
+        this.healthProbes = healthProbes;
+    }
+
+    /**
+     * Compile les templates de home() et info() une fois les @Value injectées
+     */
+    @PostConstruct
+    void compileTemplates() {
+        ObjectWriter compact = outputMode.writer(false);
+        ObjectWriter pretty = outputMode.writer(true);
+
+        HomeResponse home = new HomeResponse(
+            "🏆 Bienvenue sur InfoLine API",
+            "API REST pour l'actualité des technologies sportives",
+            appVersion,
+            environment,
+            ResponseTemplate.slot("timestamp"),
+            new HomeResponse.Endpoints("/api/v1/health", "/api/v1/info", "/api/v1/status")
+        );
+        homeTemplate = ResponseTemplate.compile(compact, home, "timestamp");
+        homePrettyTemplate = ResponseTemplate.compile(pretty, home, "timestamp");
+
+        InfoResponse info = new InfoResponse(
+            // Informations application
+            new InfoResponse.ApplicationInfo(applicationName, appVersion, environment,
+                "API REST pour InfoLine - Actualités sportives & tech"),
+            // Informations runtime Java (seule la mémoire varie)
+            new InfoResponse.RuntimeInfo(
+                System.getProperty("java.version"),
+                System.getProperty("java.vendor"),
+                Runtime.getRuntime().availableProcessors(),
+                ResponseTemplate.slot("memoryTotal"),
+                ResponseTemplate.slot("memoryFree"),
+                ResponseTemplate.slot("memoryUsed")
+            ),
+            // Informations système
+            new InfoResponse.SystemInfo(
+                System.getProperty("os.name"),
+                System.getProperty("os.version"),
+                System.getProperty("os.arch")
+            ),
+            ResponseTemplate.slot("timestamp")
+        );
+
+        String[] infoSlots = {"memoryTotal", "memoryFree", "memoryUsed", "timestamp"};
+        infoTemplate = ResponseTemplate.compile(compact, info, infoSlots);
+        infoPrettyTemplate = ResponseTemplate.compile(pretty, info, infoSlots);
+
+        homeVersion = versionOf("home", homeTemplate);
+        homePrettyVersion = versionOf("home", homePrettyTemplate);
+        infoVersion = versionOf("info", infoTemplate);
+        infoPrettyVersion = versionOf("info", infoPrettyTemplate);
+    }
+
+    private ResourceVersion versionOf(String resource, ResponseTemplate template) {
+        return ResourceVersion.of(resource + '-' + Long.toHexString(template.contentVersion()), startedAt).weak();
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // PAYLOADS
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * @param pretty true pour le format indenté (voir {@link JsonOutputMode})
+     * @return Message de bienvenue (JSON UTF-8 pré-sérialisé)
+     */
+    public byte[] home(boolean pretty) {
+        return (pretty ? homePrettyTemplate : homeTemplate).render(getCurrentTimestamp());
+    }
+
+    /**
+     * @param pretty true pour le format indenté
+     * @return Validateurs HTTP de home(), vérifiables sans rendre la réponse
+     */
+    public ResourceVersion homeVersion(boolean pretty) {
+        return pretty ? homePrettyVersion : homeVersion;
+    }
+
+    /**
+     * Les vérifications des dépendances (base...) tournent en tâche de fond :
+     * seul leur dernier résultat est lu ici (voir {@link HealthProbeRegistry}).
+     * Le status global reste UP tant que l'API répond, pour que la liveness
+     * probe ne redémarre pas le pod à cause d'une dépendance lente.
+     *
+     * @return Status de santé de l'application
+     */
+    public HealthResponse health() {
+        return new HealthResponse("UP", applicationName, getCurrentTimestamp(), healthProbes.checks());
+    }
+
+    /**
+     * @param pretty true pour le format indenté (voir {@link JsonOutputMode})
+     * @return Informations système et runtime (JSON UTF-8 pré-sérialisé)
+     */
+    public byte[] info(boolean pretty) {
+        Runtime runtime = Runtime.getRuntime();
+        long total = runtime.totalMemory();
+        long free = runtime.freeMemory();
+
+        return (pretty ? infoPrettyTemplate : infoTemplate).render(
+            formatBytes(total),
+            formatBytes(free),
+            formatBytes(total - free),
+            getCurrentTimestamp()
+        );
+    }
+
+    /**
+     * @param pretty true pour le format indenté
+     * @return Validateurs HTTP de info(), vérifiables sans rendre la réponse
+     */
+    public ResourceVersion infoVersion(boolean pretty) {
+        return pretty ? infoPrettyVersion : infoVersion;
+    }
+
+    /**
+     * @return Status complet de l'application
+     */
+    public StatusResponse status() {
+        String timestamp = getCurrentTimestamp();
+
+        return new StatusResponse(
+            "RUNNING",
+            getUptime(),
+            applicationName,
+            appVersion,
+            environment,
+            timestamp,
+            // Statistiques (alimentées par le filtre de métriques)
+            new StatusResponse.Stats(
+                requestCounters.totalRequests(),
+                requestCounters.activeRequests(),
+                requestCounters.requestsByEndpoint(),
+                requestCounters.requestsByStatus(),
+                timestamp
+            ),
+            // Latences par route (p50/p90/p99/p999/max depuis le démarrage)
+            latencyRecorder.snapshots()
+        );
+    }
+
+    /**
+     * @return Corps de l'erreur de test (à renvoyer avec un status 500)
+     */
+    public ErrorResponse testError() {
+        return new ErrorResponse(
+            "Test error endpoint",
+            "Ceci est une erreur de test pour vérifier le monitoring",
+            getCurrentTimestamp()
+        );
+    }
+
+    /**
+     * @param delay Délai appliqué en millisecondes
+     * @return Message renvoyé après le délai
+     */
+    public SlowResponse testSlow(int delay) {
+        return new SlowResponse("Réponse après délai de " + delay + "ms", delay + "ms", getCurrentTimestamp());
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // MÉTHODES UTILITAIRES
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Obtient le timestamp actuel formaté (mis en cache par {@link TimestampClock})
+     *
+     * @return Timestamp au format ISO 8601, fuseau spring.jackson.time-zone
+     */
+    String getCurrentTimestamp() {
+        return timestampClock.now();
+    }
+
+    /**
+     * Formate les bytes en format lisible (Ko, Mo, Go)
+     *
+     * @param bytes Nombre de bytes
+     * @return Chaîne formatée (ex: "256 MB")
+     */
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) return bytes + " B";
+        int exp = (int) (Math.log(bytes) / Math.log(1024));
+        String pre = "KMGTPE".charAt(exp - 1) + "";
+        return String.format("%.1f %sB", bytes / Math.pow(1024, exp), pre);
+    }
+
+    /**
+     * Calcule l'uptime approximatif de la JVM
+     *
+     * @return Uptime formaté
+     */
+    static String getUptime() {
+        long uptimeMillis = java.lang.management.ManagementFactory.getRuntimeMXBean().getUptime();
+        long seconds = uptimeMillis / 1000;
+        long minutes = seconds / 60;
+        long hours = minutes / 60;
+        long days = hours / 24;
+
+        if (days > 0) {
+            return String.format("%d days, %d hours", days, hours % 24);
+        } else if (hours > 0) {
+            return String.format("%d hours, %d minutes", hours, minutes % 60);
+        } else if (minutes > 0) {
+            return String.format("%d minutes, %d seconds", minutes, seconds % 60);
+        } else {
+            return String.format("%d seconds", seconds);
+        }
+    }
+}
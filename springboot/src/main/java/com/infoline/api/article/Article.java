@@ -0,0 +1,147 @@
+package com.infoline.api.article;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Article du fil d'actualité sport &amp; tech
+ *
+ * Identifiant généré par séquence (allocation par blocs de 50) et non par
+ * colonne IDENTITY : Hibernate peut ainsi regrouper les INSERT en batchs
+ * JDBC (hibernate.jdbc.batch_size), ce qu'IDENTITY empêche.
+ *
+ * Le corps (body) peut peser plusieurs dizaines de Ko : les listes passent
+ * par des projections ({@link ArticleSummary}) qui ne le lisent jamais.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Entity
+@Table(name = "article", indexes = {
+    // Pagination keyset (voir ArticleCursor)
+    @Index(name = "idx_article_published_id", columnList = "published_at DESC, id DESC"),
+    @Index(name = "idx_article_category", columnList = "category_id, published_at DESC, id DESC")
+})
+public class Article {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 160)
+    private String slug;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Column(length = 500)
+    private String excerpt;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String body;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "category_id", nullable = false)
+    private Category category;
+
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "article_tag",
+        joinColumns = @JoinColumn(name = "article_id"),
+        inverseJoinColumns = @JoinColumn(name = "tag_id"))
+    private Set<Tag> tags = new LinkedHashSet<>();
+
+    @Column(name = "published_at", nullable = false)
+    private Instant publishedAt;
+
+    /**
+     * Dernière écriture (Last-Modified des réponses HTTP) ; nullable : les
+     * lignes antérieures à la colonne se rabattent sur published_at
+     */
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    /** Version de contenu (verrouillage optimiste, ETag de l'article) */
+    @Version
+    private long version;
+
+    protected Article() {
+        // JPA
+    }
+
+    public Article(String slug, String title, String excerpt, String body, Category category, Instant publishedAt) {
+        this.slug = slug;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.body = body;
+        this.category = category;
+        this.publishedAt = publishedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public Set<Tag> getTags() {
+        return tags;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    /**
+     * @return Dernière écriture, à défaut date de publication
+     */
+    public Instant getUpdatedAt() {
+        return updatedAt != null ? updatedAt : publishedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = Instant.now();
+    }
+}
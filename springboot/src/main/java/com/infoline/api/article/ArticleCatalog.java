@@ -0,0 +1,183 @@
+package com.infoline.api.article;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.infoline.api.cache.LocalCacheFactory;
+import com.infoline.api.cache.TieredCache;
+import com.infoline.api.cache.TieredCacheFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lectures du fil d'actualité, servies depuis le cache local
+ *
+ * Durées de vie adaptées à la fraîcheur attendue de chaque lecture :
+ * - articles.latest  : premières pages (l'actualité chaude) — courte
+ * - articles.archive : pages suivantes, adressées par curseur — longue
+ *   (leur contenu ne bouge plus guère), bornée en nombre d'articles
+ * - articles.detail  : article complet — bornée par la taille des corps
+ * - categories       : liste des rubriques — longue
+ *
+ * Les clés sont normalisées (rubrique vide = toutes, limite bornée,
+ * curseur décodé) : "?limit=500" et "?limit=100" partagent la même entrée,
+ * et un curseur illisible est rejeté avant d'atteindre le cache.
+ *
+ * Spécifications par défaut ci-dessous, surchargeables dans
+ * application.properties (voir {@link LocalCacheFactory}).
+ *
+ * Avec plusieurs pods, le L2 partagé (voir {@link TieredCacheFactory})
+ * garde les pods cohérents : une modification invalide l'entrée partout,
+ * et la durée de vie du L2 suit le rythme de rechargement du L1, si bien
+ * qu'un seul pod du cluster recharge chaque entrée depuis la base.
+ *
+ * Les chargements identiques simultanés sont déjà regroupés par Caffeine
+ * (un seul chargement par clé et par pod) et, avec le L2, par le bail de
+ * chargement entre pods : pas de SingleFlight ici (voir {@code SearchService}).
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Service
+public class ArticleCatalog {
+
+    static final String LATEST = "articles.latest";
+    static final String ARCHIVE = "articles.archive";
+    static final String DETAIL = "articles.detail";
+    static final String CATEGORIES = "categories";
+
+    private static final String LATEST_SPEC = "maximumSize=1000,expireAfterWrite=60s,refreshAfterWrite=10s";
+    private static final String ARCHIVE_SPEC = "maximumWeight=200000,expireAfterWrite=6h,refreshAfterWrite=1h";
+    private static final String DETAIL_SPEC = "maximumWeight=32000000,expireAfterWrite=30m,refreshAfterWrite=5m";
+    private static final String CATEGORIES_SPEC = "maximumSize=1,expireAfterWrite=1h,refreshAfterWrite=5m";
+
+    private static final Duration LATEST_SHARED_TTL = Duration.ofSeconds(10);
+    private static final Duration ARCHIVE_SHARED_TTL = Duration.ofHours(1);
+    private static final Duration DETAIL_SHARED_TTL = Duration.ofMinutes(5);
+    private static final Duration CATEGORIES_SHARED_TTL = Duration.ofMinutes(5);
+
+    /** Clé unique du cache des rubriques */
+    private static final String ALL = "all";
+
+    /** Poids fixe d'une entrée, en plus de son contenu */
+    private static final int ENTRY_WEIGHT = 1;
+
+    private final ArticleService articleService;
+    private final ApplicationEventPublisher events;
+    private final TieredCache<PageKey, ArticlePage> latest;
+    private final TieredCache<PageKey, ArticlePage> archive;
+    private final TieredCache<String, Optional<ArticleDetail>> details;
+    private final TieredCache<String, List<CategorySummary>> categories;
+
+    public ArticleCatalog(ArticleService articleService,
+                          TieredCacheFactory caches,
+                          ApplicationEventPublisher events) {
+        this.articleService = articleService;
+        this.events = events;
+        this.latest = caches.create(LATEST, LATEST_SPEC, null, LATEST_SHARED_TTL,
+            new TypeReference<ArticlePage>() { }, PageKey::format, this::loadPage);
+        // Poids : nombre d'articles de la page
+        this.archive = caches.create(ARCHIVE, ARCHIVE_SPEC,
+            (PageKey key, ArticlePage page) -> ENTRY_WEIGHT + page.items().size(),
+            ARCHIVE_SHARED_TTL, new TypeReference<ArticlePage>() { }, PageKey::format, this::loadPage);
+        // Poids : nombre de caractères du corps (les slugs inconnus sont aussi mis en cache)
+        this.details = caches.create(DETAIL, DETAIL_SPEC,
+            (String slug, Optional<ArticleDetail> detail) ->
+                ENTRY_WEIGHT + detail.map(article -> article.body().length()).orElse(0),
+            DETAIL_SHARED_TTL, new TypeReference<Optional<ArticleDetail>>() { },
+            slug -> slug, articleService::findBySlug);
+        this.categories = caches.create(CATEGORIES, CATEGORIES_SPEC, null, CATEGORIES_SHARED_TTL,
+            new TypeReference<List<CategorySummary>>() { },
+            all -> all, all -> articleService.categories());
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // LECTURE
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * @see ArticleService#page(String, String, int)
+     */
+    public ArticlePage page(String category, String after, int limit) {
+        ArticleCursor cursor = after == null || after.isBlank() ? null : ArticleCursor.decode(after);
+        PageKey key = new PageKey(
+            category == null || category.isBlank() ? null : category,
+            cursor,
+            ArticleService.clampLimit(limit));
+        return (cursor == null ? latest : archive).get(key);
+    }
+
+    /**
+     * @see ArticleService#findBySlug(String)
+     */
+    public Optional<ArticleDetail> findBySlug(String slug) {
+        return details.get(slug);
+    }
+
+    /**
+     * @see ArticleService#categories()
+     */
+    public List<CategorySummary> categories() {
+        return categories.get(ALL);
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // ÉCRITURE
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Importe des articles, invalide les entrées qu'ils rendent fausses, puis
+     * publie {@link ArticlesImported}
+     *
+     * @see ArticleService#importArticles(List)
+     */
+    public List<Long> importArticles(List<ArticleDraft> drafts) {
+        List<Long> ids = articleService.importArticles(drafts);
+        // Un article peut s'insérer dans n'importe quelle page selon sa date
+        latest.invalidateAll();
+        archive.invalidateAll();
+        categories.invalidateAll();
+        // Slugs jusqu'ici inconnus (réponses vides en cache) : un seul DEL et un seul
+        // message du bus pour tout le lot
+        details.invalidateAll(drafts.stream().map(ArticleDraft::slug).toList());
+        events.publishEvent(new ArticlesImported(ids));
+        return ids;
+    }
+
+    /**
+     * Vide tous les caches (reprise de données hors API, par exemple)
+     */
+    public void invalidateAll() {
+        latest.invalidateAll();
+        archive.invalidateAll();
+        details.invalidateAll();
+        categories.invalidateAll();
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // MÉTHODES UTILITAIRES
+    // ═══════════════════════════════════════════════════════════════
+
+    private ArticlePage loadPage(PageKey key) {
+        return articleService.pageAfter(key.category(), key.after(), key.limit());
+    }
+
+    /**
+     * Clé normalisée d'une page
+     *
+     * @param category Slug de rubrique, null pour toutes
+     * @param after    Position de départ, null pour la première page
+     * @param limit    Taille de page, déjà bornée
+     */
+    record PageKey(String category, ArticleCursor after, int limit) {
+
+        /**
+         * @return "limite|curseur|rubrique" (rubrique en dernier : seul champ libre)
+         */
+        String format() {
+            return limit + "|" + (after == null ? "" : after.encode()) + "|" + (category == null ? "" : category);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.infoline.api.article;
+
+import com.infoline.api.compression.StableBody;
+import com.infoline.api.dto.ErrorResponse;
+import com.infoline.api.time.TimestampClock;
+import com.infoline.api.web.ConditionalGet;
+import com.infoline.api.web.JsonOutputMode;
+import com.infoline.api.web.ResourceVersion;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Endpoints du fil d'actualité sport &amp; tech
+ *
+ * Actif en mode Servlet/Tomcat (JPA/JDBC est bloquant : pas d'équivalent
+ * dans le mode réactif).
+ *
+ * Lectures conditionnelles (If-None-Match / If-Modified-Since, voir
+ * {@link ConditionalGet}) : les validateurs viennent des données en cache
+ * (versions, dates de modification), un client à jour reçoit un 304 sans
+ * que la réponse soit sérialisée. Les corps sont entièrement déterminés par
+ * leur version : compressés une fois par version ({@link StableBody}).
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ArticleController {
+
+    private final ArticleCatalog articleCatalog;
+    private final TimestampClock timestampClock;
+    private final JsonOutputMode outputMode;
+
+    public ArticleController(ArticleCatalog articleCatalog, TimestampClock timestampClock,
+                             JsonOutputMode outputMode) {
+        this.articleCatalog = articleCatalog;
+        this.timestampClock = timestampClock;
+        this.outputMode = outputMode;
+    }
+
+    /**
+     * Articles du plus récent au plus ancien (sans corps), paginés par curseur
+     * URL : GET /api/v1/articles?category=football&amp;limit=20&amp;after=&lt;nextCursor&gt;
+     *
+     * @param category Slug de rubrique (optionnel)
+     * @param after    Curseur "nextCursor" de la page précédente (optionnel)
+     * @param limit    Nombre d'articles (défaut 20, max 100)
+     * @param pretty   Format indenté (optionnel, voir {@link JsonOutputMode})
+     * @param request  Requête (validateurs du client)
+     * @return Page d'articles et curseur de la suivante, ou 304
+     */
+    @GetMapping("/articles")
+    public ResponseEntity<ArticlePage> articles(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + ArticleService.DEFAULT_LIMIT) int limit,
+            @RequestParam(name = JsonOutputMode.PRETTY_PARAM, required = false) String pretty,
+            WebRequest request) {
+        ArticlePage page = articleCatalog.page(category, after, limit);
+        return conditional(request, representation(page.resourceVersion(), pretty), page);
+    }
+
+    /**
+     * Article complet
+     * URL : GET /api/v1/articles/{slug}
+     *
+     * @param slug    Slug de l'article
+     * @param pretty  Format indenté (optionnel, voir {@link JsonOutputMode})
+     * @param request Requête (validateurs du client)
+     * @return Article, 304, ou 404
+     */
+    @GetMapping("/articles/{slug}")
+    public ResponseEntity<ArticleDetail> article(
+            @PathVariable String slug,
+            @RequestParam(name = JsonOutputMode.PRETTY_PARAM, required = false) String pretty,
+            WebRequest request) {
+        Optional<ArticleDetail> article = articleCatalog.findBySlug(slug);
+        if (article.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return conditional(request, representation(article.get().resourceVersion(), pretty), article.get());
+    }
+
+    /**
+     * Rubriques
+     * URL : GET /api/v1/categories
+     *
+     * @param pretty  Format indenté (optionnel, voir {@link JsonOutputMode})
+     * @param request Requête (validateurs du client)
+     * @return Rubriques triées par libellé, ou 304
+     */
+    @GetMapping("/categories")
+    public ResponseEntity<List<CategorySummary>> categories(
+            @RequestParam(name = JsonOutputMode.PRETTY_PARAM, required = false) String pretty,
+            WebRequest request) {
+        List<CategorySummary> categories = articleCatalog.categories();
+        return conditional(request, representation(CategorySummary.versionOf(categories), pretty), categories);
+    }
+
+    // ── LECTURES CONDITIONNELLES ────────────────────────────────────
+
+    /**
+     * Compact et indenté sont deux représentations : un ETag fort chacune
+     */
+    private ResourceVersion representation(ResourceVersion version, String pretty) {
+        return outputMode.isPretty(pretty) ? version.variant("pretty") : version;
+    }
+
+    private static <T> ResponseEntity<T> conditional(WebRequest request, ResourceVersion version, T body) {
+        if (ConditionalGet.notModified(request, version)) {
+            return null;
+        }
+        StableBody.mark(request, version);
+        return ConditionalGet.ok(version).body(body);
+    }
+
+    /**
+     * Curseur illisible (modifié, tronqué...) : 400 plutôt que 500
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> invalidCursor(InvalidCursorException e) {
+        return ResponseEntity.badRequest()
+            .body(new ErrorResponse("Invalid cursor", e.getMessage(), timestampClock.now()));
+    }
+}
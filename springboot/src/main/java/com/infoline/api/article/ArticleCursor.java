@@ -0,0 +1,80 @@
+package com.infoline.api.article;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Curseur de pagination "keyset" : position (publishedAt, id) du dernier
+ * article d'une page
+ *
+ * La page suivante est lue par {@code WHERE (published_at, id) < (?, ?)}
+ * sur l'index composite (published_at DESC, id DESC) : le coût d'une page
+ * ne dépend que de sa taille, jamais de sa profondeur (contrairement à
+ * OFFSET, qui lit puis jette toutes les lignes précédentes).
+ *
+ * Forme transmise au client : 20 octets (secondes, nanos, id) encodés en
+ * Base64 URL sans padding, soit 27 caractères opaques.
+ *
+ * @param publishedAt Date de publication du dernier article lu
+ * @param id          Identifiant du dernier article lu (départage les dates égales)
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record ArticleCursor(Instant publishedAt, long id) {
+
+    private static final int LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * @param summary Dernier article d'une page
+     * @return Curseur positionné après cet article
+     */
+    public static ArticleCursor after(ArticleSummary summary) {
+        return new ArticleCursor(summary.publishedAt(), summary.id());
+    }
+
+    /**
+     * @return Forme opaque, utilisable telle quelle dans une URL
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH)
+            .putLong(publishedAt.getEpochSecond())
+            .putInt(publishedAt.getNano())
+            .putLong(id);
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    /**
+     * @param token Forme produite par {@link #encode()}
+     * @return Curseur décodé
+     * @throws InvalidCursorException si le jeton est illisible
+     */
+    public static ArticleCursor decode(String token) {
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(token);
+        }
+        if (bytes.length != LENGTH) {
+            throw new InvalidCursorException(token);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        long id = buffer.getLong();
+        if (nanos < 0 || nanos > 999_999_999) {
+            throw new InvalidCursorException(token);
+        }
+        try {
+            return new ArticleCursor(Instant.ofEpochSecond(seconds, nanos), id);
+        } catch (DateTimeException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
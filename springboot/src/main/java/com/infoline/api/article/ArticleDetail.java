@@ -0,0 +1,58 @@
+package com.infoline.api.article;
+
+import com.infoline.api.web.ResourceVersion;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Article complet (GET /api/v1/articles/{slug})
+ *
+ * @param id          Identifiant
+ * @param slug        Identifiant lisible (URL)
+ * @param title       Titre
+ * @param excerpt     Chapô
+ * @param body        Corps de l'article
+ * @param category    Slug de la rubrique
+ * @param tags        Slugs des mots-clés, triés
+ * @param publishedAt Date de publication
+ * @param updatedAt   Dernière modification (date de publication si jamais modifié)
+ * @param version     Version de contenu (incrémentée à chaque modification)
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record ArticleDetail(Long id,
+                            String slug,
+                            String title,
+                            String excerpt,
+                            String body,
+                            String category,
+                            List<String> tags,
+                            Instant publishedAt,
+                            Instant updatedAt,
+                            long version) {
+
+    static ArticleDetail of(Article article) {
+        return new ArticleDetail(
+            article.getId(),
+            article.getSlug(),
+            article.getTitle(),
+            article.getExcerpt(),
+            article.getBody(),
+            article.getCategory().getSlug(),
+            article.getTags().stream().map(Tag::getSlug).sorted().toList(),
+            article.getPublishedAt(),
+            article.getUpdatedAt(),
+            article.getVersion()
+        );
+    }
+
+    /**
+     * @return Validateurs HTTP : ETag issu de la version JPA (incrémentée à
+     *         chaque modification), Last-Modified de la dernière écriture
+     */
+    public ResourceVersion resourceVersion() {
+        return ResourceVersion.of("a" + id + '-' + version, updatedAt);
+    }
+}
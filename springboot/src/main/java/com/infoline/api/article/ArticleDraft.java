@@ -0,0 +1,34 @@
+package com.infoline.api.article;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Article à importer (voir {@link ArticleService#importArticles(List)})
+ *
+ * Rubrique et mots-clés sont désignés par leur slug ; ceux qui n'existent
+ * pas encore sont créés (libellé = slug).
+ *
+ * @param slug        Identifiant lisible, unique
+ * @param title       Titre
+ * @param excerpt     Chapô (optionnel)
+ * @param body        Corps de l'article
+ * @param category    Slug de la rubrique
+ * @param tags        Slugs des mots-clés (optionnel)
+ * @param publishedAt Date de publication
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record ArticleDraft(String slug,
+                           String title,
+                           String excerpt,
+                           String body,
+                           String category,
+                           List<String> tags,
+                           Instant publishedAt) {
+
+    public ArticleDraft {
+        tags = tags == null ? List.of() : List.copyOf(tags);
+    }
+}
@@ -0,0 +1,111 @@
+package com.infoline.api.article;
+
+import com.infoline.api.cache.RemoteCache;
+import com.infoline.api.cache.RemoteCacheException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Relais de {@link ArticlesImported} entre les pods, par le bus Redis du
+ * cache partagé (voir {@code TieredCacheFactory})
+ *
+ * Les index tenus par chaque pod (recherche, suggestions) et les clients
+ * de son flux en direct doivent voir les imports faits sur les autres :
+ * - import local : publié sur infoline:articles:imported
+ * - message d'un autre pod : republié ici en {@code ArticlesImported(ids, true)},
+ *   jamais renvoyé sur le bus
+ *
+ * Message : "&lt;pod&gt;\n&lt;id&gt;,&lt;id&gt;,..." ; un pod ignore les siens (Redis
+ * les renvoie aussi à l'émetteur).
+ *
+ * Sans L2 (infoline.cache.l2.enabled=false), rien n'est relayé. Le bus ne
+ * garde rien (pub/sub) : un pod déconnecté au moment d'un import le rate,
+ * les index se recalent d'eux-mêmes sur la base (voir {@code SearchService}).
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+public class ArticleEventRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleEventRelay.class);
+
+    /** Canal des imports */
+    static final String CHANNEL = "infoline:articles:imported";
+
+    private static final char SEPARATOR = '\n';
+
+    private final RemoteCache remote;
+    private final ApplicationEventPublisher events;
+    private final String origin = UUID.randomUUID().toString();
+
+    @Autowired
+    public ArticleEventRelay(ObjectProvider<RemoteCache> remote, ApplicationEventPublisher events) {
+        this(remote.getIfAvailable(), events);
+    }
+
+    ArticleEventRelay(RemoteCache remote, ApplicationEventPublisher events) {
+        this.remote = remote;
+        this.events = events;
+        if (remote != null) {
+            remote.subscribe(CHANNEL, this::onMessage);
+        }
+    }
+
+    /**
+     * Import local : annoncé aux autres pods
+     */
+    @EventListener
+    public void onArticlesImported(ArticlesImported event) {
+        if (remote == null || event.remote() || event.ids().isEmpty()) {
+            return;
+        }
+        StringBuilder message = new StringBuilder(origin.length() + 1 + 8 * event.ids().size());
+        message.append(origin).append(SEPARATOR);
+        for (int i = 0; i < event.ids().size(); i++) {
+            if (i > 0) {
+                message.append(',');
+            }
+            message.append(event.ids().get(i));
+        }
+        try {
+            remote.publish(CHANNEL, message.toString());
+        } catch (RemoteCacheException e) {
+            // Les autres pods se recaleront sur la base
+            log.warn("Annonce de {} articles importés aux autres pods impossible : {}",
+                event.ids().size(), e.getMessage());
+        }
+    }
+
+    private void onMessage(String message) {
+        int separator = message.indexOf(SEPARATOR);
+        if (separator < 0 || separator == origin.length() && message.startsWith(origin)) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>();
+        try {
+            int start = separator + 1;
+            while (start < message.length()) {
+                int end = message.indexOf(',', start);
+                end = end < 0 ? message.length() : end;
+                ids.add(Long.parseLong(message, start, end, 10));
+                start = end + 1;
+            }
+        } catch (NumberFormatException e) {
+            log.debug("Message d'import illisible ignoré : {}", message, e);
+            return;
+        }
+        if (!ids.isEmpty()) {
+            events.publishEvent(new ArticlesImported(List.copyOf(ids), true));
+        }
+    }
+}
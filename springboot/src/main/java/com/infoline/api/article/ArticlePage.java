@@ -0,0 +1,45 @@
+package com.infoline.api.article;
+
+import com.infoline.api.web.ResourceVersion;
+
+import java.util.List;
+
+/**
+ * Page d'articles (GET /api/v1/articles)
+ *
+ * @param items      Articles du plus récent au plus ancien (sans corps)
+ * @param nextCursor Curseur de la page suivante (paramètre {@code after}), null sur la dernière page
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record ArticlePage(List<ArticleSummary> items, String nextCursor) {
+
+    /**
+     * Validateurs HTTP calculés depuis les identifiants et dates de
+     * modification des articles (quelques octets chacun), sans sérialiser
+     * la page : un article ajouté, retiré ou modifié change l'ETag
+     *
+     * @return ETag et Last-Modified (article le plus récemment modifié)
+     */
+    public ResourceVersion resourceVersion() {
+        ResourceVersion.Builder version = ResourceVersion.builder("p");
+        for (ArticleSummary item : items) {
+            version.add(item.id()).modifiedAt(item.updatedAt());
+        }
+        return version.add(nextCursor).build();
+    }
+
+    /**
+     * @param rows  Résultat de la requête, lue avec {@code limit + 1} lignes
+     * @param limit Taille de page demandée
+     * @return Page, avec un curseur seulement s'il reste des articles
+     */
+    static ArticlePage of(List<ArticleSummary> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new ArticlePage(List.copyOf(rows), null);
+        }
+        List<ArticleSummary> items = List.copyOf(rows.subList(0, limit));
+        return new ArticlePage(items, ArticleCursor.after(items.get(limit - 1)).encode());
+    }
+}
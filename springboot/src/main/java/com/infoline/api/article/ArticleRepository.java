@@ -0,0 +1,145 @@
+package com.infoline.api.article;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Accès aux articles
+ *
+ * Les requêtes de liste renvoient des projections {@link ArticleSummary}
+ * (colonnes utiles uniquement, pas de corps, pas d'entité managée) et
+ * paginent par curseur ({@link ArticleCursor}), jamais par OFFSET.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public interface ArticleRepository extends JpaRepository<Article, Long> {
+
+    // ── PAGINATION KEYSET ───────────────────────────────────────────
+    // Première page : ORDER BY + LIMIT ; pages suivantes : comparaison de
+    // tuple sur (publishedAt, id), servie par l'index composite
+    // idx_article_published_id (ou idx_article_category pour une rubrique)
+
+    @Query("""
+        select new com.infoline.api.article.ArticleSummary(a.id, a.slug, a.title, a.excerpt, c.slug, a.publishedAt,
+                                                           coalesce(a.updatedAt, a.publishedAt))
+        from Article a join a.category c
+        order by a.publishedAt desc, a.id desc
+        """)
+    List<ArticleSummary> findFirstPage(Pageable page);
+
+    @Query("""
+        select new com.infoline.api.article.ArticleSummary(a.id, a.slug, a.title, a.excerpt, c.slug, a.publishedAt,
+                                                           coalesce(a.updatedAt, a.publishedAt))
+        from Article a join a.category c
+        where (a.publishedAt, a.id) < (:publishedAt, :id)
+        order by a.publishedAt desc, a.id desc
+        """)
+    List<ArticleSummary> findPageAfter(@Param("publishedAt") Instant publishedAt,
+                                       @Param("id") long id,
+                                       Pageable page);
+
+    @Query("""
+        select new com.infoline.api.article.ArticleSummary(a.id, a.slug, a.title, a.excerpt, c.slug, a.publishedAt,
+                                                           coalesce(a.updatedAt, a.publishedAt))
+        from Article a join a.category c
+        where c.slug = :category
+        order by a.publishedAt desc, a.id desc
+        """)
+    List<ArticleSummary> findFirstPageInCategory(@Param("category") String category, Pageable page);
+
+    @Query("""
+        select new com.infoline.api.article.ArticleSummary(a.id, a.slug, a.title, a.excerpt, c.slug, a.publishedAt,
+                                                           coalesce(a.updatedAt, a.publishedAt))
+        from Article a join a.category c
+        where c.slug = :category
+          and (a.publishedAt, a.id) < (:publishedAt, :id)
+        order by a.publishedAt desc, a.id desc
+        """)
+    List<ArticleSummary> findPageAfterInCategory(@Param("category") String category,
+                                                 @Param("publishedAt") Instant publishedAt,
+                                                 @Param("id") long id,
+                                                 Pageable page);
+
+    /**
+     * Article complet avec sa rubrique et ses mots-clés, en une requête
+     */
+    @Query("""
+        select a from Article a
+        join fetch a.category
+        left join fetch a.tags
+        where a.slug = :slug
+        """)
+    Optional<Article> findDetailBySlug(@Param("slug") String slug);
+
+    /**
+     * Résumés d'articles désignés par identifiant (résultats de recherche), sans ordre
+     */
+    @Query("""
+        select new com.infoline.api.article.ArticleSummary(a.id, a.slug, a.title, a.excerpt, c.slug, a.publishedAt,
+                                                           coalesce(a.updatedAt, a.publishedAt))
+        from Article a join a.category c
+        where a.id in :ids
+        """)
+    List<ArticleSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Titres du plus récent au plus ancien (index idx_article_published_id)
+     */
+    @Query("""
+        select new com.infoline.api.article.ArticleTitle(a.slug, a.title)
+        from Article a
+        order by a.publishedAt desc, a.id desc
+        """)
+    List<ArticleTitle> findLatestTitles(Pageable page);
+
+    /**
+     * Slugs déjà pris parmi ceux donnés (contrôle avant import)
+     */
+    @Query("select a.slug from Article a where a.slug in :slugs")
+    List<String> findExistingSlugs(@Param("slugs") Collection<String> slugs);
+
+    // ── INDEXATION PLEIN TEXTE ──────────────────────────────────────
+    // Parcours par identifiant croissant (clé primaire), par lots
+
+    @Query("""
+        select new com.infoline.api.article.ArticleText(a.id, a.title, a.excerpt, a.body)
+        from Article a
+        where a.id > :after
+        order by a.id
+        """)
+    List<ArticleText> findTextAfter(@Param("after") long after, Pageable page);
+
+    @Query("""
+        select new com.infoline.api.article.ArticleText(a.id, a.title, a.excerpt, a.body)
+        from Article a
+        where a.id in :ids
+        order by a.id
+        """)
+    List<ArticleText> findTextByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+        select a.id
+        from Article a
+        where a.id > :after
+        order by a.id
+        """)
+    List<Long> findIdAfter(@Param("after") long after, Pageable page);
+
+    /**
+     * @return Couples (identifiant d'article, libellé de mot-clé)
+     */
+    @Query("""
+        select a.id, t.name
+        from Article a join a.tags t
+        where a.id in :ids
+        """)
+    List<Object[]> findTagNamesByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,323 @@
+package com.infoline.api.article;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Service du fil d'actualité
+ *
+ * Lecture (toutes les méthodes par défaut) : transaction en lecture seule.
+ * Hibernate ne fait alors ni flush ni "dirty checking", et la connexion
+ * est passée en read-only (PostgreSQL peut router/optimiser en conséquence).
+ *
+ * Écriture ({@link #importArticles(List)}) : INSERT regroupés en batchs
+ * JDBC de {@code hibernate.jdbc.batch_size} lignes, contexte de persistance
+ * vidé après chaque batch pour garder une mémoire constante.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class ArticleService {
+
+    /** Taille de page par défaut des listes */
+    public static final int DEFAULT_LIMIT = 20;
+
+    /** Taille de page maximale des listes */
+    public static final int MAX_LIMIT = 100;
+
+    private final ArticleRepository articles;
+    private final CategoryRepository categories;
+    private final TagRepository tags;
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public ArticleService(ArticleRepository articles,
+                          CategoryRepository categories,
+                          TagRepository tags,
+                          EntityManager entityManager,
+                          @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.articles = articles;
+        this.categories = categories;
+        this.tags = tags;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // LECTURE
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Page d'articles (sans corps), du plus récent au plus ancien
+     *
+     * Pagination keyset : une page coûte O(limit) quelle que soit sa profondeur.
+     *
+     * @param category Slug de rubrique, null pour toutes
+     * @param after    Curseur renvoyé par la page précédente, null pour la première
+     * @param limit    Nombre d'articles (borné à {@link #MAX_LIMIT})
+     * @return Page et curseur de la suivante
+     * @throws InvalidCursorException si le curseur est illisible
+     */
+    public ArticlePage page(String category, String after, int limit) {
+        ArticleCursor cursor = after == null || after.isBlank() ? null : ArticleCursor.decode(after);
+        return pageAfter(category, cursor, limit);
+    }
+
+    /**
+     * @param category Slug de rubrique, null pour toutes
+     * @param after    Position décodée, null pour la première page
+     * @param limit    Nombre d'articles (borné à {@link #MAX_LIMIT})
+     * @return Page et curseur de la suivante
+     */
+    public ArticlePage pageAfter(String category, ArticleCursor after, int limit) {
+        int size = clampLimit(limit);
+        // Une ligne de plus que demandé : indique s'il reste une page
+        PageRequest fetch = PageRequest.of(0, size + 1);
+        boolean allCategories = category == null || category.isBlank();
+
+        List<ArticleSummary> rows;
+        if (after == null) {
+            rows = allCategories
+                ? articles.findFirstPage(fetch)
+                : articles.findFirstPageInCategory(category, fetch);
+        } else {
+            rows = allCategories
+                ? articles.findPageAfter(after.publishedAt(), after.id(), fetch)
+                : articles.findPageAfterInCategory(category, after.publishedAt(), after.id(), fetch);
+        }
+        return ArticlePage.of(rows, size);
+    }
+
+    /**
+     * @param slug Slug de l'article
+     * @return Article complet, vide s'il n'existe pas
+     */
+    public Optional<ArticleDetail> findBySlug(String slug) {
+        return articles.findDetailBySlug(slug).map(ArticleDetail::of);
+    }
+
+    /**
+     * @return Rubriques triées par libellé
+     */
+    public List<CategorySummary> categories() {
+        return categories.findAllSummaries();
+    }
+
+    /**
+     * @param ids Identifiants, dans l'ordre voulu (ex: pertinence)
+     * @return Résumés dans le même ordre, sans les articles disparus
+     */
+    public List<ArticleSummary> summaries(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ArticleSummary> byId = new HashMap<>();
+        for (ArticleSummary summary : articles.findSummariesByIdIn(ids)) {
+            byId.put(summary.id(), summary);
+        }
+        List<ArticleSummary> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ArticleSummary summary = byId.get(id);
+            if (summary != null) {
+                ordered.add(summary);
+            }
+        }
+        return ordered;
+    }
+
+    // ── TEXTES À INDEXER ────────────────────────────────────────────
+
+    /**
+     * Lot de textes à indexer, par identifiant croissant
+     *
+     * @param afterId Dernier identifiant du lot précédent (0 pour le premier)
+     * @param limit   Taille du lot
+     * @return Textes avec leurs mots-clés, vide après le dernier lot
+     */
+    public List<ArticleText> textsAfter(long afterId, int limit) {
+        return withTags(articles.findTextAfter(afterId, PageRequest.of(0, limit)));
+    }
+
+    /**
+     * @param ids Identifiants d'articles (ex: importés)
+     * @return Textes avec leurs mots-clés, par identifiant croissant
+     */
+    public List<ArticleText> texts(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of() : withTags(articles.findTextByIdIn(ids));
+    }
+
+    /**
+     * Lot d'identifiants, par ordre croissant (contrôle de l'index)
+     *
+     * @param afterId Dernier identifiant du lot précédent (0 pour le premier)
+     * @param limit   Taille du lot
+     * @return Identifiants, vide après le dernier lot
+     */
+    public List<Long> idsAfter(long afterId, int limit) {
+        return articles.findIdAfter(afterId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * @return Nombre d'articles en base
+     */
+    public long count() {
+        return articles.count();
+    }
+
+    private List<ArticleText> withTags(List<ArticleText> texts) {
+        if (texts.isEmpty()) {
+            return texts;
+        }
+        Map<Long, List<String>> tagNames = new HashMap<>();
+        for (Object[] row : articles.findTagNamesByIdIn(texts.stream().map(ArticleText::id).toList())) {
+            tagNames.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return texts.stream()
+            .map(text -> text.withTags(tagNames.getOrDefault(text.id(), List.of())))
+            .toList();
+    }
+
+    // ── SUGGESTIONS DE SAISIE ───────────────────────────────────────
+
+    /**
+     * @return Rubriques utilisées et nombre d'articles de chacune
+     */
+    public List<LabelUsage> categoryUsage() {
+        return categories.findUsage();
+    }
+
+    /**
+     * @return Mots-clés utilisés et nombre d'articles de chacun
+     */
+    public List<LabelUsage> tagUsage() {
+        return tags.findUsage();
+    }
+
+    /**
+     * @param ids Identifiants d'articles (ex: import récent)
+     * @return Mots-clés de ces articles et nombre d'articles de chacun
+     */
+    public List<LabelUsage> tagUsage(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of() : tags.findUsageByArticleIdIn(ids);
+    }
+
+    /**
+     * @param limit Nombre de titres
+     * @return Titres des articles, du plus récent au plus ancien
+     */
+    public List<ArticleTitle> latestTitles(int limit) {
+        return articles.findLatestTitles(PageRequest.of(0, limit));
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // ÉCRITURE
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * @param slugs Slugs d'articles à importer
+     * @return Ceux qui sont déjà pris (unicité du slug)
+     */
+    public List<String> existingSlugs(Collection<String> slugs) {
+        return slugs.isEmpty() ? List.of() : articles.findExistingSlugs(slugs);
+    }
+
+    /**
+     * Importe des articles en batchs JDBC
+     *
+     * Les rubriques et mots-clés manquants sont créés au passage.
+     *
+     * @param drafts Articles à créer
+     * @return Identifiants attribués, dans l'ordre des brouillons
+     */
+    @Transactional
+    public List<Long> importArticles(List<ArticleDraft> drafts) {
+        Set<String> categorySlugs = new LinkedHashSet<>();
+        Set<String> tagSlugs = new LinkedHashSet<>();
+        for (ArticleDraft draft : drafts) {
+            categorySlugs.add(draft.category());
+            tagSlugs.addAll(draft.tags());
+        }
+
+        Map<String, Long> categoryIds = resolve(categorySlugs, categories::findBySlugIn,
+            Category::getSlug, Category::getId, Category::new);
+        Map<String, Long> tagIds = resolve(tagSlugs, tags::findBySlugIn,
+            Tag::getSlug, Tag::getId, Tag::new);
+        flushAndClear();
+
+        List<Long> ids = new ArrayList<>(drafts.size());
+        for (int i = 0; i < drafts.size(); i++) {
+            ArticleDraft draft = drafts.get(i);
+            Article article = new Article(draft.slug(), draft.title(), draft.excerpt(), draft.body(),
+                entityManager.getReference(Category.class, categoryIds.get(draft.category())),
+                draft.publishedAt());
+            for (String tag : draft.tags()) {
+                article.getTags().add(entityManager.getReference(Tag.class, tagIds.get(tag)));
+            }
+            entityManager.persist(article);
+            ids.add(article.getId());
+
+            if ((i + 1) % batchSize == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
+        return ids;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // MÉTHODES UTILITAIRES
+    // ═══════════════════════════════════════════════════════════════
+
+    static int clampLimit(int limit) {
+        if (limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Identifiants des entités désignées par slug, en créant les manquantes
+     */
+    private <T> Map<String, Long> resolve(Set<String> slugs,
+                                          Function<Set<String>, List<T>> finder,
+                                          Function<T, String> slugOf,
+                                          Function<T, Long> idOf,
+                                          BiFunction<String, String, T> factory) {
+        Map<String, Long> ids = new HashMap<>();
+        if (slugs.isEmpty()) {
+            return ids;
+        }
+        for (T existing : finder.apply(slugs)) {
+            ids.put(slugOf.apply(existing), idOf.apply(existing));
+        }
+        for (String slug : slugs) {
+            if (!ids.containsKey(slug)) {
+                T created = factory.apply(slug, slug);
+                entityManager.persist(created);
+                ids.put(slug, idOf.apply(created));
+            }
+        }
+        return ids;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
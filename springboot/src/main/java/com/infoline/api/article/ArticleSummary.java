@@ -0,0 +1,29 @@
+package com.infoline.api.article;
+
+import java.time.Instant;
+
+/**
+ * Projection "liste" d'un article : jamais le corps
+ *
+ * Construite directement par la requête JPQL ({@code select new ...}) :
+ * aucune entité n'est chargée ni suivie par le contexte de persistance.
+ *
+ * @param id          Identifiant
+ * @param slug        Identifiant lisible (URL)
+ * @param title       Titre
+ * @param excerpt     Chapô
+ * @param category    Slug de la rubrique
+ * @param publishedAt Date de publication
+ * @param updatedAt   Dernière modification (date de publication si jamais modifié)
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record ArticleSummary(Long id,
+                             String slug,
+                             String title,
+                             String excerpt,
+                             String category,
+                             Instant publishedAt,
+                             Instant updatedAt) {
+}
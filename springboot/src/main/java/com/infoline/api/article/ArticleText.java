@@ -0,0 +1,34 @@
+package com.infoline.api.article;
+
+import java.util.List;
+
+/**
+ * Projection "texte" d'un article, pour l'indexation plein texte
+ *
+ * Construite par la requête JPQL sans les mots-clés (collection), ajoutés
+ * ensuite par une seconde requête groupée (voir
+ * {@link ArticleService#textsAfter(long, int)}).
+ *
+ * @param id      Identifiant
+ * @param title   Titre
+ * @param excerpt Chapô (peut être null)
+ * @param body    Corps
+ * @param tags    Libellés des mots-clés
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record ArticleText(Long id, String title, String excerpt, String body, List<String> tags) {
+
+    public ArticleText {
+        tags = tags == null ? List.of() : List.copyOf(tags);
+    }
+
+    public ArticleText(Long id, String title, String excerpt, String body) {
+        this(id, title, excerpt, body, List.of());
+    }
+
+    ArticleText withTags(List<String> tags) {
+        return new ArticleText(id, title, excerpt, body, tags);
+    }
+}
@@ -0,0 +1,14 @@
+package com.infoline.api.article;
+
+/**
+ * Projection minimale d'un article : son titre et de quoi y mener
+ * (suggestions de saisie)
+ *
+ * @param slug  Identifiant lisible (URL)
+ * @param title Titre
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record ArticleTitle(String slug, String title) {
+}
@@ -0,0 +1,25 @@
+package com.infoline.api.article;
+
+import java.util.List;
+
+/**
+ * Événement applicatif : articles importés (publié après validation de l'import)
+ *
+ * Relayé aux clients du flux en direct ({@code LiveEventHub}) et aux autres
+ * pods ({@link ArticleEventRelay}), où il est republié avec {@code remote}.
+ *
+ * @param ids    Identifiants des articles créés
+ * @param remote true si l'import a eu lieu sur un autre pod
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record ArticlesImported(List<Long> ids, boolean remote) {
+
+    /**
+     * Import fait par ce pod
+     */
+    public ArticlesImported(List<Long> ids) {
+        this(ids, false);
+    }
+}
@@ -0,0 +1,31 @@
+package com.infoline.api.article;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Accès aux rubriques
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    @Query("select new com.infoline.api.article.CategorySummary(c.id, c.slug, c.name) from Category c order by c.name")
+    List<CategorySummary> findAllSummaries();
+
+    List<Category> findBySlugIn(Collection<String> slugs);
+
+    /**
+     * @return Rubriques d'au moins un article, avec leur nombre d'articles
+     */
+    @Query("""
+        select new com.infoline.api.article.LabelUsage(c.slug, c.name, count(a))
+        from Article a join a.category c
+        group by c.id, c.slug, c.name
+        """)
+    List<LabelUsage> findUsage();
+}
@@ -0,0 +1,30 @@
+package com.infoline.api.article;
+
+import com.infoline.api.web.ResourceVersion;
+
+import java.util.List;
+
+/**
+ * Projection d'une rubrique (GET /api/v1/categories)
+ *
+ * @param id   Identifiant
+ * @param slug Identifiant lisible (URL)
+ * @param name Libellé
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record CategorySummary(Long id, String slug, String name) {
+
+    /**
+     * @param categories Liste des rubriques
+     * @return Validateurs HTTP de la liste (ETag seul : pas de date de modification)
+     */
+    public static ResourceVersion versionOf(List<CategorySummary> categories) {
+        ResourceVersion.Builder version = ResourceVersion.builder("c");
+        for (CategorySummary category : categories) {
+            version.add(category.id()).add(category.slug()).add(category.name());
+        }
+        return version.build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.infoline.api.article;
+
+/**
+ * Curseur de pagination illisible (réponse 400)
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String token) {
+        super("Curseur de pagination invalide : " + token);
+    }
+}
@@ -0,0 +1,15 @@
+package com.infoline.api.article;
+
+/**
+ * Rubrique ou mot-clé, avec le nombre d'articles qui le portent
+ * (suggestions de saisie : les plus utilisés d'abord)
+ *
+ * @param slug     Identifiant lisible (URL)
+ * @param name     Libellé
+ * @param articles Nombre d'articles
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record LabelUsage(String slug, String name, Long articles) {
+}
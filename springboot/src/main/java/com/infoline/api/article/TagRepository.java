@@ -0,0 +1,40 @@
+package com.infoline.api.article;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Accès aux mots-clés
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    List<Tag> findBySlugIn(Collection<String> slugs);
+
+    /**
+     * @return Mots-clés portés par au moins un article, avec leur nombre d'articles
+     */
+    @Query("""
+        select new com.infoline.api.article.LabelUsage(t.slug, t.name, count(a))
+        from Article a join a.tags t
+        group by t.id, t.slug, t.name
+        """)
+    List<LabelUsage> findUsage();
+
+    /**
+     * @return Mots-clés des articles donnés, avec leur nombre d'articles parmi eux
+     */
+    @Query("""
+        select new com.infoline.api.article.LabelUsage(t.slug, t.name, count(a))
+        from Article a join a.tags t
+        where a.id in :ids
+        group by t.id, t.slug, t.name
+        """)
+    List<LabelUsage> findUsageByArticleIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,154 @@
+package com.infoline.api.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.Weigher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fabrique des caches locaux (Caffeine, en mémoire du pod)
+ *
+ * Chaque cache est décrit par une spécification Caffeine, surchargeable
+ * dans application.properties sous {@code infoline.cache.<nom>} :
+ * - maximumSize / maximumWeight : éviction par nombre d'entrées ou par poids
+ *   (le poids est calculé par le {@link Weigher} fourni à la création)
+ * - expireAfterWrite : durée de vie maximale d'une entrée
+ * - refreshAfterWrite : au-delà, la lecture suivante rend encore l'ancienne
+ *   valeur et déclenche le rechargement en tâche de fond (refresh-ahead) ;
+ *   aucun lecteur n'attend la base tant que l'entrée n'a pas expiré
+ *
+ * Les rechargements tournent sur un pool dédié (et non le ForkJoinPool
+ * commun) : ils appellent JPA/JDBC, donc bloquent.
+ *
+ * Métriques (Actuator /metrics et /prometheus, tag cache=&lt;nom&gt;) :
+ * cache.gets{result=hit|miss}, cache.puts, cache.evictions,
+ * cache.eviction.weight, cache.size, cache.load.duration...
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+public class LocalCacheFactory {
+
+    /** Préfixe des spécifications dans application.properties */
+    public static final String PROPERTY_PREFIX = "infoline.cache.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Ticker ticker;
+    private final Executor refreshExecutor;
+    private final ExecutorService ownedExecutor;
+
+    @Autowired
+    public LocalCacheFactory(Environment environment,
+                             MeterRegistry meterRegistry,
+                             @Value("${infoline.cache.refresh-threads:2}") int refreshThreads) {
+        this(environment, meterRegistry, Ticker.systemTicker(),
+            Executors.newFixedThreadPool(refreshThreads, daemonThreads("infoline-cache-refresh")));
+    }
+
+    LocalCacheFactory(Environment environment, MeterRegistry meterRegistry, Ticker ticker, Executor refreshExecutor) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.ticker = ticker;
+        this.refreshExecutor = refreshExecutor;
+        this.ownedExecutor = refreshExecutor instanceof ExecutorService service ? service : null;
+    }
+
+    /**
+     * Cache borné en nombre d'entrées
+     *
+     * @param name        Nom du cache (propriété {@code infoline.cache.<name>}, tag des métriques)
+     * @param defaultSpec Spécification Caffeine si la propriété est absente
+     * @param loader      Chargement (et rechargement) d'une entrée
+     * @return Cache instrumenté
+     */
+    public <K, V> LoadingCache<K, V> create(String name, String defaultSpec, CacheLoader<K, V> loader) {
+        return create(name, defaultSpec, null, loader);
+    }
+
+    /**
+     * Cache borné en nombre d'entrées ou en poids (si la spécification
+     * contient maximumWeight)
+     *
+     * @param name        Nom du cache (propriété {@code infoline.cache.<name>}, tag des métriques)
+     * @param defaultSpec Spécification Caffeine si la propriété est absente
+     * @param weigher     Poids d'une entrée, utilisé avec maximumWeight (optionnel)
+     * @param loader      Chargement (et rechargement) d'une entrée
+     * @return Cache instrumenté
+     */
+    public <K, V> LoadingCache<K, V> create(String name,
+                                           String defaultSpec,
+                                           Weigher<? super K, ? super V> weigher,
+                                           CacheLoader<K, V> loader) {
+        return create(name, defaultSpec, weigher, loader, null);
+    }
+
+    /**
+     * @param evictionListener Appelé à chaque éviction (taille, expiration),
+     *                         de façon synchrone, sous le verrou de l'entrée ;
+     *                         pas pour les invalidations explicites (optionnel)
+     * @see #create(String, String, Weigher, CacheLoader)
+     */
+    public <K, V> LoadingCache<K, V> create(String name,
+                                           String defaultSpec,
+                                           Weigher<? super K, ? super V> weigher,
+                                           CacheLoader<K, V> loader,
+                                           RemovalListener<K, V> evictionListener) {
+        String spec = environment.getProperty(PROPERTY_PREFIX + name, defaultSpec);
+        Caffeine<Object, Object> builder = Caffeine.from(spec)
+            .ticker(ticker)
+            .executor(refreshExecutor);
+        if (!spec.contains("recordStats")) {
+            builder.recordStats();
+        }
+
+        LoadingCache<K, V> cache;
+        if (spec.contains("maximumWeight")) {
+            if (weigher == null) {
+                throw new IllegalStateException("Cache " + name + " : maximumWeight sans calcul de poids");
+            }
+            Caffeine<K, V> weighted = builder.weigher(weigher);
+            if (evictionListener != null) {
+                weighted = weighted.evictionListener(evictionListener);
+            }
+            cache = weighted.build(loader);
+        } else if (evictionListener != null) {
+            cache = builder.<K, V>evictionListener(evictionListener).build(loader);
+        } else {
+            cache = builder.build(loader);
+        }
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
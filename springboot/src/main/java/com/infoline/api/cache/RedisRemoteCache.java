@@ -0,0 +1,95 @@
+package com.infoline.api.cache;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Cache partagé sur Redis (ou tout serveur compatible : Valkey,
+ * ElastiCache, KeyDB...), via le client Lettuce de Spring Data Redis
+ *
+ * Connexion : propriétés {@code spring.data.redis.*}. Le timeout de
+ * commande doit rester court : un L2 lent coûte plus cher qu'un L2 absent.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public class RedisRemoteCache implements RemoteCache {
+
+    private final RedisTemplate<String, byte[]> redis;
+    private final RedisMessageListenerContainer listeners;
+
+    public RedisRemoteCache(RedisConnectionFactory connectionFactory, RedisMessageListenerContainer listeners) {
+        this.redis = new RedisTemplate<>();
+        this.redis.setConnectionFactory(connectionFactory);
+        this.redis.setKeySerializer(RedisSerializer.string());
+        this.redis.setValueSerializer(RedisSerializer.byteArray());
+        this.redis.afterPropertiesSet();
+        this.listeners = listeners;
+    }
+
+    @Override
+    public byte[] get(String key) {
+        return call("GET", () -> redis.opsForValue().get(key));
+    }
+
+    @Override
+    public void set(String key, byte[] value, Duration ttl) {
+        call("SET", () -> {
+            redis.opsForValue().set(key, value, ttl);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean setIfAbsent(String key, byte[] value, Duration ttl) {
+        return Boolean.TRUE.equals(call("SET NX", () -> redis.opsForValue().setIfAbsent(key, value, ttl)));
+    }
+
+    @Override
+    public void delete(String key) {
+        call("DEL", () -> redis.delete(key));
+    }
+
+    @Override
+    public void delete(Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            call("DEL", () -> redis.delete(keys));
+        }
+    }
+
+    @Override
+    public long increment(String key) {
+        Long value = call("INCR", () -> redis.opsForValue().increment(key));
+        return value == null ? 0 : value;
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        call("PUBLISH", () -> redis.convertAndSend(channel, message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listeners.addMessageListener(
+            (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(channel));
+    }
+
+    private static <T> T call(String command, Supplier<T> operation) {
+        try {
+            return operation.get();
+        } catch (DataAccessException e) {
+            throw new RemoteCacheException("Redis " + command + " : " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.infoline.api.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Cache partagé entre les pods (niveau L2) et bus d'invalidation
+ *
+ * Sous-ensemble des commandes Redis dont {@link TieredCache} a besoin :
+ * GET, SET PX, SET NX PX, DEL, INCR, PUBLISH et SUBSCRIBE. Implémentation
+ * de production : {@link RedisRemoteCache} ; les tests utilisent une
+ * implémentation en mémoire partagée entre plusieurs "pods".
+ *
+ * Toute indisponibilité est signalée par {@link RemoteCacheException} :
+ * l'appelant retombe alors sur la base, sans faire échouer la requête.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public interface RemoteCache {
+
+    /**
+     * @return Valeur, null si absente ou expirée
+     */
+    byte[] get(String key);
+
+    /**
+     * Écrit une valeur (SET PX)
+     */
+    void set(String key, byte[] value, Duration ttl);
+
+    /**
+     * Écrit une valeur si la clé est libre (SET NX PX)
+     *
+     * @return true si la valeur a été écrite
+     */
+    boolean setIfAbsent(String key, byte[] value, Duration ttl);
+
+    /**
+     * Supprime une clé (DEL)
+     */
+    void delete(String key);
+
+    /**
+     * Supprime plusieurs clés en une commande (DEL k1 k2...)
+     */
+    default void delete(Collection<String> keys) {
+        for (String key : keys) {
+            delete(key);
+        }
+    }
+
+    /**
+     * Incrémente un compteur, créé à 0 s'il n'existe pas (INCR)
+     *
+     * @return Nouvelle valeur
+     */
+    long increment(String key);
+
+    /**
+     * Diffuse un message à tous les abonnés du canal, y compris ce pod (PUBLISH)
+     */
+    void publish(String channel, String message);
+
+    /**
+     * Abonne ce pod à un canal (SUBSCRIBE)
+     *
+     * @param listener Appelé pour chaque message, sur un thread du client
+     */
+    void subscribe(String channel, Consumer<String> listener);
+}
@@ -0,0 +1,34 @@
+package com.infoline.api.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Active le cache partagé Redis (L2) si {@code infoline.cache.l2.enabled=true}
+ *
+ * Sans ce bean, {@link TieredCacheFactory} ne construit que des caches
+ * locaux : un pod seul n'a besoin ni de Redis ni du bus d'invalidation.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "infoline.cache.l2.enabled", havingValue = "true")
+public class RemoteCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListeners(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    public RedisRemoteCache redisRemoteCache(RedisConnectionFactory connectionFactory,
+                                             RedisMessageListenerContainer cacheInvalidationListeners) {
+        return new RedisRemoteCache(connectionFactory, cacheInvalidationListeners);
+    }
+}
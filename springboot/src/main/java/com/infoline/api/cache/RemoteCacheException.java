@@ -0,0 +1,14 @@
+package com.infoline.api.cache;
+
+/**
+ * Cache partagé (L2) indisponible ou en erreur
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public class RemoteCacheException extends RuntimeException {
+
+    public RemoteCacheException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
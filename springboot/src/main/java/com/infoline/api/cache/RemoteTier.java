@@ -0,0 +1,262 @@
+package com.infoline.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Chargement d'une entrée L1 à travers le L2 partagé
+ *
+ * Une clé froide n'est chargée qu'une fois pour tout le cluster :
+ * 1. L2 présent : valeur désérialisée, pas de base
+ * 2. L2 absent : le premier pod pose un bail (SET NX PX), charge depuis la
+ *    base et publie la valeur dans le L2
+ * 3. Les autres pods trouvent le bail posé et relisent le L2 jusqu'à ce
+ *    que la valeur arrive (au plus la durée du bail, ensuite ils chargent
+ *    eux-mêmes : un pod arrêté en plein chargement ne bloque personne)
+ * Dans un même pod, Caffeine ne lance déjà qu'un chargement par clé.
+ *
+ * Clés Redis : infoline:cache:&lt;cache&gt;:&lt;génération&gt;:&lt;clé&gt;. Vider un
+ * cache incrémente sa génération (INCR) au lieu de parcourir ses clés :
+ * les anciennes entrées ne sont plus lues et expirent d'elles-mêmes.
+ *
+ * Redis en panne : chaque opération échoue vite (timeout du client) et le
+ * chargement retombe sur la base ; les requêtes ne voient pas la panne.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class RemoteTier<K, V> implements CacheLoader<K, V> {
+
+    private static final Logger log = LoggerFactory.getLogger(RemoteTier.class);
+
+    /** Canal du bus d'invalidation des L1 */
+    static final String CHANNEL = "infoline:cache:invalidate";
+
+    /** Clé du message d'invalidation qui vide tout le cache */
+    static final String ALL_KEYS = "*";
+
+    /** Séparateur nom du cache / clés dans les messages (jamais dans une clé) */
+    static final char SEPARATOR = '\n';
+
+    private static final byte[] LEASE = "1".getBytes(StandardCharsets.US_ASCII);
+
+    private final String name;
+    private final String prefix;
+    private final RemoteCache remote;
+    private final CacheLoader<K, V> source;
+    private final Function<? super K, String> keyFormat;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Duration pollInterval;
+    private final AtomicBoolean degraded = new AtomicBoolean();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter fallbacks;
+    private final Counter errors;
+
+    RemoteTier(String name,
+               RemoteCache remote,
+               CacheLoader<K, V> source,
+               Function<? super K, String> keyFormat,
+               ObjectReader reader,
+               ObjectWriter writer,
+               Duration ttl,
+               Duration lease,
+               Duration pollInterval,
+               MeterRegistry meterRegistry) {
+        this.name = name;
+        this.prefix = "infoline:cache:" + name + ":";
+        this.remote = remote;
+        this.source = source;
+        this.keyFormat = keyFormat;
+        this.reader = reader;
+        this.writer = writer;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.pollInterval = pollInterval;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.coalesced = counter(meterRegistry, "coalesced");
+        this.fallbacks = counter(meterRegistry, "fallback");
+        this.errors = counter(meterRegistry, "error");
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // LECTURE
+    // ═══════════════════════════════════════════════════════════════
+
+    @Override
+    public V load(K key) throws Exception {
+        String dataKey;
+        try {
+            dataKey = dataKey(keyFormat.apply(key));
+            V cached = read(dataKey);
+            recovered();
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            misses.increment();
+
+            if (!remote.setIfAbsent(dataKey + ":lease", LEASE, lease)) {
+                V shared = awaitLeader(dataKey);
+                if (shared != null) {
+                    coalesced.increment();
+                    return shared;
+                }
+                fallbacks.increment();
+                return source.load(key);
+            }
+        } catch (RemoteCacheException e) {
+            failed(e);
+            return source.load(key);
+        }
+
+        // Ce pod a le bail : chargement unique pour le cluster
+        try {
+            V value = source.load(key);
+            write(dataKey, value);
+            return value;
+        } finally {
+            try {
+                remote.delete(dataKey + ":lease");
+            } catch (RemoteCacheException e) {
+                // Le bail expirera de lui-même
+                failed(e);
+            }
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // INVALIDATION
+    // ═══════════════════════════════════════════════════════════════
+
+    void invalidate(String key) {
+        try {
+            remote.delete(dataKey(key));
+            remote.publish(CHANNEL, name + SEPARATOR + key);
+        } catch (RemoteCacheException e) {
+            failed(e);
+        }
+    }
+
+    /**
+     * Plusieurs clés : une génération lue, un DEL et un message pour toutes
+     */
+    void invalidate(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            String generation = generation();
+            List<String> dataKeys = new ArrayList<>(keys.size());
+            StringBuilder message = new StringBuilder(name);
+            for (String key : keys) {
+                dataKeys.add(prefix + generation + ":" + key);
+                message.append(SEPARATOR).append(key);
+            }
+            remote.delete(dataKeys);
+            remote.publish(CHANNEL, message.toString());
+        } catch (RemoteCacheException e) {
+            failed(e);
+        }
+    }
+
+    void invalidateAll() {
+        try {
+            remote.increment(prefix + "gen");
+            remote.publish(CHANNEL, name + SEPARATOR + ALL_KEYS);
+        } catch (RemoteCacheException e) {
+            failed(e);
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // MÉTHODES UTILITAIRES
+    // ═══════════════════════════════════════════════════════════════
+
+    private String dataKey(String key) {
+        return prefix + generation() + ":" + key;
+    }
+
+    private String generation() {
+        byte[] generation = remote.get(prefix + "gen");
+        return generation == null ? "0" : new String(generation, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Un autre pod charge la valeur : on relit le L2 pendant la durée du bail
+     */
+    private V awaitLeader(String dataKey) throws InterruptedException {
+        long deadline = System.nanoTime() + lease.toNanos();
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(pollInterval.toMillis());
+            V shared = read(dataKey);
+            if (shared != null) {
+                return shared;
+            }
+        }
+        return null;
+    }
+
+    private V read(String dataKey) {
+        byte[] bytes = remote.get(dataKey);
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return reader.readValue(bytes);
+        } catch (IOException e) {
+            // Format incompatible (déploiement en cours) : traité comme absent
+            log.debug("Cache {} : entrée L2 illisible {}", name, dataKey, e);
+            return null;
+        }
+    }
+
+    private void write(String dataKey, V value) {
+        try {
+            remote.set(dataKey, writer.writeValueAsBytes(value), ttl);
+        } catch (IOException | RemoteCacheException e) {
+            failed(e);
+        }
+    }
+
+    private void failed(Exception e) {
+        errors.increment();
+        if (degraded.compareAndSet(false, true)) {
+            log.warn("Cache {} : L2 indisponible, lecture directe en base ({})", name, e.getMessage());
+        }
+    }
+
+    private void recovered() {
+        if (degraded.compareAndSet(true, false)) {
+            log.info("Cache {} : L2 de nouveau disponible", name);
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.l2.requests")
+            .description("Chargements d'entrées L1 via le cache partagé")
+            .tag("cache", name)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
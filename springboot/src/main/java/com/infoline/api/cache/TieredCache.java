@@ -0,0 +1,112 @@
+package com.infoline.api.cache;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Cache à deux niveaux : L1 local (Caffeine) devant un L2 partagé (Redis)
+ *
+ * Lecture : L1, sinon L2, sinon chargement (voir {@link RemoteTier}). Sans
+ * L2 configuré, seul le L1 existe et le chargement va directement en base.
+ *
+ * Invalidation : l'entrée est retirée du L2, puis un message sur le bus
+ * retire l'entrée du L1 de chaque pod (y compris celui-ci, immédiatement).
+ * Le message porte la clé sous forme texte : chaque pod retrouve la clé du
+ * L1 dans un index (texte → clé) tenu au chargement et à l'éviction, sans
+ * parcourir le L1.
+ *
+ * Créé par {@link TieredCacheFactory}.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public final class TieredCache<K, V> {
+
+    private final String name;
+    private final LoadingCache<K, V> local;
+    private final RemoteTier<K, V> remote;
+    private final Function<? super K, String> keyFormat;
+    /** Clés du L1 par forme texte (avec L2 seulement) ; peut garder des clés déjà retirées */
+    private final Map<String, K> localKeys;
+
+    TieredCache(String name, LoadingCache<K, V> local, RemoteTier<K, V> remote, Function<? super K, String> keyFormat,
+                Map<String, K> localKeys) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.keyFormat = keyFormat;
+        this.localKeys = localKeys;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return Valeur en cache, ou chargée (une seule fois par clé dans le cluster)
+     */
+    public V get(K key) {
+        return local.get(key);
+    }
+
+    /**
+     * Invalide une entrée sur tous les pods
+     */
+    public void invalidate(K key) {
+        local.invalidate(key);
+        if (remote != null) {
+            remote.invalidate(keyFormat.apply(key));
+        }
+    }
+
+    /**
+     * Invalide des entrées sur tous les pods, en un seul message du bus
+     */
+    public void invalidateAll(Collection<? extends K> keys) {
+        local.invalidateAll(keys);
+        if (remote != null && !keys.isEmpty()) {
+            List<String> formatted = new ArrayList<>(keys.size());
+            for (K key : keys) {
+                formatted.add(keyFormat.apply(key));
+            }
+            remote.invalidate(formatted);
+        }
+    }
+
+    /**
+     * Vide le cache sur tous les pods
+     */
+    public void invalidateAll() {
+        local.invalidateAll();
+        if (remote != null) {
+            remote.invalidateAll();
+        }
+    }
+
+    /**
+     * Message du bus : retire une entrée (ou toutes) du L1 de ce pod
+     */
+    void evictLocal(String key) {
+        if (RemoteTier.ALL_KEYS.equals(key)) {
+            local.invalidateAll();
+            // Parcours complet, comme le vidage lui-même
+            localKeys.values().removeIf(candidate -> !local.asMap().containsKey(candidate));
+            return;
+        }
+        // Index avant L1 : un chargement concurrent de la clé la réindexe
+        // avant que invalidate() (qui l'attend) ne retire l'entrée
+        K localKey = localKeys.remove(key);
+        if (localKey != null) {
+            local.invalidate(localKey);
+        }
+    }
+
+    LoadingCache<K, V> local() {
+        return local;
+    }
+}
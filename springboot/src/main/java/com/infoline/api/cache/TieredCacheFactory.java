@@ -0,0 +1,155 @@
+package com.infoline.api.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Weigher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Fabrique des caches à deux niveaux ({@link TieredCache})
+ *
+ * Le L1 est toujours construit par {@link LocalCacheFactory}. Le L2 n'est
+ * branché que si un {@link RemoteCache} existe (infoline.cache.l2.enabled,
+ * voir {@link RemoteCacheConfig}) ; la fabrique s'abonne alors au bus
+ * d'invalidation et répercute chaque message sur le L1 concerné.
+ *
+ * Valeurs du L2 : JSON compact, via l'ObjectMapper de l'application.
+ *
+ * Paramètres (application.properties) :
+ * - infoline.cache.l2.lease-ms : durée du bail de chargement ; au-delà, les
+ *   pods qui attendent chargent eux-mêmes
+ * - infoline.cache.l2.poll-ms  : intervalle de relecture du L2 pendant l'attente
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+public class TieredCacheFactory {
+
+    private final LocalCacheFactory localCaches;
+    private final RemoteCache remote;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration lease;
+    private final Duration pollInterval;
+    private final Map<String, TieredCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TieredCacheFactory(LocalCacheFactory localCaches,
+                              ObjectProvider<RemoteCache> remote,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${infoline.cache.l2.lease-ms:2000}") long leaseMillis,
+                              @Value("${infoline.cache.l2.poll-ms:20}") long pollMillis) {
+        this(localCaches, remote.getIfAvailable(), objectMapper, meterRegistry,
+            Duration.ofMillis(leaseMillis), Duration.ofMillis(pollMillis));
+    }
+
+    TieredCacheFactory(LocalCacheFactory localCaches,
+                       RemoteCache remote,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       Duration lease,
+                       Duration pollInterval) {
+        this.localCaches = localCaches;
+        this.remote = remote;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.lease = lease;
+        this.pollInterval = pollInterval;
+        if (remote != null) {
+            remote.subscribe(RemoteTier.CHANNEL, this::onInvalidation);
+        }
+    }
+
+    /**
+     * @return true si un L2 partagé est branché
+     */
+    public boolean isShared() {
+        return remote != null;
+    }
+
+    /**
+     * Cache à deux niveaux
+     *
+     * @param name        Nom du cache (spécification L1 {@code infoline.cache.<name>}, métriques)
+     * @param defaultSpec Spécification Caffeine du L1 si la propriété est absente
+     * @param weigher     Poids d'une entrée L1, utilisé avec maximumWeight (optionnel)
+     * @param remoteTtl   Durée de vie des entrées du L2
+     * @param valueType   Type des valeurs (désérialisation du L2)
+     * @param keyFormat   Représentation texte d'une clé (clé Redis et messages du bus)
+     * @param loader      Chargement depuis la source (base)
+     * @return Cache instrumenté
+     */
+    public <K, V> TieredCache<K, V> create(String name,
+                                          String defaultSpec,
+                                          Weigher<? super K, ? super V> weigher,
+                                          Duration remoteTtl,
+                                          TypeReference<V> valueType,
+                                          Function<? super K, String> keyFormat,
+                                          CacheLoader<K, V> loader) {
+        if (remote == null) {
+            LoadingCache<K, V> local = localCaches.create(name, defaultSpec, weigher, loader);
+            return register(new TieredCache<>(name, local, null, keyFormat, null));
+        }
+
+        JavaType type = objectMapper.getTypeFactory().constructType(valueType);
+        RemoteTier<K, V> tier = new RemoteTier<>(name, remote, loader, keyFormat,
+            objectMapper.readerFor(type),
+            objectMapper.writerFor(type).without(SerializationFeature.INDENT_OUTPUT),
+            remoteTtl, lease, pollInterval, meterRegistry);
+        // Index texte → clé des entrées du L1, pour les messages du bus
+        Map<String, K> localKeys = new ConcurrentHashMap<>();
+        CacheLoader<K, V> localLoader = key -> {
+            localKeys.put(keyFormat.apply(key), key);
+            return tier.load(key);
+        };
+        LoadingCache<K, V> local = localCaches.create(name, defaultSpec, weigher, localLoader,
+            (key, value, cause) -> {
+                if (key != null) {
+                    localKeys.remove(keyFormat.apply(key), key);
+                }
+            });
+        return register(new TieredCache<>(name, local, tier, keyFormat, localKeys));
+    }
+
+    private <K, V> TieredCache<K, V> register(TieredCache<K, V> cache) {
+        String name = cache.name();
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("Cache " + name + " déjà déclaré");
+        }
+        return cache;
+    }
+
+    /**
+     * Message du bus : "&lt;cache&gt;\n&lt;clé&gt;[\n&lt;clé&gt;...]" (ou "\n*" pour tout le cache)
+     */
+    private void onInvalidation(String message) {
+        int separator = message.indexOf(RemoteTier.SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+        TieredCache<?, ?> cache = caches.get(message.substring(0, separator));
+        if (cache == null) {
+            return;
+        }
+        while (separator >= 0) {
+            int next = message.indexOf(RemoteTier.SEPARATOR, separator + 1);
+            cache.evictLocal(message.substring(separator + 1, next < 0 ? message.length() : next));
+            separator = next;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.infoline.api.compression;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import java.io.IOException;
+
+/**
+ * Brotli (brotli4j, binaire natif), niveaux 0 à 11
+ *
+ * Mode TEXT : dictionnaire et heuristiques adaptés au JSON UTF-8.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class BrotliCompressor implements Compressor {
+
+    @Override
+    public boolean isAvailable() {
+        return Brotli4jLoader.isAvailable();
+    }
+
+    @Override
+    public byte[] compress(byte[] body, int level) {
+        Encoder.Parameters parameters = new Encoder.Parameters()
+            .setQuality(level)
+            .setMode(Encoder.Mode.TEXT);
+        try {
+            return Encoder.compress(body, parameters);
+        } catch (IOException e) {
+            throw new CompressionException("br", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.infoline.api.compression;
+
+/**
+ * Échec d'une bibliothèque de compression
+ *
+ * Le filtre renvoie alors le corps non compressé : une réponse plus lourde
+ * vaut mieux qu'une erreur 500.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public class CompressionException extends RuntimeException {
+
+    public CompressionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
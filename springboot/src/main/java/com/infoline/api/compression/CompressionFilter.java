@@ -0,0 +1,176 @@
+package com.infoline.api.compression;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compression des réponses Servlet en br, zstd ou gzip selon Accept-Encoding
+ *
+ * Remplace la compression gzip de Tomcat (server.compression.enabled=false) :
+ * le corps est tamponné, puis compressé par {@link ResponseCompressor} avec
+ * le codage négocié et un niveau adapté à la charge CPU, ou repris tel quel
+ * depuis le cache des corps pré-compressés s'il a été marqué stable
+ * ({@link StableBody}).
+ *
+ * Une réponse compressée porte Vary: Accept-Encoding, et son ETag devient
+ * faible (W/"...") : le corps compressé n'est plus octet pour octet celui
+ * que désigne l'ETag fort. Les If-None-Match renvoyés par les clients
+ * restent reconnus (comparaison faible, RFC 9110 §13.1.2), comme derrière
+ * la compression gzip de nginx.
+ *
+ * Non compressés :
+ * - autres méthodes que GET (les écritures ne sont pas tamponnées)
+ * - flux (Accept: text/event-stream ou application/x-ndjson, ou chemin
+ *   listé dans infoline.compression.excluded-paths, dont la poignée de main
+ *   WebSocket), qui doivent partir au fil de l'eau
+ * - réponses hors 200, déjà codées, de type non textuel, ou trop petites
+ *   (infoline.compression.min-size, voir {@link ResponseCompressor})
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "infoline.compression.enabled", havingValue = "true", matchIfMissing = true)
+public class CompressionFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(CompressionFilter.class);
+
+    private static final List<MediaType> STREAMING_TYPES = List.of(
+        MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_NDJSON);
+
+    private final ResponseCompressor compressor;
+    private final List<MediaType> mimeTypes;
+    private final List<String> excludedPaths;
+
+    public CompressionFilter(ResponseCompressor compressor,
+                             @Value("${infoline.compression.mime-types:application/json,text/plain,text/html}")
+                             String[] mimeTypes,
+                             @Value("${infoline.compression.excluded-paths:/api/v1/stream,/api/v1/ws}")
+                             String[] excludedPaths) {
+        this.compressor = compressor;
+        this.mimeTypes = Arrays.stream(mimeTypes).map(String::trim).map(MediaType::parseMediaType).toList();
+        this.excludedPaths = Arrays.stream(excludedPaths).map(String::trim).filter(path -> !path.isEmpty()).toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return excludedPaths.stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCoding coding = "GET".equals(request.getMethod()) && !isStreaming(request)
+            ? compressor.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING))
+            : null;
+        if (coding == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // Dispatch asynchrone : le tampon créé au premier passage est réutilisé
+        ContentCachingResponseWrapper existing =
+            WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        ContentCachingResponseWrapper buffered = existing != null
+            ? existing
+            : new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, buffered);
+        } finally {
+            if (!request.isAsyncStarted()) {
+                write(request, buffered, coding);
+            }
+        }
+    }
+
+    /**
+     * Le corps d'une réponse asynchrone est complet au dernier dispatch
+     * (même principe que ShallowEtagHeaderFilter)
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private void write(HttpServletRequest request, ContentCachingResponseWrapper buffered, ContentCoding coding)
+            throws IOException {
+        HttpServletResponse response = (HttpServletResponse) buffered.getResponse();
+        if (!isCompressible(buffered) || !compressor.isWorthCompressing(buffered.getContentSize())) {
+            buffered.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = buffered.getContentAsByteArray();
+        byte[] compressed;
+        try {
+            String stableEtag = StableBody.etagOf(request);
+            compressed = stableEtag != null
+                ? compressor.compressStable(url(request), stableEtag, body, coding)
+                : compressor.compress(body, coding);
+        } catch (CompressionException e) {
+            log.warn("Compression {} impossible, réponse envoyée non compressée", coding.token(), e);
+            buffered.copyBodyToResponse();
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, coding.token());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        if (etag != null && etag.startsWith("\"")) {
+            response.setHeader(HttpHeaders.ETAG, "W/" + etag);
+        }
+        response.setContentLength(compressed.length);
+        response.getOutputStream().write(compressed);
+    }
+
+    private boolean isCompressible(ContentCachingResponseWrapper buffered) {
+        if (buffered.getStatus() != HttpServletResponse.SC_OK
+                || buffered.getContentSize() == 0
+                || buffered.getHeader(HttpHeaders.CONTENT_ENCODING) != null
+                || buffered.getContentType() == null) {
+            return false;
+        }
+        MediaType contentType = MediaType.parseMediaType(buffered.getContentType());
+        return mimeTypes.stream().anyMatch(type -> type.includes(contentType));
+    }
+
+    private static boolean isStreaming(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(type -> STREAMING_TYPES.stream().anyMatch(type::equalsTypeAndSubtype));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String url(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query == null ? request.getRequestURI() : request.getRequestURI() + '?' + query;
+    }
+}
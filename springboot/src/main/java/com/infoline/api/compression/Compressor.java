@@ -0,0 +1,23 @@
+package com.infoline.api.compression;
+
+/**
+ * Implémentation d'un {@link ContentCoding}
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+interface Compressor {
+
+    /**
+     * @return true si le codage est utilisable sur cette plateforme
+     */
+    boolean isAvailable();
+
+    /**
+     * @param body  Corps à compresser
+     * @param level Niveau de compression
+     * @return Corps compressé
+     * @throws CompressionException si la bibliothèque échoue
+     */
+    byte[] compress(byte[] body, int level);
+}
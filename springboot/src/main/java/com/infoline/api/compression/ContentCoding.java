@@ -0,0 +1,119 @@
+package com.infoline.api.compression;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Codages de contenu HTTP proposés par l'API (en-tête Content-Encoding)
+ *
+ * L'ordre de déclaration est l'ordre de préférence du serveur, appliqué
+ * entre codages de même poids (q) dans l'Accept-Encoding du client :
+ * - br   : meilleur ratio sur du JSON/texte, pris en charge par tous les navigateurs
+ * - zstd : ratio proche de br, compression nettement plus rapide
+ * - gzip : universel, repli pour les clients plus anciens
+ *
+ * Brotli et zstd passent par des bibliothèques natives (brotli4j, zstd-jni) :
+ * sur une plateforme sans binaire, le codage est simplement indisponible et
+ * la négociation se rabat sur les suivants.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public enum ContentCoding {
+
+    BROTLI("br", new BrotliCompressor()),
+    ZSTD("zstd", new ZstdCompressor()),
+    GZIP("gzip", new GzipCompressor());
+
+    private final String token;
+    private final Compressor compressor;
+
+    ContentCoding(String token, Compressor compressor) {
+        this.token = token;
+        this.compressor = compressor;
+    }
+
+    /**
+     * @return Valeur de l'en-tête Content-Encoding
+     */
+    public String token() {
+        return token;
+    }
+
+    /**
+     * @return true si la bibliothèque (native) est chargée sur cette plateforme
+     */
+    public boolean isAvailable() {
+        return compressor.isAvailable();
+    }
+
+    /**
+     * @param body  Corps à compresser
+     * @param level Niveau de compression (échelle propre au codage)
+     * @return Corps compressé
+     */
+    public byte[] compress(byte[] body, int level) {
+        return compressor.compress(body, level);
+    }
+
+    /**
+     * Choisit le codage d'une réponse (RFC 9110 §12.5.3)
+     *
+     * - le poids q le plus élevé l'emporte, la préférence du serveur départage
+     * - "*" s'applique aux codages non cités ; q=0 exclut un codage
+     * - "identity" et les codages inconnus sont ignorés (réponse non compressée)
+     *
+     * @param acceptEncoding Valeur de l'en-tête Accept-Encoding, null si absent
+     * @param offered        Codages disponibles
+     * @return Codage retenu, null pour une réponse non compressée
+     */
+    public static ContentCoding negotiate(String acceptEncoding, Collection<ContentCoding> offered) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+
+        double[] weights = new double[values().length];
+        double wildcard = -1;
+        Arrays.fill(weights, -1);
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = quality(parts);
+            if (name.equals("*")) {
+                wildcard = q;
+                continue;
+            }
+            for (ContentCoding coding : values()) {
+                if (coding.token.equals(name) || (coding == GZIP && name.equals("x-gzip"))) {
+                    weights[coding.ordinal()] = q;
+                }
+            }
+        }
+
+        ContentCoding best = null;
+        double bestWeight = 0;
+        for (ContentCoding coding : values()) {
+            double weight = weights[coding.ordinal()] >= 0 ? weights[coding.ordinal()] : wildcard;
+            if (weight > bestWeight && offered.contains(coding)) {
+                best = coding;
+                bestWeight = weight;
+            }
+        }
+        return best;
+    }
+
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                try {
+                    return Math.max(0, Math.min(1, Double.parseDouble(parameter.substring(2))));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
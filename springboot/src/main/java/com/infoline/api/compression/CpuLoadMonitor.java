@@ -0,0 +1,88 @@
+package com.infoline.api.compression;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Consommation CPU du processus, en cœurs (1.0 = un cœur occupé à 100 %)
+ *
+ * Mesurée comme temps CPU du processus / temps écoulé entre deux
+ * échantillons : la valeur est comparable directement à limits.cpu du
+ * déploiement Kubernetes (500m = 0.5 cœur). getProcessCpuLoad() ne convient
+ * pas : il rapporte la charge aux processeurs visibles (1 pour 500m), et ne
+ * dépasse donc jamais ~50 % sous un quota d'un demi-cœur.
+ *
+ * Pas de thread de fond : un nouvel échantillon est pris à la lecture, au
+ * plus une fois par intervalle (un seul thread le calcule, les autres lisent
+ * la dernière valeur).
+ *
+ * Métrique : compression.cpu.cores
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CpuLoadMonitor {
+
+    private final LongSupplier cpuTimeNanos;
+    private final LongSupplier wallNanos;
+    private final long intervalNanos;
+
+    private final AtomicLong sampledAt;
+    private volatile long sampledCpu;
+    private volatile double cores;
+
+    @Autowired
+    public CpuLoadMonitor(MeterRegistry meterRegistry,
+                          @Value("${infoline.compression.cpu-sample-ms:1000}") long sampleMillis) {
+        this(processCpuTime(), System::nanoTime, TimeUnit.MILLISECONDS.toNanos(sampleMillis));
+        Gauge.builder("compression.cpu.cores", this, CpuLoadMonitor::cores)
+            .description("Consommation CPU du processus, en cœurs (base du niveau de compression)")
+            .register(meterRegistry);
+    }
+
+    CpuLoadMonitor(LongSupplier cpuTimeNanos, LongSupplier wallNanos, long intervalNanos) {
+        this.cpuTimeNanos = cpuTimeNanos;
+        this.wallNanos = wallNanos;
+        this.intervalNanos = intervalNanos;
+        this.sampledAt = new AtomicLong(wallNanos.getAsLong());
+        this.sampledCpu = cpuTimeNanos.getAsLong();
+    }
+
+    /**
+     * @return Cœurs consommés sur le dernier intervalle (0 si la mesure est impossible)
+     */
+    public double cores() {
+        long now = wallNanos.getAsLong();
+        long last = sampledAt.get();
+        if (now - last >= intervalNanos && sampledAt.compareAndSet(last, now)) {
+            long cpu = cpuTimeNanos.getAsLong();
+            cores = cpu < 0 ? 0 : (double) (cpu - sampledCpu) / (now - last);
+            sampledCpu = cpu;
+        }
+        return cores;
+    }
+
+    /**
+     * Temps CPU du processus (extension HotSpot de l'OperatingSystemMXBean),
+     * -1 si indisponible
+     */
+    private static LongSupplier processCpuTime() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean hotspot) {
+            return hotspot::getProcessCpuTime;
+        }
+        return () -> -1;
+    }
+}
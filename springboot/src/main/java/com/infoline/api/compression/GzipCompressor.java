@@ -0,0 +1,41 @@
+package com.infoline.api.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * gzip (java.util.zip), niveaux 1 à 9
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class GzipCompressor implements Compressor {
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public byte[] compress(byte[] body, int level) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new LeveledGzipOutputStream(out, level)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new CompressionException("gzip", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * GZIPOutputStream n'expose pas le niveau : le Deflater est protégé
+     */
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        LeveledGzipOutputStream(ByteArrayOutputStream out, int level) throws IOException {
+            super(out, 8192);
+            def.setLevel(level);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.infoline.api.compression;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.infoline.api.cache.LocalCacheFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compression des corps de réponse : négociation, niveaux, corps pré-compressés
+ *
+ * - Corps de moins de infoline.compression.min-size octets : jamais
+ *   compressés (ex: /health, ~150 o, appelé en boucle par les probes) ;
+ *   l'en-tête et le CPU coûtent plus que les octets gagnés
+ * - Corps dynamiques : compressés à chaque réponse, au niveau "rapide" du
+ *   codage (infoline.compression.level.*) ; quand le processus dépasse
+ *   infoline.compression.cpu-watermark-cores, au niveau réduit
+ *   (infoline.compression.reduced-level.*) jusqu'à redescendre sous 75 %
+ *   du seuil (hystérésis : pas d'oscillation autour du seuil)
+ * - Corps stables (marqués par {@link StableBody}) : compressés une fois, à un
+ *   niveau plus élevé (infoline.compression.stable-level.*), puis servis
+ *   depuis le cache "compression.bodies" tant que l'URL garde le même ETag
+ *
+ * Le cache est indexé par (URL, ETag, codage) : deux URL de même ETag ne
+ * partagent jamais un corps. Sa durée de vie courte (1 s par défaut) borne
+ * le décalage des champs que l'ETag ignore volontairement (timestamp de
+ * home(), voir {@code InfoLineResponses}) ; à fort trafic, un corps stable
+ * n'est compressé qu'une fois par seconde et par codage.
+ *
+ * Métriques :
+ * - compression.responses{coding, source=dynamic|precompressed}
+ * - compression.skipped{reason=small} : corps laissés non compressés
+ * - compression.ratio{coding, level} : taille compressée / taille d'origine
+ * - compression.time{coding, level} : durée de compression
+ * - compression.reduced : 1 quand le niveau réduit est actif
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ResponseCompressor {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCompressor.class);
+
+    /** Nom du cache des corps pré-compressés (propriété infoline.cache.compression.bodies) */
+    static final String BODIES = "compression.bodies";
+    static final String BODIES_SPEC = "maximumWeight=16000000,expireAfterWrite=1s";
+
+    /** Sortie du niveau réduit : sous cette fraction du seuil CPU */
+    static final double HYSTERESIS = 0.75;
+
+    private final Set<ContentCoding> available;
+    private final Levels levels;
+    private final int minSize;
+    private final CpuLoadMonitor cpu;
+    private final double cpuWatermarkCores;
+    private final Cache<BodyKey, byte[]> bodies;
+    private final MeterRegistry meterRegistry;
+    private final Map<ContentCoding, Counter> dynamicResponses = new EnumMap<>(ContentCoding.class);
+    private final Map<ContentCoding, Counter> precompressedResponses = new EnumMap<>(ContentCoding.class);
+    private final Counter skippedSmall;
+    private final Map<LevelKey, LevelMeters> levelMeters = new ConcurrentHashMap<>();
+
+    private volatile boolean reduced;
+
+    @Autowired
+    public ResponseCompressor(LocalCacheFactory caches,
+                              MeterRegistry meterRegistry,
+                              CpuLoadMonitor cpu,
+                              @Value("${infoline.compression.min-size:1024}") int minSize,
+                              @Value("${infoline.compression.cpu-watermark-cores:0.4}") double cpuWatermarkCores,
+                              @Value("${infoline.compression.level.br:4}") int brotliLevel,
+                              @Value("${infoline.compression.level.zstd:3}") int zstdLevel,
+                              @Value("${infoline.compression.level.gzip:6}") int gzipLevel,
+                              @Value("${infoline.compression.reduced-level.br:1}") int brotliReducedLevel,
+                              @Value("${infoline.compression.reduced-level.zstd:1}") int zstdReducedLevel,
+                              @Value("${infoline.compression.reduced-level.gzip:1}") int gzipReducedLevel,
+                              @Value("${infoline.compression.stable-level.br:9}") int brotliStableLevel,
+                              @Value("${infoline.compression.stable-level.zstd:12}") int zstdStableLevel,
+                              @Value("${infoline.compression.stable-level.gzip:9}") int gzipStableLevel) {
+        this(availableCodings(), caches, meterRegistry, cpu, minSize, cpuWatermarkCores, new Levels(
+            levels(brotliLevel, zstdLevel, gzipLevel),
+            levels(brotliReducedLevel, zstdReducedLevel, gzipReducedLevel),
+            levels(brotliStableLevel, zstdStableLevel, gzipStableLevel)));
+    }
+
+    ResponseCompressor(Set<ContentCoding> available,
+                       LocalCacheFactory caches,
+                       MeterRegistry meterRegistry,
+                       CpuLoadMonitor cpu,
+                       int minSize,
+                       double cpuWatermarkCores,
+                       Levels levels) {
+        this.available = Collections.unmodifiableSet(EnumSet.copyOf(available));
+        this.levels = levels;
+        this.minSize = minSize;
+        this.cpu = cpu;
+        this.cpuWatermarkCores = cpuWatermarkCores;
+        this.meterRegistry = meterRegistry;
+        this.bodies = caches.create(BODIES, BODIES_SPEC,
+            (BodyKey key, byte[] body) -> body.length + key.weight(),
+            key -> null);
+        for (ContentCoding coding : ContentCoding.values()) {
+            dynamicResponses.put(coding, counter(meterRegistry, coding, "dynamic"));
+            precompressedResponses.put(coding, counter(meterRegistry, coding, "precompressed"));
+        }
+        this.skippedSmall = Counter.builder("compression.skipped")
+            .description("Réponses laissées non compressées")
+            .tag("reason", "small")
+            .register(meterRegistry);
+        Gauge.builder("compression.reduced", this, compressor -> compressor.reduced ? 1 : 0)
+            .description("1 quand la charge CPU impose le niveau de compression réduit")
+            .register(meterRegistry);
+        log.info("Compression des réponses : {} (au-delà de {} o, niveau réduit au-delà de {} cœur(s))",
+            this.available.stream().map(ContentCoding::token).collect(Collectors.joining(", ")),
+            minSize, cpuWatermarkCores);
+    }
+
+    /**
+     * @param acceptEncoding En-tête Accept-Encoding de la requête
+     * @return Codage de la réponse, null pour ne pas compresser
+     */
+    public ContentCoding negotiate(String acceptEncoding) {
+        return ContentCoding.negotiate(acceptEncoding, available);
+    }
+
+    /**
+     * @param length Taille du corps, en octets
+     * @return true si le corps est assez gros pour gagner à être compressé
+     */
+    public boolean isWorthCompressing(int length) {
+        if (length < minSize) {
+            skippedSmall.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Compresse un corps propre à cette réponse, au niveau permis par la charge CPU
+     *
+     * @param body   Corps
+     * @param coding Codage négocié
+     * @return Corps compressé
+     */
+    public byte[] compress(byte[] body, ContentCoding coding) {
+        dynamicResponses.get(coding).increment();
+        return compress(body, coding, (isReduced() ? levels.reduced() : levels.normal()).get(coding));
+    }
+
+    /**
+     * Corps stable : compressé une fois par (URL, ETag, codage), puis réutilisé
+     *
+     * @param url    URL de la requête (chemin et paramètres)
+     * @param etag   ETag de la réponse
+     * @param body   Corps (utilisé seulement si la version n'est pas en cache)
+     * @param coding Codage négocié
+     * @return Corps compressé
+     */
+    public byte[] compressStable(String url, String etag, byte[] body, ContentCoding coding) {
+        precompressedResponses.get(coding).increment();
+        return bodies.get(new BodyKey(url, etag, coding),
+            key -> compress(body, coding, levels.stable().get(coding)));
+    }
+
+    /**
+     * Passe au niveau réduit au-delà du seuil CPU, en revient sous
+     * {@value #HYSTERESIS} fois le seuil
+     *
+     * @return true si le niveau réduit est actif
+     */
+    boolean isReduced() {
+        double cores = cpu.cores();
+        if (cores > cpuWatermarkCores) {
+            reduced = true;
+        } else if (cores < cpuWatermarkCores * HYSTERESIS) {
+            reduced = false;
+        }
+        return reduced;
+    }
+
+    private byte[] compress(byte[] body, ContentCoding coding, int level) {
+        LevelMeters meters = levelMeters.computeIfAbsent(new LevelKey(coding, level), this::levelMeters);
+        long start = System.nanoTime();
+        byte[] compressed = coding.compress(body, level);
+        meters.time.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        meters.ratio.record((double) compressed.length / body.length);
+        return compressed;
+    }
+
+    private LevelMeters levelMeters(LevelKey key) {
+        String level = Integer.toString(key.level());
+        return new LevelMeters(
+            Timer.builder("compression.time")
+                .description("Durée de compression d'un corps, par codage et niveau")
+                .tag("coding", key.coding().token())
+                .tag("level", level)
+                .register(meterRegistry),
+            DistributionSummary.builder("compression.ratio")
+                .description("Taille compressée / taille d'origine, par codage et niveau")
+                .tag("coding", key.coding().token())
+                .tag("level", level)
+                .register(meterRegistry));
+    }
+
+    /**
+     * @return Codages utilisables sur cette plateforme
+     */
+    public Set<ContentCoding> available() {
+        return available;
+    }
+
+    private static Set<ContentCoding> availableCodings() {
+        Set<ContentCoding> codings = EnumSet.noneOf(ContentCoding.class);
+        for (ContentCoding coding : ContentCoding.values()) {
+            if (coding.isAvailable()) {
+                codings.add(coding);
+            } else {
+                log.warn("Codage {} indisponible sur cette plateforme (bibliothèque native absente)",
+                    coding.token());
+            }
+        }
+        return codings;
+    }
+
+    static Map<ContentCoding, Integer> levels(int brotli, int zstd, int gzip) {
+        Map<ContentCoding, Integer> levels = new EnumMap<>(ContentCoding.class);
+        levels.put(ContentCoding.BROTLI, brotli);
+        levels.put(ContentCoding.ZSTD, zstd);
+        levels.put(ContentCoding.GZIP, gzip);
+        return levels;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, ContentCoding coding, String source) {
+        return Counter.builder("compression.responses")
+            .description("Réponses compressées, par codage et origine du corps compressé")
+            .tag("coding", coding.token())
+            .tag("source", source)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Niveaux de compression par codage
+     *
+     * @param normal  Corps dynamiques
+     * @param reduced Corps dynamiques, charge CPU au-delà du seuil
+     * @param stable  Corps stables, compressés une fois par version
+     */
+    record Levels(Map<ContentCoding, Integer> normal,
+                  Map<ContentCoding, Integer> reduced,
+                  Map<ContentCoding, Integer> stable) {
+    }
+
+    private record LevelKey(ContentCoding coding, int level) {
+    }
+
+    private record LevelMeters(Timer time, DistributionSummary ratio) {
+    }
+
+    /**
+     * @param url    URL de la requête
+     * @param etag   ETag de la réponse
+     * @param coding Codage
+     */
+    record BodyKey(String url, String etag, ContentCoding coding) {
+
+        int weight() {
+            return url.length() + etag.length();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.infoline.api.compression;
+
+import com.infoline.api.web.ResourceVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Marque une réponse dont le corps est entièrement déterminé par son URL
+ * et son ETag : {@link CompressionFilter} la compresse alors une seule
+ * fois par version (voir {@link ResponseCompressor#compressStable})
+ *
+ * À ne pas utiliser pour un corps qui varie à version égale au-delà de la
+ * durée de vie du cache des corps compressés (ex: mémoire de info()).
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public final class StableBody {
+
+    /** Attribut de requête : ETag de la version servie */
+    static final String ATTRIBUTE = StableBody.class.getName() + ".etag";
+
+    private StableBody() {
+    }
+
+    /**
+     * @param request Requête courante
+     * @param version Version servie
+     */
+    public static void mark(WebRequest request, ResourceVersion version) {
+        request.setAttribute(ATTRIBUTE, version.etag(), RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * @param request Requête courante
+     * @return ETag de la version servie si la réponse est stable, sinon null
+     */
+    static String etagOf(HttpServletRequest request) {
+        return request.getAttribute(ATTRIBUTE) instanceof String etag ? etag : null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.infoline.api.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdException;
+import com.github.luben.zstd.util.Native;
+
+/**
+ * Zstandard (zstd-jni, binaire natif), niveaux 1 à 22
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class ZstdCompressor implements Compressor {
+
+    private static final boolean AVAILABLE = load();
+
+    @Override
+    public boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    @Override
+    public byte[] compress(byte[] body, int level) {
+        try {
+            return Zstd.compress(body, level);
+        } catch (ZstdException e) {
+            throw new CompressionException("zstd", e);
+        }
+    }
+
+    private static boolean load() {
+        try {
+            Native.load();
+            return true;
+        } catch (UnsatisfiedLinkError | RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.infoline.api.concurrent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Regroupement des appels identiques simultanés ("single-flight")
+ *
+ * Le premier appel pour une clé exécute le calcul ; ceux qui arrivent
+ * pendant qu'il tourne ne relancent rien et reçoivent le même résultat
+ * (ou la même exception). Dès que le calcul se termine, la clé est libérée :
+ * ce n'est pas un cache, l'appel suivant recalcule.
+ *
+ * Lors d'une actualité chaude, des milliers de lecteurs demandent le même
+ * article au même instant : une seule requête SQL part, au lieu d'une par
+ * lecteur (et d'une connexion du pool par lecteur).
+ *
+ * Métriques :
+ * - singleflight.calls{flight, result=executed|collapsed} (Micrometer)
+ * - appels regroupés par clé, pour les clés les plus récentes/actives
+ *   (voir {@link #topCollapsed(int)} et l'endpoint /actuator/singleflight) ;
+ *   volontairement hors Micrometer : une clé par article ferait exploser
+ *   la cardinalité des séries Prometheus
+ *
+ * Créé par {@link SingleFlightRegistry}.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public final class SingleFlight<K> {
+
+    /** Nombre de clés dont on conserve les compteurs */
+    static final int MAX_TRACKED_KEYS = 1024;
+
+    private final String name;
+    private final Function<? super K, String> keyFormat;
+    private final ConcurrentHashMap<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<String, LongAdder> collapsedByKey = Caffeine.newBuilder()
+        .maximumSize(MAX_TRACKED_KEYS)
+        .executor(Runnable::run)
+        .build();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+
+    SingleFlight(String name, Function<? super K, String> keyFormat, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.keyFormat = keyFormat;
+        register(meterRegistry, "executed", executed);
+        register(meterRegistry, "collapsed", collapsed);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Exécute le calcul, ou attend celui déjà en cours pour la même clé
+     *
+     * @param key  Identifie le calcul (mêmes égalité et hashCode que la requête)
+     * @param call Calcul, exécuté sur le thread appelant
+     * @return Résultat, partagé entre tous les appels regroupés
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V run(K key, Supplier<V> call) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            collapsed.increment();
+            collapsedByKey.get(keyFormat.apply(key), k -> new LongAdder()).increment();
+            return (V) await(running);
+        }
+
+        executed.increment();
+        try {
+            V value = call.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * @return Calculs en cours
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * @param limit Nombre de clés
+     * @return Clés ayant regroupé le plus d'appels, par nombre décroissant
+     */
+    public Map<String, Long> topCollapsed(int limit) {
+        Map<String, Long> top = new LinkedHashMap<>();
+        collapsedByKey.asMap().entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+            .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+            .limit(limit)
+            .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+
+    /**
+     * @return Total des appels regroupés
+     */
+    public long collapsedCount() {
+        return collapsed.sum();
+    }
+
+    /**
+     * @return Total des calculs exécutés
+     */
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // Même exception que l'appel qui a exécuté le calcul
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private void register(MeterRegistry meterRegistry, String result, LongAdder adder) {
+        FunctionCounter.builder("singleflight.calls", adder, LongAdder::sum)
+            .description("Appels exécutés ou regroupés avec un appel identique en cours")
+            .tag("flight", name)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,52 @@
+package com.infoline.api.concurrent;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint Actuator /actuator/singleflight : appels regroupés, par clé
+ *
+ * Complète la métrique singleflight.calls (totaux par type de lecture) avec
+ * le détail des clés les plus sollicitées, sans en faire des séries
+ * Prometheus.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "singleflight")
+public class SingleFlightEndpoint {
+
+    /** Nombre de clés listées par SingleFlight */
+    static final int TOP_KEYS = 20;
+
+    private final SingleFlightRegistry registry;
+
+    public SingleFlightEndpoint(SingleFlightRegistry registry) {
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public Map<String, FlightStats> flights() {
+        Map<String, FlightStats> stats = new LinkedHashMap<>();
+        registry.flights().forEach((name, flight) -> stats.put(name, new FlightStats(
+            flight.executedCount(),
+            flight.collapsedCount(),
+            flight.inFlight(),
+            flight.topCollapsed(TOP_KEYS))));
+        return stats;
+    }
+
+    /**
+     * @param executed  Calculs exécutés
+     * @param collapsed Appels regroupés avec un calcul en cours
+     * @param inFlight  Calculs en cours
+     * @param topKeys   Appels regroupés par clé, clés les plus sollicitées d'abord
+     */
+    public record FlightStats(long executed, long collapsed, int inFlight, Map<String, Long> topKeys) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.infoline.api.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Crée et recense les {@link SingleFlight} de l'application
+ *
+ * Un SingleFlight par type de lecture (page, article, rubriques...) : les
+ * clés de types différents ne se mélangent pas, et les métriques restent
+ * lisibles par type.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+public class SingleFlightRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, SingleFlight<?>> flights = new ConcurrentHashMap<>();
+
+    public SingleFlightRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param name      Nom (tag "flight" des métriques)
+     * @param keyFormat Représentation texte d'une clé (compteurs par clé)
+     * @return Nouveau SingleFlight
+     */
+    public <K> SingleFlight<K> create(String name, Function<? super K, String> keyFormat) {
+        SingleFlight<K> flight = new SingleFlight<>(name, keyFormat, meterRegistry);
+        if (flights.putIfAbsent(name, flight) != null) {
+            throw new IllegalStateException("SingleFlight " + name + " déjà déclaré");
+        }
+        return flight;
+    }
+
+    /**
+     * @return SingleFlights par nom
+     */
+    public Map<String, SingleFlight<?>> flights() {
+        return Collections.unmodifiableMap(new TreeMap<>(flights));
+    }
+}
@@ -0,0 +1,50 @@
+package com.infoline.api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Journalise le mode d'exécution des requêtes au démarrage
+ *
+ * Le mode "threads virtuels" est piloté par la propriété
+ * {@code spring.threads.virtual.enabled} (variable VIRTUAL_THREADS_ENABLED) :
+ * Spring Boot configure alors Tomcat et les executors sur des threads
+ * virtuels. Sur un JRE antérieur à 21, la propriété est ignorée : on le
+ * signale explicitement pour éviter une fausse impression de configuration.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+public class ThreadingModeReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingModeReporter.class);
+
+    private static final int VIRTUAL_THREADS_MIN_JAVA = 21;
+
+    private final Environment environment;
+
+    public ThreadingModeReporter(Environment environment) {
+        this.environment = environment;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportThreadingMode() {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        int javaVersion = Runtime.version().feature();
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Mode d'exécution : threads virtuels (Java {})", javaVersion);
+        } else if (requested && javaVersion < VIRTUAL_THREADS_MIN_JAVA) {
+            log.warn("Threads virtuels demandés mais JRE {} < {} : threads plateforme utilisés",
+                javaVersion, VIRTUAL_THREADS_MIN_JAVA);
+        } else {
+            log.info("Mode d'exécution : threads plateforme (Java {})", javaVersion);
+        }
+    }
+}
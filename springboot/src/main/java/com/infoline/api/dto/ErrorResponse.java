@@ -0,0 +1,50 @@
+package com.infoline.api.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+import static com.infoline.api.dto.JsonFields.name;
+import static com.infoline.api.dto.JsonFields.writeString;
+
+/**
+ * Corps d'erreur de l'API (ex: GET /api/v1/test/error)
+ *
+ * @param error     Type d'erreur
+ * @param message   Message lisible
+ * @param timestamp Timestamp de la réponse
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@JsonSerialize(using = ErrorResponse.Serializer.class)
+public record ErrorResponse(String error, String message, String timestamp) {
+
+    /**
+     * Écrit les champs dans l'ordre des réponses historiques (HashMap)
+     */
+    static final class Serializer extends StdSerializer<ErrorResponse> {
+
+        private static final SerializedString ERROR = name("error");
+        private static final SerializedString MESSAGE = name("message");
+        private static final SerializedString TIMESTAMP = name("timestamp");
+
+        Serializer() {
+            super(ErrorResponse.class);
+        }
+
+        @Override
+        public void serialize(ErrorResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            writeString(gen, ERROR, value.error());
+            writeString(gen, MESSAGE, value.message());
+            writeString(gen, TIMESTAMP, value.timestamp());
+            gen.writeEndObject();
+        }
+    }
+}
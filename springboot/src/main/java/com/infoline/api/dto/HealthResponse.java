@@ -0,0 +1,58 @@
+package com.infoline.api.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static com.infoline.api.dto.JsonFields.name;
+import static com.infoline.api.dto.JsonFields.writeString;
+import static com.infoline.api.dto.JsonFields.writeStrings;
+
+/**
+ * Réponse de GET /api/v1/health (probes Kubernetes)
+ *
+ * @param status      Status global ("UP")
+ * @param application Nom de l'application
+ * @param timestamp   Timestamp de la réponse
+ * @param checks      Status de chaque vérification, dans l'ordre d'itération de la Map
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@JsonSerialize(using = HealthResponse.Serializer.class)
+public record HealthResponse(String status,
+                             String application,
+                             String timestamp,
+                             Map<String, String> checks) {
+
+    /**
+     * Écrit les champs dans l'ordre des réponses historiques (HashMap)
+     */
+    static final class Serializer extends StdSerializer<HealthResponse> {
+
+        private static final SerializedString CHECKS = name("checks");
+        private static final SerializedString APPLICATION = name("application");
+        private static final SerializedString STATUS = name("status");
+        private static final SerializedString TIMESTAMP = name("timestamp");
+
+        Serializer() {
+            super(HealthResponse.class);
+        }
+
+        @Override
+        public void serialize(HealthResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            writeStrings(gen, CHECKS, value.checks());
+            writeString(gen, APPLICATION, value.application());
+            writeString(gen, STATUS, value.status());
+            writeString(gen, TIMESTAMP, value.timestamp());
+            gen.writeEndObject();
+        }
+    }
+}
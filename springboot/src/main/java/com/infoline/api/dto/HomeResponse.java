@@ -0,0 +1,82 @@
+package com.infoline.api.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+import static com.infoline.api.dto.JsonFields.name;
+import static com.infoline.api.dto.JsonFields.writeString;
+
+/**
+ * Réponse de GET /api/v1/ (message de bienvenue)
+ *
+ * @param message     Message d'accueil
+ * @param description Description de l'API
+ * @param version     Version de l'application
+ * @param environment Environnement (dev, staging, prod)
+ * @param timestamp   Timestamp de la réponse
+ * @param endpoints   Principaux endpoints
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@JsonSerialize(using = HomeResponse.Serializer.class)
+public record HomeResponse(String message,
+                           String description,
+                           String version,
+                           String environment,
+                           String timestamp,
+                           Endpoints endpoints) {
+
+    /**
+     * @param health URL de /health
+     * @param info   URL de /info
+     * @param status URL de /status
+     */
+    public record Endpoints(String health, String info, String status) {
+    }
+
+    /**
+     * Écrit les champs dans l'ordre des réponses historiques (HashMap)
+     */
+    static final class Serializer extends StdSerializer<HomeResponse> {
+
+        private static final SerializedString ENVIRONMENT = name("environment");
+        private static final SerializedString ENDPOINTS = name("endpoints");
+        private static final SerializedString DESCRIPTION = name("description");
+        private static final SerializedString MESSAGE = name("message");
+        private static final SerializedString VERSION = name("version");
+        private static final SerializedString TIMESTAMP = name("timestamp");
+        private static final SerializedString HEALTH = name("health");
+        private static final SerializedString INFO = name("info");
+        private static final SerializedString STATUS = name("status");
+
+        Serializer() {
+            super(HomeResponse.class);
+        }
+
+        @Override
+        public void serialize(HomeResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            writeString(gen, ENVIRONMENT, value.environment());
+
+            gen.writeFieldName(ENDPOINTS);
+            gen.writeStartObject();
+            writeString(gen, HEALTH, value.endpoints().health());
+            writeString(gen, INFO, value.endpoints().info());
+            writeString(gen, STATUS, value.endpoints().status());
+            gen.writeEndObject();
+
+            writeString(gen, DESCRIPTION, value.description());
+            writeString(gen, MESSAGE, value.message());
+            writeString(gen, VERSION, value.version());
+            writeString(gen, TIMESTAMP, value.timestamp());
+            gen.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.infoline.api.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+import static com.infoline.api.dto.JsonFields.name;
+import static com.infoline.api.dto.JsonFields.writeString;
+
+/**
+ * Réponse de GET /api/v1/info (informations système et runtime)
+ *
+ * @param application Informations application
+ * @param runtime     Informations runtime Java
+ * @param system      Informations système
+ * @param timestamp   Timestamp de la réponse
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@JsonSerialize(using = InfoResponse.Serializer.class)
+public record InfoResponse(ApplicationInfo application,
+                           RuntimeInfo runtime,
+                           SystemInfo system,
+                           String timestamp) {
+
+    public record ApplicationInfo(String name, String version, String environment, String description) {
+    }
+
+    /**
+     * Les quantités de mémoire sont déjà formatées (ex: "256.0 MB")
+     */
+    public record RuntimeInfo(String javaVersion,
+                              String javaVendor,
+                              int processors,
+                              String memoryTotal,
+                              String memoryFree,
+                              String memoryUsed) {
+    }
+
+    public record SystemInfo(String os, String osVersion, String osArch) {
+    }
+
+    /**
+     * Écrit les champs dans l'ordre des réponses historiques (HashMap)
+     */
+    static final class Serializer extends StdSerializer<InfoResponse> {
+
+        private static final SerializedString SYSTEM = name("system");
+        private static final SerializedString APPLICATION = name("application");
+        private static final SerializedString RUNTIME = name("runtime");
+        private static final SerializedString TIMESTAMP = name("timestamp");
+
+        private static final SerializedString OS = name("os");
+        private static final SerializedString OS_VERSION = name("osVersion");
+        private static final SerializedString OS_ARCH = name("osArch");
+
+        private static final SerializedString ENVIRONMENT = name("environment");
+        private static final SerializedString NAME = name("name");
+        private static final SerializedString DESCRIPTION = name("description");
+        private static final SerializedString VERSION = name("version");
+
+        private static final SerializedString JAVA_VERSION = name("javaVersion");
+        private static final SerializedString MEMORY_FREE = name("memoryFree");
+        private static final SerializedString MEMORY_TOTAL = name("memoryTotal");
+        private static final SerializedString JAVA_VENDOR = name("javaVendor");
+        private static final SerializedString PROCESSORS = name("processors");
+        private static final SerializedString MEMORY_USED = name("memoryUsed");
+
+        Serializer() {
+            super(InfoResponse.class);
+        }
+
+        @Override
+        public void serialize(InfoResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+
+            SystemInfo system = value.system();
+            gen.writeFieldName(SYSTEM);
+            gen.writeStartObject();
+            writeString(gen, OS, system.os());
+            writeString(gen, OS_VERSION, system.osVersion());
+            writeString(gen, OS_ARCH, system.osArch());
+            gen.writeEndObject();
+
+            ApplicationInfo application = value.application();
+            gen.writeFieldName(APPLICATION);
+            gen.writeStartObject();
+            writeString(gen, ENVIRONMENT, application.environment());
+            writeString(gen, NAME, application.name());
+            writeString(gen, DESCRIPTION, application.description());
+            writeString(gen, VERSION, application.version());
+            gen.writeEndObject();
+
+            RuntimeInfo runtime = value.runtime();
+            gen.writeFieldName(RUNTIME);
+            gen.writeStartObject();
+            writeString(gen, JAVA_VERSION, runtime.javaVersion());
+            writeString(gen, MEMORY_FREE, runtime.memoryFree());
+            writeString(gen, MEMORY_TOTAL, runtime.memoryTotal());
+            writeString(gen, JAVA_VENDOR, runtime.javaVendor());
+            gen.writeFieldName(PROCESSORS);
+            gen.writeNumber(runtime.processors());
+            writeString(gen, MEMORY_USED, runtime.memoryUsed());
+            gen.writeEndObject();
+
+            writeString(gen, TIMESTAMP, value.timestamp());
+            gen.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.infoline.api.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Outils communs aux sérialiseurs des réponses de l'API
+ *
+ * Les noms de champs sont pré-encodés ({@link SerializedString}) : le
+ * générateur recopie directement leurs octets UTF-8 déjà échappés.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class JsonFields {
+
+    private JsonFields() {
+    }
+
+    /**
+     * @param name Nom du champ JSON
+     * @return Nom pré-encodé, à conserver dans une constante
+     */
+    static SerializedString name(String name) {
+        return new SerializedString(name);
+    }
+
+    static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeString(value);
+    }
+
+    static void writeNumber(JsonGenerator gen, SerializableString name, long value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeNumber(value);
+    }
+
+    /**
+     * Écrit une Map de chaînes dans son ordre d'itération
+     */
+    static void writeStrings(JsonGenerator gen, SerializableString name, Map<String, String> values)
+            throws IOException {
+        gen.writeFieldName(name);
+        gen.writeStartObject();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            gen.writeStringField(entry.getKey(), entry.getValue());
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * Écrit une Map de compteurs dans son ordre d'itération
+     */
+    static void writeCounts(JsonGenerator gen, SerializableString name, Map<String, Long> counts)
+            throws IOException {
+        gen.writeFieldName(name);
+        gen.writeStartObject();
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            gen.writeFieldName(entry.getKey());
+            gen.writeNumber(entry.getValue());
+        }
+        gen.writeEndObject();
+    }
+}
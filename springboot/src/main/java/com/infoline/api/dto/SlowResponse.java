@@ -0,0 +1,50 @@
+package com.infoline.api.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+import static com.infoline.api.dto.JsonFields.name;
+import static com.infoline.api.dto.JsonFields.writeString;
+
+/**
+ * Réponse de GET /api/v1/test/slow
+ *
+ * @param message   Message renvoyé après le délai
+ * @param delay     Délai appliqué (ex: "2000ms")
+ * @param timestamp Timestamp de la réponse
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@JsonSerialize(using = SlowResponse.Serializer.class)
+public record SlowResponse(String message, String delay, String timestamp) {
+
+    /**
+     * Écrit les champs dans l'ordre des réponses historiques (HashMap)
+     */
+    static final class Serializer extends StdSerializer<SlowResponse> {
+
+        private static final SerializedString DELAY = name("delay");
+        private static final SerializedString MESSAGE = name("message");
+        private static final SerializedString TIMESTAMP = name("timestamp");
+
+        Serializer() {
+            super(SlowResponse.class);
+        }
+
+        @Override
+        public void serialize(SlowResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            writeString(gen, DELAY, value.delay());
+            writeString(gen, MESSAGE, value.message());
+            writeString(gen, TIMESTAMP, value.timestamp());
+            gen.writeEndObject();
+        }
+    }
+}
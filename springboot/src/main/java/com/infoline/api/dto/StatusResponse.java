@@ -0,0 +1,138 @@
+package com.infoline.api.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.infoline.api.metrics.LatencySnapshot;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static com.infoline.api.dto.JsonFields.name;
+import static com.infoline.api.dto.JsonFields.writeCounts;
+import static com.infoline.api.dto.JsonFields.writeNumber;
+import static com.infoline.api.dto.JsonFields.writeString;
+
+/**
+ * Réponse de GET /api/v1/status (status complet de l'application)
+ *
+ * @param status      Status ("RUNNING")
+ * @param uptime      Uptime formaté de la JVM
+ * @param application Nom de l'application
+ * @param version     Version de l'application
+ * @param environment Environnement (dev, staging, prod)
+ * @param timestamp   Timestamp de la réponse
+ * @param stats       Compteurs de requêtes
+ * @param latency     Percentiles de latence par route (écrits en millisecondes)
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@JsonSerialize(using = StatusResponse.Serializer.class)
+public record StatusResponse(String status,
+                             String uptime,
+                             String application,
+                             String version,
+                             String environment,
+                             String timestamp,
+                             Stats stats,
+                             Map<String, LatencySnapshot> latency) {
+
+    /**
+     * @param totalRequests      Requêtes traitées depuis le démarrage
+     * @param activeConnections  Requêtes en cours
+     * @param requestsByEndpoint Compteurs par route
+     * @param requestsByStatus   Compteurs par code HTTP
+     * @param lastDeployment     Timestamp du dernier déploiement
+     */
+    public record Stats(long totalRequests,
+                        long activeConnections,
+                        Map<String, Long> requestsByEndpoint,
+                        Map<String, Long> requestsByStatus,
+                        String lastDeployment) {
+    }
+
+    /**
+     * Écrit les champs dans l'ordre des réponses historiques (HashMap)
+     */
+    static final class Serializer extends StdSerializer<StatusResponse> {
+
+        private static final SerializedString ENVIRONMENT = name("environment");
+        private static final SerializedString APPLICATION = name("application");
+        private static final SerializedString STATS = name("stats");
+        private static final SerializedString LATENCY = name("latency");
+        private static final SerializedString VERSION = name("version");
+        private static final SerializedString STATUS = name("status");
+        private static final SerializedString UPTIME = name("uptime");
+        private static final SerializedString TIMESTAMP = name("timestamp");
+
+        private static final SerializedString ACTIVE_CONNECTIONS = name("activeConnections");
+        private static final SerializedString REQUESTS_BY_ENDPOINT = name("requestsByEndpoint");
+        private static final SerializedString REQUESTS_BY_STATUS = name("requestsByStatus");
+        private static final SerializedString LAST_DEPLOYMENT = name("lastDeployment");
+        private static final SerializedString TOTAL_REQUESTS = name("totalRequests");
+
+        private static final SerializedString COUNT = name("count");
+        private static final SerializedString P50 = name("p50");
+        private static final SerializedString P90 = name("p90");
+        private static final SerializedString P99 = name("p99");
+        private static final SerializedString P999 = name("p999");
+        private static final SerializedString MAX = name("max");
+        private static final SerializedString UNIT = name("unit");
+
+        Serializer() {
+            super(StatusResponse.class);
+        }
+
+        @Override
+        public void serialize(StatusResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            writeString(gen, ENVIRONMENT, value.environment());
+            writeString(gen, APPLICATION, value.application());
+
+            Stats stats = value.stats();
+            gen.writeFieldName(STATS);
+            gen.writeStartObject();
+            writeNumber(gen, ACTIVE_CONNECTIONS, stats.activeConnections());
+            writeCounts(gen, REQUESTS_BY_ENDPOINT, stats.requestsByEndpoint());
+            writeCounts(gen, REQUESTS_BY_STATUS, stats.requestsByStatus());
+            writeString(gen, LAST_DEPLOYMENT, stats.lastDeployment());
+            writeNumber(gen, TOTAL_REQUESTS, stats.totalRequests());
+            gen.writeEndObject();
+
+            gen.writeFieldName(LATENCY);
+            gen.writeStartObject();
+            for (Map.Entry<String, LatencySnapshot> entry : value.latency().entrySet()) {
+                gen.writeFieldName(entry.getKey());
+                writeLatency(gen, entry.getValue());
+            }
+            gen.writeEndObject();
+
+            writeString(gen, VERSION, value.version());
+            writeString(gen, STATUS, value.status());
+            writeString(gen, UPTIME, value.uptime());
+            writeString(gen, TIMESTAMP, value.timestamp());
+            gen.writeEndObject();
+        }
+
+        private static void writeLatency(JsonGenerator gen, LatencySnapshot latency) throws IOException {
+            gen.writeStartObject();
+            writeNumber(gen, COUNT, latency.count());
+            writeMillis(gen, P50, latency.p50());
+            writeMillis(gen, P90, latency.p90());
+            writeMillis(gen, P99, latency.p99());
+            writeMillis(gen, P999, latency.p999());
+            writeMillis(gen, MAX, latency.max());
+            writeString(gen, UNIT, "ms");
+            gen.writeEndObject();
+        }
+
+        private static void writeMillis(JsonGenerator gen, SerializedString name, long micros) throws IOException {
+            gen.writeFieldName(name);
+            gen.writeNumber(LatencySnapshot.toMillis(micros));
+        }
+    }
+}
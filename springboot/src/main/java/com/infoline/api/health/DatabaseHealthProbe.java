@@ -0,0 +1,75 @@
+package com.infoline.api.health;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+/**
+ * Vérification de la base de données (RDS PostgreSQL)
+ *
+ * Emprunte une connexion au pool et la valide ({@link Connection#isValid(int)}).
+ * Ignorée tant qu'aucune DataSource n'est configurée.
+ *
+ * Paramètres (application.properties) :
+ * - infoline.health.database.interval-ms : délai entre deux vérifications
+ * - infoline.health.database.timeout-ms  : au-delà, la base est DOWN
+ * - infoline.health.database.ttl-ms      : au-delà, le résultat est UNKNOWN
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+public class DatabaseHealthProbe implements HealthProbe {
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final Duration interval;
+    private final Duration timeout;
+    private final Duration ttl;
+
+    public DatabaseHealthProbe(ObjectProvider<DataSource> dataSource,
+                               @Value("${infoline.health.database.interval-ms:10000}") long intervalMillis,
+                               @Value("${infoline.health.database.timeout-ms:2000}") long timeoutMillis,
+                               @Value("${infoline.health.database.ttl-ms:30000}") long ttlMillis) {
+        this.dataSource = dataSource;
+        this.interval = Duration.ofMillis(intervalMillis);
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.ttl = Duration.ofMillis(ttlMillis);
+    }
+
+    @Override
+    public String name() {
+        return "database";
+    }
+
+    @Override
+    public boolean enabled() {
+        return dataSource.getIfAvailable() != null;
+    }
+
+    @Override
+    public Duration interval() {
+        return interval;
+    }
+
+    @Override
+    public Duration timeout() {
+        return timeout;
+    }
+
+    @Override
+    public Duration ttl() {
+        return ttl;
+    }
+
+    @Override
+    public HealthStatus check() throws Exception {
+        int validationSeconds = (int) Math.max(1, timeout.toSeconds());
+        try (Connection connection = dataSource.getObject().getConnection()) {
+            return connection.isValid(validationSeconds) ? HealthStatus.UP : HealthStatus.DOWN;
+        }
+    }
+}
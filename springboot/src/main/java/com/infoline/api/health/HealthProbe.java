@@ -0,0 +1,59 @@
+package com.infoline.api.health;
+
+import java.time.Duration;
+
+/**
+ * Vérification de santé d'une dépendance (base de données, cache...)
+ *
+ * Chaque bean implémentant cette interface est pris en charge par
+ * {@link HealthProbeRegistry} : la vérification tourne en tâche de fond,
+ * à son propre rythme, et /api/v1/health ne lit que son dernier résultat.
+ * {@link #check()} peut donc être bloquant sans jamais ralentir les probes
+ * Kubernetes.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public interface HealthProbe {
+
+    /**
+     * @return Nom de la vérification, clé dans "checks" (ex: "database")
+     */
+    String name();
+
+    /**
+     * @return false si la dépendance n'est pas configurée (la vérification est alors ignorée)
+     */
+    default boolean enabled() {
+        return true;
+    }
+
+    /**
+     * @return Délai entre la fin d'une vérification et le début de la suivante
+     */
+    default Duration interval() {
+        return Duration.ofSeconds(10);
+    }
+
+    /**
+     * @return Durée maximale d'une vérification, au-delà le status passe à DOWN
+     */
+    default Duration timeout() {
+        return Duration.ofSeconds(2);
+    }
+
+    /**
+     * @return Durée de validité d'un résultat, au-delà le status passe à UNKNOWN
+     */
+    default Duration ttl() {
+        return interval().multipliedBy(3);
+    }
+
+    /**
+     * Vérifie la dépendance (appelé hors des threads de requête)
+     *
+     * @return UP ou DOWN
+     * @throws Exception considérée comme DOWN
+     */
+    HealthStatus check() throws Exception;
+}
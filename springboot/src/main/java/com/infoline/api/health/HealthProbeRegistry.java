@@ -0,0 +1,262 @@
+package com.infoline.api.health;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Registre des vérifications de santé, exécutées en tâche de fond
+ *
+ * Les probes Kubernetes (liveness, readiness, startup) appellent
+ * /api/v1/health toutes les 10 à 15 secondes avec un timeout de 3 à 5 s.
+ * Une vérification synchrone de la base à chaque appel ferait échouer la
+ * liveness (et redémarrer le pod) dès que la base ralentit. Ici :
+ * - chaque {@link HealthProbe} tourne sur un thread dédié, à son rythme
+ *   ({@link HealthProbe#interval()}), borné par {@link HealthProbe#timeout()}
+ * - le dernier résultat est conservé {@link HealthProbe#ttl()}, puis
+ *   considéré UNKNOWN si aucune vérification n'a abouti entre-temps
+ * - {@link #checks()} ne fait que lire une Map immuable pré-calculée
+ *
+ * La vérification "api" est toujours UP : si ce code répond, l'API tourne.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+public class HealthProbeRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(HealthProbeRegistry.class);
+
+    /** Vérification implicite : l'API répond */
+    public static final String API_CHECK = "api";
+
+    private final List<ProbeState> probes;
+    private final LongSupplier nanoClock;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService probeExecutor;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public HealthProbeRegistry(ObjectProvider<HealthProbe> probes) {
+        this(probes.orderedStream().toList());
+    }
+
+    public HealthProbeRegistry(List<HealthProbe> probes) {
+        this(probes, System::nanoTime);
+    }
+
+    HealthProbeRegistry(List<HealthProbe> probes, LongSupplier nanoClock) {
+        this.probes = probes.stream()
+            .filter(HealthProbe::enabled)
+            .map(ProbeState::new)
+            .toList();
+        this.nanoClock = nanoClock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("infoline-health-scheduler"));
+        this.probeExecutor = Executors.newCachedThreadPool(daemonThreads("infoline-health-probe"));
+        this.snapshot = buildSnapshot(nanoClock.getAsLong());
+    }
+
+    /**
+     * Lance une première vérification de chaque dépendance
+     */
+    @PostConstruct
+    public void start() {
+        for (ProbeState state : probes) {
+            log.info("Vérification de santé '{}' : toutes les {} ms (timeout {} ms, validité {} ms)",
+                state.probe.name(), state.intervalMillis, state.timeoutMillis, state.ttlNanos / 1_000_000);
+            submit(() -> run(state), 0);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+        probeExecutor.shutdownNow();
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // LECTURE (threads de requête)
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Status de chaque vérification, sans attendre aucune dépendance
+     *
+     * @return Map immuable nom → "UP" / "DOWN" / "UNKNOWN" ("api" en premier)
+     */
+    public Map<String, String> checks() {
+        Snapshot current = snapshot;
+        if (current.expires) {
+            long now = nanoClock.getAsLong();
+            if (now - current.validUntil >= 0) {
+                current = publish(now);
+            }
+        }
+        return current.checks;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // EXÉCUTION (threads de fond)
+    // ═══════════════════════════════════════════════════════════════
+
+    private void run(ProbeState state) {
+        if (!state.running.compareAndSet(false, true)) {
+            // La vérification précédente est toujours bloquée (ex: connexion JDBC figée) :
+            // on n'empile pas un thread de plus
+            record(state, HealthStatus.DOWN, null);
+            submit(() -> run(state), state.intervalMillis);
+            return;
+        }
+
+        CompletableFuture<HealthStatus> check;
+        try {
+            check = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return state.probe.check();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                } finally {
+                    state.running.set(false);
+                }
+            }, probeExecutor);
+        } catch (RejectedExecutionException e) {
+            state.running.set(false);
+            return;
+        }
+
+        check.orTimeout(state.timeoutMillis, TimeUnit.MILLISECONDS)
+            .whenComplete((status, error) -> {
+                record(state, error == null && status != null ? status : HealthStatus.DOWN, error);
+                submit(() -> run(state), state.intervalMillis);
+            });
+    }
+
+    private void record(ProbeState state, HealthStatus status, Throwable error) {
+        long now = nanoClock.getAsLong();
+        HealthStatus previous = state.lastStatus;
+        state.lastStatus = status;
+        state.checkedAt = now;
+        state.checked = true;
+        publish(now);
+
+        if (status != previous) {
+            if (status == HealthStatus.UP) {
+                log.info("Vérification de santé '{}' : UP", state.probe.name());
+            } else {
+                log.warn("Vérification de santé '{}' : {} ({})", state.probe.name(), status, describe(error));
+            }
+        }
+    }
+
+    private void submit(Runnable task, long delayMillis) {
+        try {
+            scheduler.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Arrêt en cours
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // MÉTHODES UTILITAIRES
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Recalcule et publie les résultats (sérialisé : deux vérifications qui
+     * se terminent ensemble ne doivent pas publier un état incomplet)
+     */
+    private synchronized Snapshot publish(long now) {
+        Snapshot published = buildSnapshot(now);
+        snapshot = published;
+        return published;
+    }
+
+    private Snapshot buildSnapshot(long now) {
+        Map<String, String> checks = new LinkedHashMap<>();
+        checks.put(API_CHECK, HealthStatus.UP.name());
+
+        boolean expires = false;
+        long validUntil = 0;
+        for (ProbeState state : probes) {
+            HealthStatus status = HealthStatus.UNKNOWN;
+            if (state.checked) {
+                long expiry = state.checkedAt + state.ttlNanos;
+                if (now - expiry < 0) {
+                    status = state.lastStatus;
+                    if (!expires || expiry - validUntil < 0) {
+                        validUntil = expiry;
+                        expires = true;
+                    }
+                }
+            }
+            checks.put(state.probe.name(), status.name());
+        }
+        return new Snapshot(Collections.unmodifiableMap(checks), expires, validUntil);
+    }
+
+    private static String describe(Throwable error) {
+        if (error == null) {
+            return "vérification toujours en cours";
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof TimeoutException ? "timeout" : cause.toString();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * État d'une vérification (écrit par les threads de fond uniquement)
+     */
+    private static final class ProbeState {
+
+        final HealthProbe probe;
+        final long intervalMillis;
+        final long timeoutMillis;
+        final long ttlNanos;
+        final AtomicBoolean running = new AtomicBoolean();
+
+        volatile HealthStatus lastStatus = HealthStatus.UNKNOWN;
+        volatile long checkedAt;
+        volatile boolean checked;
+
+        ProbeState(HealthProbe probe) {
+            this.probe = probe;
+            this.intervalMillis = probe.interval().toMillis();
+            this.timeoutMillis = probe.timeout().toMillis();
+            this.ttlNanos = probe.ttl().toNanos();
+        }
+    }
+
+    /**
+     * Résultats publiés, valables jusqu'à validUntil (si expires)
+     */
+    private record Snapshot(Map<String, String> checks, boolean expires, long validUntil) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.infoline.api.health;
+
+/**
+ * Status d'une vérification de santé
+ *
+ * - UP      : dernière vérification réussie
+ * - DOWN    : dernière vérification en échec (erreur ou timeout)
+ * - UNKNOWN : aucune vérification récente (jamais exécutée ou résultat expiré)
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public enum HealthStatus {
+    UP,
+    DOWN,
+    UNKNOWN
+}
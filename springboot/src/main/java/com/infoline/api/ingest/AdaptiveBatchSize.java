@@ -0,0 +1,67 @@
+package com.infoline.api.ingest;
+
+/**
+ * Taille de lot d'écriture ajustée à la latence observée
+ *
+ * Le coût par article (moyenne mobile exponentielle, α = 0,3) donne la
+ * taille qui tient dans la durée cible d'un lot : des lots courts gardent
+ * des transactions brèves (verrous, réponse qui avance régulièrement), des
+ * lots trop petits multiplient les allers-retours vers la base.
+ *
+ * La taille démarre au minimum et au plus double d'un lot à l'autre :
+ * un premier lot lent (démarrage à froid, cache de requêtes vide) ne
+ * produit pas de lot géant. Elle redescend sans délai si la base ralentit.
+ *
+ * Non thread-safe : un seul écrivain par import.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class AdaptiveBatchSize {
+
+    private static final double ALPHA = 0.3;
+
+    private final int min;
+    private final int max;
+    private final long targetNanos;
+    private double nanosPerItem = -1;
+    private int size;
+
+    /**
+     * @param min         Taille minimale (et initiale)
+     * @param max         Taille maximale
+     * @param targetNanos Durée visée pour un lot
+     */
+    AdaptiveBatchSize(int min, int max, long targetNanos) {
+        if (min < 1 || max < min || targetNanos <= 0) {
+            throw new IllegalArgumentException("Bornes de lot invalides : min=" + min + ", max=" + max);
+        }
+        this.min = min;
+        this.max = max;
+        this.targetNanos = targetNanos;
+        this.size = min;
+    }
+
+    /**
+     * @return Taille du prochain lot
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Enregistre la durée d'écriture d'un lot
+     *
+     * @param items Articles écrits
+     * @param nanos Durée de l'écriture
+     */
+    void record(int items, long nanos) {
+        if (items <= 0) {
+            return;
+        }
+        double observed = Math.max(1.0, (double) nanos / items);
+        nanosPerItem = nanosPerItem < 0 ? observed : ALPHA * observed + (1 - ALPHA) * nanosPerItem;
+        long ideal = (long) (targetNanos / nanosPerItem);
+        size = (int) Math.max(min, Math.min(ideal, Math.min(max, 2L * size)));
+    }
+}
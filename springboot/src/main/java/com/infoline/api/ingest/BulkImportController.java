@@ -0,0 +1,78 @@
+package com.infoline.api.ingest;
+
+import com.infoline.api.dto.ErrorResponse;
+import com.infoline.api.time.TimestampClock;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Import en masse d'articles : POST /api/v1/articles/bulk
+ *
+ * Le corps (NDJSON, un article par ligne, voir {@link NdjsonArticleReader})
+ * est lu au fil de l'eau depuis le flux de la requête : ni tampon
+ * multipart, ni limite de taille globale, seulement une limite par ligne
+ * (infoline.bulk.max-line-bytes).
+ *
+ * La réponse (200, NDJSON) donne un résultat par article au fur et à
+ * mesure des écritures ({@link BulkItemResult}), puis le bilan
+ * ({@link BulkImportSummary}). Un article refusé n'arrête pas l'import.
+ *
+ * Actif en mode Servlet/Tomcat (écriture JPA bloquante).
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BulkImportController {
+
+    private static final String RETRY_AFTER_SECONDS = "10";
+
+    private final BulkImporter importer;
+    private final TimestampClock timestampClock;
+
+    public BulkImportController(BulkImporter importer, TimestampClock timestampClock) {
+        this.importer = importer;
+        this.timestampClock = timestampClock;
+    }
+
+    /**
+     * Import d'articles
+     * URL : POST /api/v1/articles/bulk (Content-Type: application/x-ndjson)
+     *
+     * @return Résultats NDJSON écrits directement dans la réponse,
+     *         503 si infoline.bulk.max-concurrent imports sont déjà en cours
+     */
+    @PostMapping(path = "/articles/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> bulk(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!importer.tryAcquire()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(new ErrorResponse("Import busy",
+                    "Imports en masse simultanés trop nombreux", timestampClock.now()));
+        }
+        try {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            // Pas de mise en tampon par nginx : chaque lot part dès qu'il est écrit
+            response.setHeader("X-Accel-Buffering", "no");
+            importer.run(request.getInputStream(), response.getOutputStream());
+        } finally {
+            importer.release();
+        }
+        // Réponse déjà écrite
+        return null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.infoline.api.ingest;
+
+/**
+ * Bilan de POST /api/v1/articles/bulk (dernière ligne NDJSON de la réponse)
+ *
+ * @param items      Lignes reçues (hors lignes vides)
+ * @param created    Articles créés
+ * @param duplicates Slugs déjà pris
+ * @param invalid    Lignes refusées à la lecture
+ * @param failed     Articles non écrits (erreur de base)
+ * @param durationMs Durée de l'import
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record BulkImportSummary(long items, long created, long duplicates, long invalid, long failed,
+                                long durationMs) {
+}
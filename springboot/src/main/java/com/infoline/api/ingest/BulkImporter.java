@@ -0,0 +1,454 @@
+package com.infoline.api.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.infoline.api.article.ArticleCatalog;
+import com.infoline.api.article.ArticleDraft;
+import com.infoline.api.article.ArticleService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Import en masse d'articles envoyés en NDJSON
+ *
+ * Deux étages reliés par une file bornée :
+ * <pre>
+ * thread de la requête                          infoline-bulk-writer
+ * corps ──▶ NdjsonArticleReader ──▶ [file bornée] ──▶ lots ──▶ ArticleCatalog.importArticles
+ *                                                          └──▶ une ligne NDJSON par article
+ * </pre>
+ *
+ * - La file est bornée en nombre d'articles (queue-capacity) et en octets
+ *   (queue-max-bytes) : quand la base ne suit pas, la lecture du corps
+ *   s'arrête, TCP ralentit le client, la mémoire reste constante quelle
+ *   que soit la taille de l'envoi.
+ * - La taille des lots suit la latence d'écriture (voir
+ *   {@link AdaptiveBatchSize}) ; chaque lot est une transaction, découpée
+ *   en batchs JDBC par {@link ArticleService#importArticles(List)}.
+ * - Un lot rejeté pour une contrainte (slug pris entre-temps par un autre
+ *   import, par exemple) est coupé en deux jusqu'à isoler l'article fautif :
+ *   les autres sont écrits.
+ * - Le résultat de chaque article part dès son lot écrit ; la dernière
+ *   ligne est le bilan ({@link BulkImportSummary}).
+ *
+ * Le nombre d'imports simultanés est borné (infoline.bulk.max-concurrent) :
+ * au-delà, {@link #tryAcquire()} échoue et le contrôleur répond 503.
+ *
+ * Métriques : bulk.batch (durée d'écriture d'un lot), bulk.items{status}
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BulkImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImporter.class);
+
+    /** Marqueur de fin de lecture */
+    private static final BulkItem END = new BulkItem(0, null, 0, null);
+
+    /** Attente maximale d'articles supplémentaires pour compléter un lot */
+    private static final long LINGER_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /** Période de vérification de l'autre étage pendant une attente */
+    private static final long POLL_MILLIS = 100;
+
+    private final ArticleCatalog catalog;
+    private final ArticleService articleService;
+    private final ObjectMapper objectMapper;
+    /** Une ligne NDJSON par résultat, même si indent-output est actif */
+    private final ObjectWriter lineWriter;
+    private final Semaphore slots;
+    private final ExecutorService writers;
+    private final int queueCapacity;
+    private final int queueMaxBytes;
+    private final int minBatch;
+    private final int maxBatch;
+    private final long targetBatchNanos;
+    private final int maxLineBytes;
+    private final Timer batches;
+    private final Map<BulkItemStatus, Counter> items = new EnumMap<>(BulkItemStatus.class);
+
+    public BulkImporter(ArticleCatalog catalog,
+                        ArticleService articleService,
+                        ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        @Value("${infoline.bulk.max-concurrent:2}") int maxConcurrent,
+                        @Value("${infoline.bulk.queue-capacity:1000}") int queueCapacity,
+                        @Value("${infoline.bulk.queue-max-bytes:16777216}") int queueMaxBytes,
+                        @Value("${infoline.bulk.min-batch:50}") int minBatch,
+                        @Value("${infoline.bulk.max-batch:1000}") int maxBatch,
+                        @Value("${infoline.bulk.target-batch-ms:250}") long targetBatchMillis,
+                        @Value("${infoline.bulk.max-line-bytes:1048576}") int maxLineBytes) {
+        this.catalog = catalog;
+        this.articleService = articleService;
+        this.objectMapper = objectMapper;
+        this.lineWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.slots = new Semaphore(maxConcurrent);
+        this.writers = Executors.newFixedThreadPool(maxConcurrent, daemonThreads("infoline-bulk-writer"));
+        this.queueCapacity = queueCapacity;
+        this.queueMaxBytes = queueMaxBytes;
+        this.minBatch = minBatch;
+        this.maxBatch = maxBatch;
+        this.targetBatchNanos = TimeUnit.MILLISECONDS.toNanos(targetBatchMillis);
+        this.maxLineBytes = maxLineBytes;
+        this.batches = Timer.builder("bulk.batch")
+            .description("Durée d'écriture d'un lot d'articles importés")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        for (BulkItemStatus status : BulkItemStatus.values()) {
+            items.put(status, Counter.builder("bulk.items")
+                .description("Articles reçus par l'import en masse, par sort")
+                .tag("status", status.name())
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Réserve une place d'import (à libérer par {@link #release()})
+     *
+     * @return false si infoline.bulk.max-concurrent imports sont déjà en cours
+     */
+    public boolean tryAcquire() {
+        return slots.tryAcquire();
+    }
+
+    public void release() {
+        slots.release();
+    }
+
+    /**
+     * Importe les articles du flux et écrit un résultat NDJSON par article,
+     * puis le bilan
+     *
+     * @param in  Corps de la requête (NDJSON)
+     * @param out Corps de la réponse (NDJSON)
+     * @return Bilan de l'import
+     * @throws IOException si le client est parti (lecture ou écriture)
+     */
+    public BulkImportSummary run(InputStream in, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        Run run = new Run(out);
+        BlockingQueue<BulkItem> queue = new ArrayBlockingQueue<>(queueCapacity);
+        Semaphore budget = new Semaphore(queueMaxBytes);
+        Future<?> writer = writers.submit(() -> {
+            consume(queue, budget, run);
+            return null;
+        });
+        boolean completed = false;
+        try {
+            NdjsonArticleReader reader = new NdjsonArticleReader(in, objectMapper.getFactory(), maxLineBytes);
+            BulkItem item;
+            while ((item = reader.next()) != null) {
+                if (!budget(budget, item, writer) || !enqueue(queue, item, writer)) {
+                    // Écriture arrêtée (erreur) : son exception est remontée plus bas
+                    break;
+                }
+                run.received++;
+            }
+            enqueue(queue, END, writer);
+            writer.get();
+            completed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Import interrompu");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IllegalStateException("Import en masse interrompu", e.getCause());
+        } finally {
+            if (!completed) {
+                // Client parti : plus aucune écriture en base ni dans la réponse,
+                // et la place d'import n'est rendue qu'une fois l'écrivain arrêté
+                run.cancelled = true;
+                awaitQuietly(writer);
+            }
+        }
+
+        BulkImportSummary summary = new BulkImportSummary(run.received,
+            run.count(BulkItemStatus.CREATED), run.count(BulkItemStatus.DUPLICATE),
+            run.count(BulkItemStatus.INVALID), run.count(BulkItemStatus.FAILED),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        out.write(lineWriter.writeValueAsBytes(summary));
+        out.write('\n');
+        out.flush();
+        return summary;
+    }
+
+    @PreDestroy
+    public void stop() {
+        writers.shutdownNow();
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // LECTURE (THREAD DE LA REQUÊTE)
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Réserve la place de l'article dans le budget mémoire de la file
+     *
+     * @return false si l'étage d'écriture s'est arrêté
+     */
+    private boolean budget(Semaphore budget, BulkItem item, Future<?> writer) throws InterruptedException {
+        int permits = permits(item);
+        while (!budget.tryAcquire(permits, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean enqueue(BlockingQueue<BulkItem> queue, BulkItem item, Future<?> writer)
+            throws InterruptedException {
+        while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Attend la fin de l'étage d'écriture (lot en cours au plus), même si
+     * le thread de la requête est interrompu
+     */
+    private static void awaitQuietly(Future<?> writer) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                writer.get();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException | CancellationException e) {
+                break;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Une ligne plus grosse que le budget entier le prend en totalité */
+    private int permits(BulkItem item) {
+        return Math.min(item.bytes(), queueMaxBytes);
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // ÉCRITURE (infoline-bulk-writer)
+    // ═══════════════════════════════════════════════════════════════
+
+    private void consume(BlockingQueue<BulkItem> queue, Semaphore budget, Run run)
+            throws IOException, InterruptedException {
+        AdaptiveBatchSize sizer = new AdaptiveBatchSize(minBatch, maxBatch, targetBatchNanos);
+        List<BulkItem> batch = new ArrayList<>(maxBatch);
+        boolean ended = false;
+        while (!ended) {
+            if (run.cancelled) {
+                return;
+            }
+            BulkItem first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                continue;
+            }
+            if (first == END) {
+                break;
+            }
+            batch.add(first);
+            // Lot complété avec ce qui arrive dans le délai, sans attendre un lot plein
+            long deadline = System.nanoTime() + LINGER_NANOS;
+            while (batch.size() < sizer.size()) {
+                BulkItem next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                if (next == END) {
+                    ended = true;
+                    break;
+                }
+                batch.add(next);
+            }
+            try {
+                write(batch, sizer, run);
+            } finally {
+                budget.release(batch.stream().mapToInt(this::permits).sum());
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<BulkItem> batch, AdaptiveBatchSize sizer, Run run) throws IOException {
+        List<BulkItem> candidates = new ArrayList<>(batch.size());
+        Set<String> slugs = new HashSet<>();
+        for (BulkItem item : batch) {
+            if (item.error() != null) {
+                run.emit(BulkItemResult.rejected(item, BulkItemStatus.INVALID, item.error()));
+            } else if (!slugs.add(item.draft().slug())) {
+                run.emit(BulkItemResult.rejected(item, BulkItemStatus.DUPLICATE, "Slug répété dans l'envoi"));
+            } else {
+                candidates.add(item);
+            }
+        }
+
+        // Lots précédents déjà validés : une seule requête couvre aussi les répétitions entre lots
+        Set<String> existing = new HashSet<>(articleService.existingSlugs(slugs));
+        List<BulkItem> fresh = new ArrayList<>(candidates.size());
+        for (BulkItem item : candidates) {
+            if (existing.contains(item.draft().slug())) {
+                run.emit(BulkItemResult.rejected(item, BulkItemStatus.DUPLICATE, "Slug déjà pris"));
+            } else {
+                fresh.add(item);
+            }
+        }
+
+        persist(fresh, sizer, run);
+        run.flush();
+    }
+
+    /**
+     * Écrit les articles en une transaction ; sur violation de contrainte,
+     * recommence par moitiés pour isoler le ou les articles fautifs
+     */
+    private void persist(List<BulkItem> batch, AdaptiveBatchSize sizer, Run run) throws IOException {
+        if (batch.isEmpty() || run.cancelled) {
+            return;
+        }
+        List<ArticleDraft> drafts = batch.stream().map(BulkItem::draft).toList();
+        long start = System.nanoTime();
+        List<Long> ids;
+        try {
+            ids = catalog.importArticles(drafts);
+        } catch (RuntimeException e) {
+            if (!isConstraintViolation(e)) {
+                log.warn("Écriture d'un lot de {} articles importés impossible", batch.size(), e);
+                for (BulkItem item : batch) {
+                    run.emit(BulkItemResult.rejected(item, BulkItemStatus.FAILED, "Écriture en base impossible"));
+                }
+                return;
+            }
+            if (batch.size() == 1) {
+                rejectSingle(batch.get(0), run);
+                return;
+            }
+            int half = batch.size() / 2;
+            persist(batch.subList(0, half), sizer, run);
+            persist(batch.subList(half, batch.size()), sizer, run);
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        batches.record(elapsed, TimeUnit.NANOSECONDS);
+        sizer.record(batch.size(), elapsed);
+        for (int i = 0; i < batch.size(); i++) {
+            run.emit(BulkItemResult.created(batch.get(i), ids.get(i)));
+        }
+    }
+
+    /** Article isolé par la bissection : slug pris entre-temps, ou autre contrainte */
+    private void rejectSingle(BulkItem item, Run run) throws IOException {
+        if (!articleService.existingSlugs(List.of(item.draft().slug())).isEmpty()) {
+            run.emit(BulkItemResult.rejected(item, BulkItemStatus.DUPLICATE, "Slug déjà pris"));
+        } else {
+            run.emit(BulkItemResult.rejected(item, BulkItemStatus.FAILED, "Contrainte d'intégrité non respectée"));
+        }
+    }
+
+    /**
+     * Violation de contrainte (unicité, clé étrangère, NOT NULL) : SQLSTATE 23xxx
+     */
+    static boolean isConstraintViolation(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataIntegrityViolationException) {
+                return true;
+            }
+            if (cause instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().startsWith("23")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // ÉTAT D'UN IMPORT
+    // ═══════════════════════════════════════════════════════════════
+
+    private final class Run {
+
+        private final OutputStream out;
+        private final long[] counts = new long[BulkItemStatus.values().length];
+
+        /** Lignes lues (thread de la requête, lu après la fin de l'écriture) */
+        private long received;
+
+        /** Lecture abandonnée : l'étage d'écriture s'arrête sans écrire ni répondre */
+        private volatile boolean cancelled;
+
+        private Run(OutputStream out) {
+            this.out = out;
+        }
+
+        private void emit(BulkItemResult result) throws IOException {
+            if (cancelled) {
+                // Requête terminée : sa réponse n'est plus utilisable
+                return;
+            }
+            out.write(lineWriter.writeValueAsBytes(result));
+            out.write('\n');
+            counts[result.status().ordinal()]++;
+            items.get(result.status()).increment();
+        }
+
+        private void flush() throws IOException {
+            if (!cancelled) {
+                out.flush();
+            }
+        }
+
+        private long count(BulkItemStatus status) {
+            return counts[status.ordinal()];
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
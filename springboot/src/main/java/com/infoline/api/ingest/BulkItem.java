@@ -0,0 +1,25 @@
+package com.infoline.api.ingest;
+
+import com.infoline.api.article.ArticleDraft;
+
+/**
+ * Ligne lue par {@link NdjsonArticleReader}, en attente d'écriture
+ *
+ * @param line  Numéro de ligne (à partir de 1)
+ * @param draft Article lu, null si la ligne est refusée
+ * @param bytes Taille de la ligne (budget mémoire de la file)
+ * @param error Motif du refus, null si la ligne est valide
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+record BulkItem(long line, ArticleDraft draft, int bytes, String error) {
+
+    static BulkItem valid(long line, ArticleDraft draft, int bytes) {
+        return new BulkItem(line, draft, bytes, null);
+    }
+
+    static BulkItem invalid(long line, int bytes, String error) {
+        return new BulkItem(line, null, bytes, error);
+    }
+}
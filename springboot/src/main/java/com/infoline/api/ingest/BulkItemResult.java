@@ -0,0 +1,24 @@
+package com.infoline.api.ingest;
+
+/**
+ * Résultat d'une ligne de POST /api/v1/articles/bulk (une ligne NDJSON de la réponse)
+ *
+ * @param line   Numéro de la ligne envoyée (à partir de 1)
+ * @param slug   Slug de l'article, null si la ligne est illisible
+ * @param status Sort de l'article
+ * @param id     Identifiant attribué (CREATED), null sinon
+ * @param error  Motif du refus, null si l'article est créé
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record BulkItemResult(long line, String slug, BulkItemStatus status, Long id, String error) {
+
+    static BulkItemResult created(BulkItem item, long id) {
+        return new BulkItemResult(item.line(), item.draft().slug(), BulkItemStatus.CREATED, id, null);
+    }
+
+    static BulkItemResult rejected(BulkItem item, BulkItemStatus status, String error) {
+        return new BulkItemResult(item.line(), item.draft() == null ? null : item.draft().slug(), status, null, error);
+    }
+}
@@ -0,0 +1,19 @@
+package com.infoline.api.ingest;
+
+/**
+ * Sort d'un article envoyé à POST /api/v1/articles/bulk
+ *
+ * - CREATED   : article créé
+ * - DUPLICATE : slug déjà pris (en base ou plus haut dans le même envoi)
+ * - INVALID   : ligne illisible ou champ manquant / trop long
+ * - FAILED    : écriture en base impossible
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public enum BulkItemStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID,
+    FAILED
+}
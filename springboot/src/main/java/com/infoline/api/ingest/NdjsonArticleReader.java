@@ -0,0 +1,267 @@
+package com.infoline.api.ingest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.infoline.api.article.ArticleDraft;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lecture au fil de l'eau d'articles au format NDJSON (un objet JSON par ligne)
+ *
+ * Le flux est découpé en lignes dans un tampon fixe, sans jamais être lu en
+ * entier : la mémoire occupée ne dépend que de la plus longue ligne admise
+ * (maxLineBytes). Une ligne plus longue est sautée jusqu'au saut de ligne
+ * suivant et signalée, sans être gardée.
+ *
+ * Chaque ligne est analysée par le parseur de flux Jackson, champ par champ
+ * (ni arbre JSON intermédiaire, ni liaison par réflexion) :
+ * <pre>
+ * {"slug":"psg-lyon","title":"…","excerpt":"…","body":"…","category":"football",
+ *  "tags":["psg","ligue-1"],"publishedAt":"2024-03-01T20:45:00Z"}
+ * </pre>
+ *
+ * Une ligne illisible ou un article incomplet ne coupe pas la lecture : il
+ * devient un {@link BulkItem} refusé, avec son motif. Les lignes vides
+ * sont ignorées.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class NdjsonArticleReader {
+
+    // Longueurs des colonnes (voir Article, Category, Tag)
+    static final int MAX_SLUG = 160;
+    static final int MAX_TITLE = 255;
+    static final int MAX_EXCERPT = 500;
+    static final int MAX_LABEL = 80;
+    static final int MAX_TAGS = 32;
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final InputStream in;
+    private final JsonFactory jsonFactory;
+    private final int maxLineBytes;
+    private final byte[] buffer = new byte[BUFFER_BYTES];
+    private int position;
+    private int limit;
+    private byte[] line = new byte[4096];
+    private long lineNumber;
+
+    /**
+     * @param in           Corps de la requête
+     * @param jsonFactory  Fabrique des parseurs Jackson
+     * @param maxLineBytes Taille maximale d'une ligne
+     */
+    NdjsonArticleReader(InputStream in, JsonFactory jsonFactory, int maxLineBytes) {
+        this.in = in;
+        this.jsonFactory = jsonFactory;
+        this.maxLineBytes = maxLineBytes;
+    }
+
+    /**
+     * @return Ligne suivante (article ou refus), null à la fin du flux
+     * @throws IOException si le flux ne peut plus être lu (client parti)
+     */
+    BulkItem next() throws IOException {
+        while (true) {
+            int length = readLine();
+            if (length == END_OF_STREAM) {
+                return null;
+            }
+            lineNumber++;
+            if (length == TOO_LONG) {
+                return BulkItem.invalid(lineNumber, maxLineBytes,
+                    "Ligne de plus de " + maxLineBytes + " octets");
+            }
+            if (isBlank(length)) {
+                continue;
+            }
+            try {
+                return BulkItem.valid(lineNumber, parse(length), length);
+            } catch (JsonProcessingException e) {
+                return BulkItem.invalid(lineNumber, length, "JSON illisible : " + e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                return BulkItem.invalid(lineNumber, length, e.getMessage());
+            }
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // DÉCOUPAGE EN LIGNES
+    // ═══════════════════════════════════════════════════════════════
+
+    private static final int END_OF_STREAM = -1;
+    private static final int TOO_LONG = -2;
+
+    /**
+     * Copie la ligne suivante dans {@link #line}
+     *
+     * @return Longueur (sans \r\n), END_OF_STREAM ou TOO_LONG (ligne sautée)
+     */
+    private int readLine() throws IOException {
+        int length = 0;
+        boolean tooLong = false;
+        boolean any = false;
+        while (true) {
+            if (position == limit) {
+                limit = in.read(buffer);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    if (!any) {
+                        return END_OF_STREAM;
+                    }
+                    break;
+                }
+            }
+            any = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            int chunk = position - start;
+            if (!tooLong) {
+                if (length + chunk > maxLineBytes) {
+                    tooLong = true;
+                } else {
+                    ensureCapacity(length + chunk);
+                    System.arraycopy(buffer, start, line, length, chunk);
+                    length += chunk;
+                }
+            }
+            if (position < limit) {
+                // Saut de ligne consommé
+                position++;
+                break;
+            }
+        }
+        if (tooLong) {
+            return TOO_LONG;
+        }
+        return length > 0 && line[length - 1] == '\r' ? length - 1 : length;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > line.length) {
+            line = Arrays.copyOf(line, Math.min(maxLineBytes, Math.max(capacity, 2 * line.length)));
+        }
+    }
+
+    private boolean isBlank(int length) {
+        for (int i = 0; i < length; i++) {
+            if (line[i] != ' ' && line[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // ANALYSE D'UNE LIGNE
+    // ═══════════════════════════════════════════════════════════════
+
+    private ArticleDraft parse(int length) throws IOException {
+        String slug = null;
+        String title = null;
+        String excerpt = null;
+        String body = null;
+        String category = null;
+        List<String> tags = List.of();
+        Instant publishedAt = null;
+        try (JsonParser parser = jsonFactory.createParser(line, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Objet JSON attendu");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "slug" -> slug = string(parser, field);
+                    case "title" -> title = string(parser, field);
+                    case "excerpt" -> excerpt = string(parser, field);
+                    case "body" -> body = string(parser, field);
+                    case "category" -> category = string(parser, field);
+                    case "tags" -> tags = tags(parser);
+                    case "publishedAt" -> publishedAt = instant(string(parser, field));
+                    // Champ inconnu (ex: identifiant de la source) : ignoré
+                    default -> parser.skipChildren();
+                }
+            }
+            if (parser.nextToken() != null) {
+                throw new IllegalArgumentException("Un seul objet JSON par ligne");
+            }
+        }
+        required(slug, "slug", MAX_SLUG);
+        required(title, "title", MAX_TITLE);
+        required(body, "body", Integer.MAX_VALUE);
+        required(category, "category", MAX_LABEL);
+        if (excerpt != null && excerpt.length() > MAX_EXCERPT) {
+            throw new IllegalArgumentException("Champ excerpt : " + MAX_EXCERPT + " caractères au plus");
+        }
+        if (publishedAt == null) {
+            throw new IllegalArgumentException("Champ publishedAt obligatoire");
+        }
+        return new ArticleDraft(slug, title, excerpt, body, category, tags, publishedAt);
+    }
+
+    private static String string(JsonParser parser, String field) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            throw new IllegalArgumentException("Champ " + field + " : chaîne attendue");
+        }
+        return parser.getText();
+    }
+
+    private static List<String> tags(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return List.of();
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("Champ tags : tableau de chaînes attendu");
+        }
+        List<String> tags = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String tag = string(parser, "tags");
+            required(tag, "tags", MAX_LABEL);
+            if (tags.size() == MAX_TAGS) {
+                throw new IllegalArgumentException("Champ tags : " + MAX_TAGS + " mots-clés au plus");
+            }
+            if (!tags.contains(tag)) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    private static Instant instant(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Champ publishedAt : date ISO-8601 attendue (ex: 2024-03-01T20:45:00Z)");
+        }
+    }
+
+    private static void required(String value, String field, int maxLength) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Champ " + field + " obligatoire");
+        }
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException("Champ " + field + " : " + maxLength + " caractères au plus");
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.infoline.api.media;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Stockage objet sur le système de fichiers local (en lieu et place d'un
+ * bucket S3)
+ *
+ * <pre>
+ *   &lt;racine&gt;/.incoming/     objets en cours d'écriture
+ *   &lt;racine&gt;/&lt;clé&gt;          objets publiés (ex: articles/psg-lyon/&lt;sha256&gt;.jpg)
+ * </pre>
+ *
+ * Un objet est écrit par {@link FileChannel#transferFrom} depuis le canal
+ * source, dans un fichier temporaire du même volume, synchronisé (fsync),
+ * puis publié sous sa clé par renommage atomique : une clé visible désigne
+ * toujours un objet complet. Les écritures interrompues (arrêt brutal)
+ * sont supprimées à l'ouverture.
+ *
+ * Comme un bucket, les clés sont des chemins relatifs sans « .. » ; les
+ * répertoires intermédiaires sont créés à la demande.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public class LocalObjectStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalObjectStorage.class);
+
+    private static final String INCOMING = ".incoming";
+
+    /** Octets demandés par appel à transferFrom */
+    private static final long TRANSFER_CHUNK = 1 << 20;
+
+    private static final Pattern KEY = Pattern.compile("[a-z0-9][a-z0-9._-]*(/[a-z0-9][a-z0-9._-]*)*");
+
+    private final Path root;
+    private final Path incoming;
+
+    /**
+     * @param root Répertoire racine (créé au besoin)
+     * @throws IOException si le répertoire ne peut pas être créé
+     */
+    public LocalObjectStorage(Path root) throws IOException {
+        this.root = root.toAbsolutePath().normalize();
+        this.incoming = this.root.resolve(INCOMING);
+        Files.createDirectories(incoming);
+        try (Stream<Path> stale = Files.list(incoming)) {
+            stale.forEach(LocalObjectStorage::deleteQuietly);
+        }
+    }
+
+    /**
+     * Ouvre l'écriture d'un nouvel objet
+     *
+     * @return Écriture en cours, à publier ({@link Upload#commit(String)})
+     *         ou abandonner ({@link Upload#close()})
+     */
+    public Upload begin() throws IOException {
+        Path tmp = Files.createTempFile(incoming, "upload-", ".tmp");
+        return new Upload(tmp, FileChannel.open(tmp, StandardOpenOption.WRITE));
+    }
+
+    /**
+     * @param key Clé de l'objet
+     * @return true si l'objet existe
+     */
+    public boolean exists(String key) {
+        return Files.isRegularFile(path(key));
+    }
+
+    /**
+     * @param key Clé de l'objet
+     * @return true si l'objet existait
+     */
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(path(key));
+    }
+
+    /**
+     * @param key Clé de l'objet
+     * @return Fichier de l'objet
+     * @throws IllegalArgumentException si la clé est invalide
+     */
+    Path path(String key) {
+        if (key == null || !KEY.matcher(key).matches() || key.contains("..")) {
+            throw new IllegalArgumentException("Clé d'objet invalide : " + key);
+        }
+        return root.resolve(key);
+    }
+
+    /**
+     * Écriture d'un objet, dans un fichier temporaire jusqu'à sa publication
+     */
+    public final class Upload implements AutoCloseable {
+
+        private final Path tmp;
+        private final FileChannel channel;
+        private long size;
+        private boolean done;
+
+        private Upload(Path tmp, FileChannel channel) {
+            this.tmp = tmp;
+            this.channel = channel;
+        }
+
+        /**
+         * Copie le canal jusqu'à sa fin, sans tampon intermédiaire côté application
+         *
+         * @param source Contenu de l'objet
+         * @return Octets écrits (au total)
+         */
+        public long transferFrom(ReadableByteChannel source) throws IOException {
+            while (true) {
+                long transferred = channel.transferFrom(source, size, TRANSFER_CHUNK);
+                if (transferred == 0) {
+                    // Fin du canal (il ne rend jamais 0 octet sinon : lecture bloquante)
+                    return size;
+                }
+                size += transferred;
+            }
+        }
+
+        /**
+         * Publie l'objet sous sa clé
+         *
+         * @param key Clé de l'objet
+         * @return false si un objet existait déjà sous cette clé (conservé :
+         *         avec une clé dérivée du contenu, il est identique)
+         */
+        public boolean commit(String key) throws IOException {
+            Path target = path(key);
+            channel.force(true);
+            channel.close();
+            Files.createDirectories(target.getParent());
+            // Renommage atomique : remplace ou échoue selon le système, d'où le test préalable
+            boolean created = !Files.exists(target);
+            if (created) {
+                try {
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    created = false;
+                }
+            }
+            if (!created) {
+                Files.delete(tmp);
+            }
+            done = true;
+            return created;
+        }
+
+        /**
+         * @return Octets écrits jusqu'ici
+         */
+        public long size() {
+            return size;
+        }
+
+        /**
+         * Abandonne l'écriture si elle n'a pas été publiée
+         */
+        @Override
+        public void close() throws IOException {
+            if (!done) {
+                done = true;
+                channel.close();
+                Files.deleteIfExists(tmp);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Suppression de {} impossible : {}", file, e.getMessage());
+        }
+    }
+}
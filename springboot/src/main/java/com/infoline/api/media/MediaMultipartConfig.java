@@ -0,0 +1,50 @@
+package com.infoline.api.media;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Décodage multipart de Spring, sauf pour les envois de médias
+ *
+ * Le résolveur standard fait lire tout le corps par Tomcat (fichiers
+ * temporaires ou mémoire, limites spring.servlet.multipart.*) avant
+ * d'appeler le contrôleur. Pour {@link MediaUploadController#UPLOAD_PATH_PATTERN},
+ * la requête n'est pas vue comme multipart : le flux reste intact et le
+ * contrôleur le lit lui-même.
+ *
+ * Spring Boot n'auto-configure pas son propre résolveur si un bean
+ * {@code multipartResolver} existe déjà : celui-ci le remplace.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MediaMultipartConfig {
+
+    private static final PathMatcher PATHS = new AntPathMatcher();
+
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    @ConditionalOnProperty(prefix = "spring.servlet.multipart", name = "enabled", matchIfMissing = true)
+    public StandardServletMultipartResolver multipartResolver(
+            @Value("${spring.servlet.multipart.resolve-lazily:false}") boolean resolveLazily) {
+        StandardServletMultipartResolver resolver = new StandardServletMultipartResolver() {
+            @Override
+            public boolean isMultipart(HttpServletRequest request) {
+                return super.isMultipart(request) && !PATHS.match(MediaUploadController.UPLOAD_PATH_PATTERN,
+                    UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+            }
+        };
+        resolver.setResolveLazily(resolveLazily);
+        return resolver;
+    }
+}
@@ -0,0 +1,15 @@
+package com.infoline.api.media;
+
+import java.util.List;
+
+/**
+ * Réponse de POST /api/v1/articles/{slug}/media
+ *
+ * @param article Slug de l'article
+ * @param items   Fichiers enregistrés, dans l'ordre de l'envoi
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record MediaUpload(String article, List<StoredMedia> items) {
+}
@@ -0,0 +1,88 @@
+package com.infoline.api.media;
+
+import com.infoline.api.article.ArticleCatalog;
+import com.infoline.api.dto.ErrorResponse;
+import com.infoline.api.time.TimestampClock;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Envoi d'images et de pièces jointes : POST /api/v1/articles/{slug}/media
+ *
+ * Le corps multipart/form-data n'est pas décodé par Spring (voir
+ * {@link MediaMultipartConfig}) : ni fichier temporaire de Tomcat, ni
+ * copie en mémoire, ni limite spring.servlet.multipart.*. Les fichiers
+ * sont lus et enregistrés à mesure qu'ils arrivent (voir
+ * {@link MediaUploadService}), dans les limites infoline.media.*.
+ *
+ * Exemple :
+ * <pre>
+ * curl -F "sha256=$(sha256sum photo.jpg | cut -c1-64)" -F "file=@photo.jpg;type=image/jpeg" \
+ *      http://localhost:8080/api/v1/articles/psg-lyon/media
+ * </pre>
+ *
+ * Actif en mode Servlet/Tomcat (lecture bloquante du corps).
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MediaUploadController {
+
+    /** Chemins dont le corps multipart est lu par ce contrôleur */
+    static final String UPLOAD_PATH_PATTERN = "/api/v1/articles/*/media";
+
+    private final MediaUploadService uploadService;
+    private final ArticleCatalog articleCatalog;
+    private final TimestampClock timestampClock;
+
+    public MediaUploadController(MediaUploadService uploadService,
+                                 ArticleCatalog articleCatalog,
+                                 TimestampClock timestampClock) {
+        this.uploadService = uploadService;
+        this.articleCatalog = articleCatalog;
+        this.timestampClock = timestampClock;
+    }
+
+    /**
+     * Enregistre les fichiers envoyés pour un article
+     * URL : POST /api/v1/articles/{slug}/media (Content-Type: multipart/form-data)
+     *
+     * @param slug    Slug de l'article
+     * @param request Requête (corps lu en flux)
+     * @return 201 et les fichiers enregistrés, 404 si l'article n'existe pas,
+     *         400 / 413 / 415 si l'envoi est refusé
+     */
+    @PostMapping(path = "/articles/{slug}/media", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> upload(@PathVariable String slug, HttpServletRequest request) throws IOException {
+        // Avant toute lecture du corps : un envoi inutile est refusé d'emblée
+        if (articleCatalog.findBySlug(slug).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        MediaUpload upload = uploadService.upload(slug, request.getHeader(HttpHeaders.CONTENT_TYPE),
+            request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED).body(upload);
+    }
+
+    /**
+     * Envoi refusé en cours de lecture : le reste du corps n'est pas lu
+     */
+    @ExceptionHandler(MediaUploadException.class)
+    public ResponseEntity<ErrorResponse> rejected(MediaUploadException e) {
+        return ResponseEntity.status(e.status())
+            .body(new ErrorResponse(e.error(), e.getMessage(), timestampClock.now()));
+    }
+}
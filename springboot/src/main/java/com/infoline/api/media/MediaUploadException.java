@@ -0,0 +1,43 @@
+package com.infoline.api.media;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Envoi de média refusé (corps multipart invalide, fichier trop gros,
+ * type non accepté, empreinte différente)
+ *
+ * Levée pendant la lecture du corps : la réponse d'erreur part sans
+ * attendre la fin de l'envoi.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public class MediaUploadException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final String error;
+
+    public MediaUploadException(HttpStatus status, String error, String message) {
+        super(message);
+        this.status = status;
+        this.error = error;
+    }
+
+    static MediaUploadException malformed(String message) {
+        return new MediaUploadException(HttpStatus.BAD_REQUEST, "Invalid multipart", message);
+    }
+
+    /**
+     * @return Statut HTTP de la réponse
+     */
+    public HttpStatus status() {
+        return status;
+    }
+
+    /**
+     * @return Type d'erreur ({@code ErrorResponse.error})
+     */
+    public String error() {
+        return error;
+    }
+}
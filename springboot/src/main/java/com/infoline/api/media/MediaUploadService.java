@@ -0,0 +1,223 @@
+package com.infoline.api.media;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Enregistrement des images et pièces jointes d'un article
+ *
+ * Le corps multipart est lu au fil de l'eau ({@link MultipartStream}) :
+ * chaque fichier passe du flux de la requête au stockage objet par
+ * {@code FileChannel.transferFrom}, à travers {@link VerifyingChannel} qui
+ * calcule l'empreinte et refuse un fichier trop gros dès la limite franchie.
+ * La mémoire occupée par un envoi se limite au tampon de lecture.
+ *
+ * Champs du formulaire :
+ * - fichiers (nom de champ libre), de types infoline.media.allowed-types ;
+ * - {@code sha256} (optionnel) : empreinte attendue du fichier qui suit,
+ *   comparée à celle calculée pendant la lecture.
+ *
+ * Clé d'un fichier : {@code articles/<slug>/<sha256>.<extension>} ; un
+ * même fichier renvoyé n'est stocké qu'une fois. Un envoi refusé en cours
+ * de route retire les fichiers qu'il avait déjà ajoutés.
+ *
+ * Métrique : media.upload.bytes (taille des fichiers enregistrés)
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MediaUploadService {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaUploadService.class);
+
+    /** Champ portant l'empreinte attendue du fichier suivant */
+    static final String CHECKSUM_FIELD = "sha256";
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final int MAX_HEADER_BYTES = 8 * 1024;
+    private static final int MAX_FIELD_BYTES = 256;
+
+    /** Extension des clés par type (les autres types acceptés : .bin) */
+    private static final Map<String, String> EXTENSIONS = Map.of(
+        "image/jpeg", "jpg",
+        "image/png", "png",
+        "image/webp", "webp",
+        "image/gif", "gif",
+        "image/avif", "avif",
+        "application/pdf", "pdf");
+
+    private final LocalObjectStorage storage;
+    private final long maxFileBytes;
+    private final long maxRequestBytes;
+    private final int maxFiles;
+    private final Set<String> allowedTypes;
+    private final DistributionSummary uploadedBytes;
+
+    public MediaUploadService(MeterRegistry meterRegistry,
+                              @Value("${infoline.media.directory:data/media}") String directory,
+                              @Value("${infoline.media.max-file-bytes:52428800}") long maxFileBytes,
+                              @Value("${infoline.media.max-request-bytes:209715200}") long maxRequestBytes,
+                              @Value("${infoline.media.max-files:20}") int maxFiles,
+                              @Value("${infoline.media.allowed-types:image/jpeg,image/png,image/webp,image/gif,application/pdf}")
+                              String[] allowedTypes) throws IOException {
+        this.storage = new LocalObjectStorage(Path.of(directory));
+        this.maxFileBytes = maxFileBytes;
+        this.maxRequestBytes = maxRequestBytes;
+        this.maxFiles = maxFiles;
+        this.allowedTypes = Arrays.stream(allowedTypes)
+            .map(MediaUploadService::mediaType)
+            .collect(Collectors.toUnmodifiableSet());
+        this.uploadedBytes = DistributionSummary.builder("media.upload.bytes")
+            .description("Taille des médias enregistrés")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Enregistre les fichiers d'un corps multipart/form-data
+     *
+     * @param article     Slug de l'article (existant)
+     * @param contentType En-tête Content-Type de la requête
+     * @param body        Corps de la requête
+     * @return Fichiers enregistrés
+     * @throws MediaUploadException si l'envoi est refusé (rien n'est gardé)
+     * @throws IOException          si le corps ne peut plus être lu (client parti)
+     */
+    public MediaUpload upload(String article, String contentType, InputStream body) throws IOException {
+        String boundary = MultipartStream.boundary(contentType);
+        if (boundary == null) {
+            throw MediaUploadException.malformed("Content-Type multipart/form-data avec boundary attendu");
+        }
+        MultipartStream parts = new MultipartStream(body, boundary, BUFFER_BYTES, MAX_HEADER_BYTES);
+        List<StoredMedia> items = new ArrayList<>();
+        List<String> created = new ArrayList<>();
+        try {
+            String expected = null;
+            long total = 0;
+            MultipartStream.Part part;
+            while ((part = parts.next()) != null) {
+                if (part.filename() == null) {
+                    if (CHECKSUM_FIELD.equals(part.name())) {
+                        expected = checksum(part);
+                    }
+                    // Autres champs texte ignorés (sautés par next())
+                    continue;
+                }
+                if (items.size() == maxFiles) {
+                    throw new MediaUploadException(HttpStatus.PAYLOAD_TOO_LARGE, "Too many files",
+                        maxFiles + " fichiers au plus par envoi");
+                }
+                StoredMedia media = store(article, part, expected, total, created);
+                items.add(media);
+                total += media.size();
+                expected = null;
+            }
+            if (items.isEmpty()) {
+                throw MediaUploadException.malformed("Aucun fichier dans l'envoi");
+            }
+            return new MediaUpload(article, List.copyOf(items));
+        } catch (IOException | RuntimeException e) {
+            for (String key : created) {
+                deleteQuietly(key);
+            }
+            throw e;
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // MÉTHODES UTILITAIRES
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Écrit un fichier dans le stockage et ajoute sa clé à {@code created}
+     * s'il n'y était pas déjà
+     *
+     * @param previousBytes Octets des fichiers précédents du même envoi
+     */
+    private StoredMedia store(String article, MultipartStream.Part part, String expected, long previousBytes,
+                              List<String> created) throws IOException {
+        String type = mediaType(part.contentType());
+        if (!allowedTypes.contains(type)) {
+            throw new MediaUploadException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Unsupported media type",
+                "Type " + type + " non accepté (" + String.join(", ", allowedTypes) + ")");
+        }
+        long remaining = maxRequestBytes - previousBytes;
+        VerifyingChannel content = remaining < maxFileBytes
+            ? new VerifyingChannel(part.body(), remaining, "Envoi de plus de " + maxRequestBytes + " octets")
+            : new VerifyingChannel(part.body(), maxFileBytes,
+                "Fichier " + part.filename() + " de plus de " + maxFileBytes + " octets");
+        try (LocalObjectStorage.Upload upload = storage.begin()) {
+            upload.transferFrom(content);
+            if (content.bytes() == 0) {
+                throw MediaUploadException.malformed("Fichier " + part.filename() + " vide");
+            }
+            String sha256 = content.sha256Hex();
+            if (expected != null && !expected.equals(sha256)) {
+                throw new MediaUploadException(HttpStatus.BAD_REQUEST, "Checksum mismatch",
+                    "Empreinte SHA-256 de " + part.filename() + " différente de celle annoncée");
+            }
+            String key = "articles/" + article + "/" + sha256 + "." + EXTENSIONS.getOrDefault(type, "bin");
+            if (upload.commit(key)) {
+                created.add(key);
+            }
+            uploadedBytes.record(content.bytes());
+            return new StoredMedia(part.name(), part.filename(), key, type, content.bytes(), sha256);
+        }
+    }
+
+    /** Type sans paramètres, en minuscules ; octet-stream si absent */
+    private static String mediaType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return "application/octet-stream";
+        }
+        int semicolon = contentType.indexOf(';');
+        return (semicolon < 0 ? contentType : contentType.substring(0, semicolon)).strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static String checksum(MultipartStream.Part part) throws IOException {
+        ByteBuffer value = ByteBuffer.allocate(MAX_FIELD_BYTES + 1);
+        while (value.hasRemaining()) {
+            if (part.body().read(value) < 0) {
+                break;
+            }
+        }
+        value.flip();
+        String hex = StandardCharsets.US_ASCII.decode(value).toString().strip().toLowerCase(Locale.ROOT);
+        if (!SHA256_HEX.matcher(hex).matches()) {
+            throw MediaUploadException.malformed("Champ " + CHECKSUM_FIELD + " : 64 caractères hexadécimaux attendus");
+        }
+        return hex;
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            storage.delete(key);
+        } catch (IOException e) {
+            log.warn("Suppression du média {} impossible : {}", key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package com.infoline.api.media;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Lecture au fil de l'eau d'un corps multipart/form-data (RFC 7578)
+ *
+ * Les parties sont rendues une à une, dans l'ordre d'arrivée ; le contenu
+ * de chacune est un canal lu directement depuis le flux de la requête,
+ * jusqu'au délimiteur, à travers un tampon fixe. Rien n'est écrit sur disque
+ * ni gardé en mémoire au-delà de ce tampon, quelle que soit la taille des
+ * fichiers envoyés.
+ *
+ * <pre>
+ * --boundary\r\n
+ * Content-Disposition: form-data; name="file"; filename="photo.jpg"\r\n
+ * Content-Type: image/jpeg\r\n
+ * \r\n
+ * ...octets...\r\n
+ * --boundary--\r\n
+ * </pre>
+ *
+ * Passer à la partie suivante saute ce qui reste de la précédente.
+ * Un corps mal formé lève {@link MediaUploadException} (400).
+ *
+ * Non thread-safe : une instance par requête.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class MultipartStream {
+
+    /** Longueur maximale d'un boundary (RFC 2046) */
+    private static final int MAX_BOUNDARY = 70;
+
+    private final InputStream in;
+    private final byte[] delimiter;
+    private final byte[] buffer;
+    private final int maxHeaderBytes;
+    private int position;
+    private int limit;
+    private boolean eof;
+    private boolean started;
+    private boolean finished;
+    private PartChannel current;
+
+    /**
+     * @param in             Corps de la requête
+     * @param boundary       Séparateur (paramètre boundary du Content-Type)
+     * @param bufferBytes    Taille du tampon de lecture
+     * @param maxHeaderBytes Taille maximale des en-têtes d'une partie
+     */
+    MultipartStream(InputStream in, String boundary, int bufferBytes, int maxHeaderBytes) {
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.US_ASCII);
+        this.buffer = new byte[Math.max(bufferBytes, Math.max(maxHeaderBytes, delimiter.length) + 1)];
+        this.maxHeaderBytes = maxHeaderBytes;
+    }
+
+    /**
+     * Extrait le séparateur d'un Content-Type multipart
+     *
+     * @param contentType En-tête Content-Type de la requête
+     * @return Séparateur, null si absent ou invalide
+     */
+    static String boundary(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/form-data")) {
+            return null;
+        }
+        String boundary = parameters(contentType).get("boundary");
+        if (boundary == null || boundary.isEmpty() || boundary.length() > MAX_BOUNDARY) {
+            return null;
+        }
+        for (int i = 0; i < boundary.length(); i++) {
+            if (boundary.charAt(i) > 0x7e || boundary.charAt(i) < 0x20) {
+                return null;
+            }
+        }
+        return boundary;
+    }
+
+    /**
+     * @return Partie suivante, null après le délimiteur final
+     * @throws IOException si le flux ne peut plus être lu (client parti)
+     */
+    Part next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        if (!started) {
+            skipPreamble();
+            started = true;
+        } else {
+            current.skip();
+        }
+        if (!afterDelimiter()) {
+            finished = true;
+            return null;
+        }
+
+        Map<String, String> headers = readHeaders();
+        Map<String, String> disposition = parameters(headers.getOrDefault("content-disposition", ""));
+        String name = disposition.get("name");
+        if (name == null) {
+            throw MediaUploadException.malformed("Partie sans Content-Disposition: form-data; name=...");
+        }
+        current = new PartChannel();
+        return new Part(name, disposition.get("filename"), headers.get("content-type"), current);
+    }
+
+    /**
+     * Partie du corps
+     *
+     * @param name        Nom du champ
+     * @param filename    Nom du fichier côté client, null pour un champ texte
+     * @param contentType Type déclaré, null si absent
+     * @param body        Contenu (fin de lecture = délimiteur suivant)
+     */
+    record Part(String name, String filename, String contentType, ReadableByteChannel body) {
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // DÉLIMITEURS
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Saute le préambule : le premier délimiteur peut ouvrir le corps (sans
+     * CRLF devant) ou suivre un texte ignoré
+     */
+    private void skipPreamble() throws IOException {
+        int length = delimiter.length - 2;
+        fill(length);
+        if (limit - position >= length && matches(position, 2, delimiter.length)) {
+            position += length;
+            return;
+        }
+        while (true) {
+            int available = available();
+            if (available == 0) {
+                position += delimiter.length;
+                return;
+            }
+            position += available;
+        }
+    }
+
+    /**
+     * Lit la fin de ligne du délimiteur
+     *
+     * @return false pour le délimiteur final (--boundary--)
+     */
+    private boolean afterDelimiter() throws IOException {
+        fill(2);
+        if (limit - position >= 2 && buffer[position] == '-' && buffer[position + 1] == '-') {
+            // Épilogue ignoré, sans être lu
+            return false;
+        }
+        if (!readLine(maxHeaderBytes).isBlank()) {
+            throw MediaUploadException.malformed("Délimiteur suivi de caractères inattendus");
+        }
+        return true;
+    }
+
+    /**
+     * Contenu disponible avant le prochain délimiteur
+     *
+     * @return Nombre d'octets lisibles à partir de position (0 : délimiteur
+     *         en position ; sinon, octets qui ne peuvent pas en faire partie)
+     */
+    private int available() throws IOException {
+        if (limit - position < delimiter.length) {
+            fill(delimiter.length);
+        }
+        int found = indexOfDelimiter();
+        if (found >= 0) {
+            return found - position;
+        }
+        if (eof) {
+            throw MediaUploadException.malformed("Corps interrompu avant le délimiteur final");
+        }
+        // La fin du tampon peut être le début d'un délimiteur
+        return limit - position - (delimiter.length - 1);
+    }
+
+    private int indexOfDelimiter() {
+        int last = limit - delimiter.length;
+        for (int i = position; i <= last; i++) {
+            if (buffer[i] == '\r' && matches(i, 0, delimiter.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** buffer[at..] égal à delimiter[from..to[ */
+    private boolean matches(int at, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer[at + i - from] != delimiter[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compacte le tampon et lit jusqu'à avoir {@code need} octets disponibles
+     * (moins en fin de flux)
+     */
+    private void fill(int need) throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        while (limit < need && !eof) {
+            int read = in.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                eof = true;
+            } else {
+                limit += read;
+            }
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // EN-TÊTES
+    // ═══════════════════════════════════════════════════════════════
+
+    private Map<String, String> readHeaders() throws IOException {
+        Map<String, String> headers = new HashMap<>();
+        int budget = maxHeaderBytes;
+        while (true) {
+            String line = readLine(budget);
+            budget -= line.getBytes(StandardCharsets.UTF_8).length + 2;
+            if (line.isEmpty()) {
+                return headers;
+            }
+            int colon = line.indexOf(':');
+            if (colon <= 0 || budget <= 0) {
+                throw MediaUploadException.malformed(colon <= 0
+                    ? "En-tête de partie illisible"
+                    : "En-têtes de partie de plus de " + maxHeaderBytes + " octets");
+            }
+            headers.put(line.substring(0, colon).strip().toLowerCase(Locale.ROOT), line.substring(colon + 1).strip());
+        }
+    }
+
+    /**
+     * @param max Longueur maximale de la ligne
+     * @return Ligne sans CRLF (UTF-8 : noms de fichiers des navigateurs)
+     */
+    private String readLine(int max) throws IOException {
+        int searched = position;
+        while (true) {
+            for (int i = searched; i + 1 < limit; i++) {
+                if (buffer[i] == '\r' && buffer[i + 1] == '\n') {
+                    String line = new String(buffer, position, i - position, StandardCharsets.UTF_8);
+                    position = i + 2;
+                    return line;
+                }
+            }
+            if (limit - position >= max || eof) {
+                throw MediaUploadException.malformed(eof
+                    ? "Corps interrompu dans les en-têtes d'une partie"
+                    : "En-têtes de partie de plus de " + maxHeaderBytes + " octets");
+            }
+            int offset = Math.max(0, limit - 1 - position);
+            fill(limit - position + 1);
+            searched = position + offset;
+        }
+    }
+
+    /**
+     * Paramètres d'un en-tête ({@code a=b; c="d"}), noms en minuscules
+     */
+    private static Map<String, String> parameters(String header) {
+        Map<String, String> parameters = new HashMap<>();
+        int i = header.indexOf(';');
+        while (i >= 0 && i < header.length()) {
+            int equals = header.indexOf('=', i);
+            if (equals < 0) {
+                break;
+            }
+            String name = header.substring(i + 1, equals).strip().toLowerCase(Locale.ROOT);
+            int start = equals + 1;
+            String value;
+            if (start < header.length() && header.charAt(start) == '"') {
+                StringBuilder quoted = new StringBuilder();
+                int j = start + 1;
+                while (j < header.length() && header.charAt(j) != '"') {
+                    char c = header.charAt(j);
+                    if (c == '\\' && j + 1 < header.length()) {
+                        c = header.charAt(++j);
+                    }
+                    quoted.append(c);
+                    j++;
+                }
+                value = quoted.toString();
+                i = header.indexOf(';', j);
+            } else {
+                int end = header.indexOf(';', start);
+                value = header.substring(start, end < 0 ? header.length() : end).strip();
+                i = end;
+            }
+            parameters.putIfAbsent(name, value);
+        }
+        return parameters;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // CONTENU D'UNE PARTIE
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Contenu de la partie courante, lu jusqu'au délimiteur suivant
+     */
+    private final class PartChannel implements ReadableByteChannel {
+
+        private boolean ended;
+
+        @Override
+        public int read(ByteBuffer target) throws IOException {
+            if (ended || current != this) {
+                return -1;
+            }
+            int available = available();
+            if (available == 0) {
+                position += delimiter.length;
+                ended = true;
+                return -1;
+            }
+            int count = Math.min(available, target.remaining());
+            target.put(buffer, position, count);
+            position += count;
+            return count;
+        }
+
+        /** Saute le reste du contenu, sans copie */
+        void skip() throws IOException {
+            while (!ended) {
+                int available = available();
+                if (available == 0) {
+                    position += delimiter.length;
+                    ended = true;
+                } else {
+                    position += available;
+                }
+            }
+        }
+
+        /**
+         * Reste ouvert après le délimiteur (read rend -1) : transferFrom
+         * refuse un canal fermé
+         */
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // Le flux de la requête reste ouvert pour les parties suivantes
+        }
+    }
+}
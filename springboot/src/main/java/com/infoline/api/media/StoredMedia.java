@@ -0,0 +1,17 @@
+package com.infoline.api.media;
+
+/**
+ * Fichier enregistré par POST /api/v1/articles/{slug}/media
+ *
+ * @param field       Nom du champ du formulaire
+ * @param filename    Nom du fichier côté client
+ * @param key         Clé dans le stockage objet (dérivée du contenu)
+ * @param contentType Type du fichier
+ * @param size        Taille en octets
+ * @param sha256      Empreinte SHA-256 (hexadécimal)
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record StoredMedia(String field, String filename, String key, String contentType, long size, String sha256) {
+}
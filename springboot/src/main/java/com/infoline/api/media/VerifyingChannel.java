@@ -0,0 +1,91 @@
+package com.infoline.api.media;
+
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Canal qui calcule l'empreinte SHA-256 et compte les octets au passage
+ *
+ * La taille est contrôlée à chaque lecture : un fichier trop gros est
+ * refusé (413) dès que la limite est franchie, sans attendre la fin de
+ * l'envoi ni écrire le reste.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class VerifyingChannel implements ReadableByteChannel {
+
+    private final ReadableByteChannel source;
+    private final long maxBytes;
+    private final String tooLarge;
+    private final MessageDigest digest;
+    private long bytes;
+
+    /**
+     * @param source   Contenu à vérifier
+     * @param maxBytes Taille maximale admise
+     * @param tooLarge Message du refus (413) au-delà
+     */
+    VerifyingChannel(ReadableByteChannel source, long maxBytes, String tooLarge) {
+        this.source = source;
+        this.maxBytes = maxBytes;
+        this.tooLarge = tooLarge;
+        this.digest = sha256();
+    }
+
+    @Override
+    public int read(ByteBuffer target) throws IOException {
+        int start = target.position();
+        int read = source.read(target);
+        if (read > 0) {
+            bytes += read;
+            if (bytes > maxBytes) {
+                throw new MediaUploadException(HttpStatus.PAYLOAD_TOO_LARGE, "Payload too large", tooLarge);
+            }
+            ByteBuffer chunk = target.duplicate();
+            chunk.limit(start + read).position(start);
+            digest.update(chunk);
+        }
+        return read;
+    }
+
+    /**
+     * @return Octets lus jusqu'ici
+     */
+    long bytes() {
+        return bytes;
+    }
+
+    /**
+     * @return Empreinte SHA-256 du contenu lu (hexadécimal, minuscules) ;
+     *         à appeler une fois la lecture terminée
+     */
+    String sha256Hex() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @Override
+    public boolean isOpen() {
+        return source.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Algorithme exigé de toute JVM
+            throw new IllegalStateException(e);
+        }
+    }
+}
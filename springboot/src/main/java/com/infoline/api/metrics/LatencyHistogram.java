@@ -0,0 +1,169 @@
+package com.infoline.api.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramme de latence à buckets fixes (inspiré d'HdrHistogram)
+ *
+ * Découpage log-linéaire en microsecondes :
+ * - 0 à 127 µs : un bucket par microseconde
+ * - au-delà : 64 sous-buckets par puissance de 2 (erreur relative < 1,6 %)
+ *
+ * La taille est fixe (≈ 16 Ko) quel que soit le volume enregistré.
+ * L'enregistrement est sans verrou et sans allocation :
+ * un incrément atomique sur le tableau + deux accumulateurs.
+ *
+ * Les valeurs sont cumulées depuis le démarrage de l'application.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR_BITS = 7;
+    private static final int LINEAR_COUNT = 1 << LINEAR_BITS;       // 128
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS; // 64
+
+    /** Plus grande magnitude suivie : 2^37 µs ≈ 38 heures */
+    private static final int MAX_MAGNITUDE = 37;
+
+    static final int BUCKET_COUNT = LINEAR_COUNT + (MAX_MAGNITUDE - LINEAR_BITS + 1) * SUB_BUCKET_COUNT;
+
+    /** Valeur maximale enregistrable (les valeurs supérieures sont écrêtées) */
+    static final long MAX_TRACKABLE_MICROS = (1L << (MAX_MAGNITUDE + 1)) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    // ═══════════════════════════════════════════════════════════════
+    // ENREGISTREMENT
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Enregistre une durée
+     *
+     * @param micros Durée en microsecondes (les valeurs négatives comptent pour 0)
+     */
+    public void record(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_TRACKABLE_MICROS);
+        counts.incrementAndGet(bucketIndex(value));
+        totalMicros.add(value);
+        maxMicros.accumulate(value);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_COUNT) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) ((value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+        return LINEAR_COUNT + (magnitude - LINEAR_BITS) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Plus grande valeur couverte par un bucket (valeur "équivalente" rapportée)
+     */
+    static long highestValueInBucket(int index) {
+        if (index < LINEAR_COUNT) {
+            return index;
+        }
+        int offset = index - LINEAR_COUNT;
+        int magnitude = LINEAR_BITS + offset / SUB_BUCKET_COUNT;
+        long subBucket = offset % SUB_BUCKET_COUNT;
+        int shift = magnitude - SUB_BUCKET_BITS;
+        long lowest = (1L << magnitude) | (subBucket << shift);
+        return lowest + (1L << shift) - 1;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // LECTURE
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * @return Nombre total de valeurs enregistrées
+     */
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * @return Somme des durées enregistrées (µs)
+     */
+    public long totalMicros() {
+        return totalMicros.sum();
+    }
+
+    /**
+     * @return Durée maximale enregistrée (µs)
+     */
+    public long maxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * Calcule la valeur au percentile demandé
+     *
+     * @param percentile Percentile entre 0 et 100 (ex: 99.9)
+     * @return Valeur en µs (0 si l'histogramme est vide)
+     */
+    public long valueAtPercentile(double percentile) {
+        return valueAtPercentile(copyCounts(), percentile);
+    }
+
+    /**
+     * Photographie cohérente des percentiles usuels (une seule copie du tableau)
+     *
+     * @return Snapshot p50/p90/p99/p999/max
+     */
+    public LatencySnapshot snapshot() {
+        long[] copy = copyCounts();
+        long count = 0;
+        for (long c : copy) {
+            count += c;
+        }
+        return new LatencySnapshot(
+            count,
+            valueAtPercentile(copy, 50.0),
+            valueAtPercentile(copy, 90.0),
+            valueAtPercentile(copy, 99.0),
+            valueAtPercentile(copy, 99.9),
+            maxMicros()
+        );
+    }
+
+    private long[] copyCounts() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return copy;
+    }
+
+    private long valueAtPercentile(long[] snapshot, double percentile) {
+        long count = 0;
+        for (long c : snapshot) {
+            count += c;
+        }
+        if (count == 0) {
+            return 0;
+        }
+        double clamped = Math.min(Math.max(percentile, 0.0), 100.0);
+        long target = Math.max(1, (long) Math.ceil(clamped / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(highestValueInBucket(i), maxMicros());
+            }
+        }
+        return maxMicros();
+    }
+}
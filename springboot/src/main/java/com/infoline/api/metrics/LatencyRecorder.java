@@ -0,0 +1,143 @@
+package com.infoline.api.metrics;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registre des histogrammes de latence par route
+ *
+ * Un {@link LatencyHistogram} est créé au démarrage pour chaque
+ * {@code @GetMapping} de l'application ; les routes inconnues (actuator,
+ * 404...) sont ignorées, ce qui borne la mémoire et rend l'enregistrement
+ * sans allocation.
+ *
+ * Les histogrammes sont exposés :
+ * - dans le payload de /api/v1/status (p50/p90/p99/p999/max)
+ * - comme timers Micrometer pour /actuator/prometheus
+ *   ("infoline.http.latency" et "infoline.http.latency.percentile")
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+public class LatencyRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(LatencyRecorder.class);
+
+    static final String TIMER_NAME = "infoline.http.latency";
+    static final String PERCENTILE_NAME = "infoline.http.latency.percentile";
+
+    private static final String APPLICATION_PACKAGE = "com.infoline.api";
+    private static final String MVC_HANDLER_MAPPING = "requestMappingHandlerMapping";
+    private static final double[] PUBLISHED_PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public LatencyRecorder(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Enregistre les routes GET Spring MVC une fois le contexte prêt
+     * (le HandlerMapping n'est pas injecté directement : ce composant est
+     * requis par un filtre servlet, instancié avant Spring MVC).
+     * En mode WebFlux, les routes sont déclarées par le routeur via {@link #register(String)}.
+     */
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        if (!context.containsBean(MVC_HANDLER_MAPPING)
+                || !context.isTypeMatch(MVC_HANDLER_MAPPING, RequestMappingHandlerMapping.class)) {
+            return;
+        }
+        RequestMappingHandlerMapping mapping = context.getBean(MVC_HANDLER_MAPPING, RequestMappingHandlerMapping.class);
+
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : mapping.getHandlerMethods().entrySet()) {
+            HandlerMethod handler = entry.getValue();
+            if (handler.getBeanType().getName().startsWith(APPLICATION_PACKAGE)
+                    && handler.hasMethodAnnotation(GetMapping.class)) {
+                entry.getKey().getPatternValues().forEach(this::register);
+            }
+        }
+        log.debug("Histogrammes de latence actifs pour {} routes", histograms.size());
+    }
+
+    /**
+     * Déclare une route et publie ses métriques Micrometer
+     *
+     * @param route Pattern de la route (ex: "/api/v1/health")
+     * @return Histogramme associé
+     */
+    public LatencyHistogram register(String route) {
+        return histograms.computeIfAbsent(route, key -> {
+            LatencyHistogram histogram = new LatencyHistogram();
+
+            FunctionTimer.builder(TIMER_NAME, histogram,
+                    LatencyHistogram::count, LatencyHistogram::totalMicros, TimeUnit.MICROSECONDS)
+                .description("Latence des routes GET InfoLine (histogramme à buckets fixes)")
+                .tag("uri", key)
+                .register(meterRegistry);
+
+            for (double percentile : PUBLISHED_PERCENTILES) {
+                TimeGauge.builder(PERCENTILE_NAME, histogram, TimeUnit.MICROSECONDS,
+                        h -> h.valueAtPercentile(percentile))
+                    .tag("uri", key)
+                    .tag("quantile", String.valueOf(percentile / 100.0))
+                    .register(meterRegistry);
+            }
+            TimeGauge.builder(PERCENTILE_NAME, histogram, TimeUnit.MICROSECONDS, LatencyHistogram::maxMicros)
+                .tag("uri", key)
+                .tag("quantile", "1.0")
+                .register(meterRegistry);
+
+            return histogram;
+        });
+    }
+
+    /**
+     * Enregistre la durée d'une requête (ignorée si la route n'est pas suivie)
+     *
+     * @param route  Pattern de la route, null si non résolu
+     * @param micros Durée en microsecondes
+     */
+    public void record(String route, long micros) {
+        if (route == null) {
+            return;
+        }
+        LatencyHistogram histogram = histograms.get(route);
+        if (histogram != null) {
+            histogram.record(micros);
+        }
+    }
+
+    /**
+     * @return Percentiles par route, triés par route (routes jamais appelées exclues)
+     */
+    public Map<String, LatencySnapshot> snapshots() {
+        Map<String, LatencySnapshot> snapshot = new TreeMap<>();
+        histograms.forEach((route, histogram) -> {
+            LatencySnapshot latency = histogram.snapshot();
+            if (latency.count() > 0) {
+                snapshot.put(route, latency);
+            }
+        });
+        return snapshot;
+    }
+}
@@ -0,0 +1,24 @@
+package com.infoline.api.metrics;
+
+/**
+ * Photographie des percentiles d'un {@link LatencyHistogram}
+ *
+ * Toutes les durées sont en microsecondes.
+ *
+ * @param count Nombre de requêtes mesurées
+ * @param p50   Médiane
+ * @param p90   90e percentile
+ * @param p99   99e percentile
+ * @param p999  99,9e percentile
+ * @param max   Durée maximale observée
+ */
+public record LatencySnapshot(long count, long p50, long p90, long p99, long p999, long max) {
+
+    /**
+     * @param micros Durée en microsecondes
+     * @return Durée en millisecondes (format de /api/v1/status)
+     */
+    public static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
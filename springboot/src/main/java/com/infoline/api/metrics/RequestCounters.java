@@ -0,0 +1,140 @@
+package com.infoline.api.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compteurs de requêtes HTTP sans verrou
+ *
+ * Alimente les statistiques de l'endpoint /api/v1/status :
+ * - total des requêtes traitées
+ * - requêtes en cours (jauge "activeConnections")
+ * - répartition par endpoint (pattern Spring MVC) et par code HTTP
+ *
+ * Tous les compteurs sont des {@link LongAdder} (cellules réparties par thread),
+ * ce qui évite la contention sous forte charge. Une fois un endpoint enregistré,
+ * l'enregistrement d'une requête n'alloue aucun objet.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+public class RequestCounters {
+
+    /** Clé utilisée quand aucun pattern n'a été résolu (404, ressources statiques) */
+    public static final String UNMAPPED = "UNMAPPED";
+
+    /** Clé de repli quand le nombre d'endpoints distincts dépasse la limite */
+    public static final String OTHER = "OTHER";
+
+    /** Borne le nombre d'endpoints suivis (protège contre une cardinalité non maîtrisée) */
+    static final int MAX_ENDPOINTS = 256;
+
+    private static final int MIN_STATUS = 100;
+    private static final int MAX_STATUS = 599;
+
+    private final LongAdder total = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> byEndpoint = new ConcurrentHashMap<>();
+    private final LongAdder[] byStatus = new LongAdder[MAX_STATUS - MIN_STATUS + 1];
+
+    public RequestCounters() {
+        // Pré-allocation de tous les compteurs de codes HTTP : aucune allocation à l'enregistrement
+        for (int i = 0; i < byStatus.length; i++) {
+            byStatus[i] = new LongAdder();
+        }
+        byEndpoint.put(UNMAPPED, new LongAdder());
+        byEndpoint.put(OTHER, new LongAdder());
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // ENREGISTREMENT (chemin de la requête)
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Signale le début d'une requête (incrémente la jauge en cours)
+     */
+    public void requestStarted() {
+        inFlight.increment();
+    }
+
+    /**
+     * Signale la fin d'une requête
+     *
+     * @param endpoint Pattern de l'endpoint (ex: "/api/v1/health"), null si non résolu
+     * @param status   Code HTTP de la réponse
+     */
+    public void requestCompleted(String endpoint, int status) {
+        inFlight.decrement();
+        total.increment();
+        endpointCounter(endpoint).increment();
+        if (status >= MIN_STATUS && status <= MAX_STATUS) {
+            byStatus[status - MIN_STATUS].increment();
+        }
+    }
+
+    private LongAdder endpointCounter(String endpoint) {
+        if (endpoint == null) {
+            return byEndpoint.get(UNMAPPED);
+        }
+        LongAdder counter = byEndpoint.get(endpoint);
+        if (counter != null) {
+            return counter;
+        }
+        // Premier passage sur cet endpoint : seule allocation, bornée par MAX_ENDPOINTS
+        if (byEndpoint.size() >= MAX_ENDPOINTS) {
+            return byEndpoint.get(OTHER);
+        }
+        return byEndpoint.computeIfAbsent(endpoint, key -> new LongAdder());
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // LECTURE (endpoint /status)
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * @return Nombre total de requêtes terminées
+     */
+    public long totalRequests() {
+        return total.sum();
+    }
+
+    /**
+     * @return Nombre de requêtes en cours de traitement
+     */
+    public long activeRequests() {
+        return Math.max(0, inFlight.sum());
+    }
+
+    /**
+     * @return Nombre de requêtes par endpoint (trié, sans les entrées à zéro)
+     */
+    public Map<String, Long> requestsByEndpoint() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        byEndpoint.forEach((endpoint, counter) -> {
+            long count = counter.sum();
+            if (count > 0) {
+                snapshot.put(endpoint, count);
+            }
+        });
+        return snapshot;
+    }
+
+    /**
+     * @return Nombre de réponses par code HTTP (trié, sans les entrées à zéro)
+     */
+    public Map<String, Long> requestsByStatus() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        for (int i = 0; i < byStatus.length; i++) {
+            long count = byStatus[i].sum();
+            if (count > 0) {
+                snapshot.put(String.valueOf(i + MIN_STATUS), count);
+            }
+        }
+        return snapshot;
+    }
+}
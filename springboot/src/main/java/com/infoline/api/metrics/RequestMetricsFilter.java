@@ -0,0 +1,132 @@
+package com.infoline.api.metrics;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Filtre servlet qui alimente {@link RequestCounters} et {@link LatencyRecorder}
+ *
+ * Placé en tête de chaîne pour mesurer toutes les requêtes, y compris
+ * celles rejetées par les filtres suivants. Seul le dispatch REQUEST est
+ * compté (les dispatchs ERROR/ASYNC ne doublent pas les compteurs).
+ * Une requête passée en mode asynchrone reste active jusqu'à sa fin
+ * réelle (AsyncListener), et non jusqu'au retour du premier dispatch.
+ *
+ * L'endpoint est identifié par le pattern résolu par Spring MVC
+ * (ex: "/api/v1/test/slow") et non par l'URL brute, afin de garder
+ * une cardinalité bornée.
+ *
+ * Équivalent WebFlux : {@code ReactiveRequestMetricsFilter}.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RequestMetricsFilter implements Filter {
+
+    private final RequestCounters counters;
+    private final LatencyRecorder latencyRecorder;
+
+    public RequestMetricsFilter(RequestCounters counters, LatencyRecorder latencyRecorder) {
+        this.counters = counters;
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        counters.requestStarted();
+        long start = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // Réponse écrite plus tard (ex: /api/v1/stream) : mesurée à la fin de la requête asynchrone
+                request.getAsyncContext().addListener(new CompletionListener(httpRequest, httpResponse, start));
+                async = true;
+            } else {
+                status = httpResponse.getStatus();
+            }
+        } finally {
+            if (!async) {
+                completed(httpRequest, status, start);
+            }
+        }
+    }
+
+    private void completed(HttpServletRequest request, int status, long start) {
+        String endpoint = resolveEndpoint(request);
+        counters.requestCompleted(endpoint, status);
+        latencyRecorder.record(endpoint, (System.nanoTime() - start) / 1_000);
+    }
+
+    /**
+     * Lit le pattern positionné par le HandlerMapping (aucune allocation)
+     */
+    private static String resolveEndpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern instanceof String ? (String) pattern : null;
+    }
+
+    /**
+     * Fin d'une requête asynchrone : onComplete est appelé dans tous les cas
+     * (complete(), expiration, erreur), une seule fois
+     */
+    private final class CompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long start;
+
+        private CompletionListener(HttpServletRequest request, HttpServletResponse response, long start) {
+            this.request = request;
+            this.response = response;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            completed(request, response.getStatus(), start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Nouveau cycle asynchrone (startAsync pendant un dispatch ASYNC) : rester inscrit
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
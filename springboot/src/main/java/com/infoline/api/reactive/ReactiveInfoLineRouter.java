@@ -0,0 +1,176 @@
+package com.infoline.api.reactive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.infoline.api.InfoLineResponses;
+import com.infoline.api.metrics.LatencyRecorder;
+import com.infoline.api.stream.LiveEventHub;
+import com.infoline.api.stream.StreamFormat;
+import com.infoline.api.stream.StreamFrame;
+import com.infoline.api.web.JsonOutputMode;
+import com.infoline.api.web.ResourceVersion;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Variante WebFlux/Netty des endpoints d'{@code InfoLineController}
+ *
+ * Active quand l'application démarre en mode réactif, c'est-à-dire avec
+ * le profil Spring "reactive" (voir application-reactive.properties) :
+ *   SPRING_PROFILES_ACTIVE=prod,reactive
+ *
+ * Les payloads sont produits par {@link InfoLineResponses}, identiques au
+ * mode Servlet (y compris le format compact/indenté de {@link JsonOutputMode}).
+ * Différence notable : /test/slow s'appuie sur un timer ({@code Mono.delay})
+ * au lieu de bloquer un thread, ce qui permet de garder des milliers de
+ * requêtes lentes en vol sur quelques event loops.
+ *
+ * / et /info sont conditionnels (If-None-Match / If-Modified-Since),
+ * comme en mode Servlet : 304 sans rendu du corps si le client est à jour.
+ *
+ * /stream diffuse les trames de {@link LiveEventHub} : tampon borné par
+ * abonné avec perte des plus anciennes (onBackpressureBuffer DROP_OLDEST),
+ * octets de la trame partagés entre tous les abonnés.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveInfoLineRouter {
+
+    private static final String API_PREFIX = "/api/v1";
+    private static final int DEFAULT_SLOW_DELAY_MS = 2000;
+
+    private static final List<String> GET_ROUTES = List.of(
+        API_PREFIX + "/",
+        API_PREFIX + "/health",
+        API_PREFIX + "/info",
+        API_PREFIX + "/status",
+        API_PREFIX + "/test/error",
+        API_PREFIX + "/test/slow",
+        API_PREFIX + "/stream"
+    );
+
+    /**
+     * Force Netty : Tomcat est aussi présent sur le classpath (mode Servlet)
+     * et serait sinon préféré par l'auto-configuration réactive
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> infoLineRoutes(InfoLineResponses responses,
+                                                        JsonOutputMode outputMode,
+                                                        LatencyRecorder latencyRecorder,
+                                                        LiveEventHub hub) {
+        GET_ROUTES.forEach(latencyRecorder::register);
+
+        return RouterFunctions.route()
+            .GET(API_PREFIX + "/", request -> conditional(request, outputMode,
+                responses::homeVersion, responses::home))
+            .GET(API_PREFIX + "/health", request -> json(request, outputMode, HttpStatus.OK, responses.health()))
+            .GET(API_PREFIX + "/info", request -> conditional(request, outputMode,
+                responses::infoVersion, responses::info))
+            .GET(API_PREFIX + "/status", request -> json(request, outputMode, HttpStatus.OK, responses.status()))
+            .GET(API_PREFIX + "/test/error",
+                request -> json(request, outputMode, HttpStatus.INTERNAL_SERVER_ERROR, responses.testError()))
+            .GET(API_PREFIX + "/test/slow", request -> testSlow(request, outputMode, responses))
+            .GET(API_PREFIX + "/stream", request -> stream(request, hub))
+            .build();
+    }
+
+    /**
+     * /test/slow non bloquant : le délai est un timer Reactor, aucun thread n'est parqué
+     */
+    private static Mono<ServerResponse> testSlow(ServerRequest request, JsonOutputMode outputMode,
+                                                 InfoLineResponses responses) {
+        int delay;
+        try {
+            delay = request.queryParam("delay").map(Integer::parseInt).orElse(DEFAULT_SLOW_DELAY_MS);
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+
+        return Mono.delay(Duration.ofMillis(delay))
+            .flatMap(tick -> json(request, outputMode, HttpStatus.OK, responses.testSlow(delay)));
+    }
+
+    /**
+     * Flux en direct : SSE ou NDJSON selon Accept, aucune sérialisation par abonné
+     */
+    private static Mono<ServerResponse> stream(ServerRequest request, LiveEventHub hub) {
+        StreamFormat format = StreamFormat.negotiate(request.headers().firstHeader(HttpHeaders.ACCEPT));
+        Flux<DataBuffer> frames = Flux.<StreamFrame>create(sink -> {
+                LiveEventHub.Subscription subscription = hub.subscribe(sink::next);
+                sink.onDispose(subscription::close);
+            })
+            .onBackpressureBuffer(hub.bufferSize(), dropped -> hub.recordDropped(), BufferOverflowStrategy.DROP_OLDEST)
+            .map(frame -> DefaultDataBufferFactory.sharedInstance.wrap(frame.bytes(format)));
+
+        return ServerResponse.ok()
+            .contentType(format.mediaType())
+            .cacheControl(CacheControl.noStore())
+            .header("X-Accel-Buffering", "no")
+            .body(frames, DataBuffer.class);
+    }
+
+    /**
+     * Réponse pré-sérialisée conditionnelle : les validateurs sont comparés
+     * avant le rendu, un client à jour reçoit un 304 sans corps. L'ETag est
+     * repris tel quel (faible pour home et info, dont le timestamp varie)
+     */
+    private static Mono<ServerResponse> conditional(ServerRequest request, JsonOutputMode outputMode,
+                                                    Function<Boolean, ResourceVersion> version,
+                                                    Function<Boolean, byte[]> body) {
+        boolean pretty = isPretty(request, outputMode);
+        ResourceVersion current = version.apply(pretty);
+        return request.checkNotModified(current.lastModified(), current.etag())
+            .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                .eTag(current.etag())
+                .lastModified(current.lastModified())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body.apply(pretty))));
+    }
+
+    private static boolean isPretty(ServerRequest request, JsonOutputMode outputMode) {
+        return outputMode.isPretty(request.queryParam(JsonOutputMode.PRETTY_PARAM).orElse(null));
+    }
+
+    private static Mono<ServerResponse> json(HttpStatus status, byte[] body) {
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+    }
+
+    /**
+     * Sérialise avec le writer compact ou indenté selon la requête
+     */
+    private static Mono<ServerResponse> json(ServerRequest request, JsonOutputMode outputMode,
+                                             HttpStatus status, Object body) {
+        try {
+            return json(status, outputMode.writer(isPretty(request, outputMode)).writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.infoline.api.reactive;
+
+import com.infoline.api.metrics.LatencyRecorder;
+import com.infoline.api.metrics.RequestCounters;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Équivalent WebFlux de {@code RequestMetricsFilter}
+ *
+ * Alimente les mêmes {@link RequestCounters} et {@link LatencyRecorder},
+ * de sorte que /api/v1/status reste identique dans les deux modes.
+ * La requête est considérée terminée à la fin du flux de réponse
+ * (y compris annulation par le client).
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRequestMetricsFilter implements WebFilter {
+
+    private final RequestCounters counters;
+    private final LatencyRecorder latencyRecorder;
+
+    public ReactiveRequestMetricsFilter(RequestCounters counters, LatencyRecorder latencyRecorder) {
+        this.counters = counters;
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        counters.requestStarted();
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+            .doFinally(signal -> {
+                String endpoint = resolveEndpoint(exchange);
+                counters.requestCompleted(endpoint, resolveStatus(exchange, signal));
+                latencyRecorder.record(endpoint, (System.nanoTime() - start) / 1_000);
+            });
+    }
+
+    private static String resolveEndpoint(ServerWebExchange exchange) {
+        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern instanceof PathPattern ? ((PathPattern) pattern).getPatternString() : null;
+    }
+
+    private static int resolveStatus(ServerWebExchange exchange, SignalType signal) {
+        if (signal == SignalType.ON_ERROR) {
+            return HttpStatus.INTERNAL_SERVER_ERROR.value();
+        }
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status != null ? status.value() : HttpStatus.OK.value();
+    }
+}
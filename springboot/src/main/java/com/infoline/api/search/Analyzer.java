@@ -0,0 +1,129 @@
+package com.infoline.api.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Découpage d'un texte en termes indexables
+ *
+ * 1. normalisation : minuscules, accents retirés (équipe = equipe), ligatures
+ *    dépliées (œ = oe) : une requête tapée sans accents trouve les articles
+ * 2. découpage sur tout ce qui n'est ni lettre ni chiffre : les élisions
+ *    ("l'équipe", "qu'il") se séparent d'elles-mêmes, le "l" tombe ensuite
+ * 3. retrait des mots vides et des lettres isolées
+ * 4. racinisation légère ({@link Language#stem})
+ *
+ * La langue d'un texte est devinée par ses mots vides ({@link #detect}) :
+ * le contenu est en français d'abord, l'anglais n'est retenu que s'il y
+ * domine nettement.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public final class Analyzer {
+
+    /** Terme plus long : ignoré (URL, identifiant, bruit) */
+    static final int MAX_TERM_LENGTH = 40;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private Analyzer() {
+    }
+
+    /**
+     * @param text     Texte brut (null accepté)
+     * @param language Langue du texte
+     * @return Termes dans l'ordre du texte, répétitions comprises
+     */
+    public static List<String> analyze(String text, Language language) {
+        List<String> terms = new ArrayList<>();
+        for (String token : tokens(text)) {
+            if (!language.isStopWord(token)) {
+                terms.add(language.stem(token));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Mots d'une requête, avec leur racine dans chaque langue
+     *
+     * Une requête de quelques mots ne dit pas sa langue (« matches » est
+     * deviné français, faute de mot vide) : chaque mot est cherché sous ses
+     * deux racines, « matche » ou « match ». Les mots vides retirés restent
+     * ceux de la langue devinée.
+     *
+     * @param query Texte saisi
+     * @return Racines distinctes de chaque mot (une ou deux), mots en double retirés
+     */
+    public static List<List<String>> queryTerms(String query) {
+        Language language = detect(query);
+        Set<List<String>> words = new LinkedHashSet<>();
+        for (String token : tokens(query)) {
+            if (language.isStopWord(token)) {
+                continue;
+            }
+            String french = Language.FRENCH.stem(token);
+            String english = Language.ENGLISH.stem(token);
+            words.add(french.equals(english) ? List.of(french) : List.of(french, english));
+        }
+        return new ArrayList<>(words);
+    }
+
+    /**
+     * @param text Texte brut
+     * @return Langue dont le texte contient le plus de mots vides (français à égalité)
+     */
+    public static Language detect(String text) {
+        int french = 0;
+        int english = 0;
+        for (String token : tokens(text)) {
+            if (Language.FRENCH.isStopWord(token)) {
+                french++;
+            }
+            if (Language.ENGLISH.isStopWord(token)) {
+                english++;
+            }
+        }
+        return english > french ? Language.ENGLISH : Language.FRENCH;
+    }
+
+    /**
+     * Termes normalisés, avant retrait des mots vides
+     */
+    static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = normalize(text);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean inToken = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (inToken && start < 0) {
+                start = i;
+            } else if (!inToken && start >= 0) {
+                int length = i - start;
+                if (length <= MAX_TERM_LENGTH && (length > 1 || Character.isDigit(normalized.charAt(start)))) {
+                    tokens.add(normalized.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * @param text Texte brut
+     * @return Texte en minuscules, sans accents ni ligatures (équipe = equipe, œ = oe)
+     */
+    public static String normalize(String text) {
+        String lower = text.toLowerCase(Locale.ROOT).replace("œ", "oe").replace("æ", "ae");
+        return DIACRITICS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+    }
+}
@@ -0,0 +1,339 @@
+package com.infoline.api.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Fichiers de l'index de recherche sur disque
+ *
+ * <pre>
+ *   commit            point de validation : segments, suppressions, journal
+ *   seg-&lt;g&gt;.seg       segment immuable ({@link Segment})
+ *   seg-&lt;g&gt;_&lt;d&gt;.del   documents supprimés d'un segment (génération d)
+ *   wal-&lt;g&gt;.log       journal des lots indexés depuis le point de validation
+ * </pre>
+ *
+ * Tout fichier est écrit sous un nom temporaire, synchronisé (fsync), puis
+ * renommé atomiquement : un fichier visible est toujours complet. Le point
+ * de validation est remplacé de la même manière : la liste des segments
+ * bascule d'un coup, un arrêt brutal laisse l'ancienne ou la nouvelle.
+ * Les fichiers qu'il ne référence pas (fusion interrompue, segment écrit
+ * mais pas validé) sont supprimés à l'ouverture.
+ *
+ * Générations (g, d) : un compteur unique, en base 36, jamais réutilisé.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class IndexDirectory {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexDirectory.class);
+
+    private static final String COMMIT = "commit";
+    private static final String HEADER = "infoline-search 1";
+    private static final String TMP = ".tmp";
+
+    private final Path path;
+    private final AtomicLong generation = new AtomicLong(1);
+
+    /**
+     * Point de validation : état de l'index tel qu'il sera rouvert
+     *
+     * @param generation    Prochaine génération libre
+     * @param walGeneration Journal à rejouer par-dessus les segments
+     * @param segments      Segments, dans l'ordre
+     */
+    record Commit(long generation, long walGeneration, List<SegmentRef> segments) {
+
+        static final Commit EMPTY = new Commit(1, 0, List.of());
+    }
+
+    /**
+     * @param name              Nom du segment
+     * @param deletesGeneration Fichier de suppressions, 0 s'il n'y en a pas
+     */
+    record SegmentRef(String name, long deletesGeneration) {
+    }
+
+    /**
+     * Contenu d'un fichier à écrire
+     */
+    interface Content {
+
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    IndexDirectory(Path path) throws IOException {
+        this.path = Files.createDirectories(path);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long nextGeneration() {
+        return generation.getAndIncrement();
+    }
+
+    /**
+     * @param walGeneration Journal à rejouer par-dessus les segments
+     * @param segments      Segments, dans l'ordre
+     * @return Point de validation à passer à {@link #commit}
+     */
+    Commit newCommit(long walGeneration, List<SegmentRef> segments) {
+        return new Commit(generation.get(), walGeneration, List.copyOf(segments));
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // POINT DE VALIDATION
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * @return Dernier point de validation, {@link Commit#EMPTY} pour un index neuf
+     */
+    Commit readCommit() throws IOException {
+        Path file = path.resolve(COMMIT);
+        if (!Files.exists(file)) {
+            return Commit.EMPTY;
+        }
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.size() < 3 || !HEADER.equals(lines.get(0))) {
+            throw new IOException("Point de validation illisible : " + file);
+        }
+        try {
+            long next = Long.parseLong(value(lines.get(1), "generation"), 36);
+            long wal = Long.parseLong(value(lines.get(2), "wal"), 36);
+            List<SegmentRef> segments = new ArrayList<>();
+            for (String line : lines.subList(3, lines.size())) {
+                String[] fields = line.split(" ");
+                segments.add(new SegmentRef(fields[0], Long.parseLong(fields[1], 36)));
+            }
+            generation.accumulateAndGet(next, Math::max);
+            return new Commit(next, wal, List.copyOf(segments));
+        } catch (RuntimeException e) {
+            throw new IOException("Point de validation illisible : " + file, e);
+        }
+    }
+
+    /**
+     * Remplace atomiquement le point de validation, puis supprime les
+     * fichiers de l'ancien qui ne servent plus
+     *
+     * @param next     Nouveau point de validation
+     * @param previous Point de validation remplacé
+     */
+    void commit(Commit next, Commit previous) throws IOException {
+        StringBuilder text = new StringBuilder(HEADER).append('\n')
+            .append("generation=").append(Long.toString(next.generation(), 36)).append('\n')
+            .append("wal=").append(Long.toString(next.walGeneration(), 36)).append('\n');
+        for (SegmentRef segment : next.segments()) {
+            text.append(segment.name()).append(' ')
+                .append(Long.toString(segment.deletesGeneration(), 36)).append('\n');
+        }
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        writeAtomically(path.resolve(COMMIT), out -> out.write(bytes));
+
+        Set<String> kept = referencedFiles(next);
+        for (String file : referencedFiles(previous)) {
+            if (!kept.contains(file)) {
+                deleteQuietly(path.resolve(file));
+            }
+        }
+    }
+
+    /**
+     * Supprime les fichiers d'index qui n'appartiennent pas au point de
+     * validation (à l'ouverture, avant toute écriture)
+     */
+    void deleteUnreferenced(Commit commit) throws IOException {
+        Set<String> kept = referencedFiles(commit);
+        kept.add(COMMIT);
+        try (Stream<Path> files = Files.list(path)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                // Uniquement les fichiers de l'index, si le répertoire est partagé
+                boolean indexFile = name.startsWith("seg-") || name.startsWith("wal-") || name.equals(COMMIT + TMP);
+                if (indexFile && !kept.contains(name)) {
+                    log.info("Fichier d'index non référencé supprimé : {}", file.getFileName());
+                    deleteQuietly(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Supprime tous les fichiers d'index du répertoire (index illisible, reconstruit)
+     */
+    void deleteAll() throws IOException {
+        deleteUnreferenced(Commit.EMPTY);
+        deleteQuietly(path.resolve(COMMIT));
+        deleteQuietly(path.resolve(walFile(Commit.EMPTY.walGeneration())));
+    }
+
+    private static Set<String> referencedFiles(Commit commit) {
+        Set<String> files = new HashSet<>();
+        files.add(walFile(commit.walGeneration()));
+        for (SegmentRef segment : commit.segments()) {
+            files.add(segmentFile(segment.name()));
+            if (segment.deletesGeneration() > 0) {
+                files.add(deletesFile(segment.name(), segment.deletesGeneration()));
+            }
+        }
+        return files;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // SEGMENTS, SUPPRESSIONS, JOURNAL
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Écrit un nouveau segment puis le projette en mémoire
+     *
+     * @param content Remplit l'écrivain ({@link SegmentWriter#finish()} compris)
+     * @return Segment ouvert, pas encore référencé par le point de validation
+     */
+    Segment writeSegment(SegmentContent content) throws IOException {
+        String name = "seg-" + Long.toString(nextGeneration(), 36);
+        Path file = path.resolve(segmentFile(name));
+        writeAtomically(file, out -> content.writeTo(new SegmentWriter(out)));
+        return Segment.open(name, file);
+    }
+
+    /**
+     * Contenu d'un segment à écrire
+     */
+    interface SegmentContent {
+
+        void writeTo(SegmentWriter writer) throws IOException;
+    }
+
+    Segment openSegment(String name) throws IOException {
+        return Segment.open(name, path.resolve(segmentFile(name)));
+    }
+
+    /**
+     * Segment écrit mais jamais validé (fusion abandonnée)
+     */
+    void deleteSegment(String name) {
+        deleteQuietly(path.resolve(segmentFile(name)));
+    }
+
+    /**
+     * @param name    Segment
+     * @param deleted Documents supprimés
+     * @return Génération du fichier écrit
+     */
+    long writeDeletes(String name, BitSet deleted) throws IOException {
+        long deletesGeneration = nextGeneration();
+        long[] words = deleted.toLongArray();
+        writeAtomically(path.resolve(deletesFile(name, deletesGeneration)), out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(words.length);
+            for (long word : words) {
+                data.writeLong(word);
+            }
+            data.flush();
+        });
+        return deletesGeneration;
+    }
+
+    BitSet readDeletes(SegmentRef segment) throws IOException {
+        if (segment.deletesGeneration() == 0) {
+            return new BitSet();
+        }
+        Path file = path.resolve(deletesFile(segment.name(), segment.deletesGeneration()));
+        try (InputStream in = Files.newInputStream(file)) {
+            DataInputStream data = new DataInputStream(in);
+            long[] words = new long[data.readInt()];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = data.readLong();
+            }
+            return BitSet.valueOf(words);
+        }
+    }
+
+    WriteAheadLog openWal(long walGeneration) throws IOException {
+        return new WriteAheadLog(path.resolve(walFile(walGeneration)));
+    }
+
+    // ── MÉTHODES UTILITAIRES ────────────────────────────────────────
+
+    private static String segmentFile(String name) {
+        return name + ".seg";
+    }
+
+    private static String deletesFile(String name, long deletesGeneration) {
+        return name + "_" + Long.toString(deletesGeneration, 36) + ".del";
+    }
+
+    private static String walFile(long walGeneration) {
+        return "wal-" + Long.toString(walGeneration, 36) + ".log";
+    }
+
+    /**
+     * Fichier temporaire synchronisé, renommé atomiquement, puis répertoire synchronisé
+     */
+    private void writeAtomically(Path target, Content content) throws IOException {
+        Path tmp = target.resolveSibling(target.getFileName() + TMP);
+        try (FileChannel channel = FileChannel.open(tmp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+            content.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(tmp);
+            throw e;
+        }
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory();
+    }
+
+    /**
+     * Rend le renommage durable (sans effet là où un répertoire ne s'ouvre pas)
+     */
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("Synchronisation du répertoire {} impossible : {}", path, e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            // Un segment encore projeté reste lisible : seul son nom disparaît
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Suppression de {} impossible : {}", file, e.getMessage());
+        }
+    }
+
+    private static String value(String line, String key) {
+        if (!line.startsWith(key + "=")) {
+            throw new IllegalArgumentException("Clé attendue : " + key);
+        }
+        return line.substring(key.length() + 1);
+    }
+}
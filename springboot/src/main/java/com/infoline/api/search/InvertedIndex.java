@@ -0,0 +1,857 @@
+package com.infoline.api.search;
+
+import com.infoline.api.article.ArticleText;
+import com.infoline.api.search.IndexDirectory.Commit;
+import com.infoline.api.search.IndexDirectory.SegmentRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Index inversé des articles (titre, chapô, corps, mots-clés), persistant
+ *
+ * Structure : une liste de {@link Segment} immuables et, pour chacun, le
+ * BitSet de ses documents supprimés. L'ensemble forme un instantané publié
+ * par une seule écriture volatile : les recherches lisent un instantané
+ * cohérent sans verrou, pendant que l'unique écrivain (méthodes
+ * synchronized) prépare le suivant.
+ *
+ * Sur disque ({@link IndexDirectory}) :
+ * - chaque lot indexé est d'abord ajouté au journal ({@link WriteAheadLog}),
+ *   puis devient un petit segment en mémoire, aussitôt cherchable ;
+ * - au-delà de flushDocs documents en mémoire, ces segments sont écrits en
+ *   un segment sur disque, projeté en mémoire (hors tas), et un nouveau
+ *   point de validation remplace atomiquement la liste des segments ; le
+ *   journal repart à zéro ;
+ * - à l'ouverture, les segments sont projetés (rien n'est lu) et seul le
+ *   journal est rejoué : redémarrage en quelques millisecondes, tas occupé
+ *   limité au tampon d'écriture.
+ *
+ * Un article réindexé est masqué dans son ancien segment (copie du BitSet,
+ * jamais modifié une fois publié). Les segments sur disque sont fusionnés
+ * par paliers ({@link TieredMergePolicy}) par {@link #mergeOnce()}, hors du
+ * verrou d'écriture : seule la bascule finale le prend, et y reporte les
+ * suppressions survenues pendant la fusion.
+ *
+ * Classement BM25 (k1 = 1.2, b = 0.75), champs pondérés à l'indexation :
+ * une occurrence dans le titre compte 3, dans les mots-clés 2, ailleurs 1.
+ *
+ * Requête : termes analysés comme les documents, réunis par OU ; parcours
+ * document par document des listes de postings de chaque segment, top-k
+ * gardé dans un tas de taille k. La langue d'une requête courte étant
+ * incertaine, chaque mot est cherché sous ses racines française et
+ * anglaise ({@link Analyzer#queryTerms}) ; un document ne compte que la
+ * meilleure des deux.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public final class InvertedIndex implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(InvertedIndex.class);
+
+    static final float K1 = 1.2f;
+    static final float B = 0.75f;
+
+    static final int TITLE_WEIGHT = 3;
+    static final int TAG_WEIGHT = 2;
+    static final int TEXT_WEIGHT = 1;
+
+    /** Mots retenus au plus par requête (jusqu'à deux termes chacun) */
+    static final int MAX_QUERY_TERMS = 16;
+
+    /** Préfixe du texte sur lequel la langue est devinée */
+    private static final int DETECT_CHARS = 1_000;
+
+    /** Pas de fusion au-delà : le résultat doit tenir dans une projection */
+    private static final long MAX_MERGE_BYTES = 1L << 30;
+
+    private static final Comparator<SearchHit> WORST_FIRST =
+        Comparator.comparingDouble(SearchHit::score).thenComparing(SearchHit::articleId, Comparator.reverseOrder());
+
+    private final IndexDirectory directory;
+    private final TieredMergePolicy mergePolicy;
+    private final int flushDocs;
+    private final int maxBodyChars;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // ── État de l'écrivain (sous le verrou) ──
+    private WriteAheadLog wal;
+    private long walGeneration;
+    private Commit committed;
+    private Map<String, BitSet> committedDeletes = new HashMap<>();
+    private boolean closed;
+
+    private InvertedIndex(IndexDirectory directory, int flushDocs, int mergeFactor, int maxBodyChars) {
+        this.directory = directory;
+        this.flushDocs = Math.max(1, flushDocs);
+        this.mergePolicy = new TieredMergePolicy(mergeFactor, this.flushDocs, MAX_MERGE_BYTES);
+        this.maxBodyChars = maxBodyChars;
+    }
+
+    /**
+     * Ouvre (ou crée) l'index d'un répertoire
+     *
+     * @param path         Répertoire de l'index
+     * @param flushDocs    Documents gardés en mémoire avant écriture d'un segment
+     * @param mergeFactor  Segments d'un même palier fusionnés ensemble (au moins 2)
+     * @param maxBodyChars Caractères du corps indexés (le début de l'article)
+     * @return Index prêt, journal rejoué
+     * @throws SearchIndexException si le répertoire est illisible
+     */
+    public static InvertedIndex open(Path path, int flushDocs, int mergeFactor, int maxBodyChars) {
+        InvertedIndex index;
+        try {
+            index = new InvertedIndex(new IndexDirectory(path), flushDocs, mergeFactor, maxBodyChars);
+        } catch (IOException e) {
+            throw new SearchIndexException("Répertoire d'index " + path + " inutilisable", e);
+        }
+        index.load();
+        return index;
+    }
+
+    /**
+     * Ouvre l'index, ou repart d'un index vide s'il est illisible (à reconstruire)
+     *
+     * @return Index prêt ; vide si les fichiers existants ont dû être supprimés
+     * @throws SearchIndexException si le répertoire est inutilisable
+     */
+    public static InvertedIndex openOrReset(Path path, int flushDocs, int mergeFactor, int maxBodyChars) {
+        try {
+            return open(path, flushDocs, mergeFactor, maxBodyChars);
+        } catch (SearchIndexException e) {
+            log.error("Index de recherche {} illisible : supprimé, il sera reconstruit", path, e);
+            try {
+                new IndexDirectory(path).deleteAll();
+            } catch (IOException cleanup) {
+                throw new SearchIndexException("Répertoire d'index " + path + " inutilisable", cleanup);
+            }
+            return open(path, flushDocs, mergeFactor, maxBodyChars);
+        }
+    }
+
+    private synchronized void load() {
+        long start = System.nanoTime();
+        try {
+            Commit commit = directory.readCommit();
+            directory.deleteUnreferenced(commit);
+            Writer writer = new Writer(Snapshot.EMPTY);
+            for (SegmentRef ref : commit.segments()) {
+                BitSet deleted = directory.readDeletes(ref);
+                writer.add(directory.openSegment(ref.name()), deleted);
+                committedDeletes.put(ref.name(), deleted);
+            }
+            committed = commit;
+            walGeneration = commit.walGeneration();
+            snapshot = writer.snapshot();
+
+            wal = directory.openWal(walGeneration);
+            int records = wal.replay(new WriteAheadLog.Replay() {
+                @Override
+                public void index(List<ArticleText> texts) {
+                    apply(texts);
+                }
+
+                @Override
+                public void delete(long articleId) {
+                    Writer replayed = new Writer(snapshot);
+                    if (replayed.delete(articleId)) {
+                        snapshot = replayed.snapshot();
+                    }
+                }
+            });
+            log.info("Index de recherche ouvert en {} ms : {} articles, {} segments, {} enregistrements rejoués",
+                (System.nanoTime() - start) / 1_000_000, docCount(), segmentCount(), records);
+        } catch (IOException | RuntimeException e) {
+            // Fichier tronqué ou corrompu compris (IllegalStateException de Segment)
+            throw new SearchIndexException("Ouverture de l'index " + directory.path() + " impossible", e);
+        }
+        flushIfNeeded();
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // ÉCRITURE
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Indexe (ou réindexe) des articles ; journalisés et visibles des recherches au retour
+     *
+     * @param texts Articles ; pour un même identifiant, le dernier l'emporte
+     * @throws SearchIndexException si le journal ne peut pas être écrit (lot ignoré)
+     */
+    public synchronized void index(List<ArticleText> texts) {
+        ensureOpen();
+        if (texts.isEmpty()) {
+            return;
+        }
+        Map<Long, ArticleText> latest = new LinkedHashMap<>();
+        for (ArticleText text : texts) {
+            latest.put(text.id(), truncate(text));
+        }
+        List<ArticleText> batch = List.copyOf(latest.values());
+        try {
+            wal.appendIndex(batch);
+        } catch (IOException e) {
+            throw new SearchIndexException("Journalisation de " + batch.size() + " articles impossible", e);
+        }
+        apply(batch);
+        flushIfNeeded();
+    }
+
+    /**
+     * @param articleId Article à retirer de l'index
+     * @return true s'il était indexé
+     * @throws SearchIndexException si le journal ne peut pas être écrit
+     */
+    public synchronized boolean delete(long articleId) {
+        ensureOpen();
+        Writer writer = new Writer(snapshot);
+        if (!writer.delete(articleId)) {
+            return false;
+        }
+        try {
+            wal.appendDelete(articleId);
+        } catch (IOException e) {
+            throw new SearchIndexException("Journalisation de la suppression de " + articleId + " impossible", e);
+        }
+        snapshot = writer.snapshot();
+        return true;
+    }
+
+    /**
+     * Écrit les segments en mémoire sur disque et valide (fin de construction, tests)
+     *
+     * @throws SearchIndexException en cas d'échec d'écriture (le journal reste valable)
+     */
+    public synchronized void flush() {
+        ensureOpen();
+        try {
+            flushLocked();
+        } catch (IOException e) {
+            throw new SearchIndexException("Écriture d'un segment dans " + directory.path() + " impossible", e);
+        }
+    }
+
+    /**
+     * Exécute au plus une fusion de segments sur disque (thread de fusion)
+     *
+     * La fusion lit des segments immuables et écrit un nouveau fichier sans
+     * verrou : indexation et recherches continuent pendant ce temps.
+     *
+     * @return true si une fusion a eu lieu (il peut en rester d'autres)
+     * @throws SearchIndexException en cas d'échec d'écriture (segments inchangés)
+     */
+    public boolean mergeOnce() {
+        List<Segment> sources = new ArrayList<>();
+        List<BitSet> startDeletes = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+            Snapshot current = snapshot;
+            List<Segment> mapped = new ArrayList<>();
+            List<BitSet> mappedDeletes = new ArrayList<>();
+            for (int s = 0; s < current.segments.size(); s++) {
+                if (current.segments.get(s).isMapped()) {
+                    mapped.add(current.segments.get(s));
+                    mappedDeletes.add(current.deleted.get(s));
+                }
+            }
+            for (int s : mergePolicy.select(mapped, mappedDeletes)) {
+                sources.add(mapped.get(s));
+                startDeletes.add(mappedDeletes.get(s));
+            }
+        }
+        if (sources.isEmpty()) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        int live = 0;
+        for (int i = 0; i < sources.size(); i++) {
+            live += sources.get(i).maxDoc() - startDeletes.get(i).cardinality();
+        }
+        Segment merged = null;
+        try {
+            if (live > 0) {
+                merged = directory.writeSegment(writer -> Segment.merge(sources, startDeletes, writer));
+            }
+        } catch (IOException e) {
+            throw new SearchIndexException("Fusion de " + sources.size() + " segments impossible", e);
+        }
+
+        synchronized (this) {
+            if (closed) {
+                if (merged != null) {
+                    directory.deleteSegment(merged.name());
+                }
+                return false;
+            }
+            Writer writer = new Writer(snapshot);
+            // Suppressions survenues pendant la fusion : reportées sur le segment fusionné
+            BitSet mergedDeletes = new BitSet();
+            for (int i = 0; merged != null && i < sources.size(); i++) {
+                Segment source = sources.get(i);
+                BitSet added = (BitSet) writer.deleted.get(writer.indexOf(source)).clone();
+                added.andNot(startDeletes.get(i));
+                for (int doc = added.nextSetBit(0); doc >= 0; doc = added.nextSetBit(doc + 1)) {
+                    mergedDeletes.set(merged.docOf(source.articleId(doc)));
+                }
+            }
+            writer.removeAll(sources);
+            if (merged != null) {
+                writer.add(merged, mergedDeletes);
+            }
+            try {
+                commitLocked(writer, walGeneration);
+            } catch (IOException e) {
+                if (merged != null) {
+                    directory.deleteSegment(merged.name());
+                }
+                throw new SearchIndexException("Validation de la fusion impossible", e);
+            }
+            snapshot = writer.snapshot();
+        }
+        log.debug("Fusion de {} segments ({} articles) en {} ms", sources.size(), live,
+            (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    /**
+     * Ferme le journal ; les segments projetés restent lisibles jusqu'au GC
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            wal.close();
+        } catch (IOException e) {
+            log.warn("Fermeture du journal de l'index impossible : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Lot déjà journalisé : nouveau segment en mémoire (sous le verrou)
+     */
+    private void apply(List<ArticleText> batch) {
+        Writer writer = new Writer(snapshot);
+        Segment.Builder builder = new Segment.Builder();
+        for (ArticleText text : batch) {
+            writer.delete(text.id());
+            Map<String, Integer> frequencies = new HashMap<>();
+            int length = analyze(text, frequencies);
+            if (length > 0) {
+                builder.add(text.id(), frequencies, length);
+            }
+        }
+        if (builder.maxDoc() > 0) {
+            writer.add(builder.build(), new BitSet());
+        }
+        writer.mergeBuffered();
+        snapshot = writer.snapshot();
+    }
+
+    /**
+     * Échec d'écriture : les lots restent dans le journal, nouvel essai au lot suivant
+     */
+    private void flushIfNeeded() {
+        if (snapshot.bufferedDocs() < flushDocs) {
+            return;
+        }
+        try {
+            flushLocked();
+        } catch (IOException e) {
+            log.warn("Écriture d'un segment dans {} impossible, lots gardés dans le journal : {}",
+                directory.path(), e.getMessage());
+        }
+    }
+
+    /**
+     * Segments en mémoire → un segment sur disque, puis nouveau journal
+     *
+     * Ordre sûr en cas d'arrêt brutal : segment écrit, nouveau journal
+     * (vide) créé, point de validation remplacé, ancien journal supprimé.
+     * Avant la bascule, l'ancien point de validation et son journal restent
+     * complets.
+     */
+    private void flushLocked() throws IOException {
+        if (wal.size() == 0) {
+            return;
+        }
+        Snapshot current = snapshot;
+        List<Segment> buffered = new ArrayList<>();
+        List<BitSet> bufferedDeletes = new ArrayList<>();
+        int live = 0;
+        for (int s = 0; s < current.segments.size(); s++) {
+            Segment segment = current.segments.get(s);
+            if (!segment.isMapped()) {
+                buffered.add(segment);
+                bufferedDeletes.add(current.deleted.get(s));
+                live += segment.maxDoc() - current.deleted.get(s).cardinality();
+            }
+        }
+        Segment flushed = live > 0
+            ? directory.writeSegment(writer -> Segment.merge(buffered, bufferedDeletes, writer))
+            : null;
+
+        long nextWalGeneration = directory.nextGeneration();
+        WriteAheadLog nextWal = directory.openWal(nextWalGeneration);
+        Writer writer = new Writer(current);
+        writer.removeAll(buffered);
+        if (flushed != null) {
+            writer.add(flushed, new BitSet());
+        }
+        try {
+            commitLocked(writer, nextWalGeneration);
+        } catch (IOException e) {
+            nextWal.close();
+            throw e;
+        }
+        snapshot = writer.snapshot();
+        WriteAheadLog previous = wal;
+        wal = nextWal;
+        walGeneration = nextWalGeneration;
+        previous.close();
+    }
+
+    /**
+     * Nouveau point de validation : suppressions modifiées écrites, puis bascule
+     */
+    private void commitLocked(Writer writer, long nextWalGeneration) throws IOException {
+        Map<String, Long> previousGenerations = new HashMap<>();
+        for (SegmentRef ref : committed.segments()) {
+            previousGenerations.put(ref.name(), ref.deletesGeneration());
+        }
+        List<SegmentRef> refs = new ArrayList<>();
+        Map<String, BitSet> deletes = new HashMap<>();
+        for (int s = 0; s < writer.segments.size(); s++) {
+            Segment segment = writer.segments.get(s);
+            if (!segment.isMapped()) {
+                continue;
+            }
+            BitSet deleted = writer.deleted.get(s);
+            long deletesGeneration;
+            if (deleted.isEmpty()) {
+                deletesGeneration = 0;
+            } else if (committedDeletes.get(segment.name()) == deleted) {
+                // Même instance : inchangé depuis le dernier point de validation
+                deletesGeneration = previousGenerations.get(segment.name());
+            } else {
+                deletesGeneration = directory.writeDeletes(segment.name(), deleted);
+            }
+            refs.add(new SegmentRef(segment.name(), deletesGeneration));
+            deletes.put(segment.name(), deleted);
+        }
+        Commit next = directory.newCommit(nextWalGeneration, refs);
+        directory.commit(next, committed);
+        committed = next;
+        committedDeletes = deletes;
+    }
+
+    private ArticleText truncate(ArticleText text) {
+        if (text.body() == null || text.body().length() <= maxBodyChars) {
+            return text;
+        }
+        return new ArticleText(text.id(), text.title(), text.excerpt(),
+            text.body().substring(0, maxBodyChars), text.tags());
+    }
+
+    /**
+     * Fréquences pondérées des termes d'un article
+     *
+     * @return Longueur pondérée du document
+     */
+    private static int analyze(ArticleText text, Map<String, Integer> frequencies) {
+        String body = text.body();
+        String sample = text.title() + ' ' + (text.excerpt() == null ? "" : text.excerpt()) + ' '
+            + (body == null ? "" : body.substring(0, Math.min(body.length(), DETECT_CHARS)));
+        Language language = Analyzer.detect(sample);
+
+        int length = count(Analyzer.analyze(text.title(), language), TITLE_WEIGHT, frequencies);
+        for (String tag : text.tags()) {
+            length += count(Analyzer.analyze(tag, language), TAG_WEIGHT, frequencies);
+        }
+        length += count(Analyzer.analyze(text.excerpt(), language), TEXT_WEIGHT, frequencies);
+        length += count(Analyzer.analyze(body, language), TEXT_WEIGHT, frequencies);
+        return length;
+    }
+
+    private static int count(List<String> terms, int weight, Map<String, Integer> frequencies) {
+        for (String term : terms) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+        return terms.size() * weight;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Index de recherche fermé");
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // RECHERCHE
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * @param query Texte saisi
+     * @param limit Nombre maximal de résultats
+     * @return Meilleurs résultats et nombre total de correspondances
+     */
+    public SearchHits search(String query, int limit) {
+        Snapshot current = snapshot;
+        if (current.liveDocs == 0 || limit <= 0) {
+            return SearchHits.EMPTY;
+        }
+        List<List<String>> words = Analyzer.queryTerms(query);
+        words = words.subList(0, Math.min(words.size(), MAX_QUERY_TERMS));
+        if (words.isEmpty()) {
+            return SearchHits.EMPTY;
+        }
+        // Termes à plat ; words[t] : mot dont le terme t est une racine
+        List<byte[]> terms = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        for (int w = 0; w < words.size(); w++) {
+            for (String term : words.get(w)) {
+                terms.add(term.getBytes(StandardCharsets.UTF_8));
+                owners.add(w);
+            }
+        }
+        byte[][] keys = terms.toArray(new byte[0][]);
+        int[] wordOf = new int[keys.length];
+        for (int t = 0; t < keys.length; t++) {
+            wordOf[t] = owners.get(t);
+        }
+
+        // Statistiques globales : fréquence documentaire sur tous les segments
+        long docCount = 0;
+        int[] docFreqs = new int[keys.length];
+        int[][] ordinals = new int[current.segments.size()][keys.length];
+        for (int s = 0; s < current.segments.size(); s++) {
+            Segment segment = current.segments.get(s);
+            docCount += segment.maxDoc();
+            for (int t = 0; t < keys.length; t++) {
+                int ordinal = segment.termOrdinal(keys[t]);
+                ordinals[s][t] = ordinal;
+                if (ordinal >= 0) {
+                    docFreqs[t] += segment.docFreq(ordinal);
+                }
+            }
+        }
+        float[] idfs = new float[keys.length];
+        for (int t = 0; t < keys.length; t++) {
+            idfs[t] = (float) Math.log(1 + (docCount - docFreqs[t] + 0.5) / (docFreqs[t] + 0.5));
+        }
+        float averageLength = (float) current.liveLength / current.liveDocs;
+
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(limit + 1, WORST_FIRST);
+        int total = 0;
+        for (int s = 0; s < current.segments.size(); s++) {
+            total += collect(current.segments.get(s), current.deleted.get(s), ordinals[s], idfs, wordOf,
+                words.size(), averageLength, limit, top);
+        }
+
+        List<SearchHit> hits = new ArrayList<>(top);
+        hits.sort(WORST_FIRST.reversed());
+        return new SearchHits(total, hits);
+    }
+
+    /**
+     * Parcours document par document des postings des termes dans un segment
+     *
+     * @param ordinals Rang de chaque terme dans le segment (-1 s'il en est absent)
+     * @return Nombre de documents vivants correspondant à au moins un terme
+     */
+    private static int collect(Segment segment, BitSet deleted, int[] ordinals, float[] idfs, int[] wordOf,
+                               int wordCount, float averageLength, int limit, PriorityQueue<SearchHit> top) {
+        PostingsIterator[] iterators = new PostingsIterator[ordinals.length];
+        float[] weights = new float[ordinals.length];
+        int[] words = new int[ordinals.length];
+        int active = 0;
+        for (int t = 0; t < ordinals.length; t++) {
+            if (ordinals[t] >= 0) {
+                PostingsIterator postings = segment.postings(ordinals[t]);
+                if (postings.next()) {
+                    iterators[active] = postings;
+                    words[active] = wordOf[t];
+                    weights[active++] = idfs[t];
+                }
+            }
+        }
+
+        // Meilleure contribution de chaque mot au document courant
+        float[] best = new float[wordCount];
+        int matches = 0;
+        while (active > 0) {
+            int doc = Integer.MAX_VALUE;
+            for (int i = 0; i < active; i++) {
+                doc = Math.min(doc, iterators[i].doc());
+            }
+            float norm = K1 * (1 - B + B * segment.docLength(doc) / averageLength);
+            for (int i = 0; i < active; i++) {
+                PostingsIterator postings = iterators[i];
+                if (postings.doc() != doc) {
+                    continue;
+                }
+                int freq = postings.freq();
+                best[words[i]] = Math.max(best[words[i]], weights[i] * freq * (K1 + 1) / (freq + norm));
+                if (!postings.next()) {
+                    // Liste épuisée : remplacée par la dernière active
+                    active--;
+                    iterators[i] = iterators[active];
+                    weights[i] = weights[active];
+                    words[i] = words[active];
+                    i--;
+                }
+            }
+            float score = 0;
+            for (int w = 0; w < wordCount; w++) {
+                score += best[w];
+                best[w] = 0;
+            }
+            if (deleted.get(doc)) {
+                continue;
+            }
+            matches++;
+            if (top.size() < limit) {
+                top.add(new SearchHit(segment.articleId(doc), score));
+            } else if (score > top.peek().score()) {
+                top.poll();
+                top.add(new SearchHit(segment.articleId(doc), score));
+            }
+        }
+        return matches;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // ÉTAT
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * @return Articles indexés (hors supprimés)
+     */
+    public int docCount() {
+        return snapshot.liveDocs;
+    }
+
+    public int segmentCount() {
+        return snapshot.segments.size();
+    }
+
+    /**
+     * @return Octets des segments en mémoire (tas Java), pas encore écrits sur disque
+     */
+    public long heapBytes() {
+        long size = 0;
+        for (Segment segment : snapshot.segments) {
+            size += segment.isMapped() ? 0 : segment.sizeInBytes();
+        }
+        return size;
+    }
+
+    /**
+     * @return Octets des segments projetés depuis le disque (hors tas)
+     */
+    public long mappedBytes() {
+        long size = 0;
+        for (Segment segment : snapshot.segments) {
+            size += segment.isMapped() ? segment.sizeInBytes() : 0;
+        }
+        return size;
+    }
+
+    /**
+     * @param articleId Identifiant d'article
+     * @return true s'il est indexé (hors supprimés)
+     */
+    public boolean contains(long articleId) {
+        Snapshot current = snapshot;
+        for (int s = 0; s < current.segments.size(); s++) {
+            int doc = current.segments.get(s).docOf(articleId);
+            if (doc >= 0 && !current.deleted.get(s).get(doc)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Plus grand identifiant d'article indexé (reprise au redémarrage), 0 si vide
+     */
+    public long maxArticleId() {
+        long max = 0;
+        for (Segment segment : snapshot.segments) {
+            max = Math.max(max, segment.maxArticleId());
+        }
+        return max;
+    }
+
+    /**
+     * @return Longueur pondérée des documents vivants d'un segment
+     */
+    private static long liveLength(Segment segment, BitSet removed) {
+        long length = segment.totalLength();
+        for (int doc = removed.nextSetBit(0); doc >= 0; doc = removed.nextSetBit(doc + 1)) {
+            length -= segment.docLength(doc);
+        }
+        return length;
+    }
+
+    /**
+     * Instantané publié : jamais modifié
+     */
+    private record Snapshot(List<Segment> segments, List<BitSet> deleted, int liveDocs, long liveLength) {
+
+        static final Snapshot EMPTY = new Snapshot(List.of(), List.of(), 0, 0);
+
+        /**
+         * @return Documents des segments en mémoire, pas encore écrits sur disque
+         */
+        int bufferedDocs() {
+            int docs = 0;
+            for (Segment segment : segments) {
+                docs += segment.isMapped() ? 0 : segment.maxDoc();
+            }
+            return docs;
+        }
+    }
+
+    /**
+     * Préparation de l'instantané suivant (copie à l'écriture des BitSet)
+     */
+    private final class Writer {
+
+        private final List<Segment> segments;
+        private final List<BitSet> deleted;
+        /** BitSet propres à cet instantané, modifiables sans copie */
+        private final Set<BitSet> owned = Collections.newSetFromMap(new IdentityHashMap<>());
+        private int liveDocs;
+        private long liveLength;
+
+        Writer(Snapshot from) {
+            this.segments = new ArrayList<>(from.segments);
+            this.deleted = new ArrayList<>(from.deleted);
+            this.liveDocs = from.liveDocs;
+            this.liveLength = from.liveLength;
+        }
+
+        boolean delete(long articleId) {
+            boolean found = false;
+            for (int s = 0; s < segments.size(); s++) {
+                Segment segment = segments.get(s);
+                int doc = segment.docOf(articleId);
+                if (doc < 0 || deleted.get(s).get(doc)) {
+                    continue;
+                }
+                BitSet removed = deleted.get(s);
+                if (!owned.contains(removed)) {
+                    removed = (BitSet) removed.clone();
+                    owned.add(removed);
+                    deleted.set(s, removed);
+                }
+                removed.set(doc);
+                liveDocs--;
+                liveLength -= segment.docLength(doc);
+                found = true;
+            }
+            return found;
+        }
+
+        /**
+         * @param segment Segment ajouté
+         * @param removed Ses documents déjà supprimés (instance propre à cet écrivain)
+         */
+        void add(Segment segment, BitSet removed) {
+            owned.add(removed);
+            segments.add(segment);
+            deleted.add(removed);
+            liveDocs += segment.maxDoc() - removed.cardinality();
+            liveLength += liveLength(segment, removed);
+        }
+
+        void removeAll(List<Segment> removed) {
+            Set<Segment> targets = Collections.newSetFromMap(new IdentityHashMap<>());
+            targets.addAll(removed);
+            for (int s = segments.size() - 1; s >= 0; s--) {
+                if (targets.contains(segments.get(s))) {
+                    liveDocs -= segments.get(s).maxDoc() - deleted.get(s).cardinality();
+                    liveLength -= liveLength(segments.get(s), deleted.get(s));
+                    segments.remove(s);
+                    deleted.remove(s);
+                }
+            }
+        }
+
+        int indexOf(Segment segment) {
+            for (int s = 0; s < segments.size(); s++) {
+                if (segments.get(s) == segment) {
+                    return s;
+                }
+            }
+            throw new IllegalStateException("Segment absent de l'instantané");
+        }
+
+        /**
+         * Segments en mémoire : au-delà de mergeFactor, les plus petits sont
+         * fusionnés en mémoire (imports d'un article à la fois)
+         */
+        void mergeBuffered() {
+            int factor = mergePolicy.mergeFactor();
+            while (true) {
+                List<Integer> buffered = new ArrayList<>();
+                for (int s = 0; s < segments.size(); s++) {
+                    if (!segments.get(s).isMapped()) {
+                        buffered.add(s);
+                    }
+                }
+                if (buffered.size() <= factor) {
+                    return;
+                }
+                buffered.sort(Comparator.comparingInt(s -> segments.get(s).maxDoc() - deleted.get(s).cardinality()));
+                List<Segment> sources = new ArrayList<>();
+                List<BitSet> sourceDeletes = new ArrayList<>();
+                for (int s : buffered.subList(0, factor)) {
+                    sources.add(segments.get(s));
+                    sourceDeletes.add(deleted.get(s));
+                }
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try {
+                    Segment.merge(sources, sourceDeletes, new SegmentWriter(bytes));
+                } catch (IOException e) {
+                    // ByteArrayOutputStream ne lève pas d'IOException
+                    throw new UncheckedIOException(e);
+                }
+                Segment merged = Segment.inMemory(bytes.toByteArray());
+                removeAll(sources);
+                if (merged.maxDoc() > 0) {
+                    add(merged, new BitSet());
+                }
+            }
+        }
+
+        Snapshot snapshot() {
+            return new Snapshot(List.copyOf(segments), List.copyOf(deleted), liveDocs, liveLength);
+        }
+    }
+}
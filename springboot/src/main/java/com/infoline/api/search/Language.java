@@ -0,0 +1,98 @@
+package com.infoline.api.search;
+
+import java.util.Set;
+
+/**
+ * Langues des analyseurs : mots vides et racinisation légère
+ *
+ * Les textes arrivent normalisés (minuscules, sans accents, voir
+ * {@link Analyzer}) : mots vides et suffixes sont écrits sans accents.
+ *
+ * La racinisation est volontairement légère (pluriels, e final en français) :
+ * elle rapproche "transferts" de "transfert" ou "journaux" de "journal",
+ * sans fusionner des mots de sens différents comme le ferait un Porter
+ * complet. Un mot mal racinisé ne coûte qu'un rappel moindre, jamais un
+ * faux positif lointain.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public enum Language {
+
+    FRENCH(Set.of(
+        "a", "au", "aux", "avec", "ce", "ces", "cet", "cette", "ceci", "cela", "chez", "comme", "dans", "de",
+        "des", "du", "elle", "elles", "en", "entre", "est", "et", "etre", "eu", "il", "ils", "je", "la", "le",
+        "les", "leur", "leurs", "lui", "ma", "mais", "me", "meme", "mes", "moi", "mon", "ne", "nos", "notre",
+        "nous", "on", "ont", "ou", "par", "pas", "plus", "pour", "qu", "que", "qui", "sa", "sans", "se", "ses",
+        "son", "sont", "sur", "ta", "te", "tes", "toi", "ton", "tu", "un", "une", "vos", "votre", "vous",
+        "ete", "etait", "apres", "avant", "aussi", "donc", "car", "tres", "tout", "tous", "toute", "toutes")) {
+
+        @Override
+        String stem(String term) {
+            String stem = term;
+            int length = stem.length();
+            if (length > 5 && stem.endsWith("aux")) {
+                // journaux -> journal, finaux -> final
+                return stem.substring(0, length - 3) + "al";
+            }
+            if (length > 3 && (stem.endsWith("s") || stem.endsWith("x"))) {
+                stem = stem.substring(0, --length);
+            }
+            if (length > 4 && stem.endsWith("e")) {
+                stem = stem.substring(0, --length);
+            }
+            return stem;
+        }
+    },
+
+    ENGLISH(Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "been", "but", "by", "for", "from", "has", "have", "he",
+        "her", "his", "i", "in", "into", "is", "it", "its", "of", "on", "or", "our", "she", "than", "that",
+        "the", "their", "them", "then", "there", "these", "they", "this", "those", "to", "was", "we", "were",
+        "what", "when", "which", "who", "will", "with", "you", "your")) {
+
+        @Override
+        String stem(String term) {
+            // Pluriels seulement (même règles que l'EnglishMinimalStemmer de Lucene)
+            int length = term.length();
+            if (length < 3 || term.charAt(length - 1) != 's') {
+                return term;
+            }
+            char beforeS = term.charAt(length - 2);
+            if (beforeS == 'u' || beforeS == 's') {
+                return term;
+            }
+            if (beforeS == 'e') {
+                char third = term.charAt(length - 3);
+                if (length > 3 && third == 'i' && term.charAt(length - 4) != 'a' && term.charAt(length - 4) != 'e') {
+                    // stories -> story
+                    return term.substring(0, length - 3) + "y";
+                }
+                if (third == 'i' || third == 'a' || third == 'o' || third == 'e') {
+                    return term;
+                }
+            }
+            return term.substring(0, length - 1);
+        }
+    };
+
+    private final Set<String> stopWords;
+
+    Language(Set<String> stopWords) {
+        this.stopWords = stopWords;
+    }
+
+    /**
+     * @param term Terme normalisé
+     * @return true si le terme est trop fréquent pour discriminer (mot vide)
+     */
+    boolean isStopWord(String term) {
+        return stopWords.contains(term);
+    }
+
+    /**
+     * @param term Terme normalisé, hors mots vides
+     * @return Racine du terme
+     */
+    abstract String stem(String term);
+}
@@ -0,0 +1,70 @@
+package com.infoline.api.search;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Liste de postings en construction : (écart de document, fréquence) en varint
+ *
+ * Les documents arrivent par identifiant interne croissant : seul l'écart
+ * avec le précédent est écrit, sur 7 bits par octet (bit de poids fort =
+ * octet suivant). Un posting tient le plus souvent en 2 octets, contre 8
+ * pour deux int.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class PostingsBuffer {
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int lastDoc;
+    private int docFreq;
+
+    /**
+     * @param doc  Document interne, supérieur au précédent
+     * @param freq Fréquence pondérée du terme dans le document
+     */
+    void add(int doc, int freq) {
+        if (docFreq > 0 && doc <= lastDoc) {
+            throw new IllegalArgumentException("Documents non croissants : " + doc + " après " + lastDoc);
+        }
+        writeVInt(doc - lastDoc);
+        writeVInt(freq);
+        lastDoc = doc;
+        docFreq++;
+    }
+
+    int docFreq() {
+        return docFreq;
+    }
+
+    int length() {
+        return length;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.write(bytes, 0, length);
+    }
+
+    /**
+     * Vide la liste pour la réutiliser (fusion : un tampon pour tous les termes)
+     */
+    void reset() {
+        length = 0;
+        lastDoc = 0;
+        docFreq = 0;
+    }
+
+    private void writeVInt(int value) {
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+}
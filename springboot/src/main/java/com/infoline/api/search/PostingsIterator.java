@@ -0,0 +1,57 @@
+package com.infoline.api.search;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Lecture séquentielle d'une liste de postings (voir {@link PostingsBuffer})
+ *
+ * Lectures absolues dans le tampon du segment (tas ou fichier projeté) :
+ * aucune copie, et un même tampon sert toutes les recherches en parallèle.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class PostingsIterator {
+
+    private final ByteBuffer data;
+    private final int end;
+    private int position;
+    private int doc;
+    private int freq;
+
+    PostingsIterator(ByteBuffer data, int start, int end) {
+        this.data = data;
+        this.position = start;
+        this.end = end;
+    }
+
+    /**
+     * @return false une fois la liste épuisée
+     */
+    boolean next() {
+        if (position >= end) {
+            return false;
+        }
+        doc += readVInt();
+        freq = readVInt();
+        return true;
+    }
+
+    int doc() {
+        return doc;
+    }
+
+    int freq() {
+        return freq;
+    }
+
+    private int readVInt() {
+        byte b = data.get(position++);
+        int value = b & 0x7F;
+        for (int shift = 7; b < 0; shift += 7) {
+            b = data.get(position++);
+            value |= (b & 0x7F) << shift;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,74 @@
+package com.infoline.api.search;
+
+import com.infoline.api.dto.ErrorResponse;
+import com.infoline.api.time.TimestampClock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Recherche plein texte dans les articles
+ *
+ * Actif en mode Servlet/Tomcat, comme les autres endpoints articles
+ * (index alimenté depuis JPA).
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SearchController {
+
+    /** Nombre de résultats par défaut */
+    static final int DEFAULT_LIMIT = 10;
+
+    /** Nombre de résultats maximal */
+    static final int MAX_LIMIT = 50;
+
+    /** Longueur maximale de la requête */
+    static final int MAX_QUERY_LENGTH = 200;
+
+    /** Délai conseillé au client pendant la construction de l'index (secondes) */
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final SearchService searchService;
+    private final TimestampClock timestampClock;
+
+    public SearchController(SearchService searchService, TimestampClock timestampClock) {
+        this.searchService = searchService;
+        this.timestampClock = timestampClock;
+    }
+
+    /**
+     * Articles les plus pertinents pour une requête
+     * URL : GET /api/v1/search?q=ligue+des+champions&amp;limit=10
+     *
+     * @param q     Texte recherché (insensible à la casse, aux accents et au pluriel)
+     * @param limit Nombre de résultats (défaut 10, max 50)
+     * @return Résultats, 400 si la requête est vide ou trop longue, 503 pendant
+     *         la construction initiale de l'index
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        if (q == null || q.isBlank() || q.length() > MAX_QUERY_LENGTH) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid query",
+                "Paramètre q obligatoire, " + MAX_QUERY_LENGTH + " caractères au plus", timestampClock.now()));
+        }
+        if (!searchService.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(new ErrorResponse("Index not ready",
+                    "Index de recherche en cours de construction", timestampClock.now()));
+        }
+        int size = limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return ResponseEntity.ok(searchService.search(q.strip(), size));
+    }
+}
@@ -0,0 +1,13 @@
+package com.infoline.api.search;
+
+/**
+ * Article trouvé et sa pertinence BM25
+ *
+ * @param articleId Identifiant de l'article
+ * @param score     Pertinence (plus élevée = plus pertinent)
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record SearchHit(long articleId, float score) {
+}
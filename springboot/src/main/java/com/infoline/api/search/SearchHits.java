@@ -0,0 +1,17 @@
+package com.infoline.api.search;
+
+import java.util.List;
+
+/**
+ * Résultat d'une requête sur l'index
+ *
+ * @param total Nombre d'articles correspondant à au moins un terme
+ * @param hits  Meilleurs résultats, du plus au moins pertinent
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record SearchHits(int total, List<SearchHit> hits) {
+
+    static final SearchHits EMPTY = new SearchHits(0, List.of());
+}
@@ -0,0 +1,17 @@
+package com.infoline.api.search;
+
+/**
+ * Lecture ou écriture des fichiers de l'index de recherche impossible
+ *
+ * L'index en mémoire reste cohérent : le lot concerné n'est pas indexé et
+ * le dernier point de validation sur disque reste valable.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public class SearchIndexException extends RuntimeException {
+
+    public SearchIndexException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.infoline.api.search;
+
+import com.infoline.api.article.ArticleSummary;
+
+/**
+ * Article trouvé (GET /api/v1/search)
+ *
+ * @param article Résumé de l'article (sans corps)
+ * @param score   Pertinence BM25
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record SearchResult(ArticleSummary article, float score) {
+}
@@ -0,0 +1,16 @@
+package com.infoline.api.search;
+
+import java.util.List;
+
+/**
+ * Réponse de GET /api/v1/search
+ *
+ * @param query Requête telle que reçue
+ * @param total Nombre d'articles correspondant à au moins un terme
+ * @param items Meilleurs résultats, du plus au moins pertinent
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record SearchResults(String query, int total, List<SearchResult> items) {
+}
@@ -0,0 +1,325 @@
+package com.infoline.api.search;
+
+import com.infoline.api.article.ArticleService;
+import com.infoline.api.article.ArticleSummary;
+import com.infoline.api.article.ArticleText;
+import com.infoline.api.article.ArticlesImported;
+import com.infoline.api.concurrent.SingleFlight;
+import com.infoline.api.concurrent.SingleFlightRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Recherche plein texte : alimentation de l'{@link InvertedIndex} et requêtes
+ *
+ * L'index est persistant (infoline.search.directory) : au redémarrage, il
+ * est rouvert tel quel et seuls les articles plus récents que le dernier
+ * indexé sont relus en base.
+ *
+ * Chaque pod tient son propre index. Les imports des autres pods arrivent
+ * par le bus Redis ({@code ArticleEventRelay}) ; ce qui a pu échapper au
+ * bus (pod déconnecté, L2 désactivé, identifiants attribués hors ordre par
+ * les séquences d'autres pods, donc sous le dernier indexé) est rattrapé
+ * par un contrôle périodique de tous les identifiants de la base.
+ *
+ * Toutes les écritures de l'index passent par un thread dédié
+ * (infoline-search-indexer), jamais par un thread de requête :
+ * - au démarrage (ApplicationReadyEvent), rattrapage depuis la base par
+ *   lots de infoline.search.batch-size articles (id croissant) ; /search
+ *   répond 503 jusqu'à la fin seulement si l'index était vide
+ * - à chaque import ({@link ArticlesImported}, de ce pod ou d'un autre),
+ *   indexation incrémentale des nouveaux articles, visibles dès le lot indexé
+ * - toutes les infoline.search.reconcile-ms, indexation des articles de la
+ *   base absents de l'index (rien n'est relu si les nombres concordent)
+ *
+ * Les fusions de segments tournent sur un second thread
+ * (infoline-search-merger) : un import n'attend jamais une fusion.
+ *
+ * Les résultats sont complétés par les résumés lus en base (une requête
+ * IN sur les identifiants de la page).
+ *
+ * Les recherches ne sont pas mises en cache : les recherches identiques
+ * simultanées (même texte, même limite) passent par un {@link SingleFlight},
+ * si bien qu'une actualité chaude ne déclenche qu'une lecture de l'index
+ * et qu'une requête SQL à la fois pour un même texte.
+ *
+ * Métriques : search.documents, search.segments, search.index.heap.bytes,
+ * search.index.mapped.bytes, search.query (durée de la recherche dans l'index)
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchService.class);
+
+    private final ArticleService articleService;
+    private final InvertedIndex index;
+    private final int batchSize;
+    private final boolean buildOnStartup;
+    private final long reconcileMillis;
+    private final ScheduledExecutorService indexer;
+    private final ExecutorService merger;
+    private final AtomicBoolean mergeScheduled = new AtomicBoolean();
+    private final Timer queries;
+    private final SingleFlight<SearchKey> searches;
+
+    private volatile boolean ready;
+
+    public SearchService(ArticleService articleService,
+                         MeterRegistry meterRegistry,
+                         SingleFlightRegistry flights,
+                         @Value("${infoline.search.directory:data/search-index}") String directory,
+                         @Value("${infoline.search.flush-docs:10000}") int flushDocs,
+                         @Value("${infoline.search.merge-factor:8}") int mergeFactor,
+                         @Value("${infoline.search.max-body-chars:4000}") int maxBodyChars,
+                         @Value("${infoline.search.batch-size:1000}") int batchSize,
+                         @Value("${infoline.search.build-on-startup:true}") boolean buildOnStartup,
+                         @Value("${infoline.search.reconcile-ms:600000}") long reconcileMillis) {
+        this.articleService = articleService;
+        this.index = InvertedIndex.openOrReset(Path.of(directory), flushDocs, mergeFactor, maxBodyChars);
+        this.batchSize = batchSize;
+        this.buildOnStartup = buildOnStartup;
+        this.reconcileMillis = reconcileMillis;
+        this.indexer = Executors.newSingleThreadScheduledExecutor(daemonThread("infoline-search-indexer"));
+        this.merger = Executors.newSingleThreadExecutor(daemonThread("infoline-search-merger"));
+        this.searches = flights.create("search", SearchKey::format);
+        this.queries = Timer.builder("search.query")
+            .description("Durée d'une recherche dans l'index (hors lecture des résumés)")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("search.documents", index, InvertedIndex::docCount)
+            .description("Articles indexés")
+            .register(meterRegistry);
+        Gauge.builder("search.segments", index, InvertedIndex::segmentCount)
+            .description("Segments de l'index")
+            .register(meterRegistry);
+        Gauge.builder("search.index.heap.bytes", index, InvertedIndex::heapBytes)
+            .description("Segments pas encore écrits sur disque (tas Java)")
+            .register(meterRegistry);
+        Gauge.builder("search.index.mapped.bytes", index, InvertedIndex::mappedBytes)
+            .description("Segments projetés depuis le disque (hors tas)")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (reconcileMillis > 0) {
+            indexer.scheduleWithFixedDelay(this::reconcile, reconcileMillis, reconcileMillis, TimeUnit.MILLISECONDS);
+        }
+        if (!buildOnStartup) {
+            ready = true;
+            return;
+        }
+        // Index rouvert depuis le disque : servi tout de suite pendant le rattrapage
+        ready = index.docCount() > 0;
+        indexer.execute(() -> catchUp(index.maxArticleId()));
+    }
+
+    /**
+     * Arrêt : les écritures en cours se terminent (un thread interrompu
+     * pendant une écriture fermerait le journal), le reste est dans le journal
+     */
+    @PreDestroy
+    public void stop() {
+        indexer.shutdown();
+        merger.shutdown();
+        try {
+            indexer.awaitTermination(5, TimeUnit.SECONDS);
+            merger.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        index.close();
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // INDEXATION
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Indexe les articles de la base postérieurs au dernier indexé (thread d'indexation)
+     *
+     * @param afterId Dernier identifiant indexé, 0 pour tout construire
+     */
+    void catchUp(long afterId) {
+        long start = System.nanoTime();
+        int indexed = 0;
+        try {
+            List<ArticleText> batch;
+            while (!indexer.isShutdown() && !(batch = articleService.textsAfter(afterId, batchSize)).isEmpty()) {
+                index.index(batch);
+                indexed += batch.size();
+                afterId = batch.get(batch.size() - 1).id();
+                scheduleMerge();
+            }
+            log.info("Index de recherche à jour : {} articles relus en base en {} ms, {} articles, {} segments, "
+                    + "{} Ko sur disque", indexed, (System.nanoTime() - start) / 1_000_000,
+                index.docCount(), index.segmentCount(), index.mappedBytes() / 1024);
+        } catch (RuntimeException e) {
+            // Recherche servie sur l'index partiel plutôt que pas du tout
+            log.error("Construction de l'index de recherche interrompue après l'article {}", afterId, e);
+        }
+        ready = true;
+    }
+
+    /**
+     * Indexe les articles de la base absents de l'index (thread d'indexation)
+     *
+     * Parcourt les identifiants par lots, sans se fier au dernier indexé :
+     * un article importé par un autre pod peut avoir un identifiant plus
+     * petit que ceux déjà indexés ici.
+     */
+    void reconcile() {
+        long afterId = 0;
+        int added = 0;
+        try {
+            if (articleService.count() == index.docCount()) {
+                return;
+            }
+            List<Long> ids;
+            while (!indexer.isShutdown() && !(ids = articleService.idsAfter(afterId, batchSize)).isEmpty()) {
+                List<Long> missing = new ArrayList<>();
+                for (Long id : ids) {
+                    if (!index.contains(id)) {
+                        missing.add(id);
+                    }
+                }
+                if (!missing.isEmpty()) {
+                    index.index(articleService.texts(missing));
+                    added += missing.size();
+                }
+                afterId = ids.get(ids.size() - 1);
+            }
+        } catch (RuntimeException e) {
+            // Une exception annulerait les contrôles suivants
+            log.warn("Contrôle de l'index de recherche interrompu après l'article {}", afterId, e);
+        }
+        if (added > 0) {
+            log.info("Index de recherche recalé sur la base : {} articles manquants indexés", added);
+            scheduleMerge();
+        }
+    }
+
+    /**
+     * Nouveaux articles (de ce pod ou d'un autre) : indexés sur le thread
+     * d'indexation, après la transaction d'import
+     */
+    @EventListener
+    public void onArticlesImported(ArticlesImported event) {
+        indexer.execute(() -> {
+            try {
+                index.index(articleService.texts(event.ids()));
+                scheduleMerge();
+            } catch (RuntimeException e) {
+                log.warn("Indexation de {} articles importés impossible", event.ids().size(), e);
+            }
+        });
+    }
+
+    /**
+     * Une seule tâche de fusion en attente à la fois ; elle fusionne tant qu'il y a à faire
+     */
+    private void scheduleMerge() {
+        if (merger.isShutdown() || !mergeScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        merger.execute(() -> {
+            mergeScheduled.set(false);
+            try {
+                while (!merger.isShutdown() && index.mergeOnce()) {
+                    log.debug("Segments de recherche après fusion : {}", index.segmentCount());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Fusion de segments de recherche impossible", e);
+            }
+        });
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // RECHERCHE
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * @return false tant que la construction initiale de l'index n'est pas terminée
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @param query Texte saisi
+     * @param limit Nombre de résultats
+     * @return Résultats, du plus au moins pertinent
+     */
+    public SearchResults search(String query, int limit) {
+        return searches.run(new SearchKey(query, limit), () -> execute(query, limit));
+    }
+
+    private SearchResults execute(String query, int limit) {
+        SearchHits hits = queries.record(() -> index.search(query, limit));
+
+        List<Long> ids = new ArrayList<>(hits.hits().size());
+        Map<Long, Float> scores = new HashMap<>();
+        for (SearchHit hit : hits.hits()) {
+            ids.add(hit.articleId());
+            scores.put(hit.articleId(), hit.score());
+        }
+        List<SearchResult> items = new ArrayList<>(ids.size());
+        for (ArticleSummary summary : articleService.summaries(ids)) {
+            items.add(new SearchResult(summary, scores.get(summary.id())));
+        }
+        return new SearchResults(query, hits.total(), items);
+    }
+
+    InvertedIndex index() {
+        return index;
+    }
+
+    private static ThreadFactory daemonThread(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Clé d'une recherche en cours
+     *
+     * @param query Texte saisi
+     * @param limit Nombre de résultats
+     */
+    private record SearchKey(String query, int limit) {
+
+        /**
+         * @return "limite|texte" (texte en dernier : seul champ libre)
+         */
+        String format() {
+            return limit + "|" + query;
+        }
+    }
+}
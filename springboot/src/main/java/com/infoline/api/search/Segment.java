@@ -0,0 +1,396 @@
+package com.infoline.api.search;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Segment d'index immuable : dictionnaire trié et postings compressés
+ *
+ * Un seul format, lu par positions absolues dans un {@link ByteBuffer} :
+ * - tableau en mémoire pour les segments récents (tampon d'écriture) ;
+ * - fichier projeté en mémoire ({@link FileChannel#map}) une fois écrit sur
+ *   disque : les pages sont chargées à la demande par le système et restent
+ *   hors du tas Java, l'ouverture ne lit rien.
+ *
+ * Disposition (entiers big-endian) :
+ * <pre>
+ *   articleIds     long × maxDoc
+ *   docLengths     int  × maxDoc      longueur pondérée (BM25)
+ *   idOrder        int  × maxDoc      documents triés par identifiant d'article
+ *   postings       octets             (écart de document, fréquence) en varint
+ *   termBytes      octets             termes UTF-8 triés, bout à bout
+ *   termStarts     int  × (terms + 1) début de chaque terme dans termBytes
+ *   docFreqs       int  × terms
+ *   postingStarts  int  × (terms + 1) début des postings de chaque terme
+ *   pied           maxDoc, terms, totalLength (long), taille des postings,
+ *                  taille de termBytes, version, magic
+ * </pre>
+ *
+ * Un segment n'est jamais modifié : un article supprimé ou réindexé est
+ * masqué par le BitSet des documents supprimés de l'instantané
+ * ({@link InvertedIndex}), et disparaît à la fusion suivante.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class Segment {
+
+    static final int MAGIC = 0x494C5347;
+    static final int VERSION = 1;
+    static final int FOOTER_BYTES = 32;
+
+    /** Taille maximale d'un segment (une seule projection) */
+    static final long MAX_BYTES = Integer.MAX_VALUE - 8;
+
+    private final String name;
+    private final ByteBuffer data;
+    private final int maxDoc;
+    private final int termCount;
+    private final long totalLength;
+
+    private final int lengthsOffset;
+    private final int idOrderOffset;
+    private final int postingsOffset;
+    private final int termBytesOffset;
+    private final int termStartsOffset;
+    private final int docFreqsOffset;
+    private final int postingStartsOffset;
+
+    /**
+     * @param name Nom du fichier (sans extension), null pour un segment en mémoire
+     * @param data Contenu complet du segment
+     */
+    private Segment(String name, ByteBuffer data) {
+        this.name = name;
+        this.data = data;
+        int footer = data.capacity() - FOOTER_BYTES;
+        if (footer < 0 || data.getInt(footer + 28) != MAGIC) {
+            throw new IllegalStateException("Segment " + name + " illisible (magic)");
+        }
+        if (data.getInt(footer + 24) != VERSION) {
+            throw new IllegalStateException("Segment " + name + " : version " + data.getInt(footer + 24));
+        }
+        this.maxDoc = data.getInt(footer);
+        this.termCount = data.getInt(footer + 4);
+        this.totalLength = data.getLong(footer + 8);
+        int postingsLength = data.getInt(footer + 16);
+        int termBytesLength = data.getInt(footer + 20);
+
+        this.lengthsOffset = 8 * maxDoc;
+        this.idOrderOffset = 12 * maxDoc;
+        this.postingsOffset = 16 * maxDoc;
+        this.termBytesOffset = postingsOffset + postingsLength;
+        this.termStartsOffset = termBytesOffset + termBytesLength;
+        this.docFreqsOffset = termStartsOffset + 4 * (termCount + 1);
+        this.postingStartsOffset = docFreqsOffset + 4 * termCount;
+        if (postingStartsOffset + 4 * (termCount + 1) != footer) {
+            throw new IllegalStateException("Segment " + name + " tronqué ou corrompu");
+        }
+    }
+
+    /**
+     * Projette un segment écrit sur disque (rien n'est lu à l'ouverture)
+     *
+     * @param name Nom du segment
+     * @param file Fichier du segment
+     */
+    static Segment open(String name, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // La projection survit à la fermeture du canal
+            return new Segment(name, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    // ── Documents ──
+
+    /**
+     * @return Nom du fichier du segment, null s'il n'existe qu'en mémoire
+     */
+    String name() {
+        return name;
+    }
+
+    boolean isMapped() {
+        return name != null;
+    }
+
+    int maxDoc() {
+        return maxDoc;
+    }
+
+    long articleId(int doc) {
+        return data.getLong(8 * doc);
+    }
+
+    int docLength(int doc) {
+        return data.getInt(lengthsOffset + 4 * doc);
+    }
+
+    /**
+     * @return Somme des longueurs pondérées de tous les documents, supprimés compris
+     */
+    long totalLength() {
+        return totalLength;
+    }
+
+    /**
+     * @return Plus grand identifiant d'article du segment, 0 s'il est vide
+     */
+    long maxArticleId() {
+        return maxDoc == 0 ? 0 : articleId(data.getInt(idOrderOffset + 4 * (maxDoc - 1)));
+    }
+
+    /**
+     * @return Document interne de l'article, -1 s'il n'est pas dans le segment
+     */
+    int docOf(long articleId) {
+        int low = 0;
+        int high = maxDoc - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int doc = data.getInt(idOrderOffset + 4 * middle);
+            long candidate = articleId(doc);
+            if (candidate < articleId) {
+                low = middle + 1;
+            } else if (candidate > articleId) {
+                high = middle - 1;
+            } else {
+                return doc;
+            }
+        }
+        return -1;
+    }
+
+    // ── Termes ──
+
+    int termCount() {
+        return termCount;
+    }
+
+    /**
+     * @param term Terme en UTF-8
+     * @return Rang du terme dans le dictionnaire, -1 s'il est absent
+     */
+    int termOrdinal(byte[] term) {
+        int low = 0;
+        int high = termCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compareTerm(middle, term);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    int termOrdinal(String term) {
+        return termOrdinal(term.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return Terme du rang donné, en UTF-8 (copie)
+     */
+    byte[] termBytes(int ordinal) {
+        int start = termStart(ordinal);
+        byte[] term = new byte[termStart(ordinal + 1) - start];
+        data.get(termBytesOffset + start, term);
+        return term;
+    }
+
+    int docFreq(int ordinal) {
+        return data.getInt(docFreqsOffset + 4 * ordinal);
+    }
+
+    PostingsIterator postings(int ordinal) {
+        return new PostingsIterator(data,
+            postingsOffset + data.getInt(postingStartsOffset + 4 * ordinal),
+            postingsOffset + data.getInt(postingStartsOffset + 4 * (ordinal + 1)));
+    }
+
+    /**
+     * @return Taille du segment en octets (tas ou fichier projeté)
+     */
+    long sizeInBytes() {
+        return data.capacity();
+    }
+
+    private int termStart(int ordinal) {
+        return data.getInt(termStartsOffset + 4 * ordinal);
+    }
+
+    /**
+     * Ordre des octets non signés : celui des points de code
+     */
+    private int compareTerm(int ordinal, byte[] term) {
+        int start = termBytesOffset + termStart(ordinal);
+        int length = termStart(ordinal + 1) - termStart(ordinal);
+        for (int i = 0; i < Math.min(length, term.length); i++) {
+            int difference = (data.get(start + i) & 0xFF) - (term[i] & 0xFF);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length - term.length;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // CONSTRUCTION ET FUSION
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Fusionne des segments en un seul, sans leurs documents supprimés
+     *
+     * Les documents gardent leur ordre (segments pris dans l'ordre donné) :
+     * les listes de postings restent croissantes après renumérotation. Les
+     * dictionnaires, déjà triés, sont parcourus ensemble (fusion k-aire) :
+     * un terme à la fois en mémoire.
+     *
+     * @param segments Segments à fusionner
+     * @param deleted  Documents supprimés de chaque segment (même ordre)
+     * @param target   Destination (fichier ou mémoire)
+     */
+    static void merge(List<Segment> segments, List<BitSet> deleted, SegmentWriter target) throws IOException {
+        int[][] docMaps = new int[segments.size()][];
+        for (int s = 0; s < segments.size(); s++) {
+            Segment segment = segments.get(s);
+            BitSet removed = deleted.get(s);
+            int[] docMap = new int[segment.maxDoc()];
+            for (int doc = 0; doc < docMap.length; doc++) {
+                docMap[doc] = removed.get(doc) ? -1 : target.addDocument(segment.articleId(doc), segment.docLength(doc));
+            }
+            docMaps[s] = docMap;
+        }
+
+        PriorityQueue<TermCursor> cursors = new PriorityQueue<>();
+        for (int s = 0; s < segments.size(); s++) {
+            if (segments.get(s).termCount() > 0) {
+                cursors.add(new TermCursor(s, segments.get(s)));
+            }
+        }
+        PostingsBuffer merged = new PostingsBuffer();
+        while (!cursors.isEmpty()) {
+            byte[] term = cursors.peek().term;
+            merged.reset();
+            // À terme égal, les segments sortent dans leur ordre : documents croissants
+            while (!cursors.isEmpty() && Arrays.equals(cursors.peek().term, term)) {
+                TermCursor cursor = cursors.poll();
+                int[] docMap = docMaps[cursor.index];
+                PostingsIterator postings = cursor.segment.postings(cursor.ordinal);
+                while (postings.next()) {
+                    int doc = docMap[postings.doc()];
+                    if (doc >= 0) {
+                        merged.add(doc, postings.freq());
+                    }
+                }
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                }
+            }
+            if (merged.docFreq() > 0) {
+                target.addTerm(term, merged);
+            }
+        }
+        target.finish();
+    }
+
+    /**
+     * Position dans le dictionnaire d'un segment pendant une fusion
+     */
+    private static final class TermCursor implements Comparable<TermCursor> {
+
+        private final int index;
+        private final Segment segment;
+        private int ordinal;
+        private byte[] term;
+
+        TermCursor(int index, Segment segment) {
+            this.index = index;
+            this.segment = segment;
+            this.term = segment.termBytes(0);
+        }
+
+        boolean advance() {
+            if (++ordinal >= segment.termCount()) {
+                return false;
+            }
+            term = segment.termBytes(ordinal);
+            return true;
+        }
+
+        @Override
+        public int compareTo(TermCursor other) {
+            int comparison = Arrays.compareUnsigned(term, other.term);
+            return comparison != 0 ? comparison : Integer.compare(index, other.index);
+        }
+    }
+
+    /**
+     * Construction d'un segment en mémoire, document par document (un seul thread)
+     */
+    static final class Builder {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final SegmentWriter writer = new SegmentWriter(bytes);
+        private final Map<String, PostingsBuffer> postings = new HashMap<>();
+
+        /**
+         * @param articleId   Identifiant d'article
+         * @param frequencies Fréquence pondérée de chaque terme
+         * @param length      Longueur pondérée du document
+         */
+        void add(long articleId, Map<String, Integer> frequencies, int length) {
+            int doc = writer.addDocument(articleId, length);
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), key -> new PostingsBuffer()).add(doc, entry.getValue());
+            }
+        }
+
+        int maxDoc() {
+            return writer.maxDoc();
+        }
+
+        Segment build() {
+            List<Map.Entry<byte[], PostingsBuffer>> terms = new ArrayList<>(postings.size());
+            for (Map.Entry<String, PostingsBuffer> entry : postings.entrySet()) {
+                terms.add(Map.entry(entry.getKey().getBytes(StandardCharsets.UTF_8), entry.getValue()));
+            }
+            terms.sort((a, b) -> Arrays.compareUnsigned(a.getKey(), b.getKey()));
+            try {
+                for (Map.Entry<byte[], PostingsBuffer> term : terms) {
+                    writer.addTerm(term.getKey(), term.getValue());
+                }
+                writer.finish();
+            } catch (IOException e) {
+                // ByteArrayOutputStream ne lève pas d'IOException
+                throw new UncheckedIOException(e);
+            }
+            return inMemory(bytes.toByteArray());
+        }
+    }
+
+    /**
+     * @param bytes Segment complet écrit par un {@link SegmentWriter}
+     * @return Segment en mémoire (tas)
+     */
+    static Segment inMemory(byte[] bytes) {
+        return new Segment(null, ByteBuffer.wrap(bytes).asReadOnlyBuffer());
+    }
+}
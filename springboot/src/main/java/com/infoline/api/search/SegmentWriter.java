@@ -0,0 +1,173 @@
+package com.infoline.api.search;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Écriture séquentielle d'un segment au format de {@link Segment}
+ *
+ * Tous les documents d'abord ({@link #addDocument}), puis les termes dans
+ * l'ordre croissant de leurs octets UTF-8 ({@link #addTerm}) : le fichier
+ * s'écrit d'une traite, sans retour en arrière, et les postings ne sont
+ * jamais tous en mémoire à la fois. Seul le dictionnaire des termes est
+ * gardé jusqu'à {@link #finish()}.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class SegmentWriter {
+
+    private final DataOutputStream out;
+
+    private long[] articleIds = new long[16];
+    private int[] docLengths = new int[16];
+    private int maxDoc;
+    private long totalLength;
+    private boolean docsWritten;
+
+    private final ByteArrayOutputStream termBytes = new ByteArrayOutputStream();
+    private int[] termStarts = new int[16];
+    private int[] docFreqs = new int[16];
+    private int[] postingStarts = new int[16];
+    private int termCount;
+    private long postingsLength;
+    private byte[] lastTerm;
+
+    /**
+     * @param out Destination (fichier tamponné ou tableau en mémoire), non fermée par l'écrivain
+     */
+    SegmentWriter(OutputStream out) {
+        this.out = new DataOutputStream(out);
+    }
+
+    /**
+     * @param articleId Identifiant d'article
+     * @param length    Longueur pondérée du document
+     * @return Document interne attribué
+     */
+    int addDocument(long articleId, int length) {
+        if (docsWritten) {
+            throw new IllegalStateException("Documents ajoutés après le premier terme");
+        }
+        if (maxDoc == articleIds.length) {
+            articleIds = Arrays.copyOf(articleIds, maxDoc * 2);
+            docLengths = Arrays.copyOf(docLengths, maxDoc * 2);
+        }
+        articleIds[maxDoc] = articleId;
+        docLengths[maxDoc] = length;
+        totalLength += length;
+        return maxDoc++;
+    }
+
+    int maxDoc() {
+        return maxDoc;
+    }
+
+    /**
+     * @param term     Terme en UTF-8, supérieur au précédent
+     * @param postings Postings du terme (au moins un)
+     */
+    void addTerm(byte[] term, PostingsBuffer postings) throws IOException {
+        if (lastTerm != null && Arrays.compareUnsigned(lastTerm, term) >= 0) {
+            throw new IllegalArgumentException("Termes non croissants");
+        }
+        writeDocs();
+        if (termCount + 1 >= termStarts.length) {
+            termStarts = Arrays.copyOf(termStarts, termStarts.length * 2);
+            docFreqs = Arrays.copyOf(docFreqs, docFreqs.length * 2);
+            postingStarts = Arrays.copyOf(postingStarts, postingStarts.length * 2);
+        }
+        termStarts[termCount] = termBytes.size();
+        docFreqs[termCount] = postings.docFreq();
+        postingStarts[termCount] = (int) postingsLength;
+        termCount++;
+        termBytes.write(term);
+        postings.writeTo(out);
+        postingsLength += postings.length();
+        lastTerm = term;
+        checkSize();
+    }
+
+    /**
+     * Écrit le dictionnaire et le pied ; la destination n'est pas fermée
+     *
+     * @return Taille du segment en octets
+     */
+    long finish() throws IOException {
+        writeDocs();
+        termStarts[termCount] = termBytes.size();
+        postingStarts[termCount] = (int) postingsLength;
+        checkSize();
+
+        termBytes.writeTo(out);
+        writeInts(termStarts, termCount + 1);
+        writeInts(docFreqs, termCount);
+        writeInts(postingStarts, termCount + 1);
+
+        out.writeInt(maxDoc);
+        out.writeInt(termCount);
+        out.writeLong(totalLength);
+        out.writeInt((int) postingsLength);
+        out.writeInt(termBytes.size());
+        out.writeInt(Segment.VERSION);
+        out.writeInt(Segment.MAGIC);
+        out.flush();
+        return size();
+    }
+
+    /**
+     * Documents, puis permutation triée par identifiant d'article (suppressions)
+     */
+    private void writeDocs() throws IOException {
+        if (docsWritten) {
+            return;
+        }
+        docsWritten = true;
+        for (int doc = 0; doc < maxDoc; doc++) {
+            out.writeLong(articleIds[doc]);
+        }
+        writeInts(docLengths, maxDoc);
+
+        boolean ascending = true;
+        for (int doc = 1; doc < maxDoc && ascending; doc++) {
+            ascending = articleIds[doc - 1] < articleIds[doc];
+        }
+        if (ascending) {
+            for (int doc = 0; doc < maxDoc; doc++) {
+                out.writeInt(doc);
+            }
+        } else {
+            Integer[] order = new Integer[maxDoc];
+            for (int doc = 0; doc < maxDoc; doc++) {
+                order[doc] = doc;
+            }
+            long[] ids = articleIds;
+            Arrays.sort(order, (a, b) -> Long.compare(ids[a], ids[b]));
+            for (Integer doc : order) {
+                out.writeInt(doc);
+            }
+        }
+    }
+
+    private void writeInts(int[] values, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            out.writeInt(values[i]);
+        }
+    }
+
+    private long size() {
+        return 16L * maxDoc + postingsLength + termBytes.size() + 12L * termCount + 8 + Segment.FOOTER_BYTES;
+    }
+
+    /**
+     * Un segment est projeté d'un seul tenant : moins de 2 Go
+     */
+    private void checkSize() {
+        if (size() > Segment.MAX_BYTES) {
+            throw new IllegalStateException("Segment trop gros : " + size() + " octets");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.infoline.api.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Choix des segments à fusionner : paliers de taille
+ *
+ * Un segment est rangé au palier log_f(documents vivants / flushDocs),
+ * f = mergeFactor : les segments fraîchement écrits au palier 0, leurs
+ * fusions au palier 1, etc. Dès qu'un palier compte f segments, les f plus
+ * petits sont fusionnés. Chaque document n'est donc recopié qu'une fois
+ * par palier (coût logarithmique), et le nombre de segments reste borné
+ * par f × nombre de paliers.
+ *
+ * Un segment dont plus de la moitié des documents sont supprimés (articles
+ * réindexés) est réécrit seul pour rendre la place.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class TieredMergePolicy {
+
+    private static final double MAX_DELETED_RATIO = 0.5;
+
+    private final int mergeFactor;
+    private final int flushDocs;
+    private final long maxSegmentBytes;
+
+    /**
+     * @param mergeFactor     Segments fusionnés à la fois (au moins 2)
+     * @param flushDocs       Taille (documents) d'un segment du palier 0
+     * @param maxSegmentBytes Taille au-delà de laquelle une fusion n'est pas tentée
+     */
+    TieredMergePolicy(int mergeFactor, int flushDocs, long maxSegmentBytes) {
+        this.mergeFactor = Math.max(2, mergeFactor);
+        this.flushDocs = Math.max(1, flushDocs);
+        this.maxSegmentBytes = maxSegmentBytes;
+    }
+
+    int mergeFactor() {
+        return mergeFactor;
+    }
+
+    /**
+     * @param segments Segments candidats
+     * @param deleted  Documents supprimés de chaque segment (même ordre)
+     * @return Positions des segments à fusionner (croissantes), vide s'il n'y a rien à faire
+     */
+    List<Integer> select(List<Segment> segments, List<BitSet> deleted) {
+        List<Integer> candidates = new ArrayList<>();
+        for (int s = 0; s < segments.size(); s++) {
+            candidates.add(s);
+        }
+        candidates.sort(Comparator.comparingInt(s -> live(segments, deleted, s)));
+
+        // Palier le plus bas qui a atteint mergeFactor segments
+        int from = 0;
+        while (from < candidates.size()) {
+            int tier = tier(live(segments, deleted, candidates.get(from)));
+            int to = from;
+            while (to < candidates.size() && tier(live(segments, deleted, candidates.get(to))) == tier) {
+                to++;
+            }
+            if (to - from >= mergeFactor) {
+                List<Integer> picked = new ArrayList<>(candidates.subList(from, from + mergeFactor));
+                long bytes = 0;
+                for (int s : picked) {
+                    bytes += segments.get(s).sizeInBytes();
+                }
+                if (bytes <= maxSegmentBytes) {
+                    picked.sort(null);
+                    return picked;
+                }
+            }
+            from = to;
+        }
+
+        for (int s = 0; s < segments.size(); s++) {
+            int maxDoc = segments.get(s).maxDoc();
+            if (maxDoc > 0 && deleted.get(s).cardinality() > maxDoc * MAX_DELETED_RATIO) {
+                return List.of(s);
+            }
+        }
+        return List.of();
+    }
+
+    private int tier(int liveDocs) {
+        int tier = 0;
+        for (long size = (long) flushDocs * mergeFactor; liveDocs >= size; size *= mergeFactor) {
+            tier++;
+        }
+        return tier;
+    }
+
+    private static int live(List<Segment> segments, List<BitSet> deleted, int s) {
+        return segments.get(s).maxDoc() - deleted.get(s).cardinality();
+    }
+}
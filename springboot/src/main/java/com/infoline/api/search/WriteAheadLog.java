@@ -0,0 +1,223 @@
+package com.infoline.api.search;
+
+import com.infoline.api.article.ArticleText;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Journal des écritures (write-ahead log) de l'index de recherche
+ *
+ * Chaque lot indexé et chaque suppression est ajouté au journal et
+ * synchronisé (fsync) avant d'être visible des recherches. Les lots restent
+ * en mémoire jusqu'à l'écriture du segment suivant : après un arrêt
+ * brutal, ils sont rejoués depuis le journal plutôt que relus en base.
+ *
+ * Enregistrement : longueur (int), CRC32 (int), contenu. Un enregistrement
+ * incomplet ou corrompu (arrêt pendant l'écriture) termine le journal : il
+ * est tronqué à cet endroit à la relecture.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class WriteAheadLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    private static final byte INDEX = 1;
+    private static final byte DELETE = 2;
+    private static final int HEADER_BYTES = 8;
+
+    /** Enregistrement plus long : en-tête corrompu */
+    private static final int MAX_RECORD_BYTES = 256 * 1024 * 1024;
+
+    private final Path file;
+    private final FileChannel channel;
+
+    /**
+     * Rejeu du journal, dans l'ordre d'écriture
+     */
+    interface Replay {
+
+        void index(List<ArticleText> texts);
+
+        void delete(long articleId);
+    }
+
+    WriteAheadLog(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.channel.position(channel.size());
+    }
+
+    /**
+     * Rejoue les enregistrements valides puis se place à leur suite
+     *
+     * @return Nombre d'enregistrements rejoués
+     */
+    int replay(Replay replay) throws IOException {
+        long position = 0;
+        long size = channel.size();
+        int records = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(header, position);
+            int length = header.getInt(0);
+            int checksum = header.getInt(4);
+            if (length <= 0 || length > MAX_RECORD_BYTES || position + HEADER_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(payload, position + HEADER_BYTES);
+            CRC32 crc = new CRC32();
+            crc.update(payload.array());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            apply(payload.array(), replay);
+            position += HEADER_BYTES + length;
+            records++;
+        }
+        if (position < size) {
+            log.warn("Journal {} tronqué à {} octets sur {} (écriture interrompue)", file.getFileName(), position, size);
+            channel.truncate(position);
+            channel.force(true);
+        }
+        channel.position(position);
+        return records;
+    }
+
+    /**
+     * @param texts Lot à journaliser (corps déjà tronqués)
+     */
+    void appendIndex(List<ArticleText> texts) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 * texts.size());
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(INDEX);
+        out.writeInt(texts.size());
+        for (ArticleText text : texts) {
+            out.writeLong(text.id());
+            writeString(out, text.title());
+            writeString(out, text.excerpt());
+            writeString(out, text.body());
+            out.writeInt(text.tags().size());
+            for (String tag : text.tags()) {
+                writeString(out, tag);
+            }
+        }
+        append(bytes.toByteArray());
+    }
+
+    void appendDelete(long articleId) throws IOException {
+        ByteBuffer payload = ByteBuffer.allocate(9);
+        payload.put(DELETE).putLong(articleId);
+        append(payload.array());
+    }
+
+    /**
+     * @return Taille du journal en octets
+     */
+    long size() throws IOException {
+        return channel.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // ── MÉTHODES UTILITAIRES ────────────────────────────────────────
+
+    private void append(byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        record.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        long start = channel.position();
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // Pas d'enregistrement partiel devant les suivants
+            channel.truncate(start);
+            channel.position(start);
+            throw e;
+        }
+    }
+
+    private static void apply(byte[] payload, Replay replay) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte type = in.readByte();
+        if (type == DELETE) {
+            replay.delete(in.readLong());
+            return;
+        }
+        if (type != INDEX) {
+            throw new IOException("Type d'enregistrement inconnu : " + type);
+        }
+        int count = in.readInt();
+        List<ArticleText> texts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = in.readLong();
+            String title = readString(in);
+            String excerpt = readString(in);
+            String body = readString(in);
+            int tagCount = in.readInt();
+            List<String> tags = new ArrayList<>(tagCount);
+            for (int t = 0; t < tagCount; t++) {
+                tags.add(readString(in));
+            }
+            texts.add(new ArticleText(id, title, excerpt, body, tags));
+        }
+        replay.index(texts);
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Fin de journal inattendue");
+            }
+        }
+    }
+
+    /**
+     * Longueur en octets (-1 pour null) puis UTF-8 : pas de limite à 64 Ko comme writeUTF
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
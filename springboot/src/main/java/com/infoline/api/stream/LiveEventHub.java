@@ -0,0 +1,223 @@
+package com.infoline.api.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.infoline.api.article.ArticlesImported;
+import com.infoline.api.web.JsonOutputMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Diffusion des événements en direct (scores, articles) aux abonnés du flux
+ *
+ * Chaque événement est sérialisé une seule fois en {@link StreamFrame}, puis
+ * remis tel quel à chaque abonné : le coût de {@link #publish} ne dépend du
+ * nombre d'abonnés que par la boucle de remise, sans JSON ni copie par abonné.
+ *
+ * Un abonné est une fonction non bloquante (dépôt dans un tampon borné
+ * propre à la connexion, voir {@code StreamSubscriber} en mode Servlet et
+ * {@code ReactiveInfoLineRouter} en mode WebFlux) : un client lent perd ses
+ * trames les plus anciennes, il ne ralentit jamais la diffusion.
+ *
+ * Un battement de cœur est diffusé toutes les infoline.stream.heartbeat-ms
+ * pour garder ouvertes les connexions inactives (nginx, load balancers).
+ *
+ * Métriques : stream.subscribers, stream.frames{result=published|dropped},
+ * stream.heartbeats
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+public class LiveEventHub {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveEventHub.class);
+
+    private final ObjectWriter writer;
+    private final int bufferSize;
+    private final long heartbeatMillis;
+    private final Set<Consumer<StreamFrame>> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong lastId = new AtomicLong();
+    private final ScheduledExecutorService heartbeats;
+    private final Counter published;
+    private final Counter dropped;
+    private final Counter heartbeatsSent;
+
+    public LiveEventHub(JsonOutputMode outputMode,
+                        MeterRegistry meterRegistry,
+                        @Value("${infoline.stream.buffer-size:256}") int bufferSize,
+                        @Value("${infoline.stream.heartbeat-ms:15000}") long heartbeatMillis) {
+        this.writer = outputMode.writer(false);
+        this.bufferSize = bufferSize;
+        this.heartbeatMillis = heartbeatMillis;
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(daemonThreads("infoline-stream-heartbeat"));
+        this.published = frames(meterRegistry, "published");
+        this.dropped = frames(meterRegistry, "dropped");
+        this.heartbeatsSent = Counter.builder("stream.heartbeats")
+            .description("Battements de cœur diffusés")
+            .register(meterRegistry);
+        Gauge.builder("stream.subscribers", subscribers, Set::size)
+            .description("Connexions abonnées au flux en direct")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (heartbeatMillis > 0) {
+            heartbeats.scheduleAtFixedRate(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeats.shutdownNow();
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // DIFFUSION
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Sérialise l'événement une fois et le remet à tous les abonnés
+     *
+     * @param type Type d'événement ([a-z0-9.-], ex: "score")
+     * @param data Données (sérialisées en JSON compact)
+     * @return Trame diffusée
+     */
+    public StreamFrame publish(String type, Object data) {
+        byte[] json;
+        try {
+            json = writer.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Événement " + type + " non sérialisable", e);
+        }
+        StreamFrame frame = StreamFrame.event(lastId.incrementAndGet(), type, json);
+        published.increment();
+        deliver(frame);
+        return frame;
+    }
+
+    /**
+     * Nouveaux articles : les clients rafraîchissent leur fil sans interroger l'API en boucle
+     *
+     * La trame ne porte que le nombre d'articles et leurs identifiants
+     * extrêmes (taille fixe, quel que soit l'import) ; le client recharge
+     * ensuite la première page.
+     */
+    @EventListener
+    public void onArticlesImported(ArticlesImported event) {
+        if (event.ids().isEmpty()) {
+            return;
+        }
+        long firstId = Long.MAX_VALUE;
+        long lastId = Long.MIN_VALUE;
+        for (long id : event.ids()) {
+            firstId = Math.min(firstId, id);
+            lastId = Math.max(lastId, id);
+        }
+        publish("articles", new ArticlesEvent(event.ids().size(), firstId, lastId));
+    }
+
+    void heartbeat() {
+        heartbeatsSent.increment();
+        deliver(StreamFrame.heartbeat());
+    }
+
+    private void deliver(StreamFrame frame) {
+        for (Consumer<StreamFrame> subscriber : subscribers) {
+            try {
+                subscriber.accept(frame);
+            } catch (RuntimeException e) {
+                // Un abonné défaillant ne prive pas les autres de la trame
+                log.debug("Abonné du flux en erreur, désabonné", e);
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // ABONNEMENTS
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * @param subscriber Reçoit chaque trame ; doit rendre la main sans bloquer
+     * @return Abonnement, à fermer à la déconnexion du client
+     */
+    public Subscription subscribe(Consumer<StreamFrame> subscriber) {
+        subscribers.add(subscriber);
+        return () -> subscribers.remove(subscriber);
+    }
+
+    /**
+     * @return Nombre de trames gardées par abonné (les plus anciennes sont perdues au-delà)
+     */
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Trame perdue par un abonné trop lent (tampon plein)
+     */
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * @return Nombre d'abonnés
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Abonnement au flux
+     */
+    @FunctionalInterface
+    public interface Subscription extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private static Counter frames(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("stream.frames")
+            .description("Événements diffusés, et trames perdues par les abonnés lents")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Données de la trame "articles"
+     *
+     * @param count   Articles importés
+     * @param firstId Plus petit identifiant
+     * @param lastId  Plus grand identifiant
+     */
+    record ArticlesEvent(int count, long firstId, long lastId) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.infoline.api.stream;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Flux d'événements en direct (scores, nouveaux articles)
+ *
+ * Remplace l'interrogation en boucle de l'API par une connexion ouverte :
+ * SSE ou NDJSON selon Accept (voir {@link StreamFormat}).
+ *
+ * Actif en mode Servlet/Tomcat (équivalent WebFlux dans
+ * {@code ReactiveInfoLineRouter}). Chaque connexion est une requête
+ * asynchrone : une connexion inactive n'occupe aucun thread, seulement un
+ * socket (server.tomcat.max-connections) et un tampon de trames. Les
+ * écritures sont non bloquantes (voir {@link StreamSubscriber}) : un client
+ * lent ne retient aucun des infoline.stream.writer-threads.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class LiveStreamController {
+
+    private final LiveEventHub hub;
+    private final long maxLifetimeMillis;
+    private final long writeTimeoutMillis;
+    private final ExecutorService writers;
+
+    public LiveStreamController(LiveEventHub hub,
+                                @Value("${infoline.stream.max-lifetime-ms:1800000}") long maxLifetimeMillis,
+                                @Value("${infoline.stream.write-timeout-ms:30000}") long writeTimeoutMillis,
+                                @Value("${infoline.stream.writer-threads:4}") int writerThreads) {
+        this.hub = hub;
+        this.maxLifetimeMillis = maxLifetimeMillis;
+        this.writeTimeoutMillis = writeTimeoutMillis;
+        this.writers = Executors.newFixedThreadPool(writerThreads, daemonThreads("infoline-stream-writer"));
+    }
+
+    /**
+     * Abonnement au flux
+     * URL : GET /api/v1/stream (Accept: text/event-stream ou application/x-ndjson)
+     *
+     * La connexion est fermée au bout de infoline.stream.max-lifetime-ms :
+     * les clients se reconnectent (automatique avec EventSource), ce qui
+     * répartit à nouveau les connexions entre les pods.
+     *
+     * La réponse est écrite directement (requête asynchrone Servlet et
+     * {@code WriteListener}) plutôt que par un {@code ResponseBodyEmitter},
+     * dont les envois sont bloquants.
+     *
+     * @param accept Format demandé (SSE par défaut)
+     */
+    @GetMapping("/stream")
+    public void stream(@RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        StreamFormat format = StreamFormat.negotiate(accept);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(format.mediaType().toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        // Pas de mise en tampon par nginx : chaque trame part immédiatement
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext async = request.startAsync(request, response);
+        async.setTimeout(maxLifetimeMillis);
+        new StreamSubscriber(async, response.getOutputStream(), format, hub, writeTimeoutMillis, writers).start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        writers.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.infoline.api.stream;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formats du flux /api/v1/stream
+ *
+ * - SSE (text/event-stream) : navigateurs (EventSource), reconnexion
+ *   automatique avec Last-Event-ID
+ * - NDJSON (application/x-ndjson) : un objet JSON par ligne, pour les
+ *   clients HTTP et les services
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public enum StreamFormat {
+
+    SSE(MediaType.TEXT_EVENT_STREAM),
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    private final MediaType mediaType;
+
+    StreamFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @param accept En-tête Accept, null si absent
+     * @return Premier format cité par le client, SSE par défaut
+     */
+    public static StreamFormat negotiate(String accept) {
+        if (accept == null) {
+            return SSE;
+        }
+        try {
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                if (type.getQualityValue() == 0) {
+                    continue;
+                }
+                if (type.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON)) {
+                    return NDJSON;
+                }
+                if (type.equalsTypeAndSubtype(MediaType.TEXT_EVENT_STREAM)) {
+                    return SSE;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Accept illisible : format par défaut
+        }
+        return SSE;
+    }
+}
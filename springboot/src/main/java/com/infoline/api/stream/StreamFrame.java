@@ -0,0 +1,91 @@
+package com.infoline.api.stream;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Trame du flux, encodée une fois pour tous les abonnés
+ *
+ * Le JSON de l'événement est sérialisé une seule fois par
+ * {@link LiveEventHub#publish}, puis enveloppé dans les deux formats ;
+ * chaque abonné reçoit la même instance et n'écrit que des octets.
+ *
+ * - SSE    : {@code id: 42\nevent: score\ndata: {...}\n\n}
+ * - NDJSON : {@code {"id":42,"type":"score","data":{...}}\n}
+ *
+ * Les battements de cœur (heartbeat) maintiennent la connexion ouverte à
+ * travers nginx et les load balancers (timeouts d'inactivité) : commentaire
+ * SSE, ignoré par EventSource, et ligne {"type":"heartbeat"} en NDJSON.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public final class StreamFrame {
+
+    /** Type des battements de cœur */
+    public static final String HEARTBEAT = "heartbeat";
+
+    private static final StreamFrame HEARTBEAT_FRAME = new StreamFrame(0, HEARTBEAT,
+        utf8(":" + HEARTBEAT + "\n\n"),
+        utf8("{\"type\":\"" + HEARTBEAT + "\"}\n"));
+
+    private final long id;
+    private final String type;
+    private final byte[] sse;
+    private final byte[] ndjson;
+
+    private StreamFrame(long id, String type, byte[] sse, byte[] ndjson) {
+        this.id = id;
+        this.type = type;
+        this.sse = sse;
+        this.ndjson = ndjson;
+    }
+
+    /**
+     * @param id   Identifiant croissant de l'événement
+     * @param type Type d'événement ([a-z0-9.-], ex: "score", "articles")
+     * @param json Données, JSON compact UTF-8 (sans saut de ligne)
+     * @return Trame encodée dans les deux formats
+     */
+    static StreamFrame event(long id, String type, byte[] json) {
+        byte[] sseHeader = utf8("id: " + id + "\nevent: " + type + "\ndata: ");
+        byte[] ndjsonHeader = utf8("{\"id\":" + id + ",\"type\":\"" + type + "\",\"data\":");
+        return new StreamFrame(id, type,
+            concat(sseHeader, json, utf8("\n\n")),
+            concat(ndjsonHeader, json, utf8("}\n")));
+    }
+
+    /**
+     * @return Battement de cœur (instance partagée)
+     */
+    static StreamFrame heartbeat() {
+        return HEARTBEAT_FRAME;
+    }
+
+    public long id() {
+        return id;
+    }
+
+    public String type() {
+        return type;
+    }
+
+    /**
+     * @param format Format du flux
+     * @return Octets à écrire (partagés : ne pas modifier)
+     */
+    public byte[] bytes(StreamFormat format) {
+        return format == StreamFormat.SSE ? sse : ndjson;
+    }
+
+    private static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] concat(byte[] head, byte[] body, byte[] tail) {
+        byte[] frame = new byte[head.length + body.length + tail.length];
+        System.arraycopy(head, 0, frame, 0, head.length);
+        System.arraycopy(body, 0, frame, head.length, body.length);
+        System.arraycopy(tail, 0, frame, head.length + body.length, tail.length);
+        return frame;
+    }
+}
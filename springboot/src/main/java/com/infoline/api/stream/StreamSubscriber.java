@@ -0,0 +1,257 @@
+package com.infoline.api.stream;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Abonné Servlet du flux : tampon borné et écriture non bloquante
+ *
+ * {@link #accept} (thread de diffusion) ne fait que déposer la trame dans
+ * le tampon de la connexion ; au-delà de sa capacité, la trame la plus
+ * ancienne est perdue (drop-oldest : le client lent garde les événements
+ * les plus récents, ceux qui comptent pour un score en direct).
+ *
+ * Les trames partent par l'E/S non bloquante de Servlet 3.1
+ * ({@link WriteListener}) : on n'écrit que tant que
+ * {@link ServletOutputStream#isReady()} le permet, puis le conteneur
+ * rappelle {@link #onWritePossible()} quand le socket accepte à nouveau des
+ * octets. Aucun thread n'attend un client lent : le pool d'écriture ne fait
+ * que copier des trames dans les tampons du conteneur, une tâche au plus
+ * par connexion.
+ *
+ * Un client qui ne lit plus depuis infoline.stream.write-timeout-ms (socket
+ * plein, trames en attente) est déconnecté ; il se reconnecte et reprend
+ * le flux.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class StreamSubscriber implements Consumer<StreamFrame>, WriteListener, AsyncListener {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamSubscriber.class);
+
+    private final AsyncContext async;
+    private final ServletOutputStream out;
+    private final StreamFormat format;
+    private final int capacity;
+    private final long writeTimeoutNanos;
+    private final Executor writers;
+    private final LiveEventHub hub;
+
+    private final ArrayDeque<StreamFrame> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    /** Trame déposée ou socket de nouveau disponible pendant une écriture */
+    private volatile boolean wakeup;
+    /** Début de l'attente du socket (System.nanoTime), 0 s'il accepte les écritures */
+    private volatile long stalledSince;
+    private volatile LiveEventHub.Subscription subscription;
+
+    // ── État de l'écrivain (thread qui détient draining) ──
+    /** Octets écrits depuis le dernier flush (en-têtes compris au départ) */
+    private boolean unflushed = true;
+
+    /**
+     * @param async          Requête asynchrone de la connexion
+     * @param out            Corps de la réponse
+     * @param writeTimeoutMs Attente maximale du socket avant déconnexion (0 : sans limite)
+     * @param writers        Pool d'écriture
+     */
+    StreamSubscriber(AsyncContext async, ServletOutputStream out, StreamFormat format, LiveEventHub hub,
+                     long writeTimeoutMs, Executor writers) {
+        this.async = async;
+        this.out = out;
+        this.format = format;
+        this.capacity = hub.bufferSize();
+        this.writeTimeoutNanos = writeTimeoutMs * 1_000_000;
+        this.writers = writers;
+        this.hub = hub;
+        this.buffer = new ArrayDeque<>(Math.min(capacity, 16));
+    }
+
+    /**
+     * Abonne la connexion au hub et la désabonne à sa fin (client parti,
+     * durée de vie atteinte, erreur d'écriture) ; le conteneur appelle
+     * ensuite {@link #onWritePossible()} (envoi des en-têtes)
+     */
+    void start() {
+        async.addListener(this);
+        subscription = hub.subscribe(this);
+        out.setWriteListener(this);
+    }
+
+    @Override
+    public void accept(StreamFrame frame) {
+        long stalled = stalledSince;
+        if (stalled != 0 && writeTimeoutNanos > 0 && System.nanoTime() - stalled > writeTimeoutNanos) {
+            log.debug("Client du flux bloqué depuis plus de {} ms, déconnecté", writeTimeoutNanos / 1_000_000);
+            hub.recordDropped();
+            abort();
+            return;
+        }
+        synchronized (buffer) {
+            if (buffer.size() == capacity) {
+                buffer.pollFirst();
+                hub.recordDropped();
+            }
+            buffer.addLast(frame);
+        }
+        scheduleDrain();
+    }
+
+    int buffered() {
+        synchronized (buffer) {
+            return buffer.size();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // ÉCRITURE
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Socket de nouveau disponible (thread du conteneur)
+     */
+    @Override
+    public void onWritePossible() {
+        scheduleDrain();
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        // Client déconnecté pendant une écriture
+        log.trace("Écriture du flux interrompue", error);
+        abort();
+    }
+
+    private void scheduleDrain() {
+        wakeup = true;
+        if (!closed.get() && draining.compareAndSet(false, true)) {
+            try {
+                writers.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                abort();
+            }
+        }
+    }
+
+    /**
+     * Écrit tant que le socket l'accepte ; recommence si une trame ou un
+     * rappel du conteneur est arrivé entre-temps (sinon il serait perdu :
+     * le drapeau draining était encore pris)
+     */
+    private void drain() {
+        do {
+            wakeup = false;
+            try {
+                writeAvailable();
+            } catch (IOException | IllegalStateException e) {
+                // Client déconnecté, ou réponse déjà terminée (durée de vie atteinte)
+                log.trace("Écriture du flux interrompue", e);
+                draining.set(false);
+                abort();
+                return;
+            }
+            draining.set(false);
+        } while (wakeup && !closed.get() && draining.compareAndSet(false, true));
+    }
+
+    private void writeAvailable() throws IOException {
+        while (!closed.get()) {
+            if (!out.isReady()) {
+                // Le conteneur rappellera onWritePossible()
+                if (stalledSince == 0) {
+                    stalledSince = System.nanoTime();
+                }
+                return;
+            }
+            stalledSince = 0;
+            StreamFrame frame = next();
+            if (frame != null) {
+                out.write(frame.bytes(format));
+                unflushed = true;
+            } else if (unflushed) {
+                // Tampon vidé : chaque trame part sans attendre la suivante
+                unflushed = false;
+                out.flush();
+            } else {
+                return;
+            }
+        }
+    }
+
+    private StreamFrame next() {
+        synchronized (buffer) {
+            return buffer.pollFirst();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // FIN DE LA CONNEXION
+    // ═══════════════════════════════════════════════════════════════
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        // Durée de vie atteinte : le client se reconnecte
+        abort();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+        // Pas de redémarrage de la requête asynchrone
+    }
+
+    /**
+     * Désabonne la connexion et termine la réponse, sans attendre d'écriture
+     */
+    private void abort() {
+        if (close()) {
+            try {
+                async.complete();
+            } catch (IllegalStateException e) {
+                // Déjà terminée par le conteneur
+                log.trace("Flux déjà terminé", e);
+            }
+        }
+    }
+
+    /**
+     * @return true au premier appel
+     */
+    boolean close() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        LiveEventHub.Subscription current = subscription;
+        if (current != null) {
+            current.close();
+        }
+        synchronized (buffer) {
+            buffer.clear();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+package com.infoline.api.suggest;
+
+import com.infoline.api.dto.ErrorResponse;
+import com.infoline.api.time.TimestampClock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * Suggestions de saisie (autocomplétion) : rubriques, mots-clés, titres
+ *
+ * Appelé à chaque frappe : la réponse est servie depuis un index en
+ * mémoire, sans accès à la base, et peut être gardée quelques secondes par
+ * le navigateur (retour arrière, même préfixe retapé).
+ *
+ * Actif en mode Servlet/Tomcat, comme les autres endpoints articles
+ * (index alimenté depuis JPA).
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SuggestController {
+
+    /** Nombre de suggestions par défaut */
+    static final int DEFAULT_LIMIT = 8;
+
+    /** Longueur maximale du préfixe */
+    static final int MAX_PREFIX_LENGTH = 100;
+
+    /** Durée de conservation côté client */
+    private static final Duration MAX_AGE = Duration.ofSeconds(30);
+
+    private final SuggestService suggestService;
+    private final TimestampClock timestampClock;
+
+    public SuggestController(SuggestService suggestService, TimestampClock timestampClock) {
+        this.suggestService = suggestService;
+        this.timestampClock = timestampClock;
+    }
+
+    /**
+     * Suggestions dont un mot commence par le préfixe
+     * URL : GET /api/v1/suggest?prefix=ligue+d&amp;limit=8
+     *
+     * @param prefix Texte saisi (insensible à la casse et aux accents)
+     * @param limit  Nombre de suggestions (défaut 8, max infoline.suggest.top-k)
+     * @return Suggestions, 400 si le préfixe est vide ou trop long
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggest(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        if (prefix == null || prefix.isBlank() || prefix.length() > MAX_PREFIX_LENGTH) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid prefix",
+                "Paramètre prefix obligatoire, " + MAX_PREFIX_LENGTH + " caractères au plus", timestampClock.now()));
+        }
+        int size = limit <= 0 ? DEFAULT_LIMIT : limit;
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(MAX_AGE))
+            .body(suggestService.suggest(prefix, size));
+    }
+}
@@ -0,0 +1,377 @@
+package com.infoline.api.suggest;
+
+import com.infoline.api.search.Analyzer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Index des suggestions de saisie : arbre des préfixes compact et immuable
+ *
+ * Clés : libellés normalisés comme la recherche (minuscules, sans accents),
+ * tout ce qui n'est ni lettre ni chiffre ramené à une espace, et indexés à
+ * partir de chaque début de mot : "Le PSG s'impose à Lyon" est proposé
+ * pour "le p", "psg", "impo" ou "lyon".
+ *
+ * Arbre radix (chaîne sans embranchement compressée en une seule arête :
+ * au plus deux nœuds par clé) rangé en largeur dans des tableaux :
+ * - les enfants d'un nœud sont contigus et triés par premier caractère
+ *   (recherche dichotomique) ; ceux du nœud i+1 suivent ceux du nœud i, un
+ *   seul tableau de bornes suffit ;
+ * - une arête ne recopie pas son libellé : elle désigne un passage des
+ *   textes normalisés, mis bout à bout dans un seul char[] ;
+ * - chaque nœud porte les k meilleures entrées de son sous-arbre, calculées
+ *   une fois à la construction.
+ *
+ * Une requête descend le préfixe (longueur × log(alphabet) comparaisons)
+ * puis recopie au plus k suggestions déjà construites : ni parcours du
+ * sous-arbre, ni tri, ni allocation hors de la liste renvoyée.
+ *
+ * Rang : score décroissant (nombre d'articles d'une rubrique ou d'un
+ * mot-clé, 1 pour un titre), puis type ({@link SuggestionType}), puis
+ * ordre d'ajout (titres du plus récent au plus ancien).
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public final class SuggestIndex {
+
+    /** Clé plus longue : tronquée, comme le préfixe saisi */
+    static final int MAX_KEY_CHARS = 48;
+
+    /** Débuts de mot indexés au plus par libellé */
+    static final int MAX_WORD_STARTS = 8;
+
+    static final SuggestIndex EMPTY = new Builder(1).build();
+
+    private final int topK;
+    private final Suggestion[] entries;
+    /** Textes normalisés des entrées, bout à bout */
+    private final char[] labels;
+    /** Arête du nœud i : labels[labelStarts[i], labelEnds[i]) */
+    private final int[] labelStarts;
+    private final int[] labelEnds;
+    /** Enfants du nœud i : [childStarts[i], childStarts[i + 1]) */
+    private final int[] childStarts;
+    /** Meilleures entrées du nœud i : tops[topStarts[i], topStarts[i + 1]) */
+    private final int[] topStarts;
+    private final int[] tops;
+    private final long sizeInBytes;
+
+    private SuggestIndex(int topK, Suggestion[] entries, char[] labels, int[] labelStarts, int[] labelEnds,
+                         int[] childStarts, int[] topStarts, int[] tops) {
+        this.topK = topK;
+        this.entries = entries;
+        this.labels = labels;
+        this.labelStarts = labelStarts;
+        this.labelEnds = labelEnds;
+        this.childStarts = childStarts;
+        this.topStarts = topStarts;
+        this.tops = tops;
+        long size = 2L * labels.length
+            + 4L * (labelStarts.length + labelEnds.length + childStarts.length + topStarts.length + tops.length);
+        for (Suggestion entry : entries) {
+            size += 64 + 2L * entry.text().length() + (entry.slug() == null ? 0 : 2L * entry.slug().length());
+        }
+        this.sizeInBytes = size;
+    }
+
+    /**
+     * @param prefix Texte saisi (casse, accents et ponctuation indifférents)
+     * @param limit  Nombre de suggestions (au plus k)
+     * @return Meilleures suggestions dont un mot commence par le préfixe
+     */
+    public List<Suggestion> lookup(String prefix, int limit) {
+        String key = prefixKey(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int node = 0;
+        int i = 0;
+        while (i < key.length()) {
+            int child = child(node, key.charAt(i));
+            if (child < 0) {
+                return List.of();
+            }
+            int end = labelEnds[child];
+            for (int p = labelStarts[child]; p < end && i < key.length(); p++, i++) {
+                if (labels[p] != key.charAt(i)) {
+                    return List.of();
+                }
+            }
+            node = child;
+        }
+        int from = topStarts[node];
+        Suggestion[] found = new Suggestion[Math.min(limit, topStarts[node + 1] - from)];
+        for (int t = 0; t < found.length; t++) {
+            found[t] = entries[tops[from + t]];
+        }
+        return Arrays.asList(found);
+    }
+
+    /**
+     * @return Suggestions gardées au plus par préfixe
+     */
+    public int topK() {
+        return topK;
+    }
+
+    /**
+     * @return Libellés indexés
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    public int nodeCount() {
+        return childStarts.length - 1;
+    }
+
+    /**
+     * @return Estimation de la place occupée sur le tas
+     */
+    public long sizeInBytes() {
+        return sizeInBytes;
+    }
+
+    /**
+     * Enfant du nœud dont l'arête commence par c (dichotomie), -1 sinon
+     */
+    private int child(int node, char c) {
+        int low = childStarts[node];
+        int high = childStarts[node + 1] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char first = labels[labelStarts[middle]];
+            if (first < c) {
+                low = middle + 1;
+            } else if (first > c) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    // ── NORMALISATION ───────────────────────────────────────────────
+
+    /**
+     * @return Texte normalisé, mots séparés par une espace, sans espace aux extrémités
+     */
+    static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Analyzer.normalize(text);
+        StringBuilder folded = new StringBuilder(normalized.length());
+        boolean separator = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                separator = true;
+                continue;
+            }
+            if (separator && !folded.isEmpty()) {
+                folded.append(' ');
+            }
+            folded.append(c);
+            separator = false;
+        }
+        return folded.toString();
+    }
+
+    /**
+     * Préfixe saisi : un séparateur final est gardé ("psg " n'attend plus
+     * que la suite du mot "psg", pas "psgxyz")
+     */
+    static String prefixKey(String prefix) {
+        String key = fold(prefix);
+        if (!key.isEmpty() && !Character.isLetterOrDigit(prefix.charAt(prefix.length() - 1))) {
+            key += ' ';
+        }
+        return key.length() > MAX_KEY_CHARS ? key.substring(0, MAX_KEY_CHARS) : key;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // CONSTRUCTION
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Construction d'un index (hors du thread des requêtes : tri des clés
+     * et calcul des meilleures entrées de chaque nœud)
+     */
+    public static final class Builder {
+
+        private final int topK;
+        private final List<Item> items = new ArrayList<>();
+
+        /**
+         * @param topK Suggestions gardées par préfixe (limite d'une réponse)
+         */
+        public Builder(int topK) {
+            this.topK = Math.max(1, topK);
+        }
+
+        /**
+         * @param text  Libellé (ignoré s'il est vide)
+         * @param type  Nature
+         * @param slug  Identifiant lisible de la cible
+         * @param score Popularité (ex: nombre d'articles)
+         */
+        public Builder add(String text, SuggestionType type, String slug, long score) {
+            if (text != null && !text.isBlank()) {
+                items.add(new Item(new Suggestion(text.strip(), type, slug), score, items.size()));
+            }
+            return this;
+        }
+
+        public SuggestIndex build() {
+            List<Item> ranked = new ArrayList<>(items);
+            ranked.sort(Comparator.comparingLong(Item::score).reversed()
+                .thenComparing(item -> item.suggestion().type())
+                .thenComparingInt(Item::order));
+
+            // Entrée = rang : comparer deux entrées revient à comparer deux int
+            Suggestion[] entries = new Suggestion[ranked.size()];
+            StringBuilder labels = new StringBuilder();
+            List<Key> keys = new ArrayList<>();
+            for (int e = 0; e < entries.length; e++) {
+                entries[e] = ranked.get(e).suggestion();
+                String folded = fold(entries[e].text());
+                addKeys(folded, e, labels.length(), keys);
+                labels.append(folded);
+            }
+            keys.sort(Comparator.comparing(Key::text).thenComparingInt(Key::entry));
+
+            int n = keys.size();
+            String[] texts = new String[n];
+            int[] keyEntries = new int[n];
+            int[] keyStarts = new int[n];
+            for (int k = 0; k < n; k++) {
+                texts[k] = keys.get(k).text();
+                keyEntries[k] = keys.get(k).entry();
+                keyStarts[k] = keys.get(k).start();
+            }
+
+            // Nœuds en largeur : un nœud couvre les clés [low, high) qui
+            // partagent ses depth premiers caractères
+            int capacity = 2 * n + 1;
+            int[] labelStarts = new int[capacity];
+            int[] labelEnds = new int[capacity];
+            int[] childStarts = new int[capacity + 1];
+            int[] lows = new int[capacity];
+            int[] highs = new int[capacity];
+            int[] depths = new int[capacity];
+            int[] terminalEnds = new int[capacity];
+            highs[0] = n;
+            int nodes = 1;
+            for (int node = 0; node < nodes; node++) {
+                int depth = depths[node];
+                int k = lows[node];
+                // Clés qui s'arrêtent ici : en tête, le tri plaçant un préfixe avant ses suites
+                while (k < highs[node] && texts[k].length() == depth) {
+                    k++;
+                }
+                terminalEnds[node] = k;
+                childStarts[node] = nodes;
+                while (k < highs[node]) {
+                    char c = texts[k].charAt(depth);
+                    int end = k + 1;
+                    while (end < highs[node] && texts[end].charAt(depth) == c) {
+                        end++;
+                    }
+                    int childDepth = depth + commonPrefix(texts[k], texts[end - 1], depth);
+                    labelStarts[nodes] = keyStarts[k] + depth;
+                    labelEnds[nodes] = keyStarts[k] + childDepth;
+                    lows[nodes] = k;
+                    highs[nodes] = end;
+                    depths[nodes] = childDepth;
+                    nodes++;
+                    k = end;
+                }
+            }
+            childStarts[nodes] = nodes;
+
+            // Meilleures entrées, des feuilles vers la racine (enfants après parents)
+            int[][] nodeTops = new int[nodes][];
+            int[] candidates = new int[topK];
+            int total = 0;
+            for (int node = nodes - 1; node >= 0; node--) {
+                int terminals = Math.min(terminalEnds[node] - lows[node], topK);
+                int size = terminals;
+                for (int c = childStarts[node]; c < childStarts[node + 1]; c++) {
+                    size += nodeTops[c].length;
+                }
+                if (candidates.length < size) {
+                    candidates = new int[Math.max(size, 2 * candidates.length)];
+                }
+                System.arraycopy(keyEntries, lows[node], candidates, 0, terminals);
+                int count = terminals;
+                for (int c = childStarts[node]; c < childStarts[node + 1]; c++) {
+                    System.arraycopy(nodeTops[c], 0, candidates, count, nodeTops[c].length);
+                    count += nodeTops[c].length;
+                }
+                Arrays.sort(candidates, 0, count);
+                // Une entrée peut remonter par plusieurs mots : gardée une fois
+                int[] top = new int[Math.min(count, topK)];
+                int kept = 0;
+                for (int i = 0; i < count && kept < top.length; i++) {
+                    if (i == 0 || candidates[i] != candidates[i - 1]) {
+                        top[kept++] = candidates[i];
+                    }
+                }
+                nodeTops[node] = kept == top.length ? top : Arrays.copyOf(top, kept);
+                total += kept;
+            }
+
+            int[] topStarts = new int[nodes + 1];
+            int[] tops = new int[total];
+            for (int node = 0; node < nodes; node++) {
+                System.arraycopy(nodeTops[node], 0, tops, topStarts[node], nodeTops[node].length);
+                topStarts[node + 1] = topStarts[node] + nodeTops[node].length;
+            }
+            return new SuggestIndex(topK, entries, labels.toString().toCharArray(),
+                Arrays.copyOf(labelStarts, nodes), Arrays.copyOf(labelEnds, nodes),
+                Arrays.copyOf(childStarts, nodes + 1), topStarts, tops);
+        }
+
+        /**
+         * Une clé par début de mot, hors lettres isolées (élisions : l', d', s')
+         */
+        private static void addKeys(String folded, int entry, int offset, List<Key> keys) {
+            int starts = 0;
+            for (int i = 0; i < folded.length() && starts < MAX_WORD_STARTS; i++) {
+                if (i > 0 && folded.charAt(i - 1) != ' ') {
+                    continue;
+                }
+                boolean single = i + 1 == folded.length() || folded.charAt(i + 1) == ' ';
+                if (i > 0 && single && !Character.isDigit(folded.charAt(i))) {
+                    continue;
+                }
+                keys.add(new Key(folded.substring(i, Math.min(folded.length(), i + MAX_KEY_CHARS)), entry, offset + i));
+                starts++;
+            }
+        }
+
+        private static int commonPrefix(String a, String b, int from) {
+            int end = Math.min(a.length(), b.length());
+            int i = from;
+            while (i < end && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i - from;
+        }
+
+        private record Item(Suggestion suggestion, long score, int order) {
+        }
+
+        /**
+         * @param start Position du premier caractère de la clé dans les textes mis bout à bout
+         */
+        private record Key(String text, int entry, int start) {
+        }
+    }
+}
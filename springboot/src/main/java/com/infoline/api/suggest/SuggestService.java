@@ -0,0 +1,174 @@
+package com.infoline.api.suggest;
+
+import com.infoline.api.article.ArticleService;
+import com.infoline.api.article.ArticleTitle;
+import com.infoline.api.article.ArticlesImported;
+import com.infoline.api.article.LabelUsage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Suggestions de saisie : construction de l'{@link SuggestIndex} et requêtes
+ *
+ * Sources : rubriques et mots-clés (équipes, joueurs, compétitions), classés
+ * par nombre d'articles, puis les infoline.suggest.max-titles titres
+ * d'articles les plus récents.
+ *
+ * L'index est immuable : il est reconstruit entièrement sur un thread dédié
+ * (infoline-suggest-builder) puis publié par une seule écriture volatile.
+ * Les requêtes lisent l'index courant sans verrou ni attente ; avant la
+ * première construction, elles ne trouvent rien.
+ *
+ * Reconstruction au démarrage (ApplicationReadyEvent) et après chaque
+ * import ({@link ArticlesImported}, de ce pod ou d'un autre par le bus
+ * Redis), différée de infoline.suggest.rebuild-delay-ms : une rafale
+ * d'imports ne coûte qu'une reconstruction. En plus, reconstruction
+ * toutes les infoline.suggest.refresh-ms : un pod qui a manqué un import
+ * (bus absent ou déconnecté) ne sert pas des suggestions périmées
+ * au-delà.
+ *
+ * Métriques : suggest.entries, suggest.index.bytes, suggest.lookup
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SuggestService {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestService.class);
+
+    private final ArticleService articleService;
+    private final int maxTitles;
+    private final int topK;
+    private final long rebuildDelayMs;
+    private final long refreshMs;
+    private final ScheduledExecutorService builder;
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final Timer lookups;
+
+    private volatile SuggestIndex index = SuggestIndex.EMPTY;
+
+    public SuggestService(ArticleService articleService,
+                          MeterRegistry meterRegistry,
+                          @Value("${infoline.suggest.max-titles:50000}") int maxTitles,
+                          @Value("${infoline.suggest.top-k:10}") int topK,
+                          @Value("${infoline.suggest.rebuild-delay-ms:2000}") long rebuildDelayMs,
+                          @Value("${infoline.suggest.refresh-ms:600000}") long refreshMs) {
+        this.articleService = articleService;
+        this.maxTitles = maxTitles;
+        this.topK = topK;
+        this.rebuildDelayMs = rebuildDelayMs;
+        this.refreshMs = refreshMs;
+        this.builder = Executors.newSingleThreadScheduledExecutor(daemonThread("infoline-suggest-builder"));
+        this.lookups = Timer.builder("suggest.lookup")
+            .description("Durée d'une recherche de suggestions")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("suggest.entries", this, service -> service.index.size())
+            .description("Libellés proposés en suggestion")
+            .register(meterRegistry);
+        Gauge.builder("suggest.index.bytes", this, service -> service.index.sizeInBytes())
+            .description("Taille estimée de l'index de suggestions (tas Java)")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        scheduleRebuild(0);
+        if (refreshMs > 0) {
+            builder.scheduleWithFixedDelay(() -> scheduleRebuild(0), refreshMs, refreshMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @EventListener
+    public void onArticlesImported(ArticlesImported event) {
+        scheduleRebuild(rebuildDelayMs);
+    }
+
+    /**
+     * Arrêt : une construction en cours est abandonnée (l'index n'est pas persistant)
+     */
+    @PreDestroy
+    public void stop() {
+        builder.shutdownNow();
+    }
+
+    /**
+     * @param prefix Texte saisi
+     * @param limit  Nombre de suggestions (au plus infoline.suggest.top-k)
+     * @return Suggestions, de la plus à la moins pertinente
+     */
+    public Suggestions suggest(String prefix, int limit) {
+        SuggestIndex current = index;
+        return new Suggestions(prefix, lookups.record(() -> current.lookup(prefix, limit)));
+    }
+
+    /**
+     * Reconstruit l'index depuis la base et le publie (thread de construction)
+     */
+    void rebuild() {
+        long start = System.nanoTime();
+        try {
+            SuggestIndex.Builder next = new SuggestIndex.Builder(topK);
+            for (LabelUsage category : articleService.categoryUsage()) {
+                next.add(category.name(), SuggestionType.CATEGORY, category.slug(), category.articles());
+            }
+            for (LabelUsage tag : articleService.tagUsage()) {
+                next.add(tag.name(), SuggestionType.TAG, tag.slug(), tag.articles());
+            }
+            for (ArticleTitle title : articleService.latestTitles(maxTitles)) {
+                next.add(title.title(), SuggestionType.ARTICLE, title.slug(), 1);
+            }
+            SuggestIndex built = next.build();
+            index = built;
+            log.info("Index de suggestions construit en {} ms : {} libellés, {} nœuds, {} Ko",
+                (System.nanoTime() - start) / 1_000_000, built.size(), built.nodeCount(),
+                built.sizeInBytes() / 1024);
+        } catch (RuntimeException e) {
+            // L'index précédent reste servi
+            log.warn("Construction de l'index de suggestions impossible", e);
+        }
+    }
+
+    SuggestIndex index() {
+        return index;
+    }
+
+    /**
+     * Une seule reconstruction en attente à la fois ; un import arrivé
+     * pendant une construction en déclenche une nouvelle
+     */
+    private void scheduleRebuild(long delayMs) {
+        if (builder.isShutdown() || !rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        builder.schedule(() -> {
+            rebuildScheduled.set(false);
+            rebuild();
+        }, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private static ThreadFactory daemonThread(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.infoline.api.suggest;
+
+/**
+ * Suggestion de saisie
+ *
+ * @param text Libellé affiché (rubrique, mot-clé ou titre, tel quel)
+ * @param type Nature de la suggestion
+ * @param slug Identifiant lisible de la rubrique, du mot-clé ou de l'article
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record Suggestion(String text, SuggestionType type, String slug) {
+}
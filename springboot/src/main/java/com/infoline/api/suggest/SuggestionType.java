@@ -0,0 +1,19 @@
+package com.infoline.api.suggest;
+
+/**
+ * Nature d'une suggestion de saisie
+ *
+ * - CATEGORY : rubrique (GET /api/v1/articles?category=&lt;slug&gt;)
+ * - TAG      : mot-clé (équipes, joueurs, compétitions…)
+ * - ARTICLE  : titre d'article (GET /api/v1/articles/&lt;slug&gt;)
+ *
+ * L'ordre de déclaration départage les suggestions de même score.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public enum SuggestionType {
+    CATEGORY,
+    TAG,
+    ARTICLE
+}
@@ -0,0 +1,15 @@
+package com.infoline.api.suggest;
+
+import java.util.List;
+
+/**
+ * Réponse de GET /api/v1/suggest
+ *
+ * @param prefix Préfixe saisi
+ * @param items  Suggestions, de la plus à la moins pertinente
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record Suggestions(String prefix, List<Suggestion> items) {
+}
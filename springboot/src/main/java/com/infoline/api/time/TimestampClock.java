@@ -0,0 +1,112 @@
+package com.infoline.api.time;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Horloge des timestamps de l'API (format ISO 8601 local, précision milliseconde)
+ *
+ * Remplace {@code LocalDateTime.now().format(ISO_LOCAL_DATE_TIME)}, qui alloue
+ * un LocalDateTime, un contexte de formatage, un StringBuilder et une String
+ * à chaque appel :
+ * - la partie "yyyy-MM-ddTHH:mm:ss" est calculée une fois par seconde
+ * - la chaîne complète est mise en cache pour la milliseconde courante
+ *   (à 5 000 req/s, plusieurs requêtes partagent la même instance)
+ *
+ * Chaque nouvelle milliseconde alloue encore un char[] et une String : les
+ * timestamps sont insérés dans des templates ou sérialisés par Jackson, qui
+ * attendent une String, d'où l'absence d'écriture directe dans un tampon.
+ *
+ * Le fuseau est celui de {@code spring.jackson.time-zone} (Europe/Paris),
+ * et non plus le fuseau par défaut de la JVM (UTC dans les conteneurs).
+ *
+ * Exemple : "2024-03-01T10:15:30.042"
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+public class TimestampClock {
+
+    /** Longueur de "yyyy-MM-ddTHH:mm:ss.SSS" */
+    private static final int LENGTH = 23;
+
+    private static final int SECOND_PREFIX_LENGTH = 19;
+    private static final DateTimeFormatter SECOND_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss");
+
+    private final Clock clock;
+    private final ZoneId zone;
+
+    private volatile SecondPrefix secondPrefix = new SecondPrefix(Long.MIN_VALUE, null);
+    private volatile Formatted formatted = new Formatted(Long.MIN_VALUE, null);
+
+    @Autowired
+    public TimestampClock(@Value("${spring.jackson.time-zone:}") String timeZone) {
+        this(Clock.system(timeZone == null || timeZone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(timeZone)));
+    }
+
+    TimestampClock(Clock clock) {
+        this.clock = clock;
+        this.zone = clock.getZone();
+    }
+
+    /**
+     * @return Fuseau utilisé pour les timestamps
+     */
+    public ZoneId zone() {
+        return zone;
+    }
+
+    /**
+     * Timestamp courant
+     *
+     * @return Timestamp au format ISO 8601 (instance partagée pour une même milliseconde)
+     */
+    public String now() {
+        long millis = clock.millis();
+        Formatted current = formatted;
+        if (current.epochMilli == millis) {
+            return current.text;
+        }
+        String text = format(millis);
+        formatted = new Formatted(millis, text);
+        return text;
+    }
+
+    private String format(long millis) {
+        long second = Math.floorDiv(millis, 1000L);
+        SecondPrefix prefix = secondPrefix;
+        if (prefix.epochSecond != second) {
+            prefix = new SecondPrefix(second, formatSecond(second));
+            secondPrefix = prefix;
+        }
+
+        int ms = (int) Math.floorMod(millis, 1000L);
+        char[] chars = new char[LENGTH];
+        System.arraycopy(prefix.chars, 0, chars, 0, SECOND_PREFIX_LENGTH);
+        chars[19] = '.';
+        chars[20] = (char) ('0' + ms / 100);
+        chars[21] = (char) ('0' + (ms / 10) % 10);
+        chars[22] = (char) ('0' + ms % 10);
+        return new String(chars);
+    }
+
+    private char[] formatSecond(long epochSecond) {
+        ZoneOffset offset = zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond));
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, offset).format(SECOND_FORMAT).toCharArray();
+    }
+
+    private record SecondPrefix(long epochSecond, char[] chars) {
+    }
+
+    private record Formatted(long epochMilli, String text) {
+    }
+}
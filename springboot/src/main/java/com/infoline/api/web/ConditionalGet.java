@@ -0,0 +1,58 @@
+package com.infoline.api.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * GET conditionnels en mode Servlet (If-None-Match / If-Modified-Since)
+ *
+ * Usage dans un contrôleur, avant de construire le corps :
+ * <pre>
+ * ResourceVersion version = ...;
+ * if (ConditionalGet.notModified(request, version)) {
+ *     return null;   // 304 déjà écrit, sans corps
+ * }
+ * return ConditionalGet.ok(version).body(...);
+ * </pre>
+ *
+ * If-None-Match est prioritaire sur If-Modified-Since (RFC 9110), comme le
+ * fait {@link WebRequest#checkNotModified(String, long)}.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Compare les validateurs de la requête à ceux de la ressource ; si le
+     * client est à jour, passe la réponse en 304 (ETag et Last-Modified
+     * positionnés)
+     *
+     * @param request Requête courante
+     * @param version Validateurs de la ressource
+     * @return true si la réponse 304 est prête : le contrôleur renvoie null
+     */
+    public static boolean notModified(WebRequest request, ResourceVersion version) {
+        return request.checkNotModified(version.etag(), version.lastModifiedMillis());
+    }
+
+    /**
+     * @param version Validateurs de la ressource
+     * @return Réponse 200 portant les validateurs ; no-cache : les clients
+     *         et nginx peuvent conserver le corps mais le revalident à
+     *         chaque appel (304 si inchangé)
+     */
+    public static ResponseEntity.BodyBuilder ok(ResourceVersion version) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .eTag(version.etag())
+            .cacheControl(CacheControl.noCache());
+        if (version.lastModified() != null) {
+            builder.lastModified(version.lastModified());
+        }
+        return builder;
+    }
+}
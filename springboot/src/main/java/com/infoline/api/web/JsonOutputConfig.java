@@ -0,0 +1,26 @@
+package com.infoline.api.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Déclare le convertisseur JSON négocié pour Spring MVC
+ *
+ * Spring Boot n'auto-configure pas son propre MappingJackson2HttpMessageConverter
+ * si un bean de ce type existe déjà : celui-ci le remplace.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class JsonOutputConfig {
+
+    @Bean
+    public NegotiatedJsonHttpMessageConverter negotiatedJsonHttpMessageConverter(ObjectMapper objectMapper,
+                                                                               JsonOutputMode outputMode) {
+        return new NegotiatedJsonHttpMessageConverter(objectMapper, outputMode);
+    }
+}
@@ -0,0 +1,57 @@
+package com.infoline.api.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+/**
+ * Choix du format JSON (compact ou indenté) par requête
+ *
+ * - Par défaut : format de l'ObjectMapper, donc de
+ *   {@code spring.jackson.serialization.indent-output}
+ *   (false en général, true dans le profil "dev")
+ * - Paramètre de requête {@code ?pretty=true} / {@code ?pretty=false} :
+ *   force le format pour cette requête
+ *
+ * Le JSON compact est sensiblement plus léger et moins coûteux à générer :
+ * c'est le format des réponses servies en production.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+public class JsonOutputMode {
+
+    /** Nom du paramètre de requête */
+    public static final String PRETTY_PARAM = "pretty";
+
+    private final boolean prettyByDefault;
+    private final ObjectWriter compactWriter;
+    private final ObjectWriter prettyWriter;
+
+    public JsonOutputMode(ObjectMapper objectMapper) {
+        this.prettyByDefault = objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT);
+        this.compactWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.prettyWriter = objectMapper.writer().with(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    /**
+     * @param prettyParam Valeur du paramètre {@code pretty}, null si absent
+     * @return true si la réponse doit être indentée
+     */
+    public boolean isPretty(String prettyParam) {
+        if (prettyParam == null || prettyParam.isBlank()) {
+            return prettyByDefault;
+        }
+        return Boolean.parseBoolean(prettyParam.trim());
+    }
+
+    /**
+     * @param pretty true pour le format indenté
+     * @return Writer Jackson correspondant (partagé, thread-safe)
+     */
+    public ObjectWriter writer(boolean pretty) {
+        return pretty ? prettyWriter : compactWriter;
+    }
+}
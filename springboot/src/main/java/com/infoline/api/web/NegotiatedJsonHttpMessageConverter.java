@@ -0,0 +1,49 @@
+package com.infoline.api.web;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Convertisseur JSON Spring MVC qui applique {@link JsonOutputMode}
+ *
+ * Remplace le MappingJackson2HttpMessageConverter auto-configuré
+ * (voir {@link JsonOutputConfig}) : même ObjectMapper, mais l'indentation
+ * est décidée pour chaque requête (paramètre {@code ?pretty=}).
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public class NegotiatedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final JsonOutputMode outputMode;
+
+    public NegotiatedJsonHttpMessageConverter(ObjectMapper objectMapper, JsonOutputMode outputMode) {
+        super(objectMapper);
+        this.outputMode = outputMode;
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable JavaType javaType,
+                                           @Nullable MediaType contentType) {
+        boolean pretty = outputMode.isPretty(currentPrettyParam());
+        return pretty
+            ? writer.with(SerializationFeature.INDENT_OUTPUT)
+            : writer.without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    private static String currentPrettyParam() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest().getParameter(JsonOutputMode.PRETTY_PARAM);
+        }
+        return null;
+    }
+}
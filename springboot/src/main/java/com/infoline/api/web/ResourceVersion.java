@@ -0,0 +1,129 @@
+package com.infoline.api.web;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Validateurs HTTP d'une ressource : ETag et date de dernière modification
+ *
+ * L'ETag est dérivé d'une version de contenu connue sans sérialiser la
+ * réponse (version JPA d'un article, version d'un template pré-compilé,
+ * identifiants et dates d'une page...) : vérifier un If-None-Match ne
+ * coûte ni rendu JSON ni hachage du corps. Une requête conditionnelle
+ * satisfaite reçoit un 304 sans corps.
+ *
+ * Une même ressource servie en plusieurs représentations (compact/indenté)
+ * porte un ETag distinct par représentation ({@link #variant(String)}),
+ * comme l'exige un ETag fort.
+ *
+ * L'ETag est fort par défaut : même ETag, mêmes octets. Un corps qui varie
+ * à version égale (timestamp, mémoire...) doit porter un ETag faible
+ * ({@link #weak()}).
+ *
+ * @param etag         ETag entre guillemets, précédé de W/ s'il est faible
+ * @param lastModified Dernière modification (à la seconde, précision de HTTP), null si inconnue
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public record ResourceVersion(String etag, Instant lastModified) {
+
+    public ResourceVersion {
+        if (lastModified != null) {
+            lastModified = lastModified.truncatedTo(ChronoUnit.SECONDS);
+        }
+    }
+
+    /**
+     * @param tag          Valeur de l'ETag, sans guillemets ([0-9A-Za-z._-])
+     * @param lastModified Dernière modification, null si inconnue
+     * @return Validateurs
+     */
+    public static ResourceVersion of(String tag, Instant lastModified) {
+        return new ResourceVersion('"' + tag + '"', lastModified);
+    }
+
+    /**
+     * @param prefix Préfixe de l'ETag (type de ressource)
+     * @return Constructeur d'ETag à partir des champs de version
+     */
+    public static Builder builder(String prefix) {
+        return new Builder(prefix);
+    }
+
+    /**
+     * @param suffix Représentation (ex: "pretty")
+     * @return Mêmes validateurs, ETag propre à cette représentation
+     */
+    public ResourceVersion variant(String suffix) {
+        return new ResourceVersion(etag.substring(0, etag.length() - 1) + '-' + suffix + '"', lastModified);
+    }
+
+    /**
+     * @return Mêmes validateurs, ETag faible : représentations équivalentes,
+     *         pas identiques octet pour octet
+     */
+    public ResourceVersion weak() {
+        return etag.startsWith("W/") ? this : new ResourceVersion("W/" + etag, lastModified);
+    }
+
+    /**
+     * @return Dernière modification en millisecondes epoch, -1 si inconnue
+     *         (convention de {@code WebRequest#checkNotModified})
+     */
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.toEpochMilli();
+    }
+
+    /**
+     * Construit un ETag à partir des champs qui versionnent une ressource
+     * (CRC-32C, quelques octets par champ) et retient la date la plus récente
+     */
+    public static final class Builder {
+
+        private final String prefix;
+        private final CRC32C crc = new CRC32C();
+        private Instant lastModified;
+
+        private Builder(String prefix) {
+            this.prefix = prefix;
+        }
+
+        public Builder add(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                crc.update((int) (value >>> shift));
+            }
+            return this;
+        }
+
+        public Builder add(String value) {
+            if (value == null) {
+                crc.update(0);
+            } else {
+                crc.update(value.getBytes(StandardCharsets.UTF_8));
+                // Séparateur : ("ab", "c") et ("a", "bc") donnent des ETag différents
+                crc.update(0xff);
+            }
+            return this;
+        }
+
+        /**
+         * Ajoute une date à l'ETag et la prend en compte pour Last-Modified
+         */
+        public Builder modifiedAt(Instant instant) {
+            if (instant != null) {
+                add(instant.getEpochSecond()).add(instant.getNano());
+                if (lastModified == null || instant.isAfter(lastModified)) {
+                    lastModified = instant;
+                }
+            }
+            return this;
+        }
+
+        public ResourceVersion build() {
+            return ResourceVersion.of(prefix + '-' + Long.toHexString(crc.getValue()), lastModified);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.infoline.api.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Réponse JSON pré-sérialisée en UTF-8, avec des emplacements ("slots")
+ * pour les champs volatils
+ *
+ * Le prototype (Map, record...) est sérialisé UNE fois au démarrage par
+ * l'ObjectMapper de l'application : on hérite ainsi de sa configuration
+ * (indentation, ordre des clés). Chaque valeur volatile est remplacée
+ * dans le prototype par {@link #slot(String)} ; le rendu ne fait ensuite
+ * que recopier les fragments constants et y insérer les valeurs du moment.
+ *
+ * Exemple :
+ * <pre>
+ *   Map&lt;String, Object&gt; proto = Map.of("version", "1.0.0", "timestamp", ResponseTemplate.slot("timestamp"));
+ *   ResponseTemplate template = ResponseTemplate.compile(objectMapper, proto, "timestamp");
+ *   byte[] body = template.render("2024-01-01T12:00:00");
+ * </pre>
+ *
+ * Les valeurs insérées sont toujours des chaînes JSON, échappées comme le
+ * générateur UTF-8 de Jackson échappe les fragments : mêmes échappements
+ * courts (\n, \t...), hexadécimal en majuscules, et surrogates (emoji...)
+ * échappés un par un plutôt qu'écrits en UTF-8 sur 4 octets. Le rendu est
+ * ainsi identique, octet pour octet, à {@code writeValueAsBytes}.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public final class ResponseTemplate {
+
+    private static final String MARKER_PREFIX = "@@infoline-slot:";
+    private static final String MARKER_SUFFIX = "@@";
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    /** Fragments constants : fragments.length == slotOrder.length + 1 */
+    private final byte[][] fragments;
+
+    /** Index (dans l'ordre de compile) de la valeur à insérer après chaque fragment */
+    private final int[] slotOrder;
+
+    private final int slotCount;
+    private final int constantLength;
+    private final long contentVersion;
+
+    private ResponseTemplate(byte[][] fragments, int[] slotOrder, int slotCount) {
+        this.fragments = fragments;
+        this.slotOrder = slotOrder;
+        this.slotCount = slotCount;
+        int length = 0;
+        for (byte[] fragment : fragments) {
+            length += fragment.length;
+        }
+        this.constantLength = length;
+
+        CRC32C crc = new CRC32C();
+        for (int i = 0; i < fragments.length; i++) {
+            crc.update(fragments[i]);
+            if (i < slotOrder.length) {
+                crc.update(slotOrder[i]);
+            }
+        }
+        this.contentVersion = crc.getValue();
+    }
+
+    /**
+     * Version de la partie constante de la réponse, calculée une fois
+     *
+     * Deux templates de même version produisent les mêmes octets pour les
+     * mêmes valeurs d'emplacements (base des ETag, voir {@link ResourceVersion}).
+     *
+     * @return Somme de contrôle (CRC-32C) des fragments constants
+     */
+    public long contentVersion() {
+        return contentVersion;
+    }
+
+    /**
+     * Valeur à placer dans le prototype pour marquer un emplacement
+     *
+     * @param name Nom de l'emplacement
+     * @return Marqueur unique
+     */
+    public static String slot(String name) {
+        return MARKER_PREFIX + name + MARKER_SUFFIX;
+    }
+
+    /**
+     * Sérialise le prototype et le découpe autour des emplacements
+     *
+     * @param mapper    ObjectMapper de l'application
+     * @param prototype Objet à sérialiser, contenant des marqueurs {@link #slot(String)}
+     * @param slotNames Noms des emplacements, dans l'ordre attendu par {@link #render(String...)}
+     * @return Template compilé
+     * @throws IllegalStateException si la sérialisation échoue ou si un emplacement est absent
+     */
+    public static ResponseTemplate compile(ObjectMapper mapper, Object prototype, String... slotNames) {
+        return compile(mapper.writer(), prototype, slotNames);
+    }
+
+    /**
+     * Variante avec un writer explicite (ex: format compact ou indenté)
+     *
+     * @param writer    Writer Jackson à utiliser
+     * @param prototype Objet à sérialiser, contenant des marqueurs {@link #slot(String)}
+     * @param slotNames Noms des emplacements, dans l'ordre attendu par {@link #render(String...)}
+     * @return Template compilé
+     * @throws IllegalStateException si la sérialisation échoue ou si un emplacement est absent
+     */
+    public static ResponseTemplate compile(ObjectWriter writer, Object prototype, String... slotNames) {
+        byte[] json;
+        try {
+            json = writer.writeValueAsBytes(prototype);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Impossible de sérialiser le template de réponse", e);
+        }
+
+        byte[][] markers = new byte[slotNames.length][];
+        for (int i = 0; i < slotNames.length; i++) {
+            markers[i] = ('"' + slot(slotNames[i]) + '"').getBytes(StandardCharsets.UTF_8);
+        }
+
+        List<byte[]> fragments = new ArrayList<>();
+        List<Integer> order = new ArrayList<>();
+        boolean[] seen = new boolean[slotNames.length];
+        int fragmentStart = 0;
+        int pos = 0;
+        while (pos < json.length) {
+            int matched = matchMarker(json, pos, markers);
+            if (matched < 0) {
+                pos++;
+                continue;
+            }
+            fragments.add(Arrays.copyOfRange(json, fragmentStart, pos));
+            order.add(matched);
+            seen[matched] = true;
+            pos += markers[matched].length;
+            fragmentStart = pos;
+        }
+        fragments.add(Arrays.copyOfRange(json, fragmentStart, json.length));
+
+        for (int i = 0; i < seen.length; i++) {
+            if (!seen[i]) {
+                throw new IllegalStateException("Emplacement absent du template : " + slotNames[i]);
+            }
+        }
+
+        return new ResponseTemplate(
+            fragments.toArray(new byte[0][]),
+            order.stream().mapToInt(Integer::intValue).toArray(),
+            slotNames.length
+        );
+    }
+
+    private static int matchMarker(byte[] json, int pos, byte[][] markers) {
+        if (json[pos] != '"') {
+            return -1;
+        }
+        for (int i = 0; i < markers.length; i++) {
+            byte[] marker = markers[i];
+            if (pos + marker.length <= json.length
+                    && Arrays.equals(json, pos, pos + marker.length, marker, 0, marker.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // RENDU (par requête)
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Produit le corps de la réponse
+     *
+     * Une seule allocation : le tableau résultat, dimensionné exactement.
+     *
+     * @param values Valeurs des emplacements, dans l'ordre de {@link #compile}
+     * @return JSON encodé en UTF-8
+     */
+    public byte[] render(String... values) {
+        if (values.length != slotCount) {
+            throw new IllegalArgumentException(
+                "Nombre de valeurs invalide : " + values.length + " (attendu : " + slotCount + ")");
+        }
+
+        int length = constantLength;
+        for (int slot : slotOrder) {
+            length += encodedLength(values[slot]);
+        }
+
+        byte[] out = new byte[length];
+        int pos = 0;
+        for (int i = 0; i < slotOrder.length; i++) {
+            byte[] fragment = fragments[i];
+            System.arraycopy(fragment, 0, out, pos, fragment.length);
+            pos += fragment.length;
+            pos = writeString(values[slotOrder[i]], out, pos);
+        }
+        byte[] last = fragments[fragments.length - 1];
+        System.arraycopy(last, 0, out, pos, last.length);
+        return out;
+    }
+
+    /**
+     * Longueur en octets de la chaîne JSON (guillemets compris)
+     */
+    static int encodedLength(String value) {
+        int length = 2;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || shortEscape(c) != 0) {
+                length += 2;
+            } else if (c < 0x20 || Character.isSurrogate(c)) {
+                length += 6;
+            } else if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Écrit la chaîne JSON (guillemets compris) en UTF-8
+     */
+    static int writeString(String value, byte[] out, int pos) {
+        out[pos++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            byte escape = shortEscape(c);
+            if (c == '"' || c == '\\') {
+                out[pos++] = '\\';
+                out[pos++] = (byte) c;
+            } else if (escape != 0) {
+                out[pos++] = '\\';
+                out[pos++] = escape;
+            } else if (c < 0x20 || Character.isSurrogate(c)) {
+                out[pos++] = '\\';
+                out[pos++] = 'u';
+                out[pos++] = HEX[c >> 12];
+                out[pos++] = HEX[(c >> 8) & 0xF];
+                out[pos++] = HEX[(c >> 4) & 0xF];
+                out[pos++] = HEX[c & 0xF];
+            } else if (c < 0x80) {
+                out[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                out[pos++] = (byte) (0xC0 | (c >> 6));
+                out[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                out[pos++] = (byte) (0xE0 | (c >> 12));
+                out[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        out[pos++] = '"';
+        return pos;
+    }
+
+    /**
+     * @return Lettre de l'échappement court (\n...), 0 si le caractère n'en a pas
+     */
+    private static byte shortEscape(char c) {
+        return switch (c) {
+            case '\b' -> 'b';
+            case '\t' -> 't';
+            case '\n' -> 'n';
+            case '\f' -> 'f';
+            case '\r' -> 'r';
+            default -> 0;
+        };
+    }
+}
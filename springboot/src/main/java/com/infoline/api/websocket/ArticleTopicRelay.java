@@ -0,0 +1,107 @@
+package com.infoline.api.websocket;
+
+import com.infoline.api.article.ArticleService;
+import com.infoline.api.article.ArticlesImported;
+import com.infoline.api.article.LabelUsage;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Publie les imports d'articles ({@link ArticlesImported}, de ce pod ou
+ * d'un autre) sur les sujets d'équipe
+ *
+ * Chaque mot-clé des articles importés désigne le sujet "team.&lt;slug&gt;" ;
+ * seuls les sujets qui ont des abonnés reçoivent l'événement "articles" :
+ * <pre>
+ * {"topic":"team.psg","type":"articles","data":{"count":3}}
+ * </pre>
+ * Le client recharge ensuite la liste des articles.
+ *
+ * Les mots-clés sont lus en base sur un thread dédié, jamais sur celui qui
+ * publie l'événement (écriture de l'import, bus Redis), et seulement si
+ * au moins un sujet a des abonnés.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+public class ArticleTopicRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleTopicRelay.class);
+
+    /** Préfixe des sujets d'équipe */
+    private static final String TEAM = "team.";
+
+    /** Type des événements publiés */
+    static final String TYPE = "articles";
+
+    private final TopicHub hub;
+    private final Function<Collection<Long>, List<LabelUsage>> tagUsage;
+    private final Executor publisher;
+    private final ExecutorService ownPublisher;
+
+    @Autowired
+    public ArticleTopicRelay(TopicHub hub, ArticleService articleService) {
+        this(hub, articleService::tagUsage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "infoline-ws-articles");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    ArticleTopicRelay(TopicHub hub, Function<Collection<Long>, List<LabelUsage>> tagUsage, Executor publisher) {
+        this.hub = hub;
+        this.tagUsage = tagUsage;
+        this.publisher = publisher;
+        this.ownPublisher = publisher instanceof ExecutorService service ? service : null;
+    }
+
+    @EventListener
+    public void onArticlesImported(ArticlesImported event) {
+        if (event.ids().isEmpty() || hub.topicCount() == 0) {
+            return;
+        }
+        try {
+            publisher.execute(() -> publish(event.ids()));
+        } catch (RejectedExecutionException e) {
+            // Arrêt en cours
+            log.debug("Import de {} articles non publié sur les sujets d'équipe", event.ids().size());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ownPublisher != null) {
+            ownPublisher.shutdownNow();
+        }
+    }
+
+    private void publish(List<Long> ids) {
+        List<LabelUsage> usage;
+        try {
+            usage = tagUsage.apply(ids);
+        } catch (RuntimeException e) {
+            log.warn("Mots-clés de {} articles importés illisibles", ids.size(), e);
+            return;
+        }
+        for (LabelUsage tag : usage) {
+            String topic = TEAM + tag.slug();
+            if (TopicHub.isValidTopic(topic) && hub.subscriberCount(topic) > 0) {
+                hub.publish(topic, TYPE, Map.of("count", tag.articles()));
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.infoline.api.websocket;
+
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Envoi d'un message à une session, une écriture en cours au plus
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@FunctionalInterface
+interface FrameSender {
+
+    /**
+     * @param frame Octets du message (partagés : envoyés sans copie)
+     * @param done  Appelé à la fin de l'écriture, avec l'erreur éventuelle (null si envoyé)
+     */
+    void send(byte[] frame, Consumer<Throwable> done);
+
+    /**
+     * Envoi non bloquant par l'API WebSocket du conteneur (RemoteEndpoint.Async) :
+     * aucun thread n'attend un client lent, l'écriture échoue au bout de
+     * sendTimeoutMillis. À défaut de session native, envoi bloquant sur le
+     * pool d'écriture.
+     */
+    static FrameSender of(WebSocketSession session, Executor writers, long sendTimeoutMillis) {
+        jakarta.websocket.Session container = session instanceof NativeWebSocketSession nativeSession
+            ? nativeSession.getNativeSession(jakarta.websocket.Session.class)
+            : null;
+        if (container != null) {
+            jakarta.websocket.RemoteEndpoint.Async remote = container.getAsyncRemote();
+            remote.setSendTimeout(sendTimeoutMillis);
+            return (frame, done) -> remote.sendBinary(ByteBuffer.wrap(frame),
+                result -> done.accept(result.isOK() ? null : Objects.requireNonNullElseGet(
+                    result.getException(), () -> new IOException("Envoi WebSocket échoué"))));
+        }
+        return (frame, done) -> writers.execute(() -> {
+            try {
+                session.sendMessage(new BinaryMessage(frame));
+                done.accept(null);
+            } catch (IOException | RuntimeException e) {
+                done.accept(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package com.infoline.api.websocket;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Message WebSocket, encodé une fois pour tous les abonnés du sujet
+ *
+ * - événement : {@code {"topic":"match.42","type":"goal","data":{...}}}
+ * - réponse à une commande du client :
+ *   {@code {"type":"subscribed","topic":"match.42"}} ou
+ *   {@code {"type":"error","code":"invalid-topic"}}
+ *
+ * Sujets, types et codes sont restreints à [a-z0-9.-] (voir
+ * {@link TopicHub#isValidTopic}) : aucun échappement JSON n'est nécessaire.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+public final class TopicFrame {
+
+    private final String topic;
+    private final String type;
+    private final byte[] bytes;
+
+    private TopicFrame(String topic, String type, byte[] bytes) {
+        this.topic = topic;
+        this.type = type;
+        this.bytes = bytes;
+    }
+
+    /**
+     * @param topic Sujet (ex: "match.42")
+     * @param type  Type d'événement (ex: "goal")
+     * @param json  Données, JSON compact UTF-8
+     * @return Message encodé
+     */
+    static TopicFrame event(String topic, String type, byte[] json) {
+        byte[] head = utf8("{\"topic\":\"" + topic + "\",\"type\":\"" + type + "\",\"data\":");
+        byte[] frame = new byte[head.length + json.length + 1];
+        System.arraycopy(head, 0, frame, 0, head.length);
+        System.arraycopy(json, 0, frame, head.length, json.length);
+        frame[frame.length - 1] = '}';
+        return new TopicFrame(topic, type, frame);
+    }
+
+    /**
+     * @param type  "subscribed" ou "unsubscribed"
+     * @param topic Sujet concerné
+     * @return Accusé de réception d'une commande
+     */
+    static TopicFrame reply(String type, String topic) {
+        return new TopicFrame(topic, type, utf8("{\"type\":\"" + type + "\",\"topic\":\"" + topic + "\"}"));
+    }
+
+    /**
+     * @param code Code d'erreur (ex: "invalid-topic")
+     * @return Commande refusée
+     */
+    static TopicFrame error(String code) {
+        return new TopicFrame(null, "error", utf8("{\"type\":\"error\",\"code\":\"" + code + "\"}"));
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    public String type() {
+        return type;
+    }
+
+    /**
+     * @return Octets du message (partagés entre les abonnés : ne pas modifier)
+     */
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    private static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,169 @@
+package com.infoline.api.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.infoline.api.web.JsonOutputMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Registre des sujets WebSocket (par match, par équipe) et diffusion des événements
+ *
+ * Chaque sujet garde ses abonnés dans un tableau copié à l'écriture : un
+ * abonnement ou un désabonnement (rares) recopie le tableau, la diffusion
+ * (fréquente) le parcourt sans verrou ni allocation. Les modifications
+ * d'un même sujet passent par ConcurrentHashMap.compute, qui les
+ * sérialise ; un sujet sans abonné est retiré du registre.
+ *
+ * Un événement est sérialisé une seule fois en {@link TopicFrame} ; tous
+ * les abonnés reçoivent le même tableau d'octets. Un abonné ne fait que
+ * déposer le message dans son tampon : un client lent ne ralentit jamais
+ * la diffusion, il est déconnecté (voir {@code WebSocketSubscriber}).
+ *
+ * Sujets : "match.&lt;id&gt;" et "team.&lt;slug&gt;". Producteur : les imports
+ * d'articles sur les sujets d'équipe ({@link ArticleTopicRelay}) ; les
+ * événements de match viendront du flux des scores, hors de cette API.
+ *
+ * Métriques : ws.topics, ws.events (événements publiés)
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+public class TopicHub {
+
+    private static final Pattern TOPIC = Pattern.compile("(match|team)\\.[a-z0-9-]{1,64}");
+    private static final Pattern TYPE = Pattern.compile("[a-z0-9.-]{1,32}");
+
+    private static final TopicSubscriber[] NONE = new TopicSubscriber[0];
+
+    private final ObjectWriter writer;
+    private final Map<String, TopicSubscriber[]> topics = new ConcurrentHashMap<>();
+    private final Counter events;
+
+    public TopicHub(JsonOutputMode outputMode, MeterRegistry meterRegistry) {
+        this.writer = outputMode.writer(false);
+        this.events = Counter.builder("ws.events")
+            .description("Événements publiés sur les sujets WebSocket")
+            .register(meterRegistry);
+        Gauge.builder("ws.topics", topics, Map::size)
+            .description("Sujets WebSocket ayant au moins un abonné")
+            .register(meterRegistry);
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // DIFFUSION
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Sérialise l'événement une fois et le remet aux abonnés du sujet
+     *
+     * @param topic Sujet (ex: "match.42", "team.psg")
+     * @param type  Type d'événement ([a-z0-9.-], ex: "goal")
+     * @param data  Données (sérialisées en JSON compact)
+     * @return Nombre d'abonnés servis
+     */
+    public int publish(String topic, String type, Object data) {
+        if (!isValidTopic(topic) || !TYPE.matcher(type).matches()) {
+            throw new IllegalArgumentException("Sujet ou type invalide : " + topic + " / " + type);
+        }
+        TopicSubscriber[] subscribers = topics.getOrDefault(topic, NONE);
+        if (subscribers.length == 0) {
+            return 0;
+        }
+        byte[] json;
+        try {
+            json = writer.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Événement " + type + " non sérialisable", e);
+        }
+        TopicFrame frame = TopicFrame.event(topic, type, json);
+        events.increment();
+        for (TopicSubscriber subscriber : subscribers) {
+            subscriber.offer(frame);
+        }
+        return subscribers.length;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // ABONNEMENTS
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * @return true si l'abonné n'était pas déjà inscrit
+     */
+    boolean subscribe(String topic, TopicSubscriber subscriber) {
+        boolean[] added = {false};
+        topics.compute(topic, (name, current) -> {
+            TopicSubscriber[] subscribers = current == null ? NONE : current;
+            if (indexOf(subscribers, subscriber) >= 0) {
+                return subscribers;
+            }
+            TopicSubscriber[] copy = Arrays.copyOf(subscribers, subscribers.length + 1);
+            copy[subscribers.length] = subscriber;
+            added[0] = true;
+            return copy;
+        });
+        return added[0];
+    }
+
+    /**
+     * @return true si l'abonné était inscrit
+     */
+    boolean unsubscribe(String topic, TopicSubscriber subscriber) {
+        boolean[] removed = {false};
+        topics.computeIfPresent(topic, (name, subscribers) -> {
+            int index = indexOf(subscribers, subscriber);
+            if (index < 0) {
+                return subscribers;
+            }
+            removed[0] = true;
+            if (subscribers.length == 1) {
+                return null;
+            }
+            TopicSubscriber[] copy = new TopicSubscriber[subscribers.length - 1];
+            System.arraycopy(subscribers, 0, copy, 0, index);
+            System.arraycopy(subscribers, index + 1, copy, index, copy.length - index);
+            return copy;
+        });
+        return removed[0];
+    }
+
+    /**
+     * @return Nombre d'abonnés du sujet
+     */
+    public int subscriberCount(String topic) {
+        return topics.getOrDefault(topic, NONE).length;
+    }
+
+    /**
+     * @return Nombre de sujets ayant au moins un abonné
+     */
+    public int topicCount() {
+        return topics.size();
+    }
+
+    /**
+     * @param topic Sujet demandé par un client ou un producteur
+     * @return true pour "match.&lt;id&gt;" ou "team.&lt;slug&gt;" ([a-z0-9-], 64 caractères au plus)
+     */
+    public static boolean isValidTopic(String topic) {
+        return topic != null && TOPIC.matcher(topic).matches();
+    }
+
+    private static int indexOf(TopicSubscriber[] subscribers, TopicSubscriber subscriber) {
+        for (int i = 0; i < subscribers.length; i++) {
+            if (subscribers[i] == subscriber) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
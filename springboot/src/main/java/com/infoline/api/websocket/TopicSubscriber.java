@@ -0,0 +1,18 @@
+package com.infoline.api.websocket;
+
+/**
+ * Destinataire des messages d'un sujet
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+interface TopicSubscriber {
+
+    /**
+     * Dépose un message pour envoi ; appelé par le thread qui publie, doit
+     * rendre la main sans bloquer ni copier les octets
+     *
+     * @param frame Message partagé entre tous les abonnés du sujet
+     */
+    void offer(TopicFrame frame);
+}
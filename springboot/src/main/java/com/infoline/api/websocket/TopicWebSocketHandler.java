@@ -0,0 +1,169 @@
+package com.infoline.api.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Endpoint WebSocket des sujets : /api/v1/ws
+ *
+ * Commandes du client (messages texte) :
+ * - {@code {"action":"subscribe","topic":"match.42"}}
+ * - {@code {"action":"unsubscribe","topic":"team.psg"}}
+ *
+ * Réponses et événements : messages binaires, JSON UTF-8 (voir
+ * {@link TopicFrame}). Une commande invalide reçoit
+ * {@code {"type":"error","code":"..."}} sans fermer la connexion.
+ *
+ * Limites par session : infoline.ws.max-topics sujets,
+ * infoline.ws.max-pending-frames messages en attente (au-delà : déconnexion,
+ * voir {@link WebSocketSubscriber}), commandes de 1 Ko au plus.
+ *
+ * Les envois passent par l'API asynchrone du conteneur ; le pool
+ * infoline-ws-writer ne sert qu'aux fermetures de session (et aux envois
+ * si la session n'expose pas de session JSR-356).
+ *
+ * Métriques : ws.sessions, ws.disconnects{reason=slow}
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TopicWebSocketHandler extends TextWebSocketHandler {
+
+    /** Attribut de session : abonné associé */
+    static final String SUBSCRIBER = TopicWebSocketHandler.class.getName() + ".subscriber";
+
+    private static final int MAX_COMMAND_SIZE = 1024;
+
+    private final TopicHub hub;
+    private final ObjectMapper objectMapper;
+    private final int maxTopics;
+    private final int maxPendingFrames;
+    private final long sendTimeoutMillis;
+    private final ExecutorService writers;
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final Counter slowDisconnects;
+
+    public TopicWebSocketHandler(TopicHub hub,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${infoline.ws.max-topics:32}") int maxTopics,
+                                 @Value("${infoline.ws.max-pending-frames:64}") int maxPendingFrames,
+                                 @Value("${infoline.ws.send-timeout-ms:5000}") long sendTimeoutMillis,
+                                 @Value("${infoline.ws.writer-threads:4}") int writerThreads) {
+        this.hub = hub;
+        this.objectMapper = objectMapper;
+        this.maxTopics = maxTopics;
+        this.maxPendingFrames = maxPendingFrames;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.writers = Executors.newFixedThreadPool(writerThreads, daemonThreads("infoline-ws-writer"));
+        this.slowDisconnects = Counter.builder("ws.disconnects")
+            .description("Sessions WebSocket fermées pour cause de client trop lent")
+            .tag("reason", "slow")
+            .register(meterRegistry);
+        Gauge.builder("ws.sessions", sessions, AtomicInteger::get)
+            .description("Sessions WebSocket ouvertes")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        writers.shutdownNow();
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // CYCLE DE VIE
+    // ═══════════════════════════════════════════════════════════════
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        session.setTextMessageSizeLimit(MAX_COMMAND_SIZE);
+        FrameSender sender = FrameSender.of(session, writers, sendTimeoutMillis);
+        session.getAttributes().put(SUBSCRIBER, new WebSocketSubscriber(
+            session, sender, hub, maxPendingFrames, writers, slowDisconnects::increment));
+        sessions.incrementAndGet();
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        WebSocketSubscriber subscriber = subscriber(session);
+        if (subscriber != null) {
+            subscriber.close();
+            sessions.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        WebSocketSubscriber subscriber = subscriber(session);
+        if (subscriber != null) {
+            subscriber.close();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // COMMANDES
+    // ═══════════════════════════════════════════════════════════════
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        WebSocketSubscriber subscriber = subscriber(session);
+        if (subscriber == null) {
+            return;
+        }
+        JsonNode command;
+        try {
+            command = objectMapper.readTree(message.getPayload());
+        } catch (JsonProcessingException e) {
+            subscriber.offer(TopicFrame.error("invalid-json"));
+            return;
+        }
+        String action = command.path("action").asText();
+        String topic = command.path("topic").asText(null);
+        if (!TopicHub.isValidTopic(topic)) {
+            subscriber.offer(TopicFrame.error("invalid-topic"));
+            return;
+        }
+        switch (action) {
+            case "subscribe" -> subscriber.offer(subscriber.subscribe(topic, maxTopics)
+                ? TopicFrame.reply("subscribed", topic)
+                : TopicFrame.error("too-many-topics"));
+            case "unsubscribe" -> {
+                subscriber.unsubscribe(topic);
+                subscriber.offer(TopicFrame.reply("unsubscribed", topic));
+            }
+            default -> subscriber.offer(TopicFrame.error("invalid-action"));
+        }
+    }
+
+    private static WebSocketSubscriber subscriber(WebSocketSession session) {
+        return (WebSocketSubscriber) session.getAttributes().get(SUBSCRIBER);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.infoline.api.websocket;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * Enregistrement de l'endpoint WebSocket /api/v1/ws (mode Servlet/Tomcat)
+ *
+ * Origines autorisées : infoline.ws.allowed-origins (motifs, ex:
+ * https://*.infoline.fr) ; les applications mobiles n'envoient pas d'en-tête
+ * Origin et ne sont pas concernées.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+@Configuration
+@EnableWebSocket
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final TopicWebSocketHandler handler;
+    private final String[] allowedOrigins;
+
+    public WebSocketConfig(TopicWebSocketHandler handler,
+                           @Value("${infoline.ws.allowed-origins:*}") String[] allowedOrigins) {
+        this.handler = handler;
+        this.allowedOrigins = allowedOrigins;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(handler, "/api/v1/ws").setAllowedOriginPatterns(allowedOrigins);
+    }
+}
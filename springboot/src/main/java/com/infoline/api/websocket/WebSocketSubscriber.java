@@ -0,0 +1,208 @@
+package com.infoline.api.websocket;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Session WebSocket abonnée à des sujets : file bornée et envoi asynchrone
+ *
+ * {@link #offer} (thread qui publie) dépose le message dans la file de la
+ * session et lance l'envoi s'il n'y en a pas déjà un en cours ; la fin de
+ * chaque envoi enchaîne le suivant ({@link FrameSender}, une écriture en
+ * cours au plus par session, comme l'impose l'API WebSocket). Les octets
+ * partagés du {@link TopicFrame} partent dans un message binaire, sans copie
+ * (un message texte serait ré-encodé en UTF-8 pour chaque session).
+ *
+ * Contre-pression : un client qui laisse plus de maxPending messages en
+ * attente, ou dont une écriture dépasse infoline.ws.send-timeout-ms, est
+ * déconnecté (1008 "slow consumer", ou 4500) plutôt que de perdre des
+ * événements sans le savoir ; il se reconnecte et se réabonne.
+ *
+ * @author Équipe DevOps InfoLine
+ * @version 1.0
+ */
+final class WebSocketSubscriber implements TopicSubscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketSubscriber.class);
+
+    static final CloseStatus SLOW_CONSUMER = CloseStatus.POLICY_VIOLATION.withReason("slow consumer");
+
+    private final WebSocketSession session;
+    private final FrameSender sender;
+    private final TopicHub hub;
+    private final int maxPending;
+    private final Executor closer;
+    private final Runnable onSlowConsumer;
+
+    private final ArrayDeque<TopicFrame> pending;
+    private final Set<String> topics = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * @param closer         Exécute la fermeture de la session (hors du thread qui publie)
+     * @param onSlowConsumer Appelé à la déconnexion d'un client trop lent
+     */
+    WebSocketSubscriber(WebSocketSession session, FrameSender sender, TopicHub hub, int maxPending,
+                        Executor closer, Runnable onSlowConsumer) {
+        this.session = session;
+        this.sender = sender;
+        this.hub = hub;
+        this.maxPending = maxPending;
+        this.closer = closer;
+        this.onSlowConsumer = onSlowConsumer;
+        this.pending = new ArrayDeque<>(Math.min(maxPending, 16));
+    }
+
+    @Override
+    public void offer(TopicFrame frame) {
+        if (closed.get()) {
+            return;
+        }
+        boolean overflow;
+        synchronized (pending) {
+            overflow = pending.size() >= maxPending;
+            if (!overflow) {
+                pending.addLast(frame);
+            }
+        }
+        if (overflow) {
+            disconnect(SLOW_CONSUMER);
+        } else if (sending.compareAndSet(false, true)) {
+            sendNext();
+        }
+    }
+
+    // ── Sujets ──
+
+    /**
+     * @return false si le nombre maximal de sujets est atteint
+     */
+    boolean subscribe(String topic, int maxTopics) {
+        if (closed.get() || (topics.size() >= maxTopics && !topics.contains(topic))) {
+            return false;
+        }
+        topics.add(topic);
+        hub.subscribe(topic, this);
+        // Fermeture concurrente : close() a pu parcourir les sujets avant l'ajout
+        if (closed.get()) {
+            hub.unsubscribe(topic, this);
+        }
+        return true;
+    }
+
+    void unsubscribe(String topic) {
+        topics.remove(topic);
+        hub.unsubscribe(topic, this);
+    }
+
+    int topicCount() {
+        return topics.size();
+    }
+
+    int pending() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    // ── Envoi ──
+
+    /**
+     * Envoie le message suivant ; appelé par le seul thread qui détient
+     * {@code sending}
+     */
+    private void sendNext() {
+        TopicFrame frame = closed.get() ? null : next();
+        if (frame == null) {
+            sending.set(false);
+            // Message déposé entre la dernière lecture et la remise à false
+            if (!closed.get() && pending() > 0 && sending.compareAndSet(false, true)) {
+                sendNext();
+            }
+            return;
+        }
+        try {
+            sender.send(frame.bytes(), this::sent);
+        } catch (RuntimeException e) {
+            // Session fermée entre-temps
+            sent(e);
+        }
+    }
+
+    private void sent(Throwable error) {
+        if (error != null) {
+            // Client déconnecté, ou écriture plus longue que send-timeout-ms
+            log.trace("Envoi WebSocket interrompu", error);
+            sending.set(false);
+            disconnect(CloseStatus.SESSION_NOT_RELIABLE);
+            return;
+        }
+        sendNext();
+    }
+
+    private TopicFrame next() {
+        synchronized (pending) {
+            return pending.pollFirst();
+        }
+    }
+
+    // ── Fermeture ──
+
+    /**
+     * Désabonne la session et ferme la connexion, hors du thread appelant
+     * (la trame de fermeture peut attendre une écriture en cours)
+     */
+    private void disconnect(CloseStatus status) {
+        if (!close()) {
+            return;
+        }
+        if (status == SLOW_CONSUMER) {
+            onSlowConsumer.run();
+        }
+        try {
+            closer.execute(() -> {
+                try {
+                    session.close(status);
+                } catch (IOException e) {
+                    log.trace("Fermeture WebSocket", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.trace("Pool d'écriture arrêté, session {} laissée au conteneur", session.getId());
+        }
+    }
+
+    /**
+     * Désabonne la session de tous ses sujets et vide sa file
+     *
+     * @return false si la session était déjà fermée
+     */
+    boolean close() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        for (String topic : topics) {
+            hub.unsubscribe(topic, this);
+        }
+        topics.clear();
+        synchronized (pending) {
+            pending.clear();
+        }
+        return true;
+    }
+}
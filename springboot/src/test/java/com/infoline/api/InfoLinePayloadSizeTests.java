@@ -0,0 +1,83 @@
+package com.infoline.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.infoline.api.health.HealthProbeRegistry;
+import com.infoline.api.metrics.LatencyRecorder;
+import com.infoline.api.metrics.RequestCounters;
+import com.infoline.api.time.TimestampClock;
+import com.infoline.api.web.JsonOutputMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Taille des payloads d'InfoLineController : JSON compact vs indenté
+ *
+ * Débits de sérialisation : voir JsonOutputModeBenchmark (JMH).
+ */
+class InfoLinePayloadSizeTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final JsonOutputMode outputMode = new JsonOutputMode(objectMapper);
+    private InfoLineResponses responses;
+
+    @BeforeEach
+    void setUp() {
+        responses = new InfoLineResponses(new RequestCounters(),
+            new LatencyRecorder(new SimpleMeterRegistry()), outputMode, new TimestampClock("Europe/Paris"),
+            new HealthProbeRegistry(List.of()));
+        ReflectionTestUtils.setField(responses, "applicationName", "infoline-api");
+        ReflectionTestUtils.setField(responses, "appVersion", "1.0.0");
+        ReflectionTestUtils.setField(responses, "environment", "prod");
+        responses.compileTemplates();
+    }
+
+    @Test
+    void compactPayloadsAreSmallerAndEquivalent() throws Exception {
+        Map<String, Function<Boolean, byte[]>> payloads = payloads();
+
+        for (Map.Entry<String, Function<Boolean, byte[]>> payload : payloads.entrySet()) {
+            byte[] compact = payload.getValue().apply(false);
+            byte[] pretty = payload.getValue().apply(true);
+
+            assertThat(compact.length).as(payload.getKey()).isLessThan(pretty.length);
+            assertThat(new String(compact)).as(payload.getKey()).doesNotContain("\n");
+            assertThat(fieldNames(compact)).as(payload.getKey()).isEqualTo(fieldNames(pretty));
+        }
+    }
+
+    private Map<String, Function<Boolean, byte[]>> payloads() {
+        Map<String, Function<Boolean, byte[]>> payloads = new LinkedHashMap<>();
+        payloads.put("home", responses::home);
+        payloads.put("info", responses::info);
+        payloads.put("health", pretty -> serialize(responses.health(), pretty));
+        payloads.put("status", pretty -> serialize(responses.status(), pretty));
+        payloads.put("testError", pretty -> serialize(responses.testError(), pretty));
+        return payloads;
+    }
+
+    private byte[] serialize(Object body, boolean pretty) {
+        try {
+            return outputMode.writer(pretty).writeValueAsBytes(body);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Set<String> fieldNames(byte[] json) throws Exception {
+        Set<String> names = new TreeSet<>();
+        objectMapper.readTree(json).fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
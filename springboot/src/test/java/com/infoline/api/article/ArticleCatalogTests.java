@@ -0,0 +1,102 @@
+package com.infoline.api.article;
+
+import com.infoline.api.cache.LocalCacheFactory;
+import com.infoline.api.cache.TieredCacheFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cache local devant {@link ArticleService}
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ArticleService.class, ArticleCatalog.class, LocalCacheFactory.class, TieredCacheFactory.class,
+    SimpleMeterRegistry.class})
+class ArticleCatalogTests {
+
+    private static final Instant EPOCH = Instant.parse("2024-03-01T08:00:00Z");
+
+    @Autowired
+    private ArticleCatalog articleCatalog;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        // Contexte Spring (et donc caches) partagé entre les tests, base remise à zéro
+        articleCatalog.invalidateAll();
+        articleCatalog.importArticles(List.of(draft("match-amical", "football", 1), draft("montre-gps", "wearables", 2)));
+        statistics.clear();
+    }
+
+    @Test
+    void repeatedReadsAreServedWithoutQueries() {
+        double hits = latestHits();
+        ArticlePage first = articleCatalog.page(null, null, 20);
+        long queries = statistics.getPrepareStatementCount();
+
+        assertThat(articleCatalog.page("", " ", 20)).isSameAs(first);
+        assertThat(articleCatalog.findBySlug("montre-gps")).isPresent();
+        assertThat(articleCatalog.findBySlug("montre-gps")).isPresent();
+        articleCatalog.categories();
+        articleCatalog.categories();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(queries + 2);
+        assertThat(latestHits()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    void limitsAboveMaximumShareOneEntry() {
+        ArticlePage clamped = articleCatalog.page("football", null, ArticleService.MAX_LIMIT);
+
+        assertThat(articleCatalog.page("football", null, 5_000)).isSameAs(clamped);
+    }
+
+    @Test
+    void importInvalidatesPagesAndUnknownSlugs() {
+        assertThat(articleCatalog.findBySlug("mercato")).isEmpty();
+        assertThat(articleCatalog.page(null, null, 20).items()).hasSize(2);
+
+        articleCatalog.importArticles(List.of(draft("mercato", "football", 3)));
+
+        assertThat(articleCatalog.findBySlug("mercato")).isPresent();
+        assertThat(articleCatalog.page(null, null, 20).items())
+            .extracting(ArticleSummary::slug)
+            .containsExactly("mercato", "montre-gps", "match-amical");
+    }
+
+    private double latestHits() {
+        return meterRegistry.get("cache.gets").tags("cache", ArticleCatalog.LATEST, "result", "hit")
+            .functionCounter().count();
+    }
+
+    private static ArticleDraft draft(String slug, String category, int minutes) {
+        return new ArticleDraft(slug, "Titre " + slug, null, "Corps " + slug, category, List.of(),
+            EPOCH.plusSeconds(60L * minutes));
+    }
+}
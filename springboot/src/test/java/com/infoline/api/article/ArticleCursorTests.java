@@ -0,0 +1,39 @@
+package com.infoline.api.article;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArticleCursorTests {
+
+    @Test
+    void roundTripsThroughOpaqueToken() {
+        ArticleCursor cursor = new ArticleCursor(Instant.parse("2024-03-01T08:15:30.123456789Z"), 987_654_321L);
+
+        String token = cursor.encode();
+
+        assertThat(token).hasSize(27).matches("[A-Za-z0-9_-]+");
+        assertThat(ArticleCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void pointsAfterLastArticleOfPage() {
+        Instant publishedAt = Instant.parse("2024-03-01T08:00:00Z");
+        ArticleSummary last = new ArticleSummary(42L, "slug", "Titre", null, "football", publishedAt, publishedAt);
+
+        assertThat(ArticleCursor.after(last)).isEqualTo(new ArticleCursor(publishedAt, 42L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "pas un curseur", "AAAA", "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA", "__________________________8"})
+    void rejectsMalformedTokens(String token) {
+        assertThatThrownBy(() -> ArticleCursor.decode(token))
+            .isInstanceOf(InvalidCursorException.class)
+            .hasMessageContaining("Curseur de pagination invalide");
+    }
+}
@@ -0,0 +1,90 @@
+package com.infoline.api.article;
+
+import com.infoline.api.cache.RemoteCache;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleEventRelayTests {
+
+    private final Bus bus = new Bus();
+    private final List<Object> eventsA = new ArrayList<>();
+    private final List<Object> eventsB = new ArrayList<>();
+    private final ArticleEventRelay podA = new ArticleEventRelay(bus, eventsA::add);
+    private final ArticleEventRelay podB = new ArticleEventRelay(bus, eventsB::add);
+
+    @Test
+    void relaysLocalImportsToOtherPodsOnly() {
+        podA.onArticlesImported(new ArticlesImported(List.of(42L, 7L)));
+
+        assertThat(bus.published).isEqualTo(1);
+        assertThat(eventsA).isEmpty();
+        assertThat(eventsB).containsExactly(new ArticlesImported(List.of(42L, 7L), true));
+    }
+
+    @Test
+    void neverRelaysRemoteImportsBack() {
+        podA.onArticlesImported(new ArticlesImported(List.of(1L)));
+        podB.onArticlesImported((ArticlesImported) eventsB.get(0));
+
+        assertThat(bus.published).isEqualTo(1);
+        assertThat(eventsA).isEmpty();
+    }
+
+    @Test
+    void ignoresUnreadableMessages() {
+        bus.publish(ArticleEventRelay.CHANNEL, "autre-pod\n1,x");
+        bus.publish(ArticleEventRelay.CHANNEL, "sans séparateur");
+
+        assertThat(eventsA).isEmpty();
+        assertThat(eventsB).isEmpty();
+    }
+
+    /**
+     * Bus seul (PUBLISH livré à tous les abonnés, émetteur compris)
+     */
+    private static final class Bus implements RemoteCache {
+
+        private final List<Consumer<String>> subscribers = new ArrayList<>();
+        private int published;
+
+        @Override
+        public void publish(String channel, String message) {
+            published++;
+            subscribers.forEach(listener -> listener.accept(message));
+        }
+
+        @Override
+        public void subscribe(String channel, Consumer<String> listener) {
+            subscribers.add(listener);
+        }
+
+        @Override
+        public byte[] get(String key) {
+            return null;
+        }
+
+        @Override
+        public void set(String key, byte[] value, Duration ttl) {
+        }
+
+        @Override
+        public boolean setIfAbsent(String key, byte[] value, Duration ttl) {
+            return true;
+        }
+
+        @Override
+        public void delete(String key) {
+        }
+
+        @Override
+        public long increment(String key) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.infoline.api.article;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Couche JPA des articles, sur H2 en mode PostgreSQL
+ * (voir src/test/resources/config/application.properties)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ArticleService.class)
+class ArticleServiceTests {
+
+    private static final Instant EPOCH = Instant.parse("2024-03-01T08:00:00Z");
+    private static final String[] CATEGORIES = {"football", "e-sport", "wearables"};
+    private static final String[] TAGS = {"var", "capteurs", "ligue-1", "gps", "data"};
+    private static final Comparator<ArticleSummary> NEWEST_FIRST = Comparator
+        .comparing(ArticleSummary::publishedAt).thenComparing(ArticleSummary::id).reversed();
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    void importGroupsInsertsIntoJdbcBatches() {
+        List<Long> ids = articleService.importArticles(drafts(120));
+
+        assertThat(ids).hasSize(120).doesNotContainNull().doesNotHaveDuplicates();
+        long entityInserts = statistics.getEntityInsertCount();
+        assertThat(entityInserts).isEqualTo(120 + CATEGORIES.length + TAGS.length);
+
+        // Sans batch : au moins une requête préparée par ligne (articles + liens article_tag)
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(entityInserts / 2);
+    }
+
+    @Test
+    void latestReturnsProjectionsWithoutLoadingEntities() {
+        articleService.importArticles(drafts(30));
+        statistics.clear();
+
+        List<ArticleSummary> latest = articleService.page(null, null, 10).items();
+
+        assertThat(latest).hasSize(10);
+        assertThat(latest.get(0).slug()).isEqualTo("article-29");
+        assertThat(latest).isSortedAccordingTo(NEWEST_FIRST);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void pageFiltersByCategoryAndClampsLimit() {
+        articleService.importArticles(drafts(120));
+
+        ArticlePage football = articleService.page("football", null, 100);
+        assertThat(football.items())
+            .hasSize(40)
+            .allSatisfy(summary -> assertThat(summary.category()).isEqualTo("football"));
+        assertThat(football.nextCursor()).isNull();
+        assertThat(articleService.page(null, null, 1_000).items()).hasSize(ArticleService.MAX_LIMIT);
+        assertThat(articleService.page(null, null, 0).items()).hasSize(ArticleService.DEFAULT_LIMIT);
+    }
+
+    @Test
+    void cursorsWalkEveryArticleExactlyOnceInOrder() {
+        articleService.importArticles(drafts(120));
+
+        for (String category : new String[] {null, "e-sport"}) {
+            List<ArticleSummary> walked = new ArrayList<>();
+            String cursor = null;
+            do {
+                ArticlePage page = articleService.page(category, cursor, 7);
+                assertThat(page.items()).hasSizeLessThanOrEqualTo(7);
+                walked.addAll(page.items());
+                cursor = page.nextCursor();
+            } while (cursor != null);
+
+            // Dates identiques deux à deux : l'id départage sans perte ni doublon
+            assertThat(walked).hasSize(category == null ? 120 : 40);
+            assertThat(walked).extracting(ArticleSummary::id).doesNotHaveDuplicates();
+            assertThat(walked).isSortedAccordingTo(NEWEST_FIRST);
+        }
+    }
+
+    @Test
+    void keysetPageIsASingleQuery() {
+        articleService.importArticles(drafts(60));
+        String cursor = articleService.page(null, null, 20).nextCursor();
+        statistics.clear();
+
+        ArticlePage second = articleService.page(null, cursor, 20);
+
+        assertThat(second.items()).hasSize(20);
+        assertThat(second.items().get(0).slug()).isEqualTo("article-39");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        assertThatThrownBy(() -> articleService.page(null, "pas-un-curseur", 20))
+            .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void findBySlugLoadsArticleWithCategoryAndTagsInOneQuery() {
+        articleService.importArticles(drafts(3));
+        statistics.clear();
+
+        ArticleDetail detail = articleService.findBySlug("article-1").orElseThrow();
+
+        assertThat(detail.body()).isEqualTo("Corps de l'article 1");
+        assertThat(detail.category()).isEqualTo("e-sport");
+        assertThat(detail.tags()).containsExactly("capteurs", "ligue-1");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(articleService.findBySlug("inconnu")).isEmpty();
+    }
+
+    @Test
+    void categoriesAreSortedByName() {
+        articleService.importArticles(drafts(3));
+
+        assertThat(articleService.categories())
+            .extracting(CategorySummary::slug)
+            .containsExactly("e-sport", "football", "wearables");
+    }
+
+    @Test
+    void suggestionSourcesCountArticlesPerLabelAndListLatestTitles() {
+        articleService.importArticles(drafts(30));
+
+        assertThat(articleService.categoryUsage())
+            .extracting(LabelUsage::slug, LabelUsage::articles)
+            .containsExactlyInAnyOrder(tuple("e-sport", 10L), tuple("football", 10L), tuple("wearables", 10L));
+        assertThat(articleService.tagUsage())
+            .hasSize(TAGS.length)
+            .allSatisfy(usage -> assertThat(usage.articles()).isEqualTo(12L));
+        assertThat(articleService.latestTitles(3))
+            .extracting(ArticleTitle::title)
+            .containsExactly("Titre 29", "Titre 28", "Titre 27");
+    }
+
+    private static List<ArticleDraft> drafts(int count) {
+        List<ArticleDraft> drafts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            drafts.add(new ArticleDraft(
+                "article-" + i,
+                "Titre " + i,
+                "Chapô " + i,
+                "Corps de l'article " + i,
+                CATEGORIES[i % CATEGORIES.length],
+                List.of(TAGS[i % TAGS.length], TAGS[(i + 1) % TAGS.length]),
+                // Deux articles par date : le tri doit être départagé par l'id
+                EPOCH.plusSeconds(60L * (i / 2))
+            ));
+        }
+        return drafts;
+    }
+}
@@ -0,0 +1,137 @@
+package com.infoline.api.bench;
+
+import com.infoline.api.HelloWorldApiApplication;
+import com.infoline.api.article.ArticleDraft;
+import com.infoline.api.article.ArticlePage;
+import com.infoline.api.article.ArticleService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latence d'une page d'articles en fonction de sa profondeur, de la page 1
+ * à la page {@value #PAGES}
+ *
+ * Pagination keyset : chaque page repart de l'index (published_at, id) au
+ * niveau du curseur, la latence doit rester plate. À titre de comparaison,
+ * la même page en OFFSET parcourt et jette toutes les lignes qui précèdent.
+ *
+ * Base H2 de src/test/resources/config (PostgreSQL donne la même forme de
+ * courbe, avec des valeurs absolues différentes).
+ *
+ * Exclu du build standard. Lancement : mvn -P benchmark test
+ */
+@Tag("benchmark")
+class ArticleKeysetPaginationBenchmark {
+
+    private static final int PAGE_SIZE = ArticleService.DEFAULT_LIMIT;
+    private static final int PAGES = 10_000;
+    private static final int IMPORT_CHUNK = 5_000;
+    private static final int WINDOW = 100;
+
+    @Test
+    void keysetLatencyIsFlatAcrossPages() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(HelloWorldApiApplication.class)
+                .properties(
+                    "spring.main.web-application-type=none",
+                    "spring.jpa.properties.hibernate.generate_statistics=false",
+                    "logging.level.com.infoline=INFO")
+                .run()) {
+
+            ArticleService articleService = context.getBean(ArticleService.class);
+            seed(articleService, PAGES * PAGE_SIZE);
+
+            // Préchauffage (JIT, plans de requête)
+            walk(articleService, 3);
+
+            long[] pageNanos = walk(articleService, 1);
+            long firstPages = median(pageNanos, 0, WINDOW);
+            long lastPages = median(pageNanos, PAGES - WINDOW, PAGES);
+
+            System.out.printf("[keyset] pages 1-%d : médiane %.3f ms%n", WINDOW, firstPages / 1e6);
+            for (int depth : new int[] {1_000, 5_000}) {
+                System.out.printf("[keyset] pages %d-%d : médiane %.3f ms%n",
+                    depth + 1, depth + WINDOW, median(pageNanos, depth, depth + WINDOW) / 1e6);
+            }
+            System.out.printf("[keyset] pages %d-%d : médiane %.3f ms%n", PAGES - WINDOW + 1, PAGES, lastPages / 1e6);
+
+            EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+            for (int page : new int[] {1, PAGES / 10, PAGES}) {
+                System.out.printf("[offset] page %d : médiane %.3f ms%n", page,
+                    offsetMedian(entityManagerFactory, page) / 1e6);
+            }
+
+            assertThat(lastPages)
+                .as("page %d vs page 1 (keyset)", PAGES)
+                .isLessThan(firstPages * 3);
+        }
+    }
+
+    private static void seed(ArticleService articleService, int count) {
+        Instant epoch = Instant.parse("2024-01-01T00:00:00Z");
+        String[] categories = {"football", "e-sport", "wearables", "data"};
+        for (int start = 0; start < count; start += IMPORT_CHUNK) {
+            List<ArticleDraft> drafts = new ArrayList<>(IMPORT_CHUNK);
+            for (int i = start; i < Math.min(start + IMPORT_CHUNK, count); i++) {
+                drafts.add(new ArticleDraft("article-" + i, "Titre " + i, "Chapô " + i, "Corps " + i,
+                    categories[i % categories.length], List.of(), epoch.plusSeconds(i)));
+            }
+            articleService.importArticles(drafts);
+        }
+    }
+
+    /**
+     * Parcourt toutes les pages par curseur, {@code rounds} fois
+     *
+     * @return Durée de chaque page du dernier parcours
+     */
+    private static long[] walk(ArticleService articleService, int rounds) {
+        long[] pageNanos = new long[PAGES];
+        for (int round = 0; round < rounds; round++) {
+            String cursor = null;
+            for (int page = 0; page < PAGES; page++) {
+                long start = System.nanoTime();
+                ArticlePage result = articleService.page(null, cursor, PAGE_SIZE);
+                pageNanos[page] = System.nanoTime() - start;
+                cursor = result.nextCursor();
+            }
+            assertThat(cursor).isNull();
+        }
+        return pageNanos;
+    }
+
+    private static long offsetMedian(EntityManagerFactory entityManagerFactory, int page) {
+        long[] samples = new long[20];
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            for (int i = 0; i < samples.length; i++) {
+                long start = System.nanoTime();
+                entityManager.createQuery(
+                        "select a.id, a.slug, a.title from Article a order by a.publishedAt desc, a.id desc")
+                    .setFirstResult((page - 1) * PAGE_SIZE)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+                samples[i] = System.nanoTime() - start;
+            }
+        } finally {
+            entityManager.close();
+        }
+        return median(samples, 0, samples.length);
+    }
+
+    private static long median(long[] values, int from, int to) {
+        long[] window = Arrays.copyOfRange(values, from, to);
+        Arrays.sort(window);
+        return window[window.length / 2];
+    }
+}
@@ -0,0 +1,142 @@
+package com.infoline.api.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.infoline.api.compression.ContentCoding;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CPU par réponse contre octets économisés : gzip, Brotli et zstd à plusieurs
+ * niveaux, et corps pré-compressé servi depuis un cache
+ *
+ * Payloads représentatifs : home() (~300 o), une page de 20 articles
+ * (~6 Ko) et un article complet (~20 Ko). Le temps CPU est celui du thread
+ * (ThreadMXBean), hors allocation du corps non compressé.
+ *
+ * Vérifie que chaque codage réduit la taille et qu'un corps pré-compressé
+ * coûte au moins 20 fois moins de CPU qu'une compression par réponse.
+ *
+ * Exclu du build standard. Lancement : mvn -P benchmark test -Dtest=CompressionBenchmark
+ */
+@Tag("benchmark")
+class CompressionBenchmark {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    private static final Map<ContentCoding, int[]> LEVELS = Map.of(
+        ContentCoding.GZIP, new int[] {1, 6, 9},
+        ContentCoding.BROTLI, new int[] {1, 4, 9},
+        ContentCoding.ZSTD, new int[] {1, 3, 12});
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void cpuPerResponseVersusBytesSaved() throws Exception {
+        Map<String, byte[]> payloads = payloads();
+
+        System.out.printf("%-8s %-6s %5s %8s %8s %7s %12s%n",
+            "payload", "codage", "niv.", "brut", "compr.", "gain", "CPU/réponse");
+        for (Map.Entry<String, byte[]> payload : payloads.entrySet()) {
+            byte[] body = payload.getValue();
+            for (ContentCoding coding : ContentCoding.values()) {
+                if (!coding.isAvailable()) {
+                    System.out.printf("%-8s %-6s indisponible (binaire natif absent)%n", payload.getKey(), coding.token());
+                    continue;
+                }
+                for (int level : LEVELS.get(coding)) {
+                    int size = coding.compress(body, level).length;
+                    double nanos = cpuNanosPerCall(() -> coding.compress(body, level));
+
+                    System.out.printf("%-8s %-6s %5d %8d %8d %6.1f%% %9.1f µs%n",
+                        payload.getKey(), coding.token(), level, body.length, size,
+                        100.0 * (body.length - size) / body.length, nanos / 1_000);
+                    if (body.length > 1024) {
+                        assertThat(size).isLessThan(body.length);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void precompressedBodyCostsAFractionOfOnTheFlyCompression() throws Exception {
+        byte[] page = payloads().get("page");
+        ContentCoding coding = ContentCoding.GZIP;
+        Map<String, byte[]> cache = new ConcurrentHashMap<>();
+
+        double onTheFly = cpuNanosPerCall(() -> coding.compress(page, 6));
+        double precompressed = cpuNanosPerCall(
+            () -> cache.computeIfAbsent("/api/v1/articles|\"p-1\"|gzip", key -> coding.compress(page, 9)));
+
+        System.out.printf("page gzip : à la volée %.1f µs/réponse, pré-compressé %.3f µs/réponse (x%.0f)%n",
+            onTheFly / 1_000, precompressed / 1_000, onTheFly / precompressed);
+        assertThat(precompressed * 20).isLessThan(onTheFly);
+    }
+
+    private double cpuNanosPerCall(Runnable call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.run();
+        }
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.run();
+        }
+        return (double) (threads.getCurrentThreadCpuTime() - start) / ITERATIONS;
+    }
+
+    private Map<String, byte[]> payloads() throws Exception {
+        Map<String, byte[]> payloads = new LinkedHashMap<>();
+
+        Map<String, Object> home = new LinkedHashMap<>();
+        home.put("message", "🏆 Bienvenue sur InfoLine API");
+        home.put("description", "API REST pour l'actualité des technologies sportives");
+        home.put("version", "1.0.0");
+        home.put("environment", "prod");
+        home.put("timestamp", "2024-03-01T10:15:30.042");
+        home.put("endpoints", Map.of("health", "/api/v1/health", "info", "/api/v1/info", "status", "/api/v1/status"));
+        payloads.put("home", mapper.writeValueAsBytes(home));
+
+        Instant epoch = Instant.parse("2024-03-01T08:00:00Z");
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", 1_000 + i);
+            item.put("slug", "mercato-hiver-transfert-" + i);
+            item.put("title", "Mercato d'hiver : le point sur le transfert n°" + i);
+            item.put("excerpt", "Les clubs de Ligue 1 bouclent leurs derniers dossiers avant la clôture du marché, "
+                + "entre prêts, options d'achat et départs surprises.");
+            item.put("category", i % 2 == 0 ? "football" : "tech");
+            item.put("publishedAt", epoch.minusSeconds(600L * i));
+            item.put("updatedAt", epoch.minusSeconds(600L * i));
+            items.add(item);
+        }
+        payloads.put("page", mapper.writeValueAsBytes(Map.of("items", items, "nextCursor", "AAABjfR3a8AAAAAAAAAD_A")));
+
+        Map<String, Object> detail = new LinkedHashMap<>(items.get(0));
+        detail.put("body", ("Au terme d'une fenêtre de transferts agitée, les capteurs de performance et l'analyse "
+            + "vidéo ont pesé plus que jamais dans les choix des recruteurs. ").repeat(120));
+        detail.put("tags", List.of("football", "mercato", "data"));
+        detail.put("version", 3);
+        payloads.put("detail", mapper.writeValueAsBytes(detail));
+
+        return payloads;
+    }
+}
@@ -0,0 +1,147 @@
+package com.infoline.api.bench;
+
+import com.infoline.api.article.ArticleText;
+import com.infoline.api.search.InvertedIndex;
+import com.infoline.api.search.SearchHits;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latence de recherche sur {@value #ARTICLES} articles synthétiques
+ *
+ * Vocabulaire de {@value #VOCABULARY} mots tirés selon une loi de Zipf
+ * (quelques mots très fréquents, une longue traîne de mots rares), titres
+ * de 8 mots, corps de 60 mots, 3 mots-clés. Indexation par lots de
+ * {@value #BATCH} (comme la construction au démarrage), puis mesure des
+ * requêtes :
+ * - sélectives (mots de la traîne, cas courant d'une recherche d'actualité) ;
+ * - larges (mots du haut de la distribution, pire cas : coût proportionnel
+ *   au nombre de documents correspondants).
+ *
+ * Les segments sont fusionnés après l'indexation (comme le fait le thread
+ * de fusion), puis l'index est rouvert depuis le disque : les requêtes
+ * portent sur des segments projetés en mémoire, pas sur le tas.
+ *
+ * Affiche aussi la taille de l'index (tas, projection), le nombre de
+ * segments et la durée de réouverture.
+ *
+ * Exclu du build standard. Lancement : mvn -P benchmark test -Dtest=SearchLatencyBenchmark
+ */
+@Tag("benchmark")
+class SearchLatencyBenchmark {
+
+    private static final int ARTICLES = 1_000_000;
+    private static final int VOCABULARY = 200_000;
+    private static final int BATCH = 10_000;
+    private static final int QUERIES = 20_000;
+
+    @Test
+    void selectiveQueriesStaySubMillisecond() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = "mot" + Integer.toString(i, 36);
+        }
+        double[] zipf = zipfCumulative(VOCABULARY);
+
+        Path directory = Files.createTempDirectory("infoline-search-bench");
+        InvertedIndex index = InvertedIndex.open(directory, 10_000, 8, 4_000);
+        long start = System.nanoTime();
+        for (int first = 0; first < ARTICLES; first += BATCH) {
+            List<ArticleText> batch = new ArrayList<>(BATCH);
+            for (long id = first + 1; id <= first + BATCH; id++) {
+                batch.add(new ArticleText(id, sentence(random, words, zipf, 8), null,
+                    sentence(random, words, zipf, 60),
+                    List.of(pick(random, words, zipf), pick(random, words, zipf), pick(random, words, zipf))));
+            }
+            index.index(batch);
+        }
+        index.flush();
+        while (index.mergeOnce()) {
+            // Fusions jusqu'à stabilité des paliers
+        }
+        System.out.printf("[search] %d articles indexés et fusionnés en %d ms : %d segments%n",
+            index.docCount(), (System.nanoTime() - start) / 1_000_000, index.segmentCount());
+        index.close();
+
+        start = System.nanoTime();
+        index = InvertedIndex.open(directory, 10_000, 8, 4_000);
+        System.out.printf("[search] réouverture en %.1f ms : tas ~%d Mo, projeté ~%d Mo%n",
+            (System.nanoTime() - start) / 1e6, index.heapBytes() / (1024 * 1024),
+            index.mappedBytes() / (1024 * 1024));
+
+        long[] selective = measure(index, random, words, 1_000, VOCABULARY);
+        long[] broad = measure(index, random, words, 0, 50);
+
+        System.out.printf("[search] sélectives : p50 %.3f ms, p99 %.3f ms%n",
+            percentile(selective, 0.50) / 1e6, percentile(selective, 0.99) / 1e6);
+        System.out.printf("[search] larges     : p50 %.3f ms, p99 %.3f ms%n",
+            percentile(broad, 0.50) / 1e6, percentile(broad, 0.99) / 1e6);
+
+        assertThat(index.docCount()).isEqualTo(ARTICLES);
+        assertThat(index.heapBytes()).isZero();
+        assertThat(percentile(selective, 0.99)).as("p99 requêtes sélectives (ns)").isLessThan(1_000_000);
+        index.close();
+    }
+
+    /**
+     * Requêtes de deux mots pris au hasard entre les rangs from et to
+     *
+     * @return Durée de chaque requête (après préchauffage)
+     */
+    private static long[] measure(InvertedIndex index, SplittableRandom random, String[] words, int from, int to) {
+        long[] nanos = new long[QUERIES];
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < QUERIES; i++) {
+                String query = words[random.nextInt(from, to)] + ' ' + words[random.nextInt(from, to)];
+                long start = System.nanoTime();
+                SearchHits hits = index.search(query, 10);
+                nanos[i] = System.nanoTime() - start;
+                assertThat(hits.hits().size()).isLessThanOrEqualTo(10);
+            }
+        }
+        return nanos;
+    }
+
+    private static String sentence(SplittableRandom random, String[] words, double[] zipf, int length) {
+        StringBuilder sentence = new StringBuilder(length * 8);
+        for (int i = 0; i < length; i++) {
+            sentence.append(pick(random, words, zipf)).append(' ');
+        }
+        return sentence.toString();
+    }
+
+    private static String pick(SplittableRandom random, String[] words, double[] zipf) {
+        int rank = Arrays.binarySearch(zipf, random.nextDouble());
+        return words[Math.min(rank < 0 ? -rank - 1 : rank, words.length - 1)];
+    }
+
+    private static double[] zipfCumulative(int size) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1.0 / (rank + 1);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static long percentile(long[] values, double quantile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(quantile * sorted.length))];
+    }
+}
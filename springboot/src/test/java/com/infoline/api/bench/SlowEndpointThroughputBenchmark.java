@@ -0,0 +1,87 @@
+package com.infoline.api.bench;
+
+import com.infoline.api.HelloWorldApiApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Débit de /api/v1/test/slow sous 10 000 appels concurrents :
+ * threads plateforme (pool Tomcat de 200) contre threads virtuels
+ *
+ * Chaque appel bloque {@value #DELAY_MS} ms dans Thread.sleep. Avec 200 workers,
+ * le débit plafonne à ~200 / délai ; avec les threads virtuels, il n'est
+ * plus limité que par les connexions et le CPU.
+ *
+ * Exclu du build standard. Lancement : mvn -P java21,benchmark test
+ * (prévoir "ulimit -n" supérieur à 20 000 pour 10 000 sockets)
+ */
+@Tag("benchmark")
+class SlowEndpointThroughputBenchmark {
+
+    private static final int CONCURRENT_CALLS = 10_000;
+    private static final int DELAY_MS = 200;
+
+    @Test
+    void platformThreads() throws Exception {
+        run(false);
+    }
+
+    @Test
+    void virtualThreads() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Threads virtuels : Java 21 requis");
+        run(true);
+    }
+
+    private void run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(HelloWorldApiApplication.class)
+                .properties(
+                    "server.port=0",
+                    "server.tomcat.max-connections=" + (CONCURRENT_CALLS * 2),
+                    "server.tomcat.accept-count=" + CONCURRENT_CALLS,
+                    "spring.threads.virtual.enabled=" + virtualThreads,
+                    "logging.level.com.infoline=INFO")
+                .run()) {
+
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/api/v1/test/slow?delay=" + DELAY_MS);
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofMinutes(5)).GET().build();
+
+            // Préchauffage (JIT, pool de connexions)
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+
+            long start = System.nanoTime();
+            List<CompletableFuture<HttpResponse<Void>>> calls = new ArrayList<>(CONCURRENT_CALLS);
+            for (int i = 0; i < CONCURRENT_CALLS; i++) {
+                calls.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+            }
+            CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])).join();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            long ok = calls.stream().filter(call -> call.join().statusCode() == 200).count();
+            System.out.printf("[%s] %d appels /test/slow (%d ms) en %.2f s -> %.0f req/s%n",
+                virtualThreads ? "threads virtuels" : "threads plateforme",
+                CONCURRENT_CALLS, DELAY_MS, seconds, CONCURRENT_CALLS / seconds);
+
+            assertThat(ok).isEqualTo(CONCURRENT_CALLS);
+        }
+    }
+}
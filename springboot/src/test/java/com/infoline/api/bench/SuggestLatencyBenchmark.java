@@ -0,0 +1,113 @@
+package com.infoline.api.bench;
+
+import com.infoline.api.suggest.Suggestion;
+import com.infoline.api.suggest.SuggestIndex;
+import com.infoline.api.suggest.SuggestionType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latence des suggestions de saisie sur {@value #TITLES} titres et
+ * {@value #TAGS} mots-clés synthétiques
+ *
+ * Titres de 8 mots tirés d'un vocabulaire de {@value #VOCABULARY} mots,
+ * mots-clés de 2 mots (prénom, nom) de popularité aléatoire. Les requêtes
+ * rejouent une frappe : préfixes de 1 à 12 caractères d'un mot ou d'un
+ * libellé existant, plus des préfixes absents.
+ *
+ * Affiche aussi la durée de construction, le nombre de nœuds et la taille
+ * de l'index.
+ *
+ * Exclu du build standard. Lancement : mvn -P benchmark test -Dtest=SuggestLatencyBenchmark
+ */
+@Tag("benchmark")
+class SuggestLatencyBenchmark {
+
+    private static final int TITLES = 50_000;
+    private static final int TAGS = 20_000;
+    private static final int VOCABULARY = 30_000;
+    private static final int QUERIES = 200_000;
+
+    @Test
+    void keystrokeLookupsStaySubMillisecond() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = syllables(random, 2 + random.nextInt(3));
+        }
+
+        long start = System.nanoTime();
+        SuggestIndex.Builder builder = new SuggestIndex.Builder(10);
+        String[] labels = new String[TAGS + TITLES];
+        for (int i = 0; i < TAGS; i++) {
+            labels[i] = words[random.nextInt(VOCABULARY)] + ' ' + words[random.nextInt(VOCABULARY)];
+            builder.add(labels[i], SuggestionType.TAG, "tag-" + i, random.nextInt(1, 500));
+        }
+        for (int i = 0; i < TITLES; i++) {
+            StringBuilder title = new StringBuilder();
+            for (int w = 0; w < 8; w++) {
+                title.append(words[random.nextInt(VOCABULARY)]).append(' ');
+            }
+            labels[TAGS + i] = title.toString();
+            builder.add(labels[TAGS + i], SuggestionType.ARTICLE, "article-" + i, 1);
+        }
+        SuggestIndex index = builder.build();
+        System.out.printf("[suggest] %d libellés indexés en %d ms : %d nœuds, ~%d Mo%n",
+            index.size(), (System.nanoTime() - start) / 1_000_000, index.nodeCount(),
+            index.sizeInBytes() / (1024 * 1024));
+
+        long[] nanos = new long[QUERIES];
+        int found = 0;
+        for (int round = 0; round < 2; round++) {
+            found = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                String prefix = prefix(random, labels, words);
+                long begin = System.nanoTime();
+                List<Suggestion> suggestions = index.lookup(prefix, 8);
+                nanos[i] = System.nanoTime() - begin;
+                found += suggestions.isEmpty() ? 0 : 1;
+            }
+        }
+
+        System.out.printf("[suggest] p50 %.1f µs, p99 %.1f µs, p99.9 %.1f µs (%d%% de préfixes trouvés)%n",
+            percentile(nanos, 0.50) / 1e3, percentile(nanos, 0.99) / 1e3, percentile(nanos, 0.999) / 1e3,
+            100L * found / QUERIES);
+
+        assertThat(found).isPositive();
+        assertThat(percentile(nanos, 0.99)).as("p99 suggestions (ns)").isLessThan(1_000_000);
+    }
+
+    /**
+     * Début d'un mot (cas le plus courant), d'un libellé entier, ou bruit
+     */
+    private static String prefix(SplittableRandom random, String[] labels, String[] words) {
+        int kind = random.nextInt(10);
+        String source = kind < 6 ? words[random.nextInt(words.length)]
+            : kind < 9 ? labels[random.nextInt(labels.length)]
+            : syllables(random, 3);
+        return source.substring(0, Math.min(source.length(), 1 + random.nextInt(12)));
+    }
+
+    private static String syllables(SplittableRandom random, int count) {
+        String consonants = "bcdfgjklmnprstvz";
+        String vowels = "aeiouéè";
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            word.append(consonants.charAt(random.nextInt(consonants.length())))
+                .append(vowels.charAt(random.nextInt(vowels.length())));
+        }
+        return word.toString();
+    }
+
+    private static long percentile(long[] values, double quantile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(quantile * sorted.length))];
+    }
+}
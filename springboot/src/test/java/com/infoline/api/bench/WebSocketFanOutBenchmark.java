@@ -0,0 +1,114 @@
+package com.infoline.api.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infoline.api.web.JsonOutputMode;
+import com.infoline.api.websocket.SimulatedWebSocketSession;
+import com.infoline.api.websocket.TopicHub;
+import com.infoline.api.websocket.TopicWebSocketHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Générateur de charge local : 50 000 sockets WebSocket simulés abonnés à
+ * des sujets de match et d'équipe, dont quelques clients qui ne lisent plus
+ *
+ * Chaque socket s'abonne à un match (500 sockets par match) et à une équipe
+ * (2 500 sockets par équipe), puis chaque tour publie un événement sur
+ * chacun des sujets. Mesure le débit de remise (messages/s), le tas occupé
+ * par session, et vérifie que :
+ * - tous les abonnés d'un sujet reçoivent le même tableau d'octets ;
+ * - chaque client normal reçoit tous ses messages ;
+ * - chaque client bloqué est déconnecté (1008) sans freiner les autres.
+ *
+ * Exclu du build standard. Lancement : mvn -P benchmark test -Dtest=WebSocketFanOutBenchmark
+ */
+@Tag("benchmark")
+class WebSocketFanOutBenchmark {
+
+    private static final int SOCKETS = 50_000;
+    private static final int MATCHES = 100;
+    private static final int TEAMS = 20;
+    private static final int STALLED_EVERY = 1_000;
+    private static final int MAX_PENDING = 64;
+    private static final int ROUNDS = 50;
+
+    @Test
+    void fansOutToFiftyThousandSockets() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TopicHub hub = new TopicHub(new JsonOutputMode(objectMapper), registry);
+        TopicWebSocketHandler handler = new TopicWebSocketHandler(hub, objectMapper, registry, 32, MAX_PENDING, 5_000, 2);
+
+        Runtime runtime = Runtime.getRuntime();
+        long heapBefore = usedHeap(runtime);
+        List<SimulatedWebSocketSession> sockets = new ArrayList<>(SOCKETS);
+        for (int i = 0; i < SOCKETS; i++) {
+            SimulatedWebSocketSession socket = new SimulatedWebSocketSession("ws-" + i, false);
+            if (i % STALLED_EVERY == 0) {
+                socket.stall();
+            }
+            handler.afterConnectionEstablished(socket);
+            handler.handleMessage(socket, subscribe("match." + (i % MATCHES)));
+            handler.handleMessage(socket, subscribe("team." + (i % TEAMS)));
+            sockets.add(socket);
+        }
+        long heapPerSocket = (usedHeap(runtime) - heapBefore) / SOCKETS;
+
+        long deliveries = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int match = 0; match < MATCHES; match++) {
+                deliveries += hub.publish("match." + match, "score", Map.of("round", round, "home", round % 3));
+            }
+            for (int team = 0; team < TEAMS; team++) {
+                deliveries += hub.publish("team." + team, "news", Map.of("round", round));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        // Fermetures des clients bloqués : exécutées sur le pool d'écriture
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (registry.get("ws.disconnects").counter().count() < SOCKETS / STALLED_EVERY
+                || sockets.stream().filter(socket -> socket.closeStatus() != null).count() < SOCKETS / STALLED_EVERY) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+        handler.stop();
+
+        System.out.printf("%d sockets, %d sujets : %d remises en %.1f ms (%.1f M messages/s), ~%d o de tas par socket%n",
+            SOCKETS, MATCHES + TEAMS, deliveries, elapsed / 1e6, deliveries / (elapsed / 1e9) / 1e6, heapPerSocket);
+
+        for (int i = 0; i < SOCKETS; i++) {
+            SimulatedWebSocketSession socket = sockets.get(i);
+            if (i % STALLED_EVERY == 0) {
+                assertThat(socket.closeStatus()).isEqualTo(CloseStatus.POLICY_VIOLATION.withReason("slow consumer"));
+            } else {
+                // 2 accusés d'abonnement, puis un message par tour et par sujet
+                assertThat(socket.received()).isEqualTo(2 + 2 * ROUNDS);
+                assertThat(socket.closeStatus()).isNull();
+            }
+        }
+        // Même sujet (dernier message : team.<n>) : même tableau d'octets, sans copie
+        assertThat(sockets.get(1).lastFrame()).isSameAs(sockets.get(1 + TEAMS).lastFrame());
+        assertThat(sockets.get(1).lastFrame()).isNotSameAs(sockets.get(2).lastFrame());
+        assertThat(hub.subscriberCount("match.0")).isEqualTo(SOCKETS / MATCHES - SOCKETS / STALLED_EVERY);
+    }
+
+    private static TextMessage subscribe(String topic) {
+        return new TextMessage("{\"action\":\"subscribe\",\"topic\":\"" + topic + "\"}");
+    }
+
+    private static long usedHeap(Runtime runtime) {
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
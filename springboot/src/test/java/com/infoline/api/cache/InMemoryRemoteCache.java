@@ -0,0 +1,103 @@
+package com.infoline.api.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Remplaçant en mémoire de Redis, partagé par plusieurs "pods" d'un même test
+ *
+ * Mêmes sémantiques que les commandes utilisées (expiration, SET NX, INCR,
+ * PUBLISH livré à tous les abonnés), messages délivrés sur le thread
+ * appelant. {@link #down(boolean)} simule une panne.
+ */
+class InMemoryRemoteCache implements RemoteCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, List<Consumer<String>>> subscribers = new ConcurrentHashMap<>();
+    private volatile boolean down;
+
+    void down(boolean down) {
+        this.down = down;
+    }
+
+    @Override
+    public byte[] get(String key) {
+        checkUp();
+        Entry entry = entries.get(key);
+        if (entry == null || entry.expired()) {
+            return null;
+        }
+        return entry.value();
+    }
+
+    @Override
+    public void set(String key, byte[] value, Duration ttl) {
+        checkUp();
+        entries.put(key, Entry.of(value, ttl));
+    }
+
+    @Override
+    public boolean setIfAbsent(String key, byte[] value, Duration ttl) {
+        checkUp();
+        AtomicBoolean written = new AtomicBoolean();
+        entries.compute(key, (k, existing) -> {
+            if (existing != null && !existing.expired()) {
+                return existing;
+            }
+            written.set(true);
+            return Entry.of(value, ttl);
+        });
+        return written.get();
+    }
+
+    @Override
+    public void delete(String key) {
+        checkUp();
+        entries.remove(key);
+    }
+
+    @Override
+    public long increment(String key) {
+        checkUp();
+        Entry entry = entries.merge(key, Entry.of("1".getBytes(StandardCharsets.US_ASCII), null),
+            (existing, one) -> Entry.of(
+                Long.toString(Long.parseLong(new String(existing.value(), StandardCharsets.US_ASCII)) + 1)
+                    .getBytes(StandardCharsets.US_ASCII),
+                null));
+        return Long.parseLong(new String(entry.value(), StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        checkUp();
+        subscribers.getOrDefault(channel, List.of()).forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        subscribers.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    private void checkUp() {
+        if (down) {
+            throw new RemoteCacheException("Redis simulé en panne", null);
+        }
+    }
+
+    private record Entry(byte[] value, long expiresAtNanos) {
+
+        static Entry of(byte[] value, Duration ttl) {
+            return new Entry(value, ttl == null ? Long.MAX_VALUE : System.nanoTime() + ttl.toNanos());
+        }
+
+        boolean expired() {
+            return expiresAtNanos != Long.MAX_VALUE && System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
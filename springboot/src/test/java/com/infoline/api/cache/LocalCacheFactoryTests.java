@@ -0,0 +1,125 @@
+package com.infoline.api.cache;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalCacheFactoryTests {
+
+    private static final String SPEC = "maximumSize=100,expireAfterWrite=60s,refreshAfterWrite=10s";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Queue<Runnable> refreshTasks = new ArrayDeque<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private MockEnvironment environment;
+    private SimpleMeterRegistry meterRegistry;
+    private LocalCacheFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        meterRegistry = new SimpleMeterRegistry();
+        factory = new LocalCacheFactory(environment, meterRegistry, nanos::get, refreshTasks::add);
+    }
+
+    @Test
+    void staleEntryIsServedWhileReloadRunsInBackground() {
+        LoadingCache<String, String> cache = factory.create("news", SPEC, this::load);
+        assertThat(cache.get("football")).isEqualTo("football-1");
+
+        advance(Duration.ofSeconds(15));
+
+        // Échue mais pas expirée : ancienne valeur tout de suite, rechargement planifié
+        assertThat(cache.get("football")).isEqualTo("football-1");
+        assertThat(loads).hasValue(1);
+
+        runRefreshTasks();
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.get("football")).isEqualTo("football-2");
+    }
+
+    @Test
+    void expiredEntryIsReloadedSynchronously() {
+        LoadingCache<String, String> cache = factory.create("news", SPEC, this::load);
+        cache.get("football");
+
+        advance(Duration.ofSeconds(61));
+
+        assertThat(cache.get("football")).isEqualTo("football-2");
+    }
+
+    @Test
+    void propertyOverridesDefaultSpecification() {
+        environment.setProperty("infoline.cache.news", "maximumSize=100,expireAfterWrite=5s");
+        LoadingCache<String, String> cache = factory.create("news", SPEC, this::load);
+        cache.get("football");
+
+        advance(Duration.ofSeconds(6));
+
+        assertThat(cache.get("football")).isEqualTo("football-2");
+    }
+
+    @Test
+    void evictsByWeight() {
+        LoadingCache<String, String> cache = factory.create("bodies", "maximumWeight=100",
+            (String key, String value) -> 40, this::load);
+
+        for (String key : new String[] {"a", "b", "c", "d"}) {
+            cache.get(key);
+        }
+        cache.cleanUp();
+
+        assertThat(cache.estimatedSize()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "bodies").functionCounter().count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    void weightedSpecificationRequiresWeigher() {
+        assertThatThrownBy(() -> factory.create("bodies", "maximumWeight=100", this::load))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("bodies");
+    }
+
+    @Test
+    void exportsHitAndMissCounters() {
+        LoadingCache<String, String> cache = factory.create("news", SPEC, this::load);
+
+        cache.get("football");
+        cache.get("football");
+        cache.get("football");
+
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "news", "result", "hit").functionCounter().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "news", "result", "miss").functionCounter().count())
+            .isEqualTo(1);
+    }
+
+    private String load(String key) {
+        return key + "-" + loads.incrementAndGet();
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private void runRefreshTasks() {
+        Runnable task;
+        while ((task = refreshTasks.poll()) != null) {
+            task.run();
+        }
+    }
+}
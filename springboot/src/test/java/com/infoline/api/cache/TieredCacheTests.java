@@ -0,0 +1,168 @@
+package com.infoline.api.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Deux "pods" partageant un L2 en mémoire ({@link InMemoryRemoteCache})
+ */
+class TieredCacheTests {
+
+    private static final String SPEC = "maximumSize=100,expireAfterWrite=60s";
+
+    private final InMemoryRemoteCache redis = new InMemoryRemoteCache();
+    private final Map<String, String> database = new ConcurrentHashMap<>();
+    private final AtomicInteger databaseLoads = new AtomicInteger();
+
+    private Pod podA;
+    private Pod podB;
+
+    @BeforeEach
+    void setUp() {
+        database.put("mercato", "v1");
+        podA = new Pod(this::loadFromDatabase);
+        podB = new Pod(this::loadFromDatabase);
+    }
+
+    @Test
+    void secondPodReadsSharedTierInsteadOfDatabase() {
+        assertThat(podA.cache.get("mercato")).isEqualTo("v1");
+        assertThat(podB.cache.get("mercato")).isEqualTo("v1");
+
+        assertThat(databaseLoads).hasValue(1);
+        assertThat(podB.count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void coldKeyIsLoadedOncePerCluster() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Pod slowPod = new Pod(key -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return loadFromDatabase(key);
+        });
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> slowPod.cache.get("mercato"));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        // Le bail est posé : le second pod attend la valeur au lieu d'interroger la base
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> podB.cache.get("mercato"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (podB.count("miss") < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+        assertThat(databaseLoads).hasValue(1);
+        assertThat(podB.count("coalesced")).isEqualTo(1);
+    }
+
+    @Test
+    void invalidationReachesEveryPod() {
+        podA.cache.get("mercato");
+        podB.cache.get("mercato");
+        database.put("mercato", "v2");
+
+        podA.cache.invalidate("mercato");
+
+        assertThat(podB.cache.get("mercato")).isEqualTo("v2");
+        assertThat(podA.cache.get("mercato")).isEqualTo("v2");
+        assertThat(databaseLoads).hasValue(2);
+    }
+
+    @Test
+    void invalidatingSeveralKeysSendsOneMessage() {
+        database.put("transfert", "t1");
+        for (Pod pod : List.of(podA, podB)) {
+            pod.cache.get("mercato");
+            pod.cache.get("transfert");
+        }
+        database.put("mercato", "v2");
+        database.put("transfert", "t2");
+        List<String> messages = new ArrayList<>();
+        redis.subscribe(RemoteTier.CHANNEL, messages::add);
+
+        podA.cache.invalidateAll(List.of("mercato", "transfert"));
+
+        assertThat(messages).containsExactly("news\nmercato\ntransfert");
+        assertThat(podB.cache.get("mercato")).isEqualTo("v2");
+        assertThat(podB.cache.get("transfert")).isEqualTo("t2");
+        assertThat(databaseLoads).hasValue(4);
+    }
+
+    @Test
+    void invalidateAllSwitchesToNewGeneration() {
+        podA.cache.get("mercato");
+        podB.cache.get("mercato");
+        database.put("mercato", "v2");
+
+        podB.cache.invalidateAll();
+
+        assertThat(podA.cache.get("mercato")).isEqualTo("v2");
+        assertThat(podB.cache.get("mercato")).isEqualTo("v2");
+        assertThat(databaseLoads).hasValue(2);
+    }
+
+    @Test
+    void fallsBackToDatabaseWhenSharedTierIsDown() {
+        redis.down(true);
+
+        assertThat(podA.cache.get("mercato")).isEqualTo("v1");
+        podA.cache.invalidate("mercato");
+        assertThat(podA.cache.get("mercato")).isEqualTo("v1");
+
+        assertThat(podA.count("error")).isGreaterThanOrEqualTo(2);
+    }
+
+    private String loadFromDatabase(String key) {
+        databaseLoads.incrementAndGet();
+        return database.get(key);
+    }
+
+    /**
+     * Un pod : son propre L1 et ses métriques, le L2 et la base en commun
+     */
+    private final class Pod {
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final TieredCache<String, String> cache;
+
+        Pod(ThrowingLoader loader) {
+            LocalCacheFactory localCaches = new LocalCacheFactory(
+                new MockEnvironment(), meterRegistry, Ticker.systemTicker(), Runnable::run);
+            TieredCacheFactory factory = new TieredCacheFactory(localCaches, redis, new ObjectMapper(), meterRegistry,
+                Duration.ofSeconds(2), Duration.ofMillis(5));
+            this.cache = factory.create("news", SPEC, null, Duration.ofMinutes(1),
+                new TypeReference<String>() { }, Function.identity(), loader::load);
+        }
+
+        double count(String result) {
+            return meterRegistry.get("cache.l2.requests").tags("cache", "news", "result", result).counter().count();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingLoader {
+        String load(String key) throws Exception;
+    }
+}
@@ -0,0 +1,195 @@
+package com.infoline.api.compression;
+
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import com.github.luben.zstd.Zstd;
+import com.infoline.api.cache.LocalCacheFactory;
+import com.infoline.api.web.ResourceVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Servlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class CompressionFilterTests {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private static final byte[] BODY = ("{\"items\":[" + "{\"title\":\"Mercato : le point sur les transferts\"},".repeat(40)
+        + "{}]}").getBytes(StandardCharsets.UTF_8);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LocalCacheFactory caches = new LocalCacheFactory(new MockEnvironment(), meterRegistry, 1);
+    private final AtomicLong cpuNanos = new AtomicLong();
+    private final AtomicLong wallNanos = new AtomicLong();
+    private final CpuLoadMonitor cpu = new CpuLoadMonitor(cpuNanos::get, wallNanos::get, SECOND);
+    private final ResponseCompressor compressor = new ResponseCompressor(available(), caches, meterRegistry, cpu,
+        256, 0.4, new ResponseCompressor.Levels(
+            ResponseCompressor.levels(4, 3, 6), ResponseCompressor.levels(1, 1, 1), ResponseCompressor.levels(9, 12, 9)));
+    private final CompressionFilter filter = new CompressionFilter(compressor,
+        new String[] {"application/json", "text/plain"}, new String[] {"/api/v1/stream"});
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        caches.stop();
+    }
+
+    @Test
+    void gzipRoundTrip() throws Exception {
+        MockHttpServletResponse response = get("gzip", null, "\"p-1\"");
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"p-1\"");
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(BODY);
+        }
+    }
+
+    @Test
+    void brotliAndZstdRoundTrip() throws Exception {
+        assumeTrue(ContentCoding.BROTLI.isAvailable() && ContentCoding.ZSTD.isAvailable(), "binaires natifs absents");
+
+        byte[] brotli = get("gzip, br", null, null).getContentAsByteArray();
+        assertThat(Decoder.decompress(brotli).getDecompressedData()).isEqualTo(BODY);
+
+        MockHttpServletResponse zstd = get("gzip, zstd", null, null);
+        assertThat(zstd.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("zstd");
+        assertThat(Zstd.decompress(zstd.getContentAsByteArray(), BODY.length)).isEqualTo(BODY);
+        assertThat(zstd.getContentAsByteArray().length).isLessThan(BODY.length / 4);
+    }
+
+    @Test
+    void stableBodyIsCompressedOncePerVersion() throws Exception {
+        ResourceVersion version = ResourceVersion.of("p-1", null);
+
+        byte[] first = get("gzip", version, version.etag()).getContentAsByteArray();
+        byte[] second = get("gzip", version, version.etag()).getContentAsByteArray();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(renders).hasValue(2);
+        assertThat(meterRegistry.get("compression.responses").tags("coding", "gzip", "source", "precompressed")
+            .counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", ResponseCompressor.BODIES, "result", "hit")
+            .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void leavesUnacceptedOrStreamingResponsesUntouched() throws Exception {
+        assertThat(get(null, null, null).getContentAsByteArray()).isEqualTo(BODY);
+        assertThat(get("identity", null, null).getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+
+        MockHttpServletRequest streaming = request("gzip");
+        streaming.addHeader(HttpHeaders.ACCEPT, "text/event-stream");
+        assertThat(run(streaming, null, null).getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+
+        MockHttpServletRequest post = request("gzip");
+        post.setMethod("POST");
+        assertThat(run(post, null, null).getContentAsByteArray()).isEqualTo(BODY);
+    }
+
+    @Test
+    void skipsTinyBodies() throws Exception {
+        byte[] health = "{\"status\":\"UP\"}".getBytes(StandardCharsets.UTF_8);
+        MockHttpServletResponse response = run(request("gzip"), null, null, health);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("{\"status\":\"UP\"}");
+        assertThat(meterRegistry.get("compression.skipped").tags("reason", "small").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void lowersLevelAboveCpuWatermarkWithHysteresis() throws Exception {
+        get("gzip", null, null);
+        assertThat(compressor.isReduced()).isFalse();
+
+        // 0,45 cœur sur la dernière seconde : au-delà du seuil de 0,4
+        burnCpu(0.45);
+        get("gzip", null, null);
+        assertThat(compressor.isReduced()).isTrue();
+        assertThat(meterRegistry.get("compression.time").tags("coding", "gzip", "level", "1").timer().count())
+            .isEqualTo(1);
+
+        // 0,35 cœur : sous le seuil mais au-dessus de 75 % du seuil, on reste au niveau réduit
+        burnCpu(0.35);
+        assertThat(compressor.isReduced()).isTrue();
+
+        burnCpu(0.2);
+        assertThat(compressor.isReduced()).isFalse();
+        assertThat(meterRegistry.get("compression.ratio").tags("coding", "gzip", "level", "6").summary().mean())
+            .isLessThan(0.25);
+    }
+
+    private void burnCpu(double cores) {
+        wallNanos.addAndGet(SECOND);
+        cpuNanos.addAndGet((long) (cores * SECOND));
+    }
+
+    private MockHttpServletResponse get(String acceptEncoding, ResourceVersion stable, String etag) throws Exception {
+        return run(request(acceptEncoding), stable, etag);
+    }
+
+    private static MockHttpServletRequest request(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/articles");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return request;
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request, ResourceVersion stable, String etag)
+            throws Exception {
+        return run(request, stable, etag, BODY);
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request, ResourceVersion stable, String etag,
+                                        byte[] body) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Servlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                renders.incrementAndGet();
+                if (stable != null) {
+                    StableBody.mark(new ServletWebRequest(req), stable);
+                }
+                if (etag != null) {
+                    res.setHeader(HttpHeaders.ETAG, etag);
+                }
+                res.setContentType("application/json");
+                res.getOutputStream().write(body);
+            }
+        };
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private static EnumSet<ContentCoding> available() {
+        EnumSet<ContentCoding> codings = EnumSet.noneOf(ContentCoding.class);
+        for (ContentCoding coding : ContentCoding.values()) {
+            if (coding.isAvailable()) {
+                codings.add(coding);
+            }
+        }
+        return codings;
+    }
+}
@@ -0,0 +1,36 @@
+package com.infoline.api.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentCodingTests {
+
+    private static final Set<ContentCoding> ALL = EnumSet.allOf(ContentCoding.class);
+
+    @Test
+    void serverPreferenceBreaksTies() {
+        assertThat(ContentCoding.negotiate("gzip, deflate, br, zstd", ALL)).isEqualTo(ContentCoding.BROTLI);
+        assertThat(ContentCoding.negotiate("gzip, zstd", ALL)).isEqualTo(ContentCoding.ZSTD);
+        assertThat(ContentCoding.negotiate("gzip, br", EnumSet.of(ContentCoding.GZIP))).isEqualTo(ContentCoding.GZIP);
+    }
+
+    @Test
+    void higherQualityWins() {
+        assertThat(ContentCoding.negotiate("br;q=0.5, gzip;q=0.9", ALL)).isEqualTo(ContentCoding.GZIP);
+        assertThat(ContentCoding.negotiate("br;q=0, *", ALL)).isEqualTo(ContentCoding.ZSTD);
+        assertThat(ContentCoding.negotiate("x-gzip", ALL)).isEqualTo(ContentCoding.GZIP);
+    }
+
+    @Test
+    void identityOrUnknownMeansNoCompression() {
+        assertThat(ContentCoding.negotiate(null, ALL)).isNull();
+        assertThat(ContentCoding.negotiate("identity", ALL)).isNull();
+        assertThat(ContentCoding.negotiate("deflate, compress", ALL)).isNull();
+        assertThat(ContentCoding.negotiate("*;q=0", ALL)).isNull();
+        assertThat(ContentCoding.negotiate("gzip;q=abc", ALL)).isNull();
+    }
+}
@@ -0,0 +1,38 @@
+package com.infoline.api.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CpuLoadMonitorTests {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong cpuNanos = new AtomicLong();
+    private final AtomicLong wallNanos = new AtomicLong();
+    private final CpuLoadMonitor monitor = new CpuLoadMonitor(cpuNanos::get, wallNanos::get, SECOND);
+
+    @Test
+    void measuresCoresOverTheLastInterval() {
+        wallNanos.addAndGet(2 * SECOND);
+        cpuNanos.addAndGet(SECOND);
+
+        assertThat(monitor.cores()).isEqualTo(0.5);
+    }
+
+    @Test
+    void keepsLastSampleWithinInterval() {
+        wallNanos.addAndGet(SECOND);
+        cpuNanos.addAndGet(SECOND / 4);
+        assertThat(monitor.cores()).isEqualTo(0.25);
+
+        wallNanos.addAndGet(SECOND / 2);
+        cpuNanos.addAndGet(SECOND / 2);
+        assertThat(monitor.cores()).isEqualTo(0.25);
+
+        wallNanos.addAndGet(SECOND / 2);
+        assertThat(monitor.cores()).isEqualTo(0.5);
+    }
+}
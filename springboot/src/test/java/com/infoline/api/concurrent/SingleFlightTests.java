@@ -0,0 +1,125 @@
+package com.infoline.api.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTests {
+
+    private static final int CALLERS = 16;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String> flight = new SingleFlightRegistry(meterRegistry).create("articles", key -> key);
+
+    @Test
+    void concurrentIdenticalCallsShareOneExecution() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = runConcurrently(() -> flight.run("mercato", () -> {
+            executions.incrementAndGet();
+            await(release);
+            return "article";
+        }));
+        awaitCollapsed(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("article");
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(flight.topCollapsed(10)).containsEntry("mercato", (long) CALLERS - 1);
+        assertThat(meterRegistry.get("singleflight.calls").tags("flight", "articles", "result", "collapsed")
+            .functionCounter().count()).isEqualTo(CALLERS - 1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void waitersReceiveTheSameException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = runConcurrently(() -> flight.run("mercato", () -> {
+            await(release);
+            throw new IllegalStateException("base indisponible");
+        }));
+        awaitCollapsed(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("base indisponible");
+        }
+    }
+
+    @Test
+    void sequentialCallsAreNotCached() {
+        AtomicInteger executions = new AtomicInteger();
+
+        flight.run("mercato", executions::incrementAndGet);
+        flight.run("mercato", executions::incrementAndGet);
+        flight.run("transfert", executions::incrementAndGet);
+
+        assertThat(executions).hasValue(3);
+        assertThat(flight.collapsedCount()).isZero();
+        assertThat(flight.executedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void ranksKeysByCollapsedCalls() throws Exception {
+        for (String key : new String[] {"mercato", "mercato", "transfert"}) {
+            CountDownLatch release = new CountDownLatch(1);
+            long before = flight.collapsedCount();
+            List<Future<String>> results = runConcurrently(() -> flight.run(key, () -> {
+                await(release);
+                return key;
+            }));
+            awaitCollapsed(before + CALLERS - 1);
+            release.countDown();
+            for (Future<String> result : results) {
+                result.get(5, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(flight.topCollapsed(1)).containsExactly(Map.entry("mercato", 2L * (CALLERS - 1)));
+    }
+
+    private List<Future<String>> runConcurrently(Callable<String> call) {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        executor.shutdown();
+        return results;
+    }
+
+    private void awaitCollapsed(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flight.collapsedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(flight.collapsedCount()).isEqualTo(expected);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
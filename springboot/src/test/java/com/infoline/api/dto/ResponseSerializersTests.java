@@ -0,0 +1,186 @@
+package com.infoline.api.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.infoline.api.metrics.LatencySnapshot;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Les records de réponse doivent produire exactement les octets des
+ * anciennes réponses construites avec des HashMap
+ */
+class ResponseSerializersTests {
+
+    private static final String TIMESTAMP = "2024-03-01T10:15:30.042";
+
+    private ObjectMapper mapper(boolean pretty) {
+        return new ObjectMapper().configure(SerializationFeature.INDENT_OUTPUT, pretty);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void homeIsByteCompatible(boolean pretty) throws Exception {
+        HomeResponse record = new HomeResponse("🏆 Bienvenue sur InfoLine API", "API \"REST\"", "1.0.0", "prod",
+            TIMESTAMP, new HomeResponse.Endpoints("/api/v1/health", "/api/v1/info", "/api/v1/status"));
+
+        Map<String, Object> legacy = new HashMap<>();
+        legacy.put("message", "🏆 Bienvenue sur InfoLine API");
+        legacy.put("description", "API \"REST\"");
+        legacy.put("version", "1.0.0");
+        legacy.put("environment", "prod");
+        legacy.put("timestamp", TIMESTAMP);
+        Map<String, Object> endpoints = new HashMap<>();
+        endpoints.put("health", "/api/v1/health");
+        endpoints.put("info", "/api/v1/info");
+        endpoints.put("status", "/api/v1/status");
+        legacy.put("endpoints", endpoints);
+
+        assertSameBytes(pretty, record, legacy);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void healthIsByteCompatible(boolean pretty) throws Exception {
+        HealthResponse record = new HealthResponse("UP", "infoline-api", TIMESTAMP, Map.of("api", "UP"));
+
+        Map<String, Object> legacy = new HashMap<>();
+        legacy.put("status", "UP");
+        legacy.put("application", "infoline-api");
+        legacy.put("timestamp", TIMESTAMP);
+        legacy.put("checks", Map.of("api", "UP"));
+
+        assertSameBytes(pretty, record, legacy);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void infoIsByteCompatible(boolean pretty) throws Exception {
+        InfoResponse record = new InfoResponse(
+            new InfoResponse.ApplicationInfo("infoline-api", "1.0.0", "prod", "Actualités sportives & tech"),
+            new InfoResponse.RuntimeInfo("17.0.9", "Eclipse Adoptium", 4, "256.0 MB", "128.0 MB", "128.0 MB"),
+            new InfoResponse.SystemInfo("Linux", "6.1", "amd64"),
+            TIMESTAMP);
+
+        Map<String, Object> application = new HashMap<>();
+        application.put("name", "infoline-api");
+        application.put("version", "1.0.0");
+        application.put("environment", "prod");
+        application.put("description", "Actualités sportives & tech");
+        Map<String, Object> runtime = new HashMap<>();
+        runtime.put("javaVersion", "17.0.9");
+        runtime.put("javaVendor", "Eclipse Adoptium");
+        runtime.put("processors", 4);
+        runtime.put("memoryTotal", "256.0 MB");
+        runtime.put("memoryFree", "128.0 MB");
+        runtime.put("memoryUsed", "128.0 MB");
+        Map<String, Object> system = new HashMap<>();
+        system.put("os", "Linux");
+        system.put("osVersion", "6.1");
+        system.put("osArch", "amd64");
+
+        Map<String, Object> legacy = new HashMap<>();
+        legacy.put("application", application);
+        legacy.put("runtime", runtime);
+        legacy.put("system", system);
+        legacy.put("timestamp", TIMESTAMP);
+
+        assertSameBytes(pretty, record, legacy);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void statusIsByteCompatible(boolean pretty) throws Exception {
+        Map<String, Long> byEndpoint = new TreeMap<>(Map.of("/api/v1/health", 12L, "/api/v1/status", 3L));
+        Map<String, Long> byStatus = new TreeMap<>(Map.of("200", 15L));
+        LatencySnapshot latency = new LatencySnapshot(15, 1_250, 2_000, 9_999, 12_000, 12_345);
+
+        StatusResponse record = new StatusResponse("RUNNING", "5 minutes, 3 seconds", "infoline-api", "1.0.0",
+            "prod", TIMESTAMP, new StatusResponse.Stats(15, 1, byEndpoint, byStatus, TIMESTAMP),
+            new TreeMap<>(Map.of("/api/v1/health", latency)));
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalRequests", 15L);
+        stats.put("activeConnections", 1L);
+        stats.put("requestsByEndpoint", byEndpoint);
+        stats.put("requestsByStatus", byStatus);
+        stats.put("lastDeployment", TIMESTAMP);
+        Map<String, Object> latencyMap = new LinkedHashMap<>();
+        latencyMap.put("count", 15L);
+        latencyMap.put("p50", 1.25);
+        latencyMap.put("p90", 2.0);
+        latencyMap.put("p99", 9.999);
+        latencyMap.put("p999", 12.0);
+        latencyMap.put("max", 12.345);
+        latencyMap.put("unit", "ms");
+
+        Map<String, Object> legacy = new HashMap<>();
+        legacy.put("status", "RUNNING");
+        legacy.put("uptime", "5 minutes, 3 seconds");
+        legacy.put("application", "infoline-api");
+        legacy.put("version", "1.0.0");
+        legacy.put("environment", "prod");
+        legacy.put("timestamp", TIMESTAMP);
+        legacy.put("stats", stats);
+        legacy.put("latency", Map.of("/api/v1/health", latencyMap));
+
+        assertSameBytes(pretty, record, legacy);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void emptyStatusMapsAreByteCompatible(boolean pretty) throws Exception {
+        StatusResponse record = new StatusResponse("RUNNING", "3 seconds", "infoline-api", "1.0.0", "dev",
+            TIMESTAMP, new StatusResponse.Stats(0, 0, Map.of(), Map.of(), TIMESTAMP), Map.of());
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalRequests", 0L);
+        stats.put("activeConnections", 0L);
+        stats.put("requestsByEndpoint", Map.of());
+        stats.put("requestsByStatus", Map.of());
+        stats.put("lastDeployment", TIMESTAMP);
+
+        Map<String, Object> legacy = new HashMap<>();
+        legacy.put("status", "RUNNING");
+        legacy.put("uptime", "3 seconds");
+        legacy.put("application", "infoline-api");
+        legacy.put("version", "1.0.0");
+        legacy.put("environment", "dev");
+        legacy.put("timestamp", TIMESTAMP);
+        legacy.put("stats", stats);
+        legacy.put("latency", Map.of());
+
+        assertSameBytes(pretty, record, legacy);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testEndpointsAreByteCompatible(boolean pretty) throws Exception {
+        Map<String, Object> error = new HashMap<>();
+        error.put("error", "Test error endpoint");
+        error.put("message", "Ceci est une erreur de test");
+        error.put("timestamp", TIMESTAMP);
+        assertSameBytes(pretty, new ErrorResponse("Test error endpoint", "Ceci est une erreur de test", TIMESTAMP),
+            error);
+
+        Map<String, Object> slow = new HashMap<>();
+        slow.put("message", "Réponse après délai de 50ms");
+        slow.put("delay", "50ms");
+        slow.put("timestamp", TIMESTAMP);
+        assertSameBytes(pretty, new SlowResponse("Réponse après délai de 50ms", "50ms", TIMESTAMP), slow);
+    }
+
+    private void assertSameBytes(boolean pretty, Object record, Map<String, Object> legacy) throws Exception {
+        ObjectMapper mapper = mapper(pretty);
+        assertThat(new String(mapper.writeValueAsBytes(record), StandardCharsets.UTF_8))
+            .isEqualTo(new String(mapper.writeValueAsBytes(legacy), StandardCharsets.UTF_8));
+    }
+}
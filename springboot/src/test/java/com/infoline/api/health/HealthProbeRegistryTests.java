@@ -0,0 +1,164 @@
+package com.infoline.api.health;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HealthProbeRegistryTests {
+
+    private HealthProbeRegistry registry;
+
+    @AfterEach
+    void tearDown() {
+        if (registry != null) {
+            registry.stop();
+        }
+    }
+
+    @Test
+    void reportsApiFirstAndUnknownBeforeFirstCheck() {
+        registry = new HealthProbeRegistry(List.of(probe("database", () -> HealthStatus.UP, Duration.ofSeconds(1))));
+
+        assertThat(registry.checks())
+            .containsExactly(Map.entry("api", "UP"), Map.entry("database", "UNKNOWN"));
+    }
+
+    @Test
+    void ignoresDisabledProbes() {
+        HealthProbe disabled = new TestProbe("cache", () -> HealthStatus.UP, Duration.ofSeconds(1)) {
+            @Override
+            public boolean enabled() {
+                return false;
+            }
+        };
+        registry = new HealthProbeRegistry(List.of(disabled));
+        registry.start();
+
+        assertThat(registry.checks()).containsOnlyKeys("api");
+    }
+
+    @Test
+    void publishesResultsOfBackgroundChecks() {
+        registry = new HealthProbeRegistry(List.of(
+            probe("database", () -> HealthStatus.UP, Duration.ofSeconds(1)),
+            probe("cache", () -> {
+                throw new IllegalStateException("connexion refusée");
+            }, Duration.ofSeconds(1))
+        ));
+        registry.start();
+
+        awaitUntil(() -> !registry.checks().containsValue("UNKNOWN"));
+        assertThat(registry.checks())
+            .containsEntry("database", "UP")
+            .containsEntry("cache", "DOWN");
+    }
+
+    @Test
+    void slowDependencyNeverBlocksReaders() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        registry = new HealthProbeRegistry(List.of(probe("database", () -> {
+            release.await();
+            return HealthStatus.UP;
+        }, Duration.ofMillis(100))));
+        registry.start();
+
+        long start = System.nanoTime();
+        Map<String, String> checks = registry.checks();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsedMillis).isLessThan(50);
+        assertThat(checks).containsEntry("database", "UNKNOWN");
+
+        // Timeout de la vérification : DOWN, alors que le check est toujours bloqué
+        awaitUntil(() -> "DOWN".equals(registry.checks().get("database")));
+        release.countDown();
+    }
+
+    @Test
+    void resultExpiresAfterTtl() {
+        AtomicLong nanos = new AtomicLong(1_000_000_000L);
+        HealthProbe probe = new TestProbe("database", () -> HealthStatus.UP, Duration.ofSeconds(1)) {
+            @Override
+            public Duration interval() {
+                return Duration.ofHours(1);
+            }
+
+            @Override
+            public Duration ttl() {
+                return Duration.ofSeconds(30);
+            }
+        };
+        registry = new HealthProbeRegistry(List.of(probe), nanos::get);
+        registry.start();
+        awaitUntil(() -> "UP".equals(registry.checks().get("database")));
+
+        nanos.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertThat(registry.checks()).containsEntry("database", "UP");
+
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(registry.checks()).containsEntry("database", "UNKNOWN");
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // MÉTHODES UTILITAIRES
+    // ═══════════════════════════════════════════════════════════════
+
+    private static HealthProbe probe(String name, Check check, Duration timeout) {
+        return new TestProbe(name, check, timeout);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("condition non atteinte en 5 s").isNegative();
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Check {
+        HealthStatus run() throws Exception;
+    }
+
+    private static class TestProbe implements HealthProbe {
+
+        private final String name;
+        private final Check check;
+        private final Duration timeout;
+
+        TestProbe(String name, Check check, Duration timeout) {
+            this.name = name;
+            this.check = check;
+            this.timeout = timeout;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public Duration timeout() {
+            return timeout;
+        }
+
+        @Override
+        public HealthStatus check() throws Exception {
+            return check.run();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.infoline.api.ingest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveBatchSizeTests {
+
+    private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void startsAtMinimumAndAtMostDoublesPerBatch() {
+        AdaptiveBatchSize sizer = new AdaptiveBatchSize(10, 1000, TARGET);
+        assertThat(sizer.size()).isEqualTo(10);
+
+        // 10 µs par article : 10 000 articles tiendraient dans la cible
+        sizer.record(10, TimeUnit.MICROSECONDS.toNanos(100));
+        assertThat(sizer.size()).isEqualTo(20);
+        sizer.record(20, TimeUnit.MICROSECONDS.toNanos(200));
+        assertThat(sizer.size()).isEqualTo(40);
+
+        for (int i = 0; i < 10; i++) {
+            sizer.record(sizer.size(), sizer.size() * TimeUnit.MICROSECONDS.toNanos(10));
+        }
+        assertThat(sizer.size()).isEqualTo(1000);
+    }
+
+    @Test
+    void shrinksAsSoonAsWritesSlowDown() {
+        AdaptiveBatchSize sizer = new AdaptiveBatchSize(10, 1000, TARGET);
+        for (int i = 0; i < 10; i++) {
+            sizer.record(sizer.size(), sizer.size() * TimeUnit.MICROSECONDS.toNanos(10));
+        }
+        assertThat(sizer.size()).isEqualTo(1000);
+
+        // 1 ms par article : 100 articles dans la cible, atteints en quelques lots
+        sizer.record(1000, TimeUnit.SECONDS.toNanos(1));
+        assertThat(sizer.size()).isLessThan(1000);
+        for (int i = 0; i < 20; i++) {
+            sizer.record(sizer.size(), sizer.size() * TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        assertThat(sizer.size()).isBetween(99, 101);
+
+        // Base saturée : jamais sous le minimum
+        sizer.record(100, TimeUnit.SECONDS.toNanos(10));
+        sizer.record(10, TimeUnit.SECONDS.toNanos(10));
+        assertThat(sizer.size()).isEqualTo(10);
+    }
+
+    @Test
+    void ignoresEmptyBatchesAndRejectsInvalidBounds() {
+        AdaptiveBatchSize sizer = new AdaptiveBatchSize(5, 50, TARGET);
+        sizer.record(0, TimeUnit.SECONDS.toNanos(1));
+        assertThat(sizer.size()).isEqualTo(5);
+
+        assertThatThrownBy(() -> new AdaptiveBatchSize(0, 10, TARGET)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveBatchSize(20, 10, TARGET)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,275 @@
+package com.infoline.api.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infoline.api.article.ArticleCatalog;
+import com.infoline.api.article.ArticleDraft;
+import com.infoline.api.article.ArticleRepository;
+import com.infoline.api.article.ArticleService;
+import com.infoline.api.article.CategoryRepository;
+import com.infoline.api.article.TagRepository;
+import com.infoline.api.cache.LocalCacheFactory;
+import com.infoline.api.cache.TieredCacheFactory;
+import com.infoline.api.time.TimestampClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Import en masse de bout en bout : NDJSON en mémoire, écriture JPA sur H2
+ *
+ * Les lots sont écrits par le thread d'écriture de l'import, hors de la
+ * transaction du test : rien n'est annulé, la base est vidée après chaque test.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ArticleService.class, ArticleCatalog.class, LocalCacheFactory.class, TieredCacheFactory.class,
+    SimpleMeterRegistry.class})
+class BulkImporterTests {
+
+    private static final Instant EPOCH = Instant.parse("2024-03-01T08:00:00Z");
+
+    @Autowired
+    private ArticleCatalog articleCatalog;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<BulkImporter> importers = new ArrayList<>();
+
+    /** Article inséré par un « autre import » juste après la vérification des slugs */
+    private volatile ArticleDraft racing;
+
+    @AfterEach
+    void tearDown() {
+        importers.forEach(BulkImporter::stop);
+        articleRepository.deleteAll();
+        categoryRepository.deleteAll();
+        tagRepository.deleteAll();
+        articleCatalog.invalidateAll();
+    }
+
+    @Test
+    void writesOneResultPerLineThenTheSummary() throws IOException {
+        articleService.importArticles(List.of(draft("deja-la")));
+
+        List<String> lines = run(importer(2), String.join("\n",
+            line("psg-lyon"),
+            "{\"slug\":",
+            line("om-nice"),
+            line("psg-lyon"),
+            line("deja-la"),
+            line("rennes-lens")));
+
+        assertThat(lines).hasSize(7);
+        assertThat(lines.subList(0, 6)).map(this::result)
+            .extracting(BulkItemResult::line, BulkItemResult::slug, BulkItemResult::status)
+            .containsExactlyInAnyOrder(
+                tuple(1L, "psg-lyon", BulkItemStatus.CREATED),
+                tuple(2L, null, BulkItemStatus.INVALID),
+                tuple(3L, "om-nice", BulkItemStatus.CREATED),
+                tuple(4L, "psg-lyon", BulkItemStatus.DUPLICATE),
+                tuple(5L, "deja-la", BulkItemStatus.DUPLICATE),
+                tuple(6L, "rennes-lens", BulkItemStatus.CREATED));
+        assertThat(lines.subList(0, 6)).map(this::result)
+            .filteredOn(result -> result.status() == BulkItemStatus.CREATED)
+            .allSatisfy(result -> assertThat(result.id()).isNotNull());
+
+        BulkImportSummary summary = objectMapper.readValue(lines.get(6), BulkImportSummary.class);
+        assertThat(summary.items()).isEqualTo(6);
+        assertThat(summary.created()).isEqualTo(3);
+        assertThat(summary.duplicates()).isEqualTo(2);
+        assertThat(summary.invalid()).isEqualTo(1);
+        assertThat(summary.failed()).isZero();
+        assertThat(articleService.existingSlugs(List.of("psg-lyon", "om-nice", "rennes-lens")))
+            .containsExactlyInAnyOrder("psg-lyon", "om-nice", "rennes-lens");
+        assertThat(articleService.count()).isEqualTo(4);
+    }
+
+    @Test
+    void bisectsBatchAroundSlugTakenDuringImport() throws IOException {
+        racing = draft("b");
+
+        List<String> lines = run(importer(2), String.join("\n", line("a"), line("b"), line("c"), line("d")));
+
+        assertThat(lines.subList(0, 4)).map(this::result)
+            .extracting(BulkItemResult::slug, BulkItemResult::status, BulkItemResult::error)
+            .containsExactlyInAnyOrder(
+                tuple("a", BulkItemStatus.CREATED, null),
+                tuple("b", BulkItemStatus.DUPLICATE, "Slug déjà pris"),
+                tuple("c", BulkItemStatus.CREATED, null),
+                tuple("d", BulkItemStatus.CREATED, null));
+        // Lot [a b c d] rejeté, puis [a b] rejeté : seuls [a] et [c d] sont écrits
+        assertThat(registry.get("bulk.batch").timer().count()).isEqualTo(2);
+        assertThat(articleService.count()).isEqualTo(4);
+    }
+
+    @Test
+    void answers503BeyondConcurrentImports() throws IOException {
+        BulkImporter importer = importer(1);
+        BulkImportController controller = new BulkImportController(importer, new TimestampClock("Europe/Paris"));
+        assertThat(importer.tryAcquire()).isTrue();
+
+        ResponseEntity<?> busy = controller.bulk(request(line("a")), new MockHttpServletResponse());
+
+        assertThat(busy.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(busy.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+        assertThat(articleService.count()).isZero();
+
+        importer.release();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(controller.bulk(request(line("a")), response)).isNull();
+        assertThat(response.getContentAsString()).contains("\"status\":\"CREATED\"", "\"created\":1");
+        // Place rendue après l'import
+        assertThat(importer.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void stopsWritingWhenTheClientGoesAway() throws IOException {
+        BulkImporter importer = importer(1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        InputStream aborted = new AbortingInputStream(String.join("\n", line("a"), line("b"), ""));
+
+        assertThatThrownBy(() -> importer.run(aborted, out)).isInstanceOf(IOException.class);
+
+        // Écrivain arrêté avant le retour : plus rien n'arrive dans la réponse, pas de bilan
+        int written = out.size();
+        List<String> partial = lines(out);
+        assertThat(partial).noneMatch(line -> line.contains("\"durationMs\""));
+        assertThat(run(importer, line("c"))).hasSize(2);
+        assertThat(out.size()).isEqualTo(written);
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // MÉTHODES UTILITAIRES
+    // ═══════════════════════════════════════════════════════════════
+
+    private BulkImporter importer(int maxConcurrent) {
+        ArticleService slugs = new ArticleService(articleRepository, categoryRepository, tagRepository,
+                entityManager, 50) {
+            @Override
+            public List<String> existingSlugs(Collection<String> candidates) {
+                List<String> existing = super.existingSlugs(candidates);
+                ArticleDraft other = racing;
+                if (other != null) {
+                    racing = null;
+                    articleService.importArticles(List.of(other));
+                }
+                return existing;
+            }
+        };
+        BulkImporter importer = new BulkImporter(articleCatalog, slugs, objectMapper, registry,
+            maxConcurrent, 100, 1 << 20, 50, 1000, 250, 64 * 1024);
+        importers.add(importer);
+        return importer;
+    }
+
+    private List<String> run(BulkImporter importer, String body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        importer.run(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out);
+        return lines(out);
+    }
+
+    private static List<String> lines(ByteArrayOutputStream out) {
+        String text = out.toString(StandardCharsets.UTF_8);
+        return text.isEmpty() ? List.of() : List.of(text.split("\n"));
+    }
+
+    private BulkItemResult result(String line) {
+        try {
+            return objectMapper.readValue(line, BulkItemResult.class);
+        } catch (IOException e) {
+            throw new AssertionError(line, e);
+        }
+    }
+
+    private static MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/articles/bulk");
+        request.setContentType("application/x-ndjson");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static String line(String slug) {
+        return "{\"slug\":\"" + slug + "\",\"title\":\"Titre " + slug + "\",\"body\":\"Corps\","
+            + "\"category\":\"football\",\"tags\":[\"ligue-1\"],\"publishedAt\":\"2024-03-01T20:45:00Z\"}";
+    }
+
+    private static ArticleDraft draft(String slug) {
+        return new ArticleDraft(slug, "Titre " + slug, null, "Corps", "football", List.of("ligue-1"), EPOCH);
+    }
+
+    /**
+     * Corps livré en une fois, puis connexion coupée par le client
+     */
+    private static final class AbortingInputStream extends InputStream {
+
+        private final byte[] content;
+        private boolean delivered;
+
+        private AbortingInputStream(String content) {
+            this.content = content.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int read() throws IOException {
+            throw new IOException("Connection reset by peer");
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (delivered) {
+                throw new IOException("Connection reset by peer");
+            }
+            delivered = true;
+            int length = Math.min(len, content.length);
+            System.arraycopy(content, 0, b, off, length);
+            return length;
+        }
+    }
+}
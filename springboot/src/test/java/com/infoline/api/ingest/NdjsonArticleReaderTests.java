@@ -0,0 +1,102 @@
+package com.infoline.api.ingest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonArticleReaderTests {
+
+    private static final String ARTICLE = """
+        {"slug":"psg-lyon","title":"Le PSG s'impose à Lyon","excerpt":"Victoire 2-1","body":"Texte","category":"football","tags":["psg","ligue-1","psg"],"publishedAt":"2024-03-01T20:45:00Z","source":{"id":42}}""";
+
+    @Test
+    void readsArticlesLineByLineWithLineNumbers() throws IOException {
+        List<BulkItem> items = readAll(ARTICLE + "\r\n\n   \n" + ARTICLE.replace("psg-lyon", "om-nice"), 1024);
+
+        assertThat(items).hasSize(2);
+        BulkItem first = items.get(0);
+        assertThat(first.error()).isNull();
+        assertThat(first.line()).isEqualTo(1);
+        assertThat(first.bytes()).isEqualTo(ARTICLE.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(first.draft().slug()).isEqualTo("psg-lyon");
+        assertThat(first.draft().title()).isEqualTo("Le PSG s'impose à Lyon");
+        assertThat(first.draft().tags()).containsExactly("psg", "ligue-1");
+        assertThat(first.draft().publishedAt()).isEqualTo(Instant.parse("2024-03-01T20:45:00Z"));
+        // Lignes vides comptées, pas renvoyées ; dernière ligne sans saut de ligne
+        assertThat(items.get(1).line()).isEqualTo(4);
+        assertThat(items.get(1).draft().slug()).isEqualTo("om-nice");
+    }
+
+    @Test
+    void reportsInvalidLinesWithoutStopping() throws IOException {
+        List<BulkItem> items = readAll(String.join("\n",
+            "{\"slug\":\"a\"",
+            "[1,2]",
+            ARTICLE.replace("\"body\":\"Texte\",", ""),
+            ARTICLE.replace("2024-03-01T20:45:00Z", "hier"),
+            ARTICLE.replace("\"title\":\"Le PSG s'impose à Lyon\"", "\"title\":42"),
+            ARTICLE + " {}",
+            ARTICLE), 1024);
+
+        assertThat(items).hasSize(7);
+        assertThat(items.get(0).error()).startsWith("JSON illisible");
+        assertThat(items.get(1).error()).isEqualTo("Objet JSON attendu");
+        assertThat(items.get(2).error()).isEqualTo("Champ body obligatoire");
+        assertThat(items.get(3).error()).startsWith("Champ publishedAt");
+        assertThat(items.get(4).error()).isEqualTo("Champ title : chaîne attendue");
+        assertThat(items.get(5).error()).isEqualTo("Un seul objet JSON par ligne");
+        assertThat(items.get(6).error()).isNull();
+        assertThat(items.subList(0, 6)).extracting(BulkItem::draft).containsOnlyNulls();
+    }
+
+    @Test
+    void skipsOverlongLinesWithoutBufferingThem() throws IOException {
+        String huge = ARTICLE.replace("Texte", "x".repeat(200_000));
+        List<BulkItem> items = readAll(huge + "\n" + ARTICLE, 4096);
+
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).error()).isEqualTo("Ligne de plus de 4096 octets");
+        assertThat(items.get(1).line()).isEqualTo(2);
+        assertThat(items.get(1).draft().slug()).isEqualTo("psg-lyon");
+    }
+
+    @Test
+    void enforcesColumnLengths() throws IOException {
+        String tags = "\"tags\":[" + "\"t\",".repeat(NdjsonArticleReader.MAX_TAGS) + "\"u\"]";
+        StringBuilder distinct = new StringBuilder("\"tags\":[\"t0\"");
+        for (int i = 1; i <= NdjsonArticleReader.MAX_TAGS; i++) {
+            distinct.append(",\"t").append(i).append('"');
+        }
+        distinct.append(']');
+        List<BulkItem> items = readAll(String.join("\n",
+            ARTICLE.replace("psg-lyon", "s".repeat(NdjsonArticleReader.MAX_SLUG + 1)),
+            ARTICLE.replace("\"tags\":[\"psg\",\"ligue-1\",\"psg\"]", tags),
+            ARTICLE.replace("\"tags\":[\"psg\",\"ligue-1\",\"psg\"]", distinct)), 1024);
+
+        assertThat(items.get(0).error()).isEqualTo("Champ slug : 160 caractères au plus");
+        // Doublons retirés avant le décompte
+        assertThat(items.get(1).error()).isNull();
+        assertThat(items.get(1).draft().tags()).containsExactly("t", "u");
+        assertThat(items.get(2).error()).isEqualTo("Champ tags : 32 mots-clés au plus");
+    }
+
+    private static List<BulkItem> readAll(String body, int maxLineBytes) throws IOException {
+        InputStream in = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        NdjsonArticleReader reader = new NdjsonArticleReader(in, new JsonFactory(), maxLineBytes);
+        List<BulkItem> items = new ArrayList<>();
+        BulkItem item;
+        while ((item = reader.next()) != null) {
+            items.add(item);
+        }
+        return items;
+    }
+}
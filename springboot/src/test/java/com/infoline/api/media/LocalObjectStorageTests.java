@@ -0,0 +1,116 @@
+package com.infoline.api.media;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalObjectStorageTests {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void transfersThenPublishesUnderKey() throws Exception {
+        LocalObjectStorage storage = new LocalObjectStorage(root);
+        byte[] content = random(3_000_000);
+
+        VerifyingChannel source = new VerifyingChannel(channel(content), 10_000_000, "trop gros");
+        try (LocalObjectStorage.Upload upload = storage.begin()) {
+            assertThat(upload.transferFrom(source)).isEqualTo(content.length);
+            assertThat(storage.exists("articles/psg-lyon/photo.jpg")).isFalse();
+            assertThat(upload.commit("articles/psg-lyon/photo.jpg")).isTrue();
+        }
+
+        assertThat(source.bytes()).isEqualTo(content.length);
+        assertThat(source.sha256Hex()).isEqualTo(sha256(content));
+        assertThat(Files.readAllBytes(root.resolve("articles/psg-lyon/photo.jpg"))).isEqualTo(content);
+        assertThat(incoming()).isZero();
+    }
+
+    @Test
+    void keepsExistingObjectAndDiscardsAbandonedUploads() throws IOException {
+        LocalObjectStorage storage = new LocalObjectStorage(root);
+        byte[] content = random(1000);
+        try (LocalObjectStorage.Upload upload = storage.begin()) {
+            upload.transferFrom(channel(content));
+            assertThat(upload.commit("a/b.bin")).isTrue();
+        }
+        try (LocalObjectStorage.Upload upload = storage.begin()) {
+            upload.transferFrom(channel(content));
+            assertThat(upload.commit("a/b.bin")).isFalse();
+        }
+        try (LocalObjectStorage.Upload upload = storage.begin()) {
+            upload.transferFrom(channel(random(10)));
+            assertThat(incoming()).isEqualTo(1);
+        }
+
+        assertThat(incoming()).isZero();
+        assertThat(Files.readAllBytes(root.resolve("a/b.bin"))).isEqualTo(content);
+        assertThat(storage.delete("a/b.bin")).isTrue();
+        assertThat(storage.exists("a/b.bin")).isFalse();
+    }
+
+    @Test
+    void rejectsOversizedContentWhileReading() throws IOException {
+        LocalObjectStorage storage = new LocalObjectStorage(root);
+        VerifyingChannel source = new VerifyingChannel(channel(random(100_000)), 50_000, "trop gros");
+
+        try (LocalObjectStorage.Upload upload = storage.begin()) {
+            assertThatThrownBy(() -> upload.transferFrom(source)).isInstanceOf(MediaUploadException.class);
+        }
+        // Arrêt dès la limite franchie, sans lire le reste
+        assertThat(source.bytes()).isLessThan(100_000);
+        assertThat(incoming()).isZero();
+    }
+
+    @Test
+    void rejectsKeysOutsideTheRoot() throws IOException {
+        LocalObjectStorage storage = new LocalObjectStorage(root);
+        assertThatThrownBy(() -> storage.exists("../etc/passwd")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.exists("/abs")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.exists("a/../../b")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.exists(".incoming/x")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void purgesInterruptedUploadsOnOpen() throws IOException {
+        new LocalObjectStorage(root).begin();
+        assertThat(incoming()).isEqualTo(1);
+
+        new LocalObjectStorage(root);
+        assertThat(incoming()).isZero();
+    }
+
+    private long incoming() throws IOException {
+        try (Stream<Path> files = Files.list(root.resolve(".incoming"))) {
+            return files.count();
+        }
+    }
+
+    private static ReadableByteChannel channel(byte[] content) {
+        return Channels.newChannel(new ByteArrayInputStream(content));
+    }
+
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
@@ -0,0 +1,178 @@
+package com.infoline.api.media;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MediaUploadServiceTests {
+
+    private static final String BOUNDARY = "----InfoLine7MA4YWxkTrZu0gW";
+    private static final String CONTENT_TYPE = "multipart/form-data; boundary=" + BOUNDARY;
+
+    @TempDir
+    Path root;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private MediaUploadService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 1000 octets par fichier, 2500 par envoi
+        service = new MediaUploadService(registry, root.toString(), 1000, 2500, 3,
+            new String[] {"image/jpeg", "image/png"});
+    }
+
+    @Test
+    void storesFilesUnderTheirChecksum() throws IOException {
+        byte[] photo = random(1, 800);
+        byte[] logo = random(2, 300);
+
+        MediaUpload upload = upload(
+            field("sha256", sha256(photo).toUpperCase()),
+            file("photo", "photo.jpg", "image/jpeg", photo),
+            file("logo", "logo.png", "image/png; charset=binary", logo));
+
+        assertThat(upload.items()).extracting(StoredMedia::key).containsExactly(
+            "articles/psg-lyon/" + sha256(photo) + ".jpg",
+            "articles/psg-lyon/" + sha256(logo) + ".png");
+        assertThat(upload.items()).extracting(StoredMedia::size).containsExactly(800L, 300L);
+        assertThat(Files.readAllBytes(root.resolve(upload.items().get(0).key()))).isEqualTo(photo);
+        assertThat(registry.get("media.upload.bytes").summary().totalAmount()).isEqualTo(1100);
+    }
+
+    @Test
+    void rejectsChecksumMismatchAndRemovesFilesAlreadyStored() throws IOException {
+        byte[] photo = random(1, 500);
+        byte[] other = random(2, 500);
+
+        assertThatThrownBy(() -> upload(
+            file("photo", "photo.jpg", "image/jpeg", photo),
+            field("sha256", sha256(photo)),
+            file("other", "other.jpg", "image/jpeg", other)))
+            .isInstanceOfSatisfying(MediaUploadException.class, e -> {
+                assertThat(e.status()).isEqualTo(HttpStatus.BAD_REQUEST);
+                assertThat(e.error()).isEqualTo("Checksum mismatch");
+            });
+
+        assertThat(objects()).isEmpty();
+    }
+
+    @Test
+    void rejectsFileAboveItsLimit() throws IOException {
+        assertThatThrownBy(() -> upload(
+            file("photo", "photo.jpg", "image/jpeg", random(1, 400)),
+            file("poster", "poster.jpg", "image/jpeg", random(2, 1001))))
+            .isInstanceOfSatisfying(MediaUploadException.class, e -> {
+                assertThat(e.status()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+                assertThat(e.getMessage()).isEqualTo("Fichier poster.jpg de plus de 1000 octets");
+            });
+
+        assertThat(objects()).isEmpty();
+    }
+
+    @Test
+    void rejectsRequestAboveItsLimit() throws IOException {
+        // Chaque fichier passe, le troisième fait dépasser l'envoi
+        assertThatThrownBy(() -> upload(
+            file("a", "a.jpg", "image/jpeg", random(1, 900)),
+            file("b", "b.jpg", "image/jpeg", random(2, 900)),
+            file("c", "c.jpg", "image/jpeg", random(3, 900))))
+            .isInstanceOfSatisfying(MediaUploadException.class, e -> {
+                assertThat(e.status()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+                assertThat(e.getMessage()).isEqualTo("Envoi de plus de 2500 octets");
+            });
+
+        assertThat(objects()).isEmpty();
+    }
+
+    @Test
+    void keepsObjectsStoredByEarlierUploads() throws IOException {
+        byte[] photo = random(1, 500);
+        String key = upload(file("photo", "photo.jpg", "image/jpeg", photo)).items().get(0).key();
+
+        // Même fichier renvoyé puis envoi refusé : l'objet appartient au premier envoi
+        assertThatThrownBy(() -> upload(
+            file("photo", "photo.jpg", "image/jpeg", photo),
+            file("poster", "poster.jpg", "image/jpeg", random(2, 1001))))
+            .isInstanceOf(MediaUploadException.class);
+
+        assertThat(objects()).containsExactly(key);
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // MÉTHODES UTILITAIRES
+    // ═══════════════════════════════════════════════════════════════
+
+    private MediaUpload upload(byte[]... parts) throws IOException {
+        return service.upload("psg-lyon", CONTENT_TYPE, new ByteArrayInputStream(body(parts)));
+    }
+
+    /** Clés publiées (hors fichiers en cours d'écriture) */
+    private List<String> objects() throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile)
+                .map(file -> root.relativize(file).toString().replace('\\', '/'))
+                .filter(key -> !key.startsWith("."))
+                .toList();
+        }
+    }
+
+    private static byte[] field(String name, String value) {
+        return part("form-data; name=\"" + name + "\"", null, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] file(String name, String filename, String contentType, byte[] content) {
+        return part("form-data; name=\"" + name + "\"; filename=\"" + filename + "\"", contentType, content);
+    }
+
+    private static byte[] part(String disposition, String contentType, byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String headers = "--" + BOUNDARY + "\r\nContent-Disposition: " + disposition + "\r\n"
+            + (contentType == null ? "" : "Content-Type: " + contentType + "\r\n") + "\r\n";
+        out.writeBytes(headers.getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(content);
+        out.writeBytes("\r\n".getBytes(StandardCharsets.US_ASCII));
+        return out.toByteArray();
+    }
+
+    private static byte[] body(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        out.writeBytes(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        return out.toByteArray();
+    }
+
+    private static byte[] random(long seed, int size) {
+        byte[] bytes = new byte[size];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
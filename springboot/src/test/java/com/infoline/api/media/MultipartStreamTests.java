@@ -0,0 +1,149 @@
+package com.infoline.api.media;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultipartStreamTests {
+
+    private static final String BOUNDARY = "----InfoLine7MA4YWxkTrZu0gW";
+
+    @Test
+    void extractsBoundaryFromContentType() {
+        assertThat(MultipartStream.boundary("multipart/form-data; boundary=" + BOUNDARY)).isEqualTo(BOUNDARY);
+        assertThat(MultipartStream.boundary("Multipart/Form-Data; charset=utf-8; boundary=\"a b\"")).isEqualTo("a b");
+        assertThat(MultipartStream.boundary("multipart/form-data")).isNull();
+        assertThat(MultipartStream.boundary("application/json; boundary=x")).isNull();
+        assertThat(MultipartStream.boundary("multipart/form-data; boundary=" + "x".repeat(71))).isNull();
+    }
+
+    @Test
+    void readsPartsInOrderWhateverTheChunking() throws IOException {
+        byte[] image = new byte[200_000];
+        new Random(42).nextBytes(image);
+        // Faux délimiteurs dans le contenu : seul \r\n--boundary compte
+        byte[] tricky = ("a\r\n--" + BOUNDARY.substring(0, 10) + "\r\n--\r\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] body = body(
+            "preamble ignoré\r\n",
+            field("sha256", "abc"),
+            file("file", "photo été.jpg", "image/jpeg", image),
+            file("notes", "notes.txt", null, tricky));
+
+        for (int chunk : new int[] {1, 7, 100, 1 << 20}) {
+            MultipartStream parts = new MultipartStream(trickle(body, chunk), BOUNDARY, 1024, 512);
+
+            MultipartStream.Part checksum = parts.next();
+            assertThat(checksum.name()).isEqualTo("sha256");
+            assertThat(checksum.filename()).isNull();
+            assertThat(readAll(checksum)).isEqualTo("abc".getBytes(StandardCharsets.US_ASCII));
+
+            MultipartStream.Part photo = parts.next();
+            assertThat(photo.name()).isEqualTo("file");
+            assertThat(photo.filename()).isEqualTo("photo été.jpg");
+            assertThat(photo.contentType()).isEqualTo("image/jpeg");
+            assertThat(readAll(photo)).isEqualTo(image);
+
+            MultipartStream.Part notes = parts.next();
+            assertThat(notes.contentType()).isNull();
+            assertThat(readAll(notes)).isEqualTo(tricky);
+
+            assertThat(parts.next()).isNull();
+            assertThat(parts.next()).isNull();
+        }
+    }
+
+    @Test
+    void skipsUnreadPartsWhenMovingOn() throws IOException {
+        byte[] big = new byte[50_000];
+        byte[] body = body("", file("a", "a.bin", "application/octet-stream", big), field("b", "deux"));
+        MultipartStream parts = new MultipartStream(trickle(body, 333), BOUNDARY, 1024, 512);
+
+        assertThat(parts.next().name()).isEqualTo("a");
+        MultipartStream.Part second = parts.next();
+        assertThat(second.name()).isEqualTo("b");
+        assertThat(new String(readAll(second), StandardCharsets.UTF_8)).isEqualTo("deux");
+        assertThat(parts.next()).isNull();
+    }
+
+    @Test
+    void rejectsMalformedBodies() {
+        byte[] truncated = ("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"f\"\r\n\r\nabc")
+            .getBytes(StandardCharsets.US_ASCII);
+        assertThatThrownBy(() -> drain(truncated)).isInstanceOf(MediaUploadException.class);
+
+        byte[] noName = ("--" + BOUNDARY + "\r\nContent-Type: text/plain\r\n\r\nabc\r\n--" + BOUNDARY + "--\r\n")
+            .getBytes(StandardCharsets.US_ASCII);
+        assertThatThrownBy(() -> drain(noName)).isInstanceOf(MediaUploadException.class);
+
+        byte[] hugeHeader = ("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + "n".repeat(600)
+            + "\"\r\n\r\nabc\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        assertThatThrownBy(() -> drain(hugeHeader)).isInstanceOf(MediaUploadException.class);
+    }
+
+    // ── MÉTHODES UTILITAIRES ────────────────────────────────────────
+
+    private static void drain(byte[] body) throws IOException {
+        MultipartStream parts = new MultipartStream(new ByteArrayInputStream(body), BOUNDARY, 1024, 512);
+        MultipartStream.Part part;
+        while ((part = parts.next()) != null) {
+            readAll(part);
+        }
+    }
+
+    private static byte[] readAll(MultipartStream.Part part) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        while (part.body().read(buffer) >= 0) {
+            out.write(buffer.array(), 0, buffer.position());
+            buffer.clear();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] field(String name, String value) {
+        return part("form-data; name=\"" + name + "\"", null, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] file(String name, String filename, String contentType, byte[] content) {
+        return part("form-data; name=\"" + name + "\"; filename=\"" + filename + "\"", contentType, content);
+    }
+
+    private static byte[] part(String disposition, String contentType, byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String headers = "--" + BOUNDARY + "\r\nContent-Disposition: " + disposition + "\r\n"
+            + (contentType == null ? "" : "Content-Type: " + contentType + "\r\n") + "\r\n";
+        out.writeBytes(headers.getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(content);
+        out.writeBytes("\r\n".getBytes(StandardCharsets.US_ASCII));
+        return out.toByteArray();
+    }
+
+    private static byte[] body(String preamble, byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(preamble.getBytes(StandardCharsets.US_ASCII));
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        out.writeBytes(("--" + BOUNDARY + "--\r\népilogue").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    /** Flux qui ne rend que {@code chunk} octets par lecture (paquets TCP) */
+    private static InputStream trickle(byte[] body, int chunk) {
+        return new ByteArrayInputStream(body) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, chunk));
+            }
+        };
+    }
+}
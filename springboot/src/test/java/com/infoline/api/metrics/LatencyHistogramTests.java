@@ -0,0 +1,61 @@
+package com.infoline.api.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTests {
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.p99()).isZero();
+        assertThat(snapshot.max()).isZero();
+    }
+
+    @Test
+    void percentilesStayWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(100_000);
+        assertThat((double) snapshot.p50()).isCloseTo(50_000, within(50_000 * 0.02));
+        assertThat((double) snapshot.p90()).isCloseTo(90_000, within(90_000 * 0.02));
+        assertThat((double) snapshot.p99()).isCloseTo(99_000, within(99_000 * 0.02));
+        assertThat((double) snapshot.p999()).isCloseTo(99_900, within(99_900 * 0.02));
+        assertThat(snapshot.max()).isEqualTo(100_000);
+    }
+
+    @Test
+    void bucketsAreContiguousAndBounded() {
+        long previousHighest = -1;
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            long highest = LatencyHistogram.highestValueInBucket(i);
+            assertThat(LatencyHistogram.bucketIndex(previousHighest + 1)).isEqualTo(i);
+            assertThat(LatencyHistogram.bucketIndex(highest)).isEqualTo(i);
+            previousHighest = highest;
+        }
+        assertThat(previousHighest).isEqualTo(LatencyHistogram.MAX_TRACKABLE_MICROS);
+    }
+
+    @Test
+    void clampsOutOfRangeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertThat(histogram.count()).isEqualTo(2);
+        assertThat(histogram.maxMicros()).isEqualTo(LatencyHistogram.MAX_TRACKABLE_MICROS);
+        assertThat(histogram.valueAtPercentile(50)).isZero();
+    }
+}
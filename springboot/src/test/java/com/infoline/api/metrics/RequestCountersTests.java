@@ -0,0 +1,69 @@
+package com.infoline.api.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCountersTests {
+
+    @Test
+    void countsTotalsEndpointsAndStatuses() {
+        RequestCounters counters = new RequestCounters();
+
+        counters.requestStarted();
+        counters.requestStarted();
+        assertThat(counters.activeRequests()).isEqualTo(2);
+
+        counters.requestCompleted("/api/v1/health", 200);
+        counters.requestCompleted(null, 404);
+
+        assertThat(counters.activeRequests()).isZero();
+        assertThat(counters.totalRequests()).isEqualTo(2);
+        assertThat(counters.requestsByEndpoint())
+            .containsEntry("/api/v1/health", 1L)
+            .containsEntry(RequestCounters.UNMAPPED, 1L);
+        assertThat(counters.requestsByStatus())
+            .containsEntry("200", 1L)
+            .containsEntry("404", 1L)
+            .hasSize(2);
+    }
+
+    @Test
+    void boundsEndpointCardinality() {
+        RequestCounters counters = new RequestCounters();
+
+        for (int i = 0; i < RequestCounters.MAX_ENDPOINTS * 2; i++) {
+            counters.requestStarted();
+            counters.requestCompleted("/endpoint/" + i, 200);
+        }
+
+        assertThat(counters.requestsByEndpoint().size()).isLessThanOrEqualTo(RequestCounters.MAX_ENDPOINTS);
+        assertThat(counters.requestsByEndpoint()).containsKey(RequestCounters.OTHER);
+        assertThat(counters.totalRequests()).isEqualTo(RequestCounters.MAX_ENDPOINTS * 2L);
+    }
+
+    @Test
+    void concurrentRecordingLosesNoUpdates() throws InterruptedException {
+        RequestCounters counters = new RequestCounters();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    counters.requestStarted();
+                    counters.requestCompleted("/api/v1/", 200);
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(counters.totalRequests()).isEqualTo(80_000);
+        assertThat(counters.activeRequests()).isZero();
+        assertThat(counters.requestsByEndpoint()).containsEntry("/api/v1/", 80_000L);
+    }
+}
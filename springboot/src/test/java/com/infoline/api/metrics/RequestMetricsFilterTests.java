@@ -0,0 +1,54 @@
+package com.infoline.api.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestMetricsFilterTests {
+
+    private final RequestCounters counters = new RequestCounters();
+    private final RequestMetricsFilter filter =
+        new RequestMetricsFilter(counters, new LatencyRecorder(new SimpleMeterRegistry()));
+
+    @Test
+    void recordsRequestWhenTheChainReturns() throws Exception {
+        MockHttpServletRequest request = request("/api/v1/health");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+
+        assertThat(counters.activeRequests()).isZero();
+        assertThat(counters.requestsByEndpoint()).containsEntry("/api/v1/health", 1L);
+    }
+
+    @Test
+    void keepsAsyncRequestActiveUntilItCompletes() throws Exception {
+        MockHttpServletRequest request = request("/api/v1/stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain startsAsync = (req, res) -> req.startAsync(req, res);
+
+        filter.doFilter(request, response, startsAsync);
+
+        // Premier dispatch terminé : la connexion reste ouverte
+        assertThat(counters.activeRequests()).isEqualTo(1);
+        assertThat(counters.totalRequests()).isZero();
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        assertThat(counters.activeRequests()).isZero();
+        assertThat(counters.requestsByEndpoint()).containsEntry("/api/v1/stream", 1L);
+        assertThat(counters.requestsByStatus()).containsEntry("200", 1L);
+    }
+
+    private static MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+        request.setAsyncSupported(true);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+}
@@ -0,0 +1,77 @@
+package com.infoline.api.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveInfoLineRouterTests {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private ReactiveWebServerApplicationContext context;
+
+    @Test
+    void servesEndpointsOnNetty() {
+        assertThat(context.getWebServer()).isInstanceOf(NettyWebServer.class);
+
+        client.get().uri("/api/v1/health").exchange()
+            .expectStatus().isOk()
+            .expectBody().jsonPath("$.status").isEqualTo("UP");
+
+        client.get().uri("/api/v1/test/error").exchange()
+            .expectStatus().is5xxServerError();
+    }
+
+    @Test
+    void answersNotModifiedWhenEtagMatches() {
+        String etag = client.get().uri("/api/v1/info").exchange()
+            .expectStatus().isOk()
+            .expectHeader().exists(HttpHeaders.LAST_MODIFIED)
+            .returnResult(byte[].class).getResponseHeaders().getETag();
+        // Mémoire et timestamp varient à ETag égal : ETag faible
+        assertThat(etag).startsWith("W/\"");
+
+        client.get().uri("/api/v1/info").header(HttpHeaders.IF_NONE_MATCH, etag).exchange()
+            .expectStatus().isNotModified()
+            .expectBody().isEmpty();
+
+        client.get().uri("/api/v1/info?pretty=true").header(HttpHeaders.IF_NONE_MATCH, etag).exchange()
+            .expectStatus().isOk();
+    }
+
+    @Test
+    void answersNotModifiedForHomeFromEtagOrDate() {
+        HttpHeaders headers = client.get().uri("/api/v1/").exchange()
+            .expectStatus().isOk()
+            .returnResult(byte[].class).getResponseHeaders();
+
+        client.get().uri("/api/v1/").header(HttpHeaders.IF_NONE_MATCH, headers.getETag()).exchange()
+            .expectStatus().isNotModified()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, headers.getETag());
+        client.get().uri("/api/v1/").header(HttpHeaders.IF_MODIFIED_SINCE, headers.getFirst(HttpHeaders.LAST_MODIFIED))
+            .exchange()
+            .expectStatus().isNotModified();
+    }
+
+    @Test
+    void slowEndpointUsesTimerDelay() {
+        client.get().uri("/api/v1/test/slow?delay=50").exchange()
+            .expectStatus().isOk()
+            .expectBody().jsonPath("$.delay").isEqualTo("50ms");
+
+        client.get().uri("/api/v1/status").exchange()
+            .expectStatus().isOk()
+            .expectBody().jsonPath("$.stats.totalRequests").isNumber();
+    }
+}
@@ -0,0 +1,47 @@
+package com.infoline.api.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalyzerTests {
+
+    @Test
+    void normalizesAccentsCaseAndElisions() {
+        assertThat(Analyzer.analyze("L'Équipe de FRANCE s'impose", Language.FRENCH))
+            .containsExactly("equip", "franc", "impos");
+        assertThat(Analyzer.analyze("Cœur", Language.FRENCH)).containsExactly("coeur");
+    }
+
+    @Test
+    void stemsPluralsToSingular() {
+        assertThat(Analyzer.analyze("équipes journaux buts", Language.FRENCH))
+            .containsExactlyElementsOf(Analyzer.analyze("équipe journal but", Language.FRENCH));
+        assertThat(Analyzer.analyze("teams stories goals", Language.ENGLISH))
+            .containsExactlyElementsOf(Analyzer.analyze("team story goal", Language.ENGLISH));
+    }
+
+    @Test
+    void dropsStopWordsAndNoise() {
+        assertThat(Analyzer.analyze("le but de la victoire", Language.FRENCH)).containsExactly("but", "victoir");
+        assertThat(Analyzer.analyze("a 3 x " + "y".repeat(Analyzer.MAX_TERM_LENGTH + 1), Language.FRENCH))
+            .containsExactly("3");
+        assertThat(Analyzer.analyze(null, Language.FRENCH)).isEmpty();
+    }
+
+    @Test
+    void detectsLanguageFromStopWords() {
+        assertThat(Analyzer.detect("The coach said that the team was ready")).isEqualTo(Language.ENGLISH);
+        assertThat(Analyzer.detect("Le sélectionneur a dit que l'équipe était prête")).isEqualTo(Language.FRENCH);
+        assertThat(Analyzer.detect("Mbappé")).isEqualTo(Language.FRENCH);
+    }
+
+    @Test
+    void expandsQueryWordsToBothLanguages() {
+        assertThat(Analyzer.queryTerms("matches stories goal")).containsExactly(
+            List.of("match", "matche"), List.of("stori", "story"), List.of("goal"));
+        assertThat(Analyzer.queryTerms("le la les")).isEmpty();
+    }
+}
@@ -0,0 +1,222 @@
+package com.infoline.api.search;
+
+import com.infoline.api.article.ArticleText;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTests {
+
+    @TempDir
+    Path directory;
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void open() {
+        index = InvertedIndex.open(directory, 1_000, 2, 4_000);
+    }
+
+    @AfterEach
+    void close() {
+        index.close();
+    }
+
+    @Test
+    void ranksTitleMatchesFirst() {
+        index.index(List.of(
+            new ArticleText(1L, "Résultats du week-end", "Tour d'horizon", "Le PSG a battu Lyon.", List.of()),
+            new ArticleText(2L, "Le PSG s'impose à Lyon", "Victoire nette", "Trois buts en seconde période.", List.of()),
+            new ArticleText(3L, "Nouveau processeur", "Annonce", "Gravure en 3 nm.", List.of("hardware"))));
+
+        SearchHits hits = index.search("psg", 10);
+
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(hits.hits()).extracting(SearchHit::articleId).containsExactly(2L, 1L);
+        assertThat(hits.hits().get(0).score()).isGreaterThan(hits.hits().get(1).score());
+        assertThat(index.search("hardware", 10).hits()).extracting(SearchHit::articleId).containsExactly(3L);
+    }
+
+    @Test
+    void matchesWithoutAccentsOrPlural() {
+        index.index(List.of(new ArticleText(7L, "Les équipes qualifiées", null, "Huit équipes en quarts.")));
+
+        assertThat(index.search("equipe qualifiee", 10).hits()).extracting(SearchHit::articleId).containsExactly(7L);
+        assertThat(index.search("ÉQUIPES", 10).total()).isEqualTo(1);
+        assertThat(index.search("le la les", 10)).isSameAs(SearchHits.EMPTY);
+    }
+
+    @Test
+    void findsEnglishArticlesFromShortEnglishQueries() {
+        index.index(List.of(
+            new ArticleText(1L, "Premier League stories", "What the coach said",
+                "It was the best of the matches for the team.", List.of()),
+            new ArticleText(2L, "Les matches de la semaine", null, "Le programme complet.")));
+
+        // Requêtes sans mot vide, devinées françaises : racines anglaises cherchées aussi
+        assertThat(index.search("stories", 10).hits()).extracting(SearchHit::articleId).containsExactly(1L);
+        assertThat(index.search("matches", 10).hits()).extracting(SearchHit::articleId)
+            .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void reindexingAndDeletingHideOldVersions() {
+        index.index(List.of(new ArticleText(1L, "Transfert annoncé", null, "Rumeur")));
+        index.index(List.of(new ArticleText(1L, "Transfert confirmé", null, "Officiel")));
+
+        assertThat(index.docCount()).isEqualTo(1);
+        assertThat(index.contains(1L)).isTrue();
+        assertThat(index.search("rumeur", 10).total()).isZero();
+        assertThat(index.search("officiel", 10).hits()).extracting(SearchHit::articleId).containsExactly(1L);
+
+        assertThat(index.delete(1L)).isTrue();
+        assertThat(index.delete(1L)).isFalse();
+        assertThat(index.search("transfert", 10).total()).isZero();
+        assertThat(index.docCount()).isZero();
+        assertThat(index.contains(1L)).isFalse();
+    }
+
+    @Test
+    void mergesBufferedSegmentsKeepingLiveDocumentsOnly() {
+        for (long id = 1; id <= 40; id++) {
+            index.index(List.of(new ArticleText(id, "Match " + id, null, id % 2 == 0 ? "pair" : "impair")));
+        }
+        index.delete(2L);
+
+        assertThat(index.segmentCount()).isLessThanOrEqualTo(2);
+        assertThat(index.docCount()).isEqualTo(39);
+        assertThat(index.search("match", 100).total()).isEqualTo(39);
+        assertThat(index.search("pair", 100).hits()).extracting(SearchHit::articleId)
+            .hasSize(19)
+            .doesNotContain(2L);
+    }
+
+    @Test
+    void keepsBestHitsWithinLimit() {
+        List<ArticleText> texts = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            texts.add(new ArticleText(id, "Article " + id, null, "tennis ".repeat((int) id)));
+        }
+        index.index(texts);
+
+        SearchHits hits = index.search("tennis", 3);
+
+        assertThat(hits.total()).isEqualTo(30);
+        assertThat(hits.hits()).extracting(SearchHit::articleId).containsExactly(30L, 29L, 28L);
+    }
+
+    @Test
+    void postingsRoundTripThroughVarints() {
+        Segment.Builder builder = new Segment.Builder();
+        for (int doc = 0; doc < 300; doc++) {
+            builder.add(1_000L + doc, doc % 3 == 0 ? Map.of("but", doc + 1, "rare", 1) : Map.of("but", doc + 1), 1);
+        }
+        Segment segment = builder.build();
+
+        PostingsIterator postings = segment.postings(segment.termOrdinal("but"));
+        for (int doc = 0; doc < 300; doc++) {
+            assertThat(postings.next()).isTrue();
+            assertThat(postings.doc()).isEqualTo(doc);
+            assertThat(postings.freq()).isEqualTo(doc + 1);
+        }
+        assertThat(postings.next()).isFalse();
+        assertThat(segment.docFreq(segment.termOrdinal("rare"))).isEqualTo(100);
+        assertThat(segment.docOf(1_150L)).isEqualTo(150);
+        assertThat(segment.maxArticleId()).isEqualTo(1_299L);
+        assertThat(segment.termOrdinal("absent")).isEqualTo(-1);
+    }
+
+    @Test
+    void reopensFlushedSegmentsFromDisk() {
+        index.index(List.of(
+            new ArticleText(1L, "Finale de Coupe", null, "Stade plein"),
+            new ArticleText(2L, "Coupe Davis", null, "Tennis"),
+            new ArticleText(3L, "Nouvelle montre", null, "Autonomie")));
+        index.flush();
+        assertThat(index.heapBytes()).isZero();
+        assertThat(index.mappedBytes()).isPositive();
+
+        // Suppression d'un document d'un segment sur disque : journalisée seulement
+        index.delete(1L);
+        reopen();
+
+        assertThat(index.docCount()).isEqualTo(2);
+        assertThat(index.maxArticleId()).isEqualTo(3L);
+        assertThat(index.search("coupe", 10).hits()).extracting(SearchHit::articleId).containsExactly(2L);
+        assertThat(index.search("montre", 10).total()).isEqualTo(1);
+    }
+
+    @Test
+    void replaysJournalAndIgnoresTornRecord() throws IOException {
+        index.index(List.of(new ArticleText(10L, "Mercato", null, "Signature")));
+        index.index(List.of(new ArticleText(11L, "Mercato d'hiver", null, "Prêt")));
+        index.close();
+        Path wal = files("wal-").get(0);
+        // Arrêt brutal pendant l'écriture d'un enregistrement
+        Files.write(wal, new byte[] {0, 0, 1, 0, 42, 42}, StandardOpenOption.APPEND);
+        long valid = Files.size(wal) - 6;
+
+        index = InvertedIndex.open(directory, 1_000, 2, 4_000);
+
+        assertThat(index.docCount()).isEqualTo(2);
+        assertThat(index.heapBytes()).isPositive();
+        assertThat(index.search("mercato", 10).total()).isEqualTo(2);
+        assertThat(Files.size(wal)).isEqualTo(valid);
+
+        index.index(List.of(new ArticleText(12L, "Mercato estival", null, "Transfert")));
+        reopen();
+        assertThat(index.search("mercato", 10).total()).isEqualTo(3);
+    }
+
+    @Test
+    void mergesDiskSegmentsInBackgroundAndSwapsAtomically() throws IOException {
+        index.close();
+        index = InvertedIndex.open(directory, 2, 2, 4_000);
+        for (long id = 1; id <= 8; id += 2) {
+            index.index(List.of(
+                new ArticleText(id, "Ligue " + id, null, "football"),
+                new ArticleText(id + 1, "Ligue " + (id + 1), null, "football")));
+        }
+        assertThat(index.segmentCount()).isEqualTo(4);
+        index.delete(3L);
+
+        int merges = 0;
+        while (index.mergeOnce()) {
+            merges++;
+        }
+
+        assertThat(merges).isPositive();
+        assertThat(index.segmentCount()).isLessThan(4);
+        assertThat(files(".seg")).hasSize(index.segmentCount());
+        assertThat(index.search("football", 20).hits()).extracting(SearchHit::articleId)
+            .containsExactlyInAnyOrder(1L, 2L, 4L, 5L, 6L, 7L, 8L);
+
+        index.close();
+        index = InvertedIndex.open(directory, 2, 2, 4_000);
+        assertThat(index.docCount()).isEqualTo(7);
+        assertThat(index.search("ligue", 20).total()).isEqualTo(7);
+    }
+
+    private void reopen() {
+        index.close();
+        index = InvertedIndex.open(directory, 1_000, 2, 4_000);
+    }
+
+    private List<Path> files(String pattern) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().contains(pattern)).toList();
+        }
+    }
+}
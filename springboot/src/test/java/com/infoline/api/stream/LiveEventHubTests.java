@@ -0,0 +1,190 @@
+package com.infoline.api.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infoline.api.article.ArticlesImported;
+import com.infoline.api.web.JsonOutputMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveEventHubTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LiveEventHub hub = new LiveEventHub(new JsonOutputMode(new ObjectMapper()), registry, 3, 0);
+
+    @Test
+    void encodesEachEventOnceForAllSubscribers() {
+        List<StreamFrame> first = new ArrayList<>();
+        List<StreamFrame> second = new ArrayList<>();
+        hub.subscribe(first::add);
+        hub.subscribe(second::add);
+
+        StreamFrame frame = hub.publish("score", Map.of("home", 2));
+
+        assertThat(first).containsExactly(frame);
+        assertThat(second.get(0)).isSameAs(frame);
+        assertThat(text(frame, StreamFormat.SSE)).isEqualTo("id: 1\nevent: score\ndata: {\"home\":2}\n\n");
+        assertThat(text(frame, StreamFormat.NDJSON)).isEqualTo("{\"id\":1,\"type\":\"score\",\"data\":{\"home\":2}}\n");
+    }
+
+    @Test
+    void relaysImportedArticlesAndHeartbeats() {
+        List<StreamFrame> frames = new ArrayList<>();
+        LiveEventHub.Subscription subscription = hub.subscribe(frames::add);
+
+        hub.onArticlesImported(new ArticlesImported(List.of(8L, 7L, 12L)));
+        hub.onArticlesImported(new ArticlesImported(List.of(), true));
+        hub.heartbeat();
+        subscription.close();
+        hub.heartbeat();
+
+        assertThat(frames).extracting(StreamFrame::type).containsExactly("articles", StreamFrame.HEARTBEAT);
+        assertThat(text(frames.get(0), StreamFormat.NDJSON))
+            .contains("\"data\":{\"count\":3,\"firstId\":7,\"lastId\":12}");
+        assertThat(text(frames.get(1), StreamFormat.SSE)).isEqualTo(":heartbeat\n\n");
+        assertThat(hub.subscriberCount()).isZero();
+    }
+
+    @Test
+    void slowSubscriberDropsOldestFrames() {
+        List<Runnable> pendingWrites = new ArrayList<>();
+        MockHttpServletRequest request = asyncRequest();
+        RecordingStream out = new RecordingStream();
+        StreamSubscriber subscriber = subscriber(request, out, 0, pendingWrites);
+
+        for (int i = 0; i < 5; i++) {
+            hub.publish("score", i);
+        }
+
+        assertThat(subscriber.buffered()).isEqualTo(3);
+        assertThat(pendingWrites).hasSize(1);
+        assertThat(registry.get("stream.frames").tag("result", "dropped").counter().count()).isEqualTo(2);
+
+        pendingWrites.get(0).run();
+        assertThat(out.text()).isEqualTo(
+            "{\"id\":3,\"type\":\"score\",\"data\":2}\n"
+                + "{\"id\":4,\"type\":\"score\",\"data\":3}\n"
+                + "{\"id\":5,\"type\":\"score\",\"data\":4}\n");
+        assertThat(out.flushes).isEqualTo(1);
+
+        subscriber.close();
+        assertThat(hub.subscriberCount()).isZero();
+    }
+
+    @Test
+    void waitsForTheSocketInsteadOfBlockingAWriter() throws Exception {
+        List<Runnable> pendingWrites = new ArrayList<>();
+        RecordingStream out = new RecordingStream();
+        StreamSubscriber subscriber = subscriber(asyncRequest(), out, 0, pendingWrites);
+        out.ready = false;
+
+        hub.publish("score", 1);
+        pendingWrites.remove(0).run();
+
+        assertThat(out.text()).isEmpty();
+        assertThat(subscriber.buffered()).isEqualTo(1);
+
+        out.ready = true;
+        out.listener.onWritePossible();
+        pendingWrites.remove(0).run();
+
+        assertThat(out.text()).isEqualTo("{\"id\":1,\"type\":\"score\",\"data\":1}\n");
+        assertThat(pendingWrites).isEmpty();
+    }
+
+    @Test
+    void disconnectsClientsStalledBeyondWriteTimeout() throws InterruptedException {
+        List<Runnable> pendingWrites = new ArrayList<>();
+        MockHttpServletRequest request = asyncRequest();
+        RecordingStream out = new RecordingStream();
+        subscriber(request, out, 1, pendingWrites);
+        out.ready = false;
+
+        hub.publish("score", 1);
+        pendingWrites.remove(0).run();
+        Thread.sleep(5);
+        hub.heartbeat();
+
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertThat(hub.subscriberCount()).isZero();
+        assertThat(pendingWrites).isEmpty();
+    }
+
+    @Test
+    void negotiatesFormatFromAccept() {
+        assertThat(StreamFormat.negotiate(null)).isEqualTo(StreamFormat.SSE);
+        assertThat(StreamFormat.negotiate("*/*")).isEqualTo(StreamFormat.SSE);
+        assertThat(StreamFormat.negotiate("application/x-ndjson")).isEqualTo(StreamFormat.NDJSON);
+        assertThat(StreamFormat.negotiate("text/event-stream;q=0, application/x-ndjson")).isEqualTo(StreamFormat.NDJSON);
+    }
+
+    private static String text(StreamFrame frame, StreamFormat format) {
+        return new String(frame.bytes(format), StandardCharsets.UTF_8);
+    }
+
+    private static MockHttpServletRequest asyncRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/stream");
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private StreamSubscriber subscriber(MockHttpServletRequest request, RecordingStream out, long writeTimeoutMs,
+                                        List<Runnable> pendingWrites) {
+        StreamSubscriber subscriber = new StreamSubscriber(
+            request.startAsync(request, new MockHttpServletResponse()), out, StreamFormat.NDJSON, hub,
+            writeTimeoutMs, pendingWrites::add);
+        subscriber.start();
+        return subscriber;
+    }
+
+    /**
+     * Corps de réponse dont la disponibilité est pilotée par le test
+     */
+    private static final class RecordingStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private boolean ready = true;
+        private int flushes;
+        private WriteListener listener;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void write(int b) {
+            written.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written.write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        private String text() {
+            return written.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.infoline.api.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestIndexTests {
+
+    private final SuggestIndex index = new SuggestIndex.Builder(3)
+        .add("Football", SuggestionType.CATEGORY, "football", 40)
+        .add("PSG", SuggestionType.TAG, "psg", 12)
+        .add("Paris Saint-Germain", SuggestionType.TAG, "paris-saint-germain", 12)
+        .add("Kylian Mbappé", SuggestionType.TAG, "mbappe", 5)
+        .add("Le PSG s'impose à Lyon", SuggestionType.ARTICLE, "le-psg-s-impose-a-lyon", 1)
+        .add("Lyon, Lyon et encore Lyon", SuggestionType.ARTICLE, "lyon-lyon", 1)
+        .add("Parité au conseil", SuggestionType.ARTICLE, "parite", 1)
+        .build();
+
+    @Test
+    void ranksByScoreThenTypeThenInsertionOrder() {
+        assertThat(texts("p")).containsExactly("PSG", "Paris Saint-Germain", "Le PSG s'impose à Lyon");
+        assertThat(texts("par")).containsExactly("Paris Saint-Germain", "Parité au conseil");
+        assertThat(texts("f")).containsExactly("Football");
+    }
+
+    @Test
+    void matchesAnyWordStartIgnoringCaseAccentsAndPunctuation() {
+        assertThat(texts("MBAPPE")).containsExactly("Kylian Mbappé");
+        assertThat(texts("saint g")).containsExactly("Paris Saint-Germain");
+        assertThat(texts("saint-germ")).containsExactly("Paris Saint-Germain");
+        assertThat(texts("impo")).containsExactly("Le PSG s'impose à Lyon");
+        // Lettre isolée (élision) : pas un début de mot
+        assertThat(texts("s imp")).isEmpty();
+        assertThat(texts("psg s'imp")).containsExactly("Le PSG s'impose à Lyon");
+    }
+
+    @Test
+    void listsEachEntryOnceWhenSeveralWordsMatch() {
+        assertThat(texts("lyon")).containsExactly("Le PSG s'impose à Lyon", "Lyon, Lyon et encore Lyon");
+    }
+
+    @Test
+    void trailingSeparatorRequiresTheWordToEnd() {
+        assertThat(texts("psg ")).containsExactly("Le PSG s'impose à Lyon");
+        assertThat(texts("pari ")).isEmpty();
+    }
+
+    @Test
+    void returnsNothingForUnknownOrBlankPrefix() {
+        assertThat(texts("zidane")).isEmpty();
+        assertThat(texts("psgx")).isEmpty();
+        assertThat(texts(" -' ")).isEmpty();
+        assertThat(SuggestIndex.EMPTY.lookup("psg", 10)).isEmpty();
+        assertThat(index.lookup("p", 1)).extracting(Suggestion::slug).containsExactly("psg");
+    }
+
+    @Test
+    void keepsTopKPerNodeOnLargeVocabulary() {
+        SuggestIndex.Builder builder = new SuggestIndex.Builder(5);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            builder.add("Joueur " + i, SuggestionType.TAG, "joueur-" + i, i);
+        }
+        for (int i = 1_999; i > 1_994; i--) {
+            expected.add("Joueur " + i);
+        }
+        SuggestIndex large = builder.build();
+
+        assertThat(large.lookup("jou", 10)).extracting(Suggestion::text).isEqualTo(expected);
+        assertThat(large.lookup("15", 10)).extracting(Suggestion::text)
+            .containsExactly("Joueur 1599", "Joueur 1598", "Joueur 1597", "Joueur 1596", "Joueur 1595");
+        assertThat(large.lookup("joueur 7", 10)).extracting(Suggestion::text)
+            .containsExactly("Joueur 799", "Joueur 798", "Joueur 797", "Joueur 796", "Joueur 795");
+        // Arbre radix : au plus deux nœuds par clé
+        assertThat(large.nodeCount()).isLessThanOrEqualTo(2 * 4_000 + 1);
+    }
+
+    private List<String> texts(String prefix) {
+        return index.lookup(prefix, 10).stream().map(Suggestion::text).toList();
+    }
+}
@@ -0,0 +1,42 @@
+package com.infoline.api.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimestampClockTests {
+
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+    @Test
+    void formatsInConfiguredZoneWithMillis() {
+        // 2024-07-01T10:15:30.042Z -> 12:15:30.042 à Paris (heure d'été)
+        TimestampClock clock = new TimestampClock(Clock.fixed(Instant.parse("2024-07-01T10:15:30.042Z"), PARIS));
+
+        assertThat(clock.now()).isEqualTo("2024-07-01T12:15:30.042");
+    }
+
+    @Test
+    void padsMillisAndHandlesWinterOffset() {
+        TimestampClock clock = new TimestampClock(Clock.fixed(Instant.parse("2024-01-15T23:59:59.007Z"), PARIS));
+
+        assertThat(clock.now()).isEqualTo("2024-01-16T00:59:59.007");
+    }
+
+    @Test
+    void reusesInstanceWithinSameMillisecond() {
+        TimestampClock clock = new TimestampClock(Clock.fixed(Instant.parse("2024-07-01T10:15:30.042Z"), PARIS));
+
+        assertThat(clock.now()).isSameAs(clock.now());
+    }
+
+    @Test
+    void fallsBackToSystemZoneWhenPropertyIsBlank() {
+        assertThat(new TimestampClock("").zone()).isEqualTo(ZoneId.systemDefault());
+        assertThat(new TimestampClock("Europe/Paris").zone()).isEqualTo(PARIS);
+    }
+}
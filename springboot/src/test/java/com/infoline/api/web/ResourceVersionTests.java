@@ -0,0 +1,56 @@
+package com.infoline.api.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceVersionTests {
+
+    private static final Instant EPOCH = Instant.parse("2024-03-01T08:00:00.750Z");
+
+    @Test
+    void strongEtagIsQuotedAndVariantsDiffer() {
+        ResourceVersion version = ResourceVersion.of("a42-3", EPOCH);
+
+        assertThat(version.etag()).isEqualTo("\"a42-3\"");
+        assertThat(version.variant("pretty").etag()).isEqualTo("\"a42-3-pretty\"");
+        assertThat(version.lastModified()).isEqualTo(Instant.parse("2024-03-01T08:00:00Z"));
+        assertThat(ResourceVersion.of("c-1", null).lastModifiedMillis()).isEqualTo(-1);
+    }
+
+    @Test
+    void weakEtagKeepsValidatorsAndVariants() {
+        ResourceVersion version = ResourceVersion.of("home-1f", EPOCH).weak();
+
+        assertThat(version.etag()).isEqualTo("W/\"home-1f\"");
+        assertThat(version.weak()).isSameAs(version);
+        assertThat(version.variant("pretty").etag()).isEqualTo("W/\"home-1f-pretty\"");
+        assertThat(version.lastModified()).isEqualTo(Instant.parse("2024-03-01T08:00:00Z"));
+    }
+
+    @Test
+    void builderKeepsLatestModificationAndSeparatesFields() {
+        ResourceVersion version = ResourceVersion.builder("p")
+            .add(1).modifiedAt(EPOCH)
+            .add(2).modifiedAt(EPOCH.plusSeconds(60))
+            .add(3).modifiedAt(EPOCH.minusSeconds(60))
+            .build();
+
+        assertThat(version.lastModified()).isEqualTo(Instant.parse("2024-03-01T08:01:00Z"));
+        assertThat(ResourceVersion.builder("c").add("ab").add("c").build())
+            .isNotEqualTo(ResourceVersion.builder("c").add("a").add("bc").build());
+    }
+
+    @Test
+    void anyChangedFieldChangesTheEtag() {
+        ResourceVersion page = ResourceVersion.builder("p").add(1).modifiedAt(EPOCH).add("next").build();
+
+        assertThat(ResourceVersion.builder("p").add(1).modifiedAt(EPOCH).add("next").build()).isEqualTo(page);
+        assertThat(ResourceVersion.builder("p").add(1).modifiedAt(EPOCH.plusNanos(1)).add("next").build().etag())
+            .isNotEqualTo(page.etag());
+        assertThat(ResourceVersion.builder("p").add(1).modifiedAt(EPOCH).add(null).build().etag())
+            .isNotEqualTo(page.etag());
+    }
+}
@@ -0,0 +1,67 @@
+package com.infoline.api.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class ResponseTemplateTests {
+
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    @Test
+    void renderMatchesDirectSerialization() throws Exception {
+        ResponseTemplate template = ResponseTemplate.compile(mapper,
+            payload(ResponseTemplate.slot("timestamp"), ResponseTemplate.slot("memory")),
+            "timestamp", "memory");
+
+        String timestamp = "2024-03-01T10:15:30";
+        String memory = "Mémoire \"libre\" \\ 🏆";
+        byte[] rendered = template.render(timestamp, memory);
+
+        assertThat(rendered).isEqualTo(mapper.writeValueAsBytes(payload(timestamp, memory)));
+    }
+
+    @Test
+    void escapesControlCharacters() throws Exception {
+        ResponseTemplate template = ResponseTemplate.compile(mapper,
+            Map.of("value", ResponseTemplate.slot("value")), "value");
+
+        byte[] rendered = template.render("a\nb\u0001\u001f");
+
+        assertThat(rendered).isEqualTo(mapper.writeValueAsBytes(Map.of("value", "a\nb\u0001\u001f")));
+        assertThat(mapper.readTree(rendered).get("value").asText()).isEqualTo("a\nb\u0001\u001f");
+    }
+
+    @Test
+    void rejectsMissingSlot() {
+        assertThatIllegalStateException()
+            .isThrownBy(() -> ResponseTemplate.compile(mapper, Map.of("a", "b"), "timestamp"));
+    }
+
+    @Test
+    void contentVersionIgnoresSlotValuesButNotConstants() {
+        ResponseTemplate template = ResponseTemplate.compile(mapper,
+            payload(ResponseTemplate.slot("timestamp"), ResponseTemplate.slot("memory")), "timestamp", "memory");
+        ResponseTemplate same = ResponseTemplate.compile(mapper,
+            payload(ResponseTemplate.slot("timestamp"), ResponseTemplate.slot("memory")), "timestamp", "memory");
+        ResponseTemplate compact = ResponseTemplate.compile(mapper.copy().disable(SerializationFeature.INDENT_OUTPUT),
+            payload(ResponseTemplate.slot("timestamp"), ResponseTemplate.slot("memory")), "timestamp", "memory");
+
+        assertThat(same.contentVersion()).isEqualTo(template.contentVersion());
+        assertThat(compact.contentVersion()).isNotEqualTo(template.contentVersion());
+    }
+
+    private static Map<String, Object> payload(String timestamp, String memory) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("message", "🏆 Bienvenue sur InfoLine API");
+        payload.put("timestamp", timestamp);
+        payload.put("runtime", Map.of("memoryFree", memory));
+        return payload;
+    }
+}
@@ -0,0 +1,222 @@
+package com.infoline.api.websocket;
+
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+
+/**
+ * Socket WebSocket simulé, sans réseau, partagé par les tests et le banc de charge
+ *
+ * Expose une session JSR-356 dont l'envoi asynchrone se termine sur le
+ * thread appelant. Un socket "bloqué" ({@link #stall()}) n'achève jamais
+ * ses envois, comme un client qui ne lit plus : sa file se remplit jusqu'à
+ * la déconnexion.
+ */
+public class SimulatedWebSocketSession implements NativeWebSocketSession {
+
+    private final String id;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final Session nativeSession;
+    private final List<SendHandler> stalledSends = new CopyOnWriteArrayList<>();
+    private final boolean recordPayloads;
+    private final List<String> payloads = new CopyOnWriteArrayList<>();
+
+    private volatile boolean stalled;
+    private volatile CloseStatus closeStatus;
+    private volatile int received;
+    private volatile long receivedBytes;
+    private volatile byte[] lastFrame;
+    private int textMessageSizeLimit;
+    private int binaryMessageSizeLimit;
+
+    /**
+     * @param id             Identifiant de session
+     * @param recordPayloads true pour garder le texte des messages reçus (tests fonctionnels)
+     */
+    public SimulatedWebSocketSession(String id, boolean recordPayloads) {
+        this.id = id;
+        this.recordPayloads = recordPayloads;
+        RemoteEndpoint.Async remote = proxy(RemoteEndpoint.Async.class, (method, args) -> {
+            if (method.equals("sendBinary") && args.length == 2) {
+                send((ByteBuffer) args[0], (SendHandler) args[1]);
+            }
+            return null;
+        });
+        this.nativeSession = proxy(Session.class, (method, args) -> method.equals("getAsyncRemote") ? remote : null);
+    }
+
+    /**
+     * Implémentation minimale d'une interface JSR-356 : seules les méthodes
+     * utilisées par {@link FrameSender} ont un effet
+     */
+    private static <T> T proxy(Class<T> type, BiFunction<String, Object[], Object> calls) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "Simulated" + type.getSimpleName();
+                default -> calls.apply(method.getName(), args);
+            }));
+    }
+
+    /**
+     * Le client cesse de lire : les envois suivants ne se terminent plus
+     */
+    public SimulatedWebSocketSession stall() {
+        this.stalled = true;
+        return this;
+    }
+
+    private void send(ByteBuffer buffer, SendHandler handler) {
+        if (stalled) {
+            stalledSends.add(handler);
+            return;
+        }
+        received++;
+        receivedBytes += buffer.remaining();
+        lastFrame = buffer.array();
+        if (recordPayloads) {
+            payloads.add(StandardCharsets.UTF_8.decode(buffer).toString());
+        }
+        handler.onResult(new SendResult());
+    }
+
+    public int received() {
+        return received;
+    }
+
+    public long receivedBytes() {
+        return receivedBytes;
+    }
+
+    /**
+     * @return Tableau d'octets du dernier message reçu (identité, pas copie)
+     */
+    public byte[] lastFrame() {
+        return lastFrame;
+    }
+
+    public List<String> payloads() {
+        return payloads;
+    }
+
+    public CloseStatus closeStatus() {
+        return closeStatus;
+    }
+
+    // ── NativeWebSocketSession ──
+
+    @Override
+    public Object getNativeSession() {
+        return nativeSession;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getNativeSession(Class<T> requiredType) {
+        return requiredType.isInstance(nativeSession) ? (T) nativeSession : null;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public URI getUri() {
+        return URI.create("ws://localhost/api/v1/ws");
+    }
+
+    @Override
+    public HttpHeaders getHandshakeHeaders() {
+        return new HttpHeaders();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public Principal getPrincipal() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return null;
+    }
+
+    @Override
+    public String getAcceptedProtocol() {
+        return null;
+    }
+
+    @Override
+    public void setTextMessageSizeLimit(int messageSizeLimit) {
+        this.textMessageSizeLimit = messageSizeLimit;
+    }
+
+    @Override
+    public int getTextMessageSizeLimit() {
+        return textMessageSizeLimit;
+    }
+
+    @Override
+    public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        this.binaryMessageSizeLimit = messageSizeLimit;
+    }
+
+    @Override
+    public int getBinaryMessageSizeLimit() {
+        return binaryMessageSizeLimit;
+    }
+
+    @Override
+    public List<WebSocketExtension> getExtensions() {
+        return List.of();
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        throw new UnsupportedOperationException("Envois attendus par la session native");
+    }
+
+    @Override
+    public boolean isOpen() {
+        return closeStatus == null;
+    }
+
+    @Override
+    public void close() {
+        close(CloseStatus.NORMAL);
+    }
+
+    @Override
+    public void close(CloseStatus status) {
+        this.closeStatus = status;
+    }
+}
@@ -0,0 +1,139 @@
+package com.infoline.api.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infoline.api.article.ArticlesImported;
+import com.infoline.api.article.LabelUsage;
+import com.infoline.api.web.JsonOutputMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TopicHubTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TopicHub hub = new TopicHub(new JsonOutputMode(objectMapper), registry);
+    private final TopicWebSocketHandler handler =
+        new TopicWebSocketHandler(hub, objectMapper, registry, 2, 3, 1_000, 1);
+
+    @AfterEach
+    void stop() {
+        handler.stop();
+    }
+
+    @Test
+    void sharesSerializedFrameWithEverySubscriber() {
+        List<TopicFrame> first = new ArrayList<>();
+        List<TopicFrame> second = new ArrayList<>();
+        hub.subscribe("match.42", first::add);
+        hub.subscribe("match.42", second::add);
+        hub.subscribe("match.7", frame -> { throw new AssertionError("Autre sujet"); });
+
+        assertThat(hub.publish("match.42", "goal", Map.of("minute", 17))).isEqualTo(2);
+
+        assertThat(first.get(0).bytes()).isSameAs(second.get(0).bytes());
+        assertThat(new String(first.get(0).bytes(), StandardCharsets.UTF_8))
+            .isEqualTo("{\"topic\":\"match.42\",\"type\":\"goal\",\"data\":{\"minute\":17}}");
+        assertThat(hub.publish("team.psg", "lineup", Map.of())).isZero();
+        assertThatThrownBy(() -> hub.publish("player.9", "goal", Map.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void publishesToSubscriberSnapshot() {
+        List<TopicFrame> late = new ArrayList<>();
+        TopicSubscriber lateSubscriber = late::add;
+        TopicSubscriber unsubscribing = frame -> hub.unsubscribe("team.psg", lateSubscriber);
+        hub.subscribe("team.psg", unsubscribing);
+        hub.subscribe("team.psg", lateSubscriber);
+        assertThat(hub.subscribe("team.psg", lateSubscriber)).isFalse();
+
+        hub.publish("team.psg", "lineup", List.of("a"));
+        hub.publish("team.psg", "lineup", List.of("b"));
+
+        // Désabonné pendant la diffusion : reçoit encore le message en cours, pas le suivant
+        assertThat(late).hasSize(1);
+        assertThat(hub.subscriberCount("team.psg")).isEqualTo(1);
+        hub.unsubscribe("team.psg", unsubscribing);
+        assertThat(hub.topicCount()).isZero();
+    }
+
+    @Test
+    void relaysImportedArticlesToSubscribedTeamTopics() {
+        List<Collection<Long>> lookups = new ArrayList<>();
+        ArticleTopicRelay relay = new ArticleTopicRelay(hub, ids -> {
+            lookups.add(ids);
+            return List.of(new LabelUsage("psg", "PSG", 2L), new LabelUsage("ol", "OL", 1L),
+                new LabelUsage("Ligue 1", "Ligue 1", 3L));
+        }, Runnable::run);
+
+        relay.onArticlesImported(new ArticlesImported(List.of(7L, 8L)));
+        assertThat(lookups).isEmpty();
+
+        List<TopicFrame> frames = new ArrayList<>();
+        hub.subscribe("team.psg", frames::add);
+        relay.onArticlesImported(new ArticlesImported(List.of(7L, 8L), true));
+
+        assertThat(lookups).containsExactly(List.of(7L, 8L));
+        assertThat(frames).hasSize(1);
+        assertThat(new String(frames.get(0).bytes(), StandardCharsets.UTF_8))
+            .isEqualTo("{\"topic\":\"team.psg\",\"type\":\"articles\",\"data\":{\"count\":2}}");
+    }
+
+    @Test
+    void answersClientCommands() throws Exception {
+        SimulatedWebSocketSession session = new SimulatedWebSocketSession("s1", true);
+        handler.afterConnectionEstablished(session);
+
+        handler.handleMessage(session, new TextMessage("{\"action\":\"subscribe\",\"topic\":\"match.42\"}"));
+        handler.handleMessage(session, new TextMessage("{\"action\":\"subscribe\",\"topic\":\"match.43\"}"));
+        handler.handleMessage(session, new TextMessage("{\"action\":\"subscribe\",\"topic\":\"match.44\"}"));
+        handler.handleMessage(session, new TextMessage("{\"action\":\"subscribe\",\"topic\":\"../admin\"}"));
+        handler.handleMessage(session, new TextMessage("pas du json"));
+        hub.publish("match.42", "goal", 1);
+        handler.handleMessage(session, new TextMessage("{\"action\":\"unsubscribe\",\"topic\":\"match.42\"}"));
+        hub.publish("match.42", "goal", 2);
+
+        assertThat(session.payloads()).containsExactly(
+            "{\"type\":\"subscribed\",\"topic\":\"match.42\"}",
+            "{\"type\":\"subscribed\",\"topic\":\"match.43\"}",
+            "{\"type\":\"error\",\"code\":\"too-many-topics\"}",
+            "{\"type\":\"error\",\"code\":\"invalid-topic\"}",
+            "{\"type\":\"error\",\"code\":\"invalid-json\"}",
+            "{\"topic\":\"match.42\",\"type\":\"goal\",\"data\":1}",
+            "{\"type\":\"unsubscribed\",\"topic\":\"match.42\"}");
+
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+        assertThat(hub.topicCount()).isZero();
+        assertThat(registry.get("ws.sessions").gauge().value()).isZero();
+    }
+
+    @Test
+    void disconnectsSlowConsumer() {
+        SimulatedWebSocketSession session = new SimulatedWebSocketSession("slow", false).stall();
+        WebSocketSubscriber subscriber = new WebSocketSubscriber(session,
+            FrameSender.of(session, Runnable::run, 1_000), hub, 3, Runnable::run, () -> { });
+        subscriber.subscribe("match.42", 8);
+
+        // Premier message en cours d'envoi (jamais terminé), trois en file, le cinquième déborde
+        for (int i = 0; i < 5; i++) {
+            hub.publish("match.42", "goal", i);
+        }
+
+        assertThat(subscriber.isClosed()).isTrue();
+        assertThat(session.closeStatus()).isEqualTo(WebSocketSubscriber.SLOW_CONSUMER);
+        assertThat(subscriber.pending()).isZero();
+        assertThat(hub.subscriberCount("match.42")).isZero();
+    }
+}